@@ -0,0 +1,40 @@
+package com.payhint.api.application.billing.dto.request;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.temporal.TemporalAdjusters;
+import java.util.Arrays;
+import java.util.Locale;
+
+import com.payhint.api.domain.shared.exception.InvalidPropertyException;
+
+/**
+ * Length of the periods a cash-flow forecast is bucketed into. Weeks start on Monday.
+ */
+public enum ForecastPeriod {
+    WEEK, MONTH;
+
+    /**
+     * Parses the {@code period} query parameter, {@code month} when absent.
+     */
+    public static ForecastPeriod parse(String value) {
+        if (value == null || value.isBlank()) {
+            return MONTH;
+        }
+        return Arrays.stream(values()).filter(period -> period.name().equalsIgnoreCase(value)).findFirst()
+                .orElseThrow(() -> new InvalidPropertyException("Unsupported period: " + value));
+    }
+
+    public LocalDate startOf(LocalDate date) {
+        return this == WEEK ? date.with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY))
+                : date.withDayOfMonth(1);
+    }
+
+    public LocalDate next(LocalDate start) {
+        return this == WEEK ? start.plusWeeks(1) : start.plusMonths(1);
+    }
+
+    public String property() {
+        return name().toLowerCase(Locale.ROOT);
+    }
+}
@@ -0,0 +1,28 @@
+package com.payhint.api.application.billing.dto.request;
+
+import com.payhint.api.domain.shared.exception.InvalidPropertyException;
+
+/**
+ * How much of an invoice is loaded and returned: its header, its installments, or its installments with their
+ * payments.
+ */
+public enum InvoiceDepth {
+    HEADER, INSTALLMENTS, PAYMENTS;
+
+    /**
+     * Parses the {@code depth} query parameter, from 0 for the header only to 2 for everything.
+     */
+    public static InvoiceDepth of(Integer depth) {
+        if (depth == null) {
+            return PAYMENTS;
+        }
+        if (depth < 0 || depth >= values().length) {
+            throw new InvalidPropertyException("Unsupported depth: " + depth);
+        }
+        return values()[depth];
+    }
+
+    public boolean includes(InvoiceDepth other) {
+        return compareTo(other) >= 0;
+    }
+}
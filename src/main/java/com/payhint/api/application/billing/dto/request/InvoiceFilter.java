@@ -0,0 +1,32 @@
+package com.payhint.api.application.billing.dto.request;
+
+import java.time.LocalDate;
+import java.util.Set;
+import java.util.UUID;
+
+import com.payhint.api.domain.billing.model.PaymentStatus;
+import com.payhint.api.domain.shared.exception.InvalidPropertyException;
+
+import lombok.Builder;
+
+/**
+ * Restricts an invoice listing. {@code null} or empty fields do not filter, date ranges include both bounds.
+ */
+@Builder
+public record InvoiceFilter(Set<PaymentStatus> statuses, Boolean archived, Boolean overdue, UUID customerId,
+        String currency, LocalDate createdFrom, LocalDate createdTo, LocalDate updatedFrom, LocalDate updatedTo) {
+
+    public InvoiceFilter {
+        statuses = statuses == null ? Set.of() : Set.copyOf(statuses);
+        if (createdFrom != null && createdTo != null && createdFrom.isAfter(createdTo)) {
+            throw new InvalidPropertyException("createdFrom must not be after createdTo");
+        }
+        if (updatedFrom != null && updatedTo != null && updatedFrom.isAfter(updatedTo)) {
+            throw new InvalidPropertyException("updatedFrom must not be after updatedTo");
+        }
+    }
+
+    public static InvoiceFilter none() {
+        return InvoiceFilter.builder().build();
+    }
+}
@@ -0,0 +1,16 @@
+package com.payhint.api.application.billing.dto.request;
+
+/**
+ * One invoice read from an import upload. {@code error} is set instead of {@code request} when the row could not be
+ * parsed.
+ */
+public record InvoiceImportRow(long line, CreateInvoiceRequest request, String error) {
+
+    public static InvoiceImportRow of(long line, CreateInvoiceRequest request) {
+        return new InvoiceImportRow(line, request, null);
+    }
+
+    public static InvoiceImportRow invalid(long line, String error) {
+        return new InvoiceImportRow(line, null, error);
+    }
+}
@@ -0,0 +1,43 @@
+package com.payhint.api.application.billing.dto.request;
+
+import java.util.Arrays;
+
+import com.payhint.api.domain.shared.exception.InvalidPropertyException;
+
+import lombok.NonNull;
+
+/**
+ * Order of an invoice listing. Ties are broken by invoice ID in the same direction so that keyset pages are stable.
+ */
+public record InvoiceSort(@NonNull Field field, boolean descending) {
+
+    public static final InvoiceSort DEFAULT = new InvoiceSort(Field.CREATED_AT, false);
+
+    public enum Field {
+        CREATED_AT("createdAt"), UPDATED_AT("updatedAt");
+
+        private final String property;
+
+        Field(String property) {
+            this.property = property;
+        }
+
+        public String property() {
+            return property;
+        }
+    }
+
+    /**
+     * Parses the {@code sort} query parameter: a field name, prefixed with {@code -} for descending order.
+     */
+    public static InvoiceSort parse(String value) {
+        if (value == null || value.isBlank()) {
+            return DEFAULT;
+        }
+        boolean descending = value.startsWith("-");
+        String property = descending ? value.substring(1) : value;
+        return Arrays.stream(Field.values()).filter(field -> field.property.equals(property)).findFirst()
+                .map(field -> new InvoiceSort(field, descending))
+                .orElseThrow(() -> new InvalidPropertyException("Unsupported sort: " + value));
+    }
+}
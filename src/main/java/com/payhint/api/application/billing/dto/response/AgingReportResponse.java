@@ -0,0 +1,6 @@
+package com.payhint.api.application.billing.dto.response;
+
+import java.util.List;
+
+public record AgingReportResponse(String asOf, List<CustomerAgingResponse> customers) {
+}
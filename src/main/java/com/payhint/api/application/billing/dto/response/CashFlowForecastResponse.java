@@ -0,0 +1,7 @@
+package com.payhint.api.application.billing.dto.response;
+
+import java.util.List;
+
+public record CashFlowForecastResponse(String asOf, String period, boolean weighted,
+        List<CashFlowPeriodResponse> periods) {
+}
@@ -0,0 +1,7 @@
+package com.payhint.api.application.billing.dto.response;
+
+import java.math.BigDecimal;
+import java.util.Map;
+
+public record CashFlowPeriodResponse(String start, String end, Map<String, BigDecimal> expectedByCurrency) {
+}
@@ -0,0 +1,8 @@
+package com.payhint.api.application.billing.dto.response;
+
+import java.math.BigDecimal;
+import java.util.Map;
+
+public record CurrencyBreakdownResponse(String currency, BigDecimal totalOutstanding, BigDecimal overdueAmount,
+        BigDecimal paidThisMonth, long invoiceCount, long overdueInvoiceCount, Map<String, Long> invoicesByStatus) {
+}
@@ -0,0 +1,8 @@
+package com.payhint.api.application.billing.dto.response;
+
+import java.math.BigDecimal;
+
+public record CustomerAgingResponse(String customerId, String customerName, String currency, BigDecimal current,
+        BigDecimal days1To30, BigDecimal days31To60, BigDecimal days61To90, BigDecimal over90Days,
+        BigDecimal totalOutstanding) {
+}
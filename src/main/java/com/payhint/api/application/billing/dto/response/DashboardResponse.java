@@ -0,0 +1,6 @@
+package com.payhint.api.application.billing.dto.response;
+
+import java.util.List;
+
+public record DashboardResponse(String asOf, List<CurrencyBreakdownResponse> currencies) {
+}
@@ -0,0 +1,12 @@
+package com.payhint.api.application.billing.dto.response;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+import com.payhint.api.domain.crm.valueobject.CustomerId;
+
+/**
+ * Remaining amount of the unpaid installments of one customer due on the same day in the same currency.
+ */
+public record ExpectedReceipt(CustomerId customerId, String currency, LocalDate dueDate, BigDecimal amount) {
+}
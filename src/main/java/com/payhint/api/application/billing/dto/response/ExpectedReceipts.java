@@ -0,0 +1,14 @@
+package com.payhint.api.application.billing.dto.response;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+
+import com.payhint.api.domain.crm.valueobject.CustomerId;
+
+/**
+ * The unpaid installments, overdue ones included, due up to the longest horizon after {@code asOf}, with the average number of days each customer paid late in the past.
+ * Customers who never paid late are left out of {@code averageDaysLate}.
+ */
+public record ExpectedReceipts(LocalDate asOf, List<ExpectedReceipt> receipts, Map<CustomerId, Long> averageDaysLate) {
+}
@@ -0,0 +1,7 @@
+package com.payhint.api.application.billing.dto.response;
+
+import java.math.BigDecimal;
+
+public record InstallmentTotalsResponse(String id, BigDecimal amountDue, BigDecimal amountPaid, String dueDate,
+        String status, boolean isOverdue) {
+}
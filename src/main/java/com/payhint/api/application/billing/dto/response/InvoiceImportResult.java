@@ -0,0 +1,16 @@
+package com.payhint.api.application.billing.dto.response;
+
+public record InvoiceImportResult(long line, String invoiceReference, String status, String invoiceId,
+        String error) {
+
+    public static final String CREATED = "CREATED";
+    public static final String FAILED = "FAILED";
+
+    public static InvoiceImportResult created(long line, String invoiceReference, String invoiceId) {
+        return new InvoiceImportResult(line, invoiceReference, CREATED, invoiceId, null);
+    }
+
+    public static InvoiceImportResult failed(long line, String invoiceReference, String error) {
+        return new InvoiceImportResult(line, invoiceReference, FAILED, null, error);
+    }
+}
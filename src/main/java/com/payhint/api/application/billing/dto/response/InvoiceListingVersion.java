@@ -0,0 +1,12 @@
+package com.payhint.api.application.billing.dto.response;
+
+import java.time.LocalDateTime;
+
+/**
+ * Changes whenever an invoice of the user is created, updated or deleted, and whenever one of the user's customers is
+ * updated, as the listing shows customer names. {@code lastUpdatedAt} is null when the user has no invoices and
+ * {@code lastCustomerUpdatedAt} when the user has no customers.
+ */
+public record InvoiceListingVersion(long invoiceCount, LocalDateTime lastUpdatedAt,
+        LocalDateTime lastCustomerUpdatedAt) {
+}
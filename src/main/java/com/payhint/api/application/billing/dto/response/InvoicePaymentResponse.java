@@ -0,0 +1,13 @@
+package com.payhint.api.application.billing.dto.response;
+
+import java.math.BigDecimal;
+
+/**
+ * Outcome of a payment operation: the totals of the invoice and of the installment once the operation is applied,
+ * and the payment that was recorded, updated or removed. The other installments and payments are not part of it, the
+ * whole invoice is read through the invoice endpoints.
+ */
+public record InvoicePaymentResponse(String invoiceId, String status, BigDecimal totalAmount, BigDecimal totalPaid,
+        BigDecimal remainingAmount, String currency, boolean isOverdue, String updatedAt,
+        InstallmentTotalsResponse installment, PaymentResponse payment) {
+}
@@ -2,7 +2,7 @@ package com.payhint.api.application.billing.dto.response;
 
 import java.math.BigDecimal;
 
-public record InvoiceSummaryResponse(String id, String customerId, String invoiceReference, BigDecimal totalAmount,
-        BigDecimal totalPaid, String currency, String status, boolean isOverdue, boolean isArchived, String createdAt,
-        String updatedAt, String lastStatusChangeAt) {
+public record InvoiceSummaryResponse(String id, String customerId, String customerName, String invoiceReference,
+        BigDecimal totalAmount, BigDecimal totalPaid, String currency, String status, String nextDueDate,
+        boolean isOverdue, boolean isArchived, String createdAt, String updatedAt, String lastStatusChangeAt) {
 }
@@ -8,6 +8,7 @@ import org.mapstruct.Mapping;
 import org.mapstruct.Named;
 
 import com.payhint.api.application.billing.dto.response.InstallmentResponse;
+import com.payhint.api.application.billing.dto.response.InstallmentTotalsResponse;
 import com.payhint.api.domain.billing.model.Installment;
 
 @Mapper(componentModel = "spring", uses = { BillingValueObjectMapper.class, PaymentMapper.class, DateMapper.class,
@@ -21,4 +22,7 @@ public interface InstallmentMapper {
     @Named("toInstallmentResponseList")
     @IterableMapping(qualifiedByName = "toInstallmentResponse")
     List<InstallmentResponse> toInstallmentResponse(List<Installment> installments);
+
+    @Mapping(source = "overdue", target = "isOverdue")
+    InstallmentTotalsResponse toInstallmentTotalsResponse(Installment installment);
 }
\ No newline at end of file
@@ -7,12 +7,15 @@ import org.mapstruct.Mapper;
 import org.mapstruct.Mapping;
 import org.mapstruct.Named;
 
+import com.payhint.api.application.billing.dto.response.InvoicePaymentResponse;
 import com.payhint.api.application.billing.dto.response.InvoiceResponse;
 import com.payhint.api.application.shared.ValueObjectMapper;
+import com.payhint.api.domain.billing.model.Installment;
 import com.payhint.api.domain.billing.model.Invoice;
+import com.payhint.api.domain.billing.model.Payment;
 
 @Mapper(componentModel = "spring", uses = { BillingValueObjectMapper.class, ValueObjectMapper.class,
-                InstallmentMapper.class, DateMapper.class, PaymentStatusMapper.class })
+                InstallmentMapper.class, PaymentMapper.class, DateMapper.class, PaymentStatusMapper.class })
 public interface InvoiceMapper {
         @Named("toInvoiceResponse")
         @Mapping(source = "archived", target = "isArchived")
@@ -22,4 +25,16 @@ public interface InvoiceMapper {
 
         @IterableMapping(qualifiedByName = "toInvoiceResponse")
         List<InvoiceResponse> toInvoiceResponse(List<Invoice> invoices);
+
+        @Mapping(source = "invoice.id", target = "invoiceId")
+        @Mapping(source = "invoice.status", target = "status")
+        @Mapping(source = "invoice.totalAmount", target = "totalAmount")
+        @Mapping(source = "invoice.totalPaid", target = "totalPaid")
+        @Mapping(source = "invoice.remainingAmount", target = "remainingAmount")
+        @Mapping(source = "invoice.currency", target = "currency")
+        @Mapping(source = "invoice.overdue", target = "isOverdue")
+        @Mapping(source = "invoice.updatedAt", target = "updatedAt")
+        @Mapping(source = "installment", target = "installment")
+        @Mapping(source = "payment", target = "payment", qualifiedByName = "toPaymentResponse")
+        InvoicePaymentResponse toInvoicePaymentResponse(Invoice invoice, Installment installment, Payment payment);
 }
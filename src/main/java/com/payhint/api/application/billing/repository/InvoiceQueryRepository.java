@@ -1,14 +1,88 @@
 package com.payhint.api.application.billing.repository;
 
+import java.time.LocalDate;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Consumer;
 
+import com.payhint.api.application.billing.dto.request.InvoiceFilter;
+import com.payhint.api.application.billing.dto.request.InvoiceSort;
+import com.payhint.api.application.billing.dto.response.CustomerAgingResponse;
+import com.payhint.api.application.billing.dto.response.DashboardResponse;
+import com.payhint.api.application.billing.dto.response.ExpectedReceipt;
+import com.payhint.api.application.billing.dto.response.InvoiceListingVersion;
+import com.payhint.api.application.billing.dto.response.InvoicePaymentResponse;
 import com.payhint.api.application.billing.dto.response.InvoiceSummaryResponse;
+import com.payhint.api.domain.billing.model.Invoice;
+import com.payhint.api.domain.billing.valueobject.InstallmentId;
+import com.payhint.api.domain.billing.valueobject.InvoiceId;
+import com.payhint.api.domain.billing.valueobject.PaymentId;
 import com.payhint.api.domain.crm.valueobject.CustomerId;
 import com.payhint.api.domain.crm.valueobject.UserId;
+import com.payhint.api.domain.shared.pagination.CursorPage;
+import com.payhint.api.domain.shared.pagination.CursorPageRequest;
+import com.payhint.api.domain.shared.search.SearchQuery;
 
 public interface InvoiceQueryRepository {
 
-    List<InvoiceSummaryResponse> findSummariesByCustomerId(CustomerId customerId);
+    CursorPage<InvoiceSummaryResponse> findSummariesByCustomerId(CustomerId customerId, CursorPageRequest page);
 
-    List<InvoiceSummaryResponse> findSummariesByUserId(UserId userId);
+    CursorPage<InvoiceSummaryResponse> searchSummaries(UserId userId, InvoiceFilter filter, InvoiceSort sort,
+            CursorPageRequest page);
+
+    /**
+     * Invoice summaries of the user whose reference or customer name contains the text.
+     */
+    List<InvoiceSummaryResponse> searchSummariesByText(UserId userId, SearchQuery query);
+
+    /**
+     * Passes every invoice summary of the user to the action in listing order, one row at a time, without holding the
+     * result set in memory. Must be called within a transaction.
+     */
+    void forEachSummaryByUserId(UserId userId, Consumer<InvoiceSummaryResponse> action);
+
+    /**
+     * Loads the invoice for display without the payments of its installments, and without the installments unless
+     * asked for. The aggregate is incomplete and must not be saved.
+     */
+    Optional<Invoice> findWithoutPaymentsByIdAndOwner(InvoiceId invoiceId, UserId userId, boolean withInstallments);
+
+    /**
+     * Reads the optimistic locking version of the invoice without loading the aggregate.
+     */
+    Optional<Long> findVersionByIdAndOwner(InvoiceId invoiceId, UserId userId);
+
+    /**
+     * Reads the invoice and installment totals together with the payment in a single row, without loading the
+     * payments of the installment.
+     */
+    Optional<InvoicePaymentResponse> findPaymentOutcomeByIdAndOwner(InvoiceId invoiceId, UserId userId,
+            InstallmentId installmentId, PaymentId paymentId);
+
+    InvoiceListingVersion findListingVersionByUserId(UserId userId);
+
+    /**
+     * Aggregates the receivables of the user per currency as of the given date. Archived invoices are left out of
+     * the outstanding and overdue amounts but their payments count towards the month's total.
+     */
+    DashboardResponse summarizeByUserId(UserId userId, LocalDate today);
+
+    /**
+     * Passes the outstanding amounts of the user's unarchived invoices bucketed by days past due as of the given date,
+     * one row per customer and currency ordered by customer name. Must be called within a transaction.
+     */
+    void forEachCustomerAgingByUserId(UserId userId, LocalDate today, Consumer<CustomerAgingResponse> action);
+
+    /**
+     * Sums the remaining amounts of the unpaid installments of the user's unarchived invoices due on or before the given
+     * date, overdue ones included, per customer, currency and due date.
+     */
+    List<ExpectedReceipt> findExpectedReceiptsByUserId(UserId userId, LocalDate to);
+
+    /**
+     * Average number of days the payments of each customer of the user were made after the due date of their
+     * installment, counting early payments as on time.
+     */
+    Map<CustomerId, Long> findAverageDaysLateByUserId(UserId userId);
 }
@@ -0,0 +1,44 @@
+package com.payhint.api.application.billing.service;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.payhint.api.application.billing.dto.response.AgingReportResponse;
+import com.payhint.api.application.billing.dto.response.CustomerAgingResponse;
+import com.payhint.api.application.billing.repository.InvoiceQueryRepository;
+import com.payhint.api.application.billing.usecase.AgingReportUseCase;
+import com.payhint.api.domain.crm.valueobject.UserId;
+
+/**
+ * The outstanding amounts are bucketed by days past due in the database, one row per customer and currency, so the
+ * report never loads invoices.
+ */
+@Service
+public class AgingReportService implements AgingReportUseCase {
+
+        private final InvoiceQueryRepository invoiceQueryRepository;
+
+        public AgingReportService(InvoiceQueryRepository invoiceQueryRepository) {
+                this.invoiceQueryRepository = invoiceQueryRepository;
+        }
+
+        @Transactional(readOnly = true)
+        @Override
+        public AgingReportResponse viewAgingReport(UserId userId) {
+                LocalDate today = LocalDate.now();
+                List<CustomerAgingResponse> customers = new ArrayList<>();
+                invoiceQueryRepository.forEachCustomerAgingByUserId(userId, today, customers::add);
+                return new AgingReportResponse(today.toString(), customers);
+        }
+
+        @Transactional(readOnly = true)
+        @Override
+        public void streamAgingReport(UserId userId, Consumer<CustomerAgingResponse> consumer) {
+                invoiceQueryRepository.forEachCustomerAgingByUserId(userId, LocalDate.now(), consumer);
+        }
+}
@@ -0,0 +1,71 @@
+package com.payhint.api.application.billing.service;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import org.springframework.stereotype.Service;
+
+import com.payhint.api.application.billing.dto.request.ForecastPeriod;
+import com.payhint.api.application.billing.dto.response.CashFlowForecastResponse;
+import com.payhint.api.application.billing.dto.response.CashFlowPeriodResponse;
+import com.payhint.api.application.billing.dto.response.ExpectedReceipt;
+import com.payhint.api.application.billing.dto.response.ExpectedReceipts;
+import com.payhint.api.application.billing.usecase.CashFlowForecastUseCase;
+import com.payhint.api.domain.crm.valueobject.UserId;
+import com.payhint.api.domain.shared.exception.InvalidPropertyException;
+
+/**
+ * Forecasts the incoming cash from the remaining amounts of the unpaid installments. Weighted forecasts expect each
+ * installment as many days after its due date as its customer paid late on average. An installment expected before
+ * today, such as an overdue one, is counted in the first period rather than dropped.
+ */
+@Service
+public class CashFlowForecastService implements CashFlowForecastUseCase {
+
+        public static final String CACHE_NAME = "cashFlowForecast";
+        static final int MAX_MONTHS = 12;
+        private static final int DEFAULT_MONTHS = 3;
+
+        private final ExpectedReceiptsLoader expectedReceiptsLoader;
+
+        public CashFlowForecastService(ExpectedReceiptsLoader expectedReceiptsLoader) {
+                this.expectedReceiptsLoader = expectedReceiptsLoader;
+        }
+
+        @Override
+        public CashFlowForecastResponse viewForecast(UserId userId, ForecastPeriod period, Integer months,
+                        boolean weighted) {
+                int horizon = months == null ? DEFAULT_MONTHS : months;
+                if (horizon < 1 || horizon > MAX_MONTHS) {
+                        throw new InvalidPropertyException("Months must be between 1 and " + MAX_MONTHS);
+                }
+                ExpectedReceipts expected = expectedReceiptsLoader.load(userId);
+                LocalDate today = expected.asOf();
+                LocalDate end = today.plusMonths(horizon);
+
+                TreeMap<LocalDate, Map<String, BigDecimal>> buckets = new TreeMap<>();
+                for (LocalDate start = period.startOf(today); start.isBefore(end); start = period.next(start)) {
+                        buckets.put(start, new TreeMap<>());
+                }
+                for (ExpectedReceipt receipt : expected.receipts()) {
+                        long delay = weighted ? expected.averageDaysLate().getOrDefault(receipt.customerId(), 0L) : 0;
+                        LocalDate date = receipt.dueDate().plusDays(delay);
+                        if (date.isBefore(today)) {
+                                date = today;
+                        }
+                        if (date.isBefore(end)) {
+                                buckets.floorEntry(date).getValue().merge(receipt.currency(), receipt.amount(),
+                                                BigDecimal::add);
+                        }
+                }
+
+                List<CashFlowPeriodResponse> periods = new ArrayList<>();
+                buckets.forEach((start, amounts) -> periods.add(new CashFlowPeriodResponse(start.toString(),
+                                period.next(start).minusDays(1).toString(), amounts)));
+                return new CashFlowForecastResponse(today.toString(), period.property(), weighted, periods);
+        }
+}
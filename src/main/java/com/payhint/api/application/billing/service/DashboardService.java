@@ -0,0 +1,35 @@
+package com.payhint.api.application.billing.service;
+
+import java.time.LocalDate;
+
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.payhint.api.application.billing.dto.response.DashboardResponse;
+import com.payhint.api.application.billing.repository.InvoiceQueryRepository;
+import com.payhint.api.application.billing.usecase.DashboardUseCase;
+import com.payhint.api.domain.crm.valueobject.UserId;
+
+/**
+ * Dashboards are cached per user. Every billing mutation evicts the entry of its user once its transaction commits,
+ * and the whole cache is cleared at midnight because overdue amounts and monthly totals depend on the date.
+ */
+@Service
+public class DashboardService implements DashboardUseCase {
+
+        public static final String CACHE_NAME = "dashboard";
+
+        private final InvoiceQueryRepository invoiceQueryRepository;
+
+        public DashboardService(InvoiceQueryRepository invoiceQueryRepository) {
+                this.invoiceQueryRepository = invoiceQueryRepository;
+        }
+
+        @Cacheable(cacheNames = CACHE_NAME, key = "#userId")
+        @Transactional(readOnly = true)
+        @Override
+        public DashboardResponse viewDashboard(UserId userId) {
+                return invoiceQueryRepository.summarizeByUserId(userId, LocalDate.now());
+        }
+}
@@ -0,0 +1,35 @@
+package com.payhint.api.application.billing.service;
+
+import java.time.LocalDate;
+
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.payhint.api.application.billing.dto.response.ExpectedReceipts;
+import com.payhint.api.application.billing.repository.InvoiceQueryRepository;
+import com.payhint.api.domain.crm.valueobject.UserId;
+
+/**
+ * Loads the receipts over the longest forecast horizon once per user, so that every period length and horizon is
+ * bucketed from the same cached rows. The entry is evicted with the dashboard on every billing mutation.
+ */
+@Component
+public class ExpectedReceiptsLoader {
+
+        private final InvoiceQueryRepository invoiceQueryRepository;
+
+        public ExpectedReceiptsLoader(InvoiceQueryRepository invoiceQueryRepository) {
+                this.invoiceQueryRepository = invoiceQueryRepository;
+        }
+
+        @Cacheable(cacheNames = CashFlowForecastService.CACHE_NAME, key = "#userId")
+        @Transactional(readOnly = true)
+        public ExpectedReceipts load(UserId userId) {
+                LocalDate today = LocalDate.now();
+                return new ExpectedReceipts(today,
+                                invoiceQueryRepository.findExpectedReceiptsByUserId(userId,
+                                                today.plusMonths(CashFlowForecastService.MAX_MONTHS)),
+                                invoiceQueryRepository.findAverageDaysLateByUserId(userId));
+        }
+}
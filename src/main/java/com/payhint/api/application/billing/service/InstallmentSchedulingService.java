@@ -5,6 +5,7 @@ import java.time.format.DateTimeFormatter;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -15,6 +16,7 @@ import com.payhint.api.application.billing.mapper.InstallmentMapper;
 import com.payhint.api.application.billing.mapper.InvoiceMapper;
 import com.payhint.api.application.billing.usecase.InstallmentSchedulingUseCase;
 import com.payhint.api.application.shared.exception.NotFoundException;
+import com.payhint.api.application.shared.retry.RetryOnOptimisticLock;
 import com.payhint.api.domain.billing.model.Invoice;
 import com.payhint.api.domain.billing.repository.InvoiceRepository;
 import com.payhint.api.domain.billing.valueobject.InstallmentId;
@@ -23,6 +25,7 @@ import com.payhint.api.domain.billing.valueobject.Money;
 import com.payhint.api.domain.crm.valueobject.UserId;
 
 @Service
+@RetryOnOptimisticLock
 public class InstallmentSchedulingService implements InstallmentSchedulingUseCase {
 
         private static final Logger logger = LoggerFactory.getLogger(InstallmentSchedulingService.class);
@@ -36,6 +39,7 @@ public class InstallmentSchedulingService implements InstallmentSchedulingUseCas
                 this.invoiceMapper = invoiceMapper;
         }
 
+        @CacheEvict(cacheNames = { DashboardService.CACHE_NAME, CashFlowForecastService.CACHE_NAME }, key = "#userId")
         @Transactional()
         @Override
         public InvoiceResponse addInstallment(UserId userId, InvoiceId invoiceId, CreateInstallmentRequest request) {
@@ -53,6 +57,7 @@ public class InstallmentSchedulingService implements InstallmentSchedulingUseCas
                 return invoiceMapper.toInvoiceResponse(savedInvoice);
         }
 
+        @CacheEvict(cacheNames = { DashboardService.CACHE_NAME, CashFlowForecastService.CACHE_NAME }, key = "#userId")
         @Transactional()
         @Override
         public InvoiceResponse updateInstallment(UserId userId, InvoiceId invoiceId, InstallmentId installmentId,
@@ -75,6 +80,7 @@ public class InstallmentSchedulingService implements InstallmentSchedulingUseCas
                 return invoiceMapper.toInvoiceResponse(savedInvoice);
         }
 
+        @CacheEvict(cacheNames = { DashboardService.CACHE_NAME, CashFlowForecastService.CACHE_NAME }, key = "#userId")
         @Transactional()
         @Override
         public InvoiceResponse removeInstallment(UserId userId, InvoiceId invoiceId, InstallmentId installmentId) {
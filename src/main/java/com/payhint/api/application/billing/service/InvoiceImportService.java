@@ -0,0 +1,176 @@
+package com.payhint.api.application.billing.service;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.payhint.api.application.billing.dto.request.CreateInvoiceRequest;
+import com.payhint.api.application.billing.dto.request.InvoiceImportRow;
+import com.payhint.api.application.billing.dto.response.InvoiceImportResult;
+import com.payhint.api.application.billing.usecase.InvoiceImportUseCase;
+import com.payhint.api.domain.billing.model.Installment;
+import com.payhint.api.domain.billing.model.Invoice;
+import com.payhint.api.domain.billing.repository.InvoiceRepository;
+import com.payhint.api.domain.billing.valueobject.InstallmentId;
+import com.payhint.api.domain.billing.valueobject.InvoiceId;
+import com.payhint.api.domain.billing.valueobject.InvoiceReference;
+import com.payhint.api.domain.billing.valueobject.Money;
+import com.payhint.api.domain.crm.repository.CustomerRepository;
+import com.payhint.api.domain.crm.valueobject.CustomerId;
+import com.payhint.api.domain.crm.valueobject.UserId;
+import com.payhint.api.domain.shared.exception.DomainException;
+
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+
+@Service
+public class InvoiceImportService implements InvoiceImportUseCase {
+
+    private static final Logger logger = LoggerFactory.getLogger(InvoiceImportService.class);
+
+    private final InvoiceRepository invoiceRepository;
+    private final CustomerRepository customerRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final Validator validator;
+    private final int chunkSize;
+
+    public InvoiceImportService(InvoiceRepository invoiceRepository, CustomerRepository customerRepository,
+            TransactionTemplate transactionTemplate, Validator validator,
+            @Value("${application.billing.import.chunk-size:500}") int chunkSize) {
+        this.invoiceRepository = invoiceRepository;
+        this.customerRepository = customerRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.validator = validator;
+        this.chunkSize = chunkSize;
+    }
+
+    @CacheEvict(cacheNames = { DashboardService.CACHE_NAME, CashFlowForecastService.CACHE_NAME }, key = "#userId")
+    @Override
+    public void importInvoices(UserId userId, Iterator<InvoiceImportRow> rows,
+            Consumer<List<InvoiceImportResult>> results) {
+        List<InvoiceImportRow> chunk = new ArrayList<>(chunkSize);
+        int created = 0;
+        int failed = 0;
+        while (rows.hasNext()) {
+            chunk.add(rows.next());
+            if (chunk.size() == chunkSize || !rows.hasNext()) {
+                List<InvoiceImportResult> chunkResults = importChunk(userId, chunk);
+                for (InvoiceImportResult result : chunkResults) {
+                    if (InvoiceImportResult.CREATED.equals(result.status())) {
+                        created++;
+                    } else {
+                        failed++;
+                    }
+                }
+                results.accept(chunkResults);
+                chunk.clear();
+            }
+        }
+        logger.info("Invoice import finished for user ID " + userId + ": " + created + " created, " + failed
+                + " failed");
+    }
+
+    private List<InvoiceImportResult> importChunk(UserId userId, List<InvoiceImportRow> chunk) {
+        Map<InvoiceImportRow, Invoice> candidates = new LinkedHashMap<>();
+        Map<InvoiceImportRow, String> errors = new LinkedHashMap<>();
+        for (InvoiceImportRow row : chunk) {
+            String error = row.error() != null ? row.error() : validate(row.request());
+            if (error != null) {
+                errors.put(row, error);
+                continue;
+            }
+            try {
+                candidates.put(row, toInvoice(row.request()));
+            } catch (DomainException | IllegalArgumentException | DateTimeParseException e) {
+                errors.put(row, e.getMessage());
+            }
+        }
+
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                rejectUnknownCustomersAndDuplicates(userId, candidates, errors);
+                invoiceRepository.createAll(List.copyOf(candidates.values()));
+            });
+        } catch (RuntimeException e) {
+            logger.warn("Invoice import chunk could not be saved for user ID " + userId + ": " + e.getMessage());
+            candidates.keySet().forEach(row -> errors.put(row, "Invoice could not be saved: " + e.getMessage()));
+            candidates.clear();
+        }
+
+        return chunk.stream().map(row -> {
+            String reference = row.request() != null ? row.request().invoiceReference() : null;
+            Invoice invoice = candidates.get(row);
+            return invoice != null
+                    ? InvoiceImportResult.created(row.line(), reference, invoice.getId().toString())
+                    : InvoiceImportResult.failed(row.line(), reference, errors.get(row));
+        }).toList();
+    }
+
+    private void rejectUnknownCustomersAndDuplicates(UserId userId, Map<InvoiceImportRow, Invoice> candidates,
+            Map<InvoiceImportRow, String> errors) {
+        Set<CustomerId> customerIds = candidates.values().stream().map(Invoice::getCustomerId)
+                .collect(Collectors.toSet());
+        Set<InvoiceReference> references = candidates.values().stream().map(Invoice::getInvoiceReference)
+                .collect(Collectors.toSet());
+
+        Set<CustomerId> ownedCustomerIds = customerRepository.findIdsOwnedByUser(userId, customerIds);
+        Map<CustomerId, Set<InvoiceReference>> existingReferences = invoiceRepository
+                .findExistingReferences(ownedCustomerIds, references);
+
+        var iterator = candidates.entrySet().iterator();
+        while (iterator.hasNext()) {
+            var entry = iterator.next();
+            Invoice invoice = entry.getValue();
+            if (!ownedCustomerIds.contains(invoice.getCustomerId())) {
+                errors.put(entry.getKey(), "Customer with ID " + invoice.getCustomerId() + " not found");
+                iterator.remove();
+            } else if (!existingReferences.computeIfAbsent(invoice.getCustomerId(), key -> new HashSet<>())
+                    .add(invoice.getInvoiceReference())) {
+                errors.put(entry.getKey(), "Invoice with reference " + invoice.getInvoiceReference()
+                        + " already exists for this customer");
+                iterator.remove();
+            }
+        }
+    }
+
+    private String validate(CreateInvoiceRequest request) {
+        Set<ConstraintViolation<CreateInvoiceRequest>> violations = validator.validate(request);
+        if (violations.isEmpty()) {
+            return null;
+        }
+        return violations.stream().map(ConstraintViolation::getMessage).sorted().collect(Collectors.joining(", "));
+    }
+
+    private Invoice toInvoice(CreateInvoiceRequest request) {
+        Invoice invoice = Invoice.create(new InvoiceId(UUID.randomUUID()), new CustomerId(request.customerId()),
+                new InvoiceReference(request.invoiceReference()), request.currency());
+
+        if (request.installments() != null && !request.installments().isEmpty()) {
+            List<Installment> installments = request.installments().stream().map(instReq -> {
+                Money amount = new Money(instReq.amountDue());
+                LocalDate dueDate = LocalDate.parse(instReq.dueDate(), DateTimeFormatter.ISO_LOCAL_DATE);
+                return Installment.create(new InstallmentId(UUID.randomUUID()), amount, dueDate);
+            }).toList();
+
+            invoice.addInstallments(installments);
+        }
+        return invoice;
+    }
+}
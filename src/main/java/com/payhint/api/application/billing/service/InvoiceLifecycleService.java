@@ -4,14 +4,20 @@ import java.time.LocalDate;
 import java.time.format.DateTimeFormatter;
 import java.util.List;
 import java.util.UUID;
+import java.util.function.Consumer;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import com.payhint.api.application.billing.dto.request.CreateInvoiceRequest;
+import com.payhint.api.application.billing.dto.request.InvoiceDepth;
+import com.payhint.api.application.billing.dto.request.InvoiceFilter;
+import com.payhint.api.application.billing.dto.request.InvoiceSort;
 import com.payhint.api.application.billing.dto.request.UpdateInvoiceRequest;
+import com.payhint.api.application.billing.dto.response.InvoiceListingVersion;
 import com.payhint.api.application.billing.dto.response.InvoiceResponse;
 import com.payhint.api.application.billing.dto.response.InvoiceSummaryResponse;
 import com.payhint.api.application.billing.mapper.InstallmentMapper;
@@ -21,6 +27,7 @@ import com.payhint.api.application.billing.usecase.InvoiceLifecycleUseCase;
 import com.payhint.api.application.shared.exception.AlreadyExistsException;
 import com.payhint.api.application.shared.exception.NotFoundException;
 import com.payhint.api.application.shared.exception.PermissionDeniedException;
+import com.payhint.api.application.shared.retry.RetryOnOptimisticLock;
 import com.payhint.api.domain.billing.model.Installment;
 import com.payhint.api.domain.billing.model.Invoice;
 import com.payhint.api.domain.billing.repository.InvoiceRepository;
@@ -32,8 +39,12 @@ import com.payhint.api.domain.crm.model.Customer;
 import com.payhint.api.domain.crm.repository.CustomerRepository;
 import com.payhint.api.domain.crm.valueobject.CustomerId;
 import com.payhint.api.domain.crm.valueobject.UserId;
+import com.payhint.api.domain.shared.pagination.CursorPage;
+import com.payhint.api.domain.shared.pagination.CursorPageRequest;
+import com.payhint.api.domain.shared.search.SearchQuery;
 
 @Service
+@RetryOnOptimisticLock
 public class InvoiceLifecycleService implements InvoiceLifecycleUseCase {
 
     private static final Logger logger = LoggerFactory.getLogger(InvoiceLifecycleService.class);
@@ -69,7 +80,7 @@ public class InvoiceLifecycleService implements InvoiceLifecycleUseCase {
     }
 
     private void ensureInvoiceReferenceUniqueForCustomer(CustomerId customerId, InvoiceReference invoiceReference) {
-        if (invoiceRepository.findByCustomerIdAndInvoiceReference(customerId, invoiceReference).isPresent()) {
+        if (invoiceRepository.existsByCustomerIdAndInvoiceReference(customerId, invoiceReference)) {
             var errorMessage = "Invoice with reference " + invoiceReference.toString()
                     + " already exists for this customer";
             logger.warn(errorMessage);
@@ -80,24 +91,71 @@ public class InvoiceLifecycleService implements InvoiceLifecycleUseCase {
     @Transactional(readOnly = true)
     @Override
     public InvoiceResponse viewInvoice(UserId userId, InvoiceId invoiceId) {
-        Invoice invoice = invoiceRepository.findByIdAndOwner(invoiceId, userId).orElseThrow(
-                () -> new NotFoundException("Invoice with ID " + invoiceId + " not found for user ID " + userId));
+        return viewInvoice(userId, invoiceId, InvoiceDepth.PAYMENTS);
+    }
+
+    /**
+     * Below {@link InvoiceDepth#PAYMENTS} the invoice is read without loading the collections left out, and the
+     * response carries empty lists in their place.
+     */
+    @Transactional(readOnly = true)
+    @Override
+    public InvoiceResponse viewInvoice(UserId userId, InvoiceId invoiceId, InvoiceDepth depth) {
+        Invoice invoice = (depth == InvoiceDepth.PAYMENTS ? invoiceRepository.findByIdAndOwner(invoiceId, userId)
+                : invoiceQueryRepository.findWithoutPaymentsByIdAndOwner(invoiceId, userId,
+                        depth.includes(InvoiceDepth.INSTALLMENTS)))
+                .orElseThrow(() -> new NotFoundException(
+                        "Invoice with ID " + invoiceId + " not found for user ID " + userId));
         return invoiceMapper.toInvoiceResponse(invoice);
     }
 
     @Transactional(readOnly = true)
     @Override
-    public List<InvoiceSummaryResponse> listInvoicesByUser(UserId userId) {
-        return invoiceQueryRepository.findSummariesByUserId(userId);
+    public long getInvoiceVersion(UserId userId, InvoiceId invoiceId) {
+        return invoiceQueryRepository.findVersionByIdAndOwner(invoiceId, userId).orElseThrow(
+                () -> new NotFoundException("Invoice with ID " + invoiceId + " not found for user ID " + userId));
+    }
+
+    @Transactional(readOnly = true)
+    @Override
+    public InvoiceListingVersion getListingVersion(UserId userId) {
+        return invoiceQueryRepository.findListingVersionByUserId(userId);
+    }
+
+    @Transactional(readOnly = true)
+    @Override
+    public CursorPage<InvoiceSummaryResponse> listInvoicesByUser(UserId userId, CursorPageRequest page) {
+        return searchInvoices(userId, InvoiceFilter.none(), InvoiceSort.DEFAULT, page);
     }
 
     @Transactional(readOnly = true)
     @Override
-    public List<InvoiceSummaryResponse> listInvoicesByCustomer(UserId userId, CustomerId customerId) {
+    public CursorPage<InvoiceSummaryResponse> searchInvoices(UserId userId, InvoiceFilter filter, InvoiceSort sort,
+            CursorPageRequest page) {
+        return invoiceQueryRepository.searchSummaries(userId, filter, sort, page);
+    }
+
+    @Transactional(readOnly = true)
+    @Override
+    public List<InvoiceSummaryResponse> findInvoicesByText(UserId userId, SearchQuery query) {
+        return invoiceQueryRepository.searchSummariesByText(userId, query);
+    }
+
+    @Transactional(readOnly = true)
+    @Override
+    public void streamInvoicesByUser(UserId userId, Consumer<InvoiceSummaryResponse> consumer) {
+        invoiceQueryRepository.forEachSummaryByUserId(userId, consumer);
+    }
+
+    @Transactional(readOnly = true)
+    @Override
+    public CursorPage<InvoiceSummaryResponse> listInvoicesByCustomer(UserId userId, CustomerId customerId,
+            CursorPageRequest page) {
         validateCustomerBelongsToUser(userId, customerId);
-        return invoiceQueryRepository.findSummariesByCustomerId(customerId);
+        return invoiceQueryRepository.findSummariesByCustomerId(customerId, page);
     }
 
+    @CacheEvict(cacheNames = { DashboardService.CACHE_NAME, CashFlowForecastService.CACHE_NAME }, key = "#userId")
     @Transactional()
     @Override
     public InvoiceResponse createInvoice(UserId userId, CreateInvoiceRequest request) {
@@ -127,6 +185,7 @@ public class InvoiceLifecycleService implements InvoiceLifecycleUseCase {
         return invoiceMapper.toInvoiceResponse(savedInvoice);
     }
 
+    @CacheEvict(cacheNames = { DashboardService.CACHE_NAME, CashFlowForecastService.CACHE_NAME }, key = "#userId")
     @Transactional()
     @Override
     public InvoiceResponse updateInvoice(UserId userId, InvoiceId invoiceId, UpdateInvoiceRequest request) {
@@ -146,15 +205,17 @@ public class InvoiceLifecycleService implements InvoiceLifecycleUseCase {
         return invoiceMapper.toInvoiceResponse(savedInvoice);
     }
 
+    @CacheEvict(cacheNames = { DashboardService.CACHE_NAME, CashFlowForecastService.CACHE_NAME }, key = "#userId")
     @Transactional()
     @Override
     public void deleteInvoice(UserId userId, InvoiceId invoiceId) {
-        Invoice invoice = invoiceRepository.findByIdAndOwner(invoiceId, userId).orElseThrow(
-                () -> new NotFoundException("Invoice with ID " + invoiceId + " not found for user ID " + userId));
-        invoiceRepository.deleteById(invoice.getId());
+        if (!invoiceRepository.deleteByIdAndOwner(invoiceId, userId)) {
+            throw new NotFoundException("Invoice with ID " + invoiceId + " not found for user ID " + userId);
+        }
         logger.info("Invoice deleted successfully: " + invoiceId.toString() + " for user ID " + userId);
     }
 
+    @CacheEvict(cacheNames = { DashboardService.CACHE_NAME, CashFlowForecastService.CACHE_NAME }, key = "#userId")
     @Transactional()
     @Override
     public InvoiceResponse archiveInvoice(UserId userId, InvoiceId invoiceId) {
@@ -166,6 +227,7 @@ public class InvoiceLifecycleService implements InvoiceLifecycleUseCase {
         return invoiceMapper.toInvoiceResponse(savedInvoice);
     }
 
+    @CacheEvict(cacheNames = { DashboardService.CACHE_NAME, CashFlowForecastService.CACHE_NAME }, key = "#userId")
     @Transactional()
     @Override
     public InvoiceResponse unarchiveInvoice(UserId userId, InvoiceId invoiceId) {
@@ -2,19 +2,25 @@ package com.payhint.api.application.billing.service;
 
 import java.time.LocalDate;
 import java.time.format.DateTimeFormatter;
+import java.util.UUID;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import com.payhint.api.application.billing.dto.request.CreatePaymentRequest;
 import com.payhint.api.application.billing.dto.request.UpdatePaymentRequest;
-import com.payhint.api.application.billing.dto.response.InvoiceResponse;
+import com.payhint.api.application.billing.dto.response.InvoicePaymentResponse;
 import com.payhint.api.application.billing.mapper.InvoiceMapper;
+import com.payhint.api.application.billing.repository.InvoiceQueryRepository;
 import com.payhint.api.application.billing.usecase.PaymentProcessingUseCase;
 import com.payhint.api.application.shared.exception.NotFoundException;
+import com.payhint.api.application.shared.retry.RetryOnOptimisticLock;
+import com.payhint.api.domain.billing.model.Installment;
 import com.payhint.api.domain.billing.model.Invoice;
+import com.payhint.api.domain.billing.model.Payment;
 import com.payhint.api.domain.billing.repository.InvoiceRepository;
 import com.payhint.api.domain.billing.valueobject.InstallmentId;
 import com.payhint.api.domain.billing.valueobject.InvoiceId;
@@ -23,57 +29,86 @@ import com.payhint.api.domain.billing.valueobject.PaymentId;
 import com.payhint.api.domain.crm.valueobject.UserId;
 
 @Service
+@RetryOnOptimisticLock
 public class PaymentProcessingService implements PaymentProcessingUseCase {
 
         private static final Logger logger = LoggerFactory.getLogger(PaymentProcessingService.class);
 
         private final InvoiceRepository invoiceRepository;
+        private final InvoiceQueryRepository invoiceQueryRepository;
         private final InvoiceMapper invoiceMapper;
 
-        public PaymentProcessingService(InvoiceRepository invoiceRepository, InvoiceMapper invoiceMapper) {
+        public PaymentProcessingService(InvoiceRepository invoiceRepository,
+                        InvoiceQueryRepository invoiceQueryRepository, InvoiceMapper invoiceMapper) {
                 this.invoiceRepository = invoiceRepository;
+                this.invoiceQueryRepository = invoiceQueryRepository;
                 this.invoiceMapper = invoiceMapper;
         }
 
+        @CacheEvict(cacheNames = { DashboardService.CACHE_NAME, CashFlowForecastService.CACHE_NAME }, key = "#userId")
         @Transactional()
         @Override
-        public InvoiceResponse recordPayment(UserId userId, InvoiceId invoiceId, InstallmentId installmentId,
+        public InvoicePaymentResponse recordPayment(UserId userId, InvoiceId invoiceId, InstallmentId installmentId,
                         CreatePaymentRequest request) {
-                Invoice invoice = invoiceRepository.findByIdAndOwner(invoiceId, userId).orElseThrow(
-                                () -> new NotFoundException("Invoice with ID not found for user ID " + userId));
                 Money amount = new Money(request.amount());
                 LocalDate paymentDate = LocalDate.parse(request.paymentDate(), DateTimeFormatter.ISO_LOCAL_DATE);
-                invoice.addPayment(installmentId, paymentDate, amount);
-                Invoice savedInvoice = invoiceRepository.save(invoice);
+                Payment payment = Payment.create(new PaymentId(UUID.randomUUID()), amount, paymentDate);
+
+                // Rejected payments go through the aggregate so that the domain reports why
+                if (!invoiceRepository.appendPayment(invoiceId, userId, installmentId, payment)) {
+                        Invoice invoice = invoiceRepository
+                                        .findByIdAndOwnerWithInstallment(invoiceId, userId, installmentId)
+                                        .orElseThrow(() -> new NotFoundException(
+                                                        "Invoice with ID not found for user ID " + userId));
+                        invoice.addPayment(installmentId, paymentDate, amount);
+                        Installment installment = invoice.findInstallmentById(installmentId);
+                        Payment addedPayment = installment.getPayments().getLast();
+                        invoiceRepository.save(invoice);
+                        logger.info("Payment recorded in installment: " + installmentId.toString() + " for user ID "
+                                        + userId);
+                        return invoiceMapper.toInvoicePaymentResponse(invoice, installment, addedPayment);
+                }
+
+                InvoicePaymentResponse response = invoiceQueryRepository
+                                .findPaymentOutcomeByIdAndOwner(invoiceId, userId, installmentId, payment.getId())
+                                .orElseThrow(() -> new NotFoundException(
+                                                "Invoice with ID not found for user ID " + userId));
                 logger.info("Payment recorded in installment: " + installmentId.toString() + " for user ID " + userId);
-                return invoiceMapper.toInvoiceResponse(savedInvoice);
+                return response;
         }
 
+        @CacheEvict(cacheNames = { DashboardService.CACHE_NAME, CashFlowForecastService.CACHE_NAME }, key = "#userId")
         @Transactional()
         @Override
-        public InvoiceResponse updatePayment(UserId userId, InvoiceId invoiceId, InstallmentId installmentId,
+        public InvoicePaymentResponse updatePayment(UserId userId, InvoiceId invoiceId, InstallmentId installmentId,
                         PaymentId paymentId, UpdatePaymentRequest request) {
-                Invoice invoice = invoiceRepository.findByIdAndOwner(invoiceId, userId).orElseThrow(
-                                () -> new NotFoundException("Invoice with ID not found for user ID " + userId));
+                Invoice invoice = invoiceRepository.findByIdAndOwnerWithInstallment(invoiceId, userId, installmentId)
+                                .orElseThrow(() -> new NotFoundException(
+                                                "Invoice with ID not found for user ID " + userId));
                 Money newAmount = request.amount() != null ? new Money(request.amount()) : null;
                 LocalDate newPaymentDate = request.paymentDate() != null
                                 ? LocalDate.parse(request.paymentDate(), DateTimeFormatter.ISO_LOCAL_DATE)
                                 : null;
                 invoice.updatePayment(installmentId, paymentId, newPaymentDate, newAmount);
                 Invoice savedInvoice = invoiceRepository.save(invoice);
+                Installment installment = savedInvoice.findInstallmentById(installmentId);
                 logger.info("Payment updated in installment: " + installmentId.toString() + " for user ID " + userId);
-                return invoiceMapper.toInvoiceResponse(savedInvoice);
+                return invoiceMapper.toInvoicePaymentResponse(savedInvoice, installment,
+                                installment.findPaymentById(paymentId));
         }
 
+        @CacheEvict(cacheNames = { DashboardService.CACHE_NAME, CashFlowForecastService.CACHE_NAME }, key = "#userId")
         @Transactional()
         @Override
-        public InvoiceResponse removePayment(UserId userId, InvoiceId invoiceId, InstallmentId installmentId,
+        public InvoicePaymentResponse removePayment(UserId userId, InvoiceId invoiceId, InstallmentId installmentId,
                         PaymentId paymentId) {
-                Invoice invoice = invoiceRepository.findByIdAndOwner(invoiceId, userId)
+                Invoice invoice = invoiceRepository.findByIdAndOwnerWithInstallment(invoiceId, userId, installmentId)
                                 .orElseThrow(() -> new NotFoundException("Invoice not found for user ID " + userId));
+                Payment removedPayment = invoice.findInstallmentById(installmentId).findPaymentById(paymentId);
                 invoice.removePayment(installmentId, paymentId);
                 Invoice savedInvoice = invoiceRepository.save(invoice);
                 logger.info("Payment removed from installment: " + installmentId.toString() + " for user ID " + userId);
-                return invoiceMapper.toInvoiceResponse(savedInvoice);
+                return invoiceMapper.toInvoicePaymentResponse(savedInvoice,
+                                savedInvoice.findInstallmentById(installmentId), removedPayment);
         }
-}
\ No newline at end of file
+}
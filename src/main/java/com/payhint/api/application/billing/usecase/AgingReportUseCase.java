@@ -0,0 +1,14 @@
+package com.payhint.api.application.billing.usecase;
+
+import java.util.function.Consumer;
+
+import com.payhint.api.application.billing.dto.response.AgingReportResponse;
+import com.payhint.api.application.billing.dto.response.CustomerAgingResponse;
+import com.payhint.api.domain.crm.valueobject.UserId;
+
+public interface AgingReportUseCase {
+
+        AgingReportResponse viewAgingReport(UserId userId);
+
+        void streamAgingReport(UserId userId, Consumer<CustomerAgingResponse> consumer);
+}
@@ -0,0 +1,11 @@
+package com.payhint.api.application.billing.usecase;
+
+import com.payhint.api.application.billing.dto.request.ForecastPeriod;
+import com.payhint.api.application.billing.dto.response.CashFlowForecastResponse;
+import com.payhint.api.domain.crm.valueobject.UserId;
+
+public interface CashFlowForecastUseCase {
+
+        CashFlowForecastResponse viewForecast(UserId userId, ForecastPeriod period, Integer months,
+                        boolean weighted);
+}
@@ -0,0 +1,9 @@
+package com.payhint.api.application.billing.usecase;
+
+import com.payhint.api.application.billing.dto.response.DashboardResponse;
+import com.payhint.api.domain.crm.valueobject.UserId;
+
+public interface DashboardUseCase {
+
+        DashboardResponse viewDashboard(UserId userId);
+}
@@ -0,0 +1,5 @@
+package com.payhint.api.application.billing.usecase;
+
+public interface DeliverOverdueNotificationsUseCase {
+    int deliverDueNotifications();
+}
@@ -0,0 +1,19 @@
+package com.payhint.api.application.billing.usecase;
+
+import java.util.Iterator;
+import java.util.List;
+import java.util.function.Consumer;
+
+import com.payhint.api.application.billing.dto.request.InvoiceImportRow;
+import com.payhint.api.application.billing.dto.response.InvoiceImportResult;
+import com.payhint.api.domain.crm.valueobject.UserId;
+
+public interface InvoiceImportUseCase {
+
+        /**
+         * Imports the rows as they are read and reports the results of each chunk, one per row, once the chunk is
+         * committed.
+         */
+        void importInvoices(UserId userId, Iterator<InvoiceImportRow> rows,
+                        Consumer<List<InvoiceImportResult>> results);
+}
@@ -1,22 +1,44 @@
 package com.payhint.api.application.billing.usecase;
 
 import java.util.List;
+import java.util.function.Consumer;
 
 import com.payhint.api.application.billing.dto.request.CreateInvoiceRequest;
+import com.payhint.api.application.billing.dto.request.InvoiceDepth;
+import com.payhint.api.application.billing.dto.request.InvoiceFilter;
+import com.payhint.api.application.billing.dto.request.InvoiceSort;
 import com.payhint.api.application.billing.dto.request.UpdateInvoiceRequest;
+import com.payhint.api.application.billing.dto.response.InvoiceListingVersion;
 import com.payhint.api.application.billing.dto.response.InvoiceResponse;
 import com.payhint.api.application.billing.dto.response.InvoiceSummaryResponse;
 import com.payhint.api.domain.billing.valueobject.InvoiceId;
 import com.payhint.api.domain.crm.valueobject.CustomerId;
 import com.payhint.api.domain.crm.valueobject.UserId;
+import com.payhint.api.domain.shared.pagination.CursorPage;
+import com.payhint.api.domain.shared.pagination.CursorPageRequest;
+import com.payhint.api.domain.shared.search.SearchQuery;
 
 public interface InvoiceLifecycleUseCase {
 
         InvoiceResponse viewInvoice(UserId userId, InvoiceId invoiceId);
 
-        List<InvoiceSummaryResponse> listInvoicesByUser(UserId userId);
+        InvoiceResponse viewInvoice(UserId userId, InvoiceId invoiceId, InvoiceDepth depth);
 
-        List<InvoiceSummaryResponse> listInvoicesByCustomer(UserId userId, CustomerId customerId);
+        long getInvoiceVersion(UserId userId, InvoiceId invoiceId);
+
+        InvoiceListingVersion getListingVersion(UserId userId);
+
+        CursorPage<InvoiceSummaryResponse> listInvoicesByUser(UserId userId, CursorPageRequest page);
+
+        CursorPage<InvoiceSummaryResponse> searchInvoices(UserId userId, InvoiceFilter filter, InvoiceSort sort,
+                        CursorPageRequest page);
+
+        List<InvoiceSummaryResponse> findInvoicesByText(UserId userId, SearchQuery query);
+
+        void streamInvoicesByUser(UserId userId, Consumer<InvoiceSummaryResponse> consumer);
+
+        CursorPage<InvoiceSummaryResponse> listInvoicesByCustomer(UserId userId, CustomerId customerId,
+                        CursorPageRequest page);
 
         InvoiceResponse updateInvoice(UserId userId, InvoiceId invoiceId, UpdateInvoiceRequest request);
 
@@ -5,8 +5,11 @@ import java.util.UUID;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.stereotype.Service;
 
+import com.payhint.api.application.billing.service.CashFlowForecastService;
+import com.payhint.api.application.billing.service.DashboardService;
 import com.payhint.api.application.crm.dto.request.CreateCustomerRequest;
 import com.payhint.api.application.crm.dto.request.UpdateCustomerRequest;
 import com.payhint.api.application.crm.dto.response.CustomerResponse;
@@ -20,6 +23,9 @@ import com.payhint.api.domain.crm.repository.CustomerRepository;
 import com.payhint.api.domain.crm.repository.UserRepository;
 import com.payhint.api.domain.crm.valueobject.CustomerId;
 import com.payhint.api.domain.crm.valueobject.UserId;
+import com.payhint.api.domain.shared.pagination.CursorPage;
+import com.payhint.api.domain.shared.pagination.CursorPageRequest;
+import com.payhint.api.domain.shared.search.SearchQuery;
 import com.payhint.api.domain.shared.valueobject.Email;
 
 @Service
@@ -91,6 +97,7 @@ public class CustomerService implements CustomerManagementUseCase {
         return customerMapper.toResponse(savedCustomer);
     }
 
+    @CacheEvict(cacheNames = { DashboardService.CACHE_NAME, CashFlowForecastService.CACHE_NAME }, key = "#userId")
     @Override
     public void deleteCustomer(UserId userId, CustomerId customerId) {
         Customer existingCustomer = findCustomerForUser(userId, customerId);
@@ -105,14 +112,18 @@ public class CustomerService implements CustomerManagementUseCase {
     }
 
     @Override
-    public List<CustomerResponse> listAllCustomers(UserId userId) {
+    public CursorPage<CustomerResponse> listAllCustomers(UserId userId, CursorPageRequest page) {
         if (!userRepository.existsById(userId)) {
             var errorMessage = "User with ID " + userId + " does not exist";
             logger.warn(errorMessage);
             throw new NotFoundException(errorMessage);
         }
-        List<Customer> customers = customerRepository.findAllByUserId(userId);
-        return customerMapper.toResponseList(customers);
+        return customerRepository.findPageByUserId(userId, page).map(customerMapper::toResponse);
+    }
+
+    @Override
+    public List<CustomerResponse> searchCustomers(UserId userId, SearchQuery query) {
+        return customerRepository.searchByCompanyName(userId, query).stream().map(customerMapper::toResponse).toList();
     }
 
 }
@@ -7,11 +7,16 @@ import com.payhint.api.application.crm.dto.request.UpdateCustomerRequest;
 import com.payhint.api.application.crm.dto.response.CustomerResponse;
 import com.payhint.api.domain.crm.valueobject.CustomerId;
 import com.payhint.api.domain.crm.valueobject.UserId;
+import com.payhint.api.domain.shared.pagination.CursorPage;
+import com.payhint.api.domain.shared.pagination.CursorPageRequest;
+import com.payhint.api.domain.shared.search.SearchQuery;
 
 public interface CustomerManagementUseCase {
     CustomerResponse viewCustomerProfile(UserId userId, CustomerId customerId);
 
-    List<CustomerResponse> listAllCustomers(UserId userId);
+    CursorPage<CustomerResponse> listAllCustomers(UserId userId, CursorPageRequest page);
+
+    List<CustomerResponse> searchCustomers(UserId userId, SearchQuery query);
 
     CustomerResponse createCustomer(UserId userId, CreateCustomerRequest request);
 
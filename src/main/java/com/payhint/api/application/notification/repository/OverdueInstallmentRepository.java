@@ -1,9 +1,21 @@
 package com.payhint.api.application.notification.repository;
 
 import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
 
 import com.payhint.api.application.notification.dto.OverdueInstallmentDto;
 
 public interface OverdueInstallmentRepository {
-    List<OverdueInstallmentDto> listOverdueInstallmentsNotNotified();
-}
\ No newline at end of file
+    /**
+     * Returns at most {@code limit} overdue installments that were neither notified successfully nor enqueued in the
+     * notification outbox whose id comes after {@code afterInstallmentId}, ordered by id.
+     */
+    List<OverdueInstallmentDto> listOverdueInstallmentsNotNotified(UUID afterInstallmentId, int limit);
+
+    Optional<UUID> findScanCheckpoint();
+
+    void saveScanCheckpoint(UUID lastInstallmentId);
+
+    void clearScanCheckpoint();
+}
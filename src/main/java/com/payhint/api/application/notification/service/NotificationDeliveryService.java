@@ -0,0 +1,185 @@
+package com.payhint.api.application.notification.service;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.payhint.api.application.billing.usecase.DeliverOverdueNotificationsUseCase;
+import com.payhint.api.application.notification.service.OverdueNotificationSender.OverdueItem;
+import com.payhint.api.domain.billing.exception.InstallmentDoesNotBelongToInvoiceException;
+import com.payhint.api.domain.billing.model.Installment;
+import com.payhint.api.domain.billing.model.Invoice;
+import com.payhint.api.domain.billing.repository.InvoiceRepository;
+import com.payhint.api.domain.billing.valueobject.InstallmentId;
+import com.payhint.api.domain.billing.valueobject.InvoiceId;
+import com.payhint.api.domain.crm.model.Customer;
+import com.payhint.api.domain.crm.model.User;
+import com.payhint.api.domain.crm.repository.CustomerRepository;
+import com.payhint.api.domain.crm.repository.UserRepository;
+import com.payhint.api.domain.crm.valueobject.CustomerId;
+import com.payhint.api.domain.crm.valueobject.UserId;
+import com.payhint.api.domain.notification.model.NotificationLog;
+import com.payhint.api.domain.notification.model.NotificationStatus;
+import com.payhint.api.domain.notification.model.OutboxEntry;
+import com.payhint.api.domain.notification.model.OutboxStatus;
+import com.payhint.api.domain.notification.repository.NotificationLogRepository;
+import com.payhint.api.domain.notification.repository.NotificationOutboxRepository;
+
+import lombok.extern.slf4j.Slf4j;
+
+@Service
+@Slf4j
+public class NotificationDeliveryService implements DeliverOverdueNotificationsUseCase {
+
+    private final NotificationOutboxRepository outboxRepository;
+    private final NotificationLogRepository notificationLogRepository;
+    private final InvoiceRepository invoiceRepository;
+    private final CustomerRepository customerRepository;
+    private final UserRepository userRepository;
+    private final OverdueNotificationSender notificationSender;
+    private final TransactionTemplate transactionTemplate;
+    private final int batchSize;
+    private final int maxAttempts;
+    private final Duration initialBackoff;
+    private final boolean digest;
+
+    public NotificationDeliveryService(NotificationOutboxRepository outboxRepository,
+            NotificationLogRepository notificationLogRepository, InvoiceRepository invoiceRepository,
+            CustomerRepository customerRepository, UserRepository userRepository,
+            OverdueNotificationSender notificationSender, TransactionTemplate transactionTemplate,
+            @Value("${application.notification.outbox.batch-size:100}") int batchSize,
+            @Value("${application.notification.outbox.max-attempts:5}") int maxAttempts,
+            @Value("${application.notification.outbox.initial-backoff:PT5M}") Duration initialBackoff,
+            @Value("${application.notification.overdue-digest.enabled:true}") boolean digest) {
+        this.outboxRepository = outboxRepository;
+        this.notificationLogRepository = notificationLogRepository;
+        this.invoiceRepository = invoiceRepository;
+        this.customerRepository = customerRepository;
+        this.userRepository = userRepository;
+        this.notificationSender = notificationSender;
+        this.transactionTemplate = transactionTemplate;
+        this.batchSize = batchSize;
+        this.maxAttempts = maxAttempts;
+        this.initialBackoff = initialBackoff;
+        this.digest = digest;
+    }
+
+    /**
+     * Drains the due outbox entries batch by batch, each claimed and delivered in its own transaction so that the row
+     * locks keep concurrent workers off the entries being sent. A batch holds every due entry of up to
+     * {@code batchSize} users, so that each user gets a single digest. Returns the number of entries processed.
+     */
+    @Override
+    public int deliverDueNotifications() {
+        int processed = 0;
+        List<OutboxEntry> claimed;
+        do {
+            claimed = transactionTemplate.execute(status -> deliverBatch());
+            processed += claimed.size();
+        } while (claimed.stream().map(OutboxEntry::getUserId).distinct().count() == batchSize);
+        return processed;
+    }
+
+    /**
+     * Loads what the claimed entries need with one IN-list query each for the notification logs already sent, the
+     * invoices, their customers and the users. Entries that no longer need a notification are dropped, delivered ones
+     * are removed and failed ones are rescheduled or dead-lettered.
+     */
+    private List<OutboxEntry> deliverBatch() {
+        List<OutboxEntry> entries = outboxRepository.claimDue(batchSize);
+        if (entries.isEmpty()) {
+            return entries;
+        }
+
+        Set<InstallmentId> sent = notificationLogRepository
+                .findSentInstallmentIds(entries.stream().map(OutboxEntry::getInstallmentId).toList());
+        Map<InvoiceId, Invoice> invoices = invoiceRepository
+                .findAllByIds(entries.stream().map(OutboxEntry::getInvoiceId).collect(Collectors.toSet())).stream()
+                .collect(Collectors.toMap(Invoice::getId, Function.identity()));
+        Map<CustomerId, Customer> customers = customerRepository
+                .findAllByIds(invoices.values().stream().map(Invoice::getCustomerId).collect(Collectors.toSet()))
+                .stream().collect(Collectors.toMap(Customer::getId, Function.identity()));
+        Map<UserId, User> users = userRepository
+                .findAllByIds(entries.stream().map(OutboxEntry::getUserId).collect(Collectors.toSet())).stream()
+                .collect(Collectors.toMap(User::getId, Function.identity()));
+
+        List<OutboxEntry> done = new ArrayList<>();
+        Map<InstallmentId, OutboxEntry> entriesByInstallment = new LinkedHashMap<>();
+        Map<UserId, List<OverdueItem>> itemsByUser = new LinkedHashMap<>();
+        for (OutboxEntry entry : entries) {
+            OverdueItem item = sent.contains(entry.getInstallmentId()) ? null
+                    : toItem(entry, invoices, customers, users);
+            if (item == null) {
+                done.add(entry);
+                continue;
+            }
+            entriesByInstallment.put(entry.getInstallmentId(), entry);
+            itemsByUser.computeIfAbsent(entry.getUserId(), key -> new ArrayList<>()).add(item);
+        }
+
+        List<NotificationLog> logs = new ArrayList<>();
+        itemsByUser.forEach((userId, items) -> {
+            if (digest) {
+                logs.addAll(notificationSender.send(users.get(userId), items));
+            } else {
+                items.forEach(item -> logs.addAll(notificationSender.send(users.get(userId), List.of(item))));
+            }
+        });
+
+        List<OutboxEntry> retried = new ArrayList<>();
+        for (NotificationLog notificationLog : logs) {
+            OutboxEntry entry = entriesByInstallment.get(notificationLog.getInstallmentId());
+            if (notificationLog.getStatus() == NotificationStatus.SENT) {
+                done.add(entry);
+                continue;
+            }
+            entry.recordFailure(notificationLog.getErrorMessage(), maxAttempts, initialBackoff);
+            if (entry.getStatus() == OutboxStatus.DEAD) {
+                log.error("Giving up on the overdue notification of installment {} after {} attempts",
+                        entry.getInstallmentId(), entry.getAttempts());
+            }
+            retried.add(entry);
+        }
+
+        notificationLogRepository.saveAll(logs);
+        outboxRepository.deleteAll(done);
+        outboxRepository.saveAll(retried);
+        return entries;
+    }
+
+    private OverdueItem toItem(OutboxEntry entry, Map<InvoiceId, Invoice> invoices, Map<CustomerId, Customer> customers,
+            Map<UserId, User> users) {
+        Invoice invoice = invoices.get(entry.getInvoiceId());
+        Customer customer = invoice == null ? null : customers.get(invoice.getCustomerId());
+        if (customer == null || !customer.getUserId().equals(entry.getUserId())) {
+            log.warn("Invoice {} not found for user {} during notification processing", entry.getInvoiceId(),
+                    entry.getUserId());
+            return null;
+        }
+        if (!users.containsKey(entry.getUserId())) {
+            log.warn("User {} not found during notification processing", entry.getUserId());
+            return null;
+        }
+
+        try {
+            Installment installment = invoice.findInstallmentById(entry.getInstallmentId());
+            if (!installment.isStrictlyOverdue()) {
+                log.info("Skipping notification: Installment {} is not overdue", entry.getInstallmentId());
+                return null;
+            }
+            return new OverdueItem(customer, invoice, installment);
+        } catch (InstallmentDoesNotBelongToInvoiceException e) {
+            log.warn("Installment {} no longer exists on invoice {}", entry.getInstallmentId(), entry.getInvoiceId());
+            return null;
+        }
+    }
+}
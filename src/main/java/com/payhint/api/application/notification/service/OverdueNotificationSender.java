@@ -0,0 +1,73 @@
+package com.payhint.api.application.notification.service;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.springframework.stereotype.Component;
+
+import com.payhint.api.application.notification.repository.MailRepository;
+import com.payhint.api.domain.billing.model.Installment;
+import com.payhint.api.domain.billing.model.Invoice;
+import com.payhint.api.domain.crm.model.Customer;
+import com.payhint.api.domain.crm.model.User;
+import com.payhint.api.domain.notification.model.NotificationLog;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class OverdueNotificationSender {
+
+    private static final String SUBJECT = "Action Required: Overdue Payment Detected";
+    private static final String DIGEST_SUBJECT = "Action Required: %d Overdue Payments Detected";
+
+    private final MailRepository emailService;
+
+    /**
+     * Sends one email covering the given installments and returns one notification log per installment.
+     */
+    public List<NotificationLog> send(User user, List<OverdueItem> items) {
+        String subject;
+        String body;
+        if (items.size() == 1) {
+            OverdueItem item = items.get(0);
+            subject = SUBJECT;
+            body = String.format(
+                    "Hello %s,\n\nThe installment due on %s for %s invoice %s is overdue.\nPlease check your dashboard.",
+                    user.getFirstName(), item.installment().getDueDate(), item.customer().getCompanyName(),
+                    item.invoice().getInvoiceReference());
+        } else {
+            subject = String.format(DIGEST_SUBJECT, items.size());
+            String lines = items.stream()
+                    .sorted(Comparator.comparing((OverdueItem item) -> item.customer().getCompanyName())
+                            .thenComparing(item -> item.installment().getDueDate()))
+                    .map(item -> String.format("- %s, invoice %s: %s %s due on %s", item.customer().getCompanyName(),
+                            item.invoice().getInvoiceReference().value(),
+                            item.installment().getRemainingAmount().amount().toPlainString(),
+                            item.invoice().getCurrency(), item.installment().getDueDate()))
+                    .collect(Collectors.joining("\n"));
+            body = String.format(
+                    "Hello %s,\n\nThe following %d installments are overdue:\n\n%s\n\nPlease check your dashboard.",
+                    user.getFirstName(), items.size(), lines);
+        }
+
+        List<NotificationLog> logs = new ArrayList<>();
+        try {
+            emailService.sendEmail(user.getEmail().value(), subject, body);
+            items.forEach(item -> logs
+                    .add(NotificationLog.createSuccess(item.installment().getId(), user.getEmail(), subject)));
+        } catch (Exception e) {
+            log.error("Failed to send overdue notification email", e);
+            items.forEach(item -> logs.add(NotificationLog.createFailure(item.installment().getId(), user.getEmail(),
+                    subject, e.getMessage())));
+        }
+        return logs;
+    }
+
+    public record OverdueItem(Customer customer, Invoice invoice, Installment installment) {
+    }
+}
@@ -1,37 +1,72 @@
 package com.payhint.api.application.notification.service;
 
 import java.util.List;
+import java.util.UUID;
 
-import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import com.payhint.api.application.billing.usecase.NotifyOverdueInstallmentsUseCase;
 import com.payhint.api.application.notification.dto.OverdueInstallmentDto;
 import com.payhint.api.application.notification.repository.OverdueInstallmentRepository;
-import com.payhint.api.domain.billing.event.InstallmentOverdueEvent;
 import com.payhint.api.domain.billing.valueobject.InstallmentId;
 import com.payhint.api.domain.billing.valueobject.InvoiceId;
 import com.payhint.api.domain.crm.valueobject.UserId;
-
-import lombok.RequiredArgsConstructor;
+import com.payhint.api.domain.notification.model.OutboxEntry;
+import com.payhint.api.domain.notification.repository.NotificationOutboxRepository;
 
 @Service
-@RequiredArgsConstructor
 public class OverdueNotificationService implements NotifyOverdueInstallmentsUseCase {
 
+    static final UUID SCAN_START = new UUID(0L, 0L);
+
     private final OverdueInstallmentRepository overdueInstallmentRepository;
-    private final ApplicationEventPublisher eventPublisher;
+    private final NotificationOutboxRepository outboxRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final int chunkSize;
+
+    public OverdueNotificationService(OverdueInstallmentRepository overdueInstallmentRepository,
+            NotificationOutboxRepository outboxRepository, TransactionTemplate transactionTemplate,
+            @Value("${application.notification.overdue-scan.chunk-size:500}") int chunkSize) {
+        this.overdueInstallmentRepository = overdueInstallmentRepository;
+        this.outboxRepository = outboxRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.chunkSize = chunkSize;
+    }
 
+    /**
+     * Walks the overdue installments in chunks ordered by id. Every chunk is written to the notification outbox in the
+     * transaction that reads it, together with a checkpoint on its last id, so a scan interrupted by a crash resumes
+     * there on the next run. Enqueued installments are excluded from the scan, so nothing is enqueued twice. Digests
+     * do not depend on the scan order, as the outbox is claimed by whole users.
+     */
     @Override
-    @Transactional(readOnly = true)
     public void detectAndPublishOverdueEvents() {
-        List<OverdueInstallmentDto> overdueInstallments = overdueInstallmentRepository
-                .listOverdueInstallmentsNotNotified();
+        UUID afterId = overdueInstallmentRepository.findScanCheckpoint().orElse(SCAN_START);
+
+        List<OverdueInstallmentDto> chunk;
+        do {
+            UUID fromId = afterId;
+            chunk = transactionTemplate.execute(status -> enqueueChunk(fromId));
+            if (!chunk.isEmpty()) {
+                afterId = chunk.get(chunk.size() - 1).installmentId();
+            }
+        } while (chunk.size() == chunkSize);
+
+        overdueInstallmentRepository.clearScanCheckpoint();
+    }
 
-        for (OverdueInstallmentDto installment : overdueInstallments) {
-            eventPublisher.publishEvent(new InstallmentOverdueEvent(new InstallmentId(installment.installmentId()),
-                    new InvoiceId(installment.invoiceId()), new UserId(installment.userId()), installment.dueDate()));
+    private List<OverdueInstallmentDto> enqueueChunk(UUID afterInstallmentId) {
+        List<OverdueInstallmentDto> chunk = overdueInstallmentRepository
+                .listOverdueInstallmentsNotNotified(afterInstallmentId, chunkSize);
+        if (!chunk.isEmpty()) {
+            outboxRepository.enqueueAll(chunk.stream()
+                    .map(installment -> OutboxEntry.create(new InstallmentId(installment.installmentId()),
+                            new InvoiceId(installment.invoiceId()), new UserId(installment.userId())))
+                    .toList());
+            overdueInstallmentRepository.saveScanCheckpoint(chunk.get(chunk.size() - 1).installmentId());
         }
+        return chunk;
     }
-}
\ No newline at end of file
+}
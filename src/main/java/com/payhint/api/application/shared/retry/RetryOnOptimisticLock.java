@@ -0,0 +1,16 @@
+package com.payhint.api.application.shared.retry;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Re-runs the annotated use case, or every use case of the annotated class, in a new transaction when it fails
+ * because the aggregate it saved was modified concurrently. Calls made inside an already running transaction are not
+ * retried, the outermost retried call takes care of it.
+ */
+@Target({ ElementType.TYPE, ElementType.METHOD })
+@Retention(RetentionPolicy.RUNTIME)
+public @interface RetryOnOptimisticLock {
+}
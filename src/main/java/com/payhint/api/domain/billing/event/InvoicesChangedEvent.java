@@ -0,0 +1,20 @@
+package com.payhint.api.domain.billing.event;
+
+import java.util.List;
+
+import com.payhint.api.domain.billing.valueobject.InvoiceId;
+
+/**
+ * Published when invoices are created or modified, including their installments and payments. Deletions are not
+ * published.
+ */
+public record InvoicesChangedEvent(List<InvoiceId> invoiceIds) {
+
+    public InvoicesChangedEvent {
+        invoiceIds = List.copyOf(invoiceIds);
+    }
+
+    public static InvoicesChangedEvent of(InvoiceId invoiceId) {
+        return new InvoicesChangedEvent(List.of(invoiceId));
+    }
+}
@@ -61,11 +61,26 @@ public class Invoice {
 
     private Long version;
 
+    /**
+     * Earliest due date of the unpaid installments that were not loaded with this aggregate, {@code null} when all
+     * installments are loaded or none of the others is unpaid.
+     */
+    private LocalDate otherInstallmentsNextUnpaidDueDate;
+
     public Invoice(@NonNull InvoiceId id, CustomerId customerId, @NonNull InvoiceReference invoiceReference,
             @NonNull Money totalAmount, @NonNull Money totalPaid, @NonNull String currency,
             @NonNull PaymentStatus status, @NonNull LocalDateTime createdAt, @NonNull LocalDateTime updatedAt,
             @NonNull LocalDateTime lastStatusChangeAt, boolean isArchived, List<Installment> installments,
             Long version) {
+        this(id, customerId, invoiceReference, totalAmount, totalPaid, currency, status, createdAt, updatedAt,
+                lastStatusChangeAt, isArchived, installments, version, null);
+    }
+
+    public Invoice(@NonNull InvoiceId id, CustomerId customerId, @NonNull InvoiceReference invoiceReference,
+            @NonNull Money totalAmount, @NonNull Money totalPaid, @NonNull String currency,
+            @NonNull PaymentStatus status, @NonNull LocalDateTime createdAt, @NonNull LocalDateTime updatedAt,
+            @NonNull LocalDateTime lastStatusChangeAt, boolean isArchived, List<Installment> installments,
+            Long version, LocalDate otherInstallmentsNextUnpaidDueDate) {
         if (id == null) {
             throw new InvalidPropertyException("InvoiceId cannot be null");
         }
@@ -82,6 +97,7 @@ public class Invoice {
         this.lastStatusChangeAt = lastStatusChangeAt;
         this.version = version;
         this.installments = installments != null ? new ArrayList<>(installments) : new ArrayList<>();
+        this.otherInstallmentsNextUnpaidDueDate = otherInstallmentsNextUnpaidDueDate;
     }
 
     public static Invoice create(@NonNull InvoiceId id, @NonNull CustomerId customerId,
@@ -102,8 +118,24 @@ public class Invoice {
         }
     }
 
+    /**
+     * Earliest due date among the installments that are not fully paid, persisted with the invoice so that listings
+     * can tell overdue invoices apart without looking at their installments.
+     */
+    public LocalDate getNextUnpaidDueDate() {
+        LocalDate nextUnpaidDueDate = otherInstallmentsNextUnpaidDueDate;
+        for (Installment installment : installments) {
+            if (installment.getStatus() != PaymentStatus.PAID
+                    && (nextUnpaidDueDate == null || installment.getDueDate().isBefore(nextUnpaidDueDate))) {
+                nextUnpaidDueDate = installment.getDueDate();
+            }
+        }
+        return nextUnpaidDueDate;
+    }
+
     public boolean isOverdue() {
-        return installments.stream().anyMatch(installment -> installment.isOverdue());
+        LocalDate nextUnpaidDueDate = getNextUnpaidDueDate();
+        return nextUnpaidDueDate != null && LocalDate.now().isAfter(nextUnpaidDueDate);
     }
 
     public Money getRemainingAmount() {
@@ -1,9 +1,14 @@
 package com.payhint.api.domain.billing.repository;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 
 import com.payhint.api.domain.billing.model.Invoice;
+import com.payhint.api.domain.billing.model.Payment;
+import com.payhint.api.domain.billing.valueobject.InstallmentId;
 import com.payhint.api.domain.billing.valueobject.InvoiceId;
 import com.payhint.api.domain.billing.valueobject.InvoiceReference;
 import com.payhint.api.domain.crm.valueobject.CustomerId;
@@ -13,7 +18,16 @@ public interface InvoiceRepository {
 
     Invoice save(Invoice invoice);
 
-    void deleteById(InvoiceId id);
+    /**
+     * Inserts invoices that are known not to exist yet, skipping the lookups done by {@link #save(Invoice)}.
+     */
+    void createAll(List<Invoice> invoices);
+
+    /**
+     * Deletes the invoice with its installments, payments and notification logs if it belongs to the user, without
+     * loading it. Returns {@code false} when no such invoice exists for the user.
+     */
+    boolean deleteByIdAndOwner(InvoiceId id, UserId userId);
 
     void deleteByCustomerId(CustomerId customerId);
 
@@ -21,7 +35,27 @@ public interface InvoiceRepository {
 
     Optional<Invoice> findByCustomerIdAndInvoiceReference(CustomerId customerId, InvoiceReference invoiceReference);
 
+    boolean existsByCustomerIdAndInvoiceReference(CustomerId customerId, InvoiceReference invoiceReference);
+
+    Map<CustomerId, Set<InvoiceReference>> findExistingReferences(Collection<CustomerId> customerIds,
+            Collection<InvoiceReference> invoiceReferences);
+
     Optional<Invoice> findByIdAndOwner(InvoiceId id, UserId userId);
 
     List<Invoice> findAllByCustomerId(CustomerId customerId);
+
+    List<Invoice> findAllByIds(Collection<InvoiceId> ids);
+
+    /**
+     * Loads the invoice header with only the given installment and its payments. The returned aggregate is meant for
+     * payment operations on that installment and must be saved in the transaction that loaded it.
+     */
+    Optional<Invoice> findByIdAndOwnerWithInstallment(InvoiceId id, UserId userId, InstallmentId installmentId);
+
+    /**
+     * Inserts the payment and adds its amount to the installment and invoice totals without loading the invoice. Does
+     * nothing and returns {@code false} when the invoice is not the user's, is archived, does not contain the
+     * installment or when the payment is not positive or exceeds the remaining amount of the installment.
+     */
+    boolean appendPayment(InvoiceId id, UserId userId, InstallmentId installmentId, Payment payment);
 }
@@ -0,0 +1,6 @@
+package com.payhint.api.domain.crm.event;
+
+import com.payhint.api.domain.crm.valueobject.CustomerId;
+
+public record CustomerUpdatedEvent(CustomerId customerId) {
+}
@@ -1,11 +1,16 @@
 package com.payhint.api.domain.crm.repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 import com.payhint.api.domain.crm.model.Customer;
 import com.payhint.api.domain.crm.valueobject.CustomerId;
 import com.payhint.api.domain.crm.valueobject.UserId;
+import com.payhint.api.domain.shared.pagination.CursorPage;
+import com.payhint.api.domain.shared.pagination.CursorPageRequest;
+import com.payhint.api.domain.shared.search.SearchQuery;
 
 public interface CustomerRepository {
 
@@ -13,11 +18,19 @@ public interface CustomerRepository {
 
     Optional<Customer> findById(CustomerId id);
 
+    List<Customer> findAllByIds(Collection<CustomerId> ids);
+
     List<Customer> findAllByUserId(UserId userId);
 
+    CursorPage<Customer> findPageByUserId(UserId userId, CursorPageRequest page);
+
+    List<Customer> searchByCompanyName(UserId userId, SearchQuery query);
+
     void delete(Customer customer);
 
     boolean existsById(CustomerId id);
 
     boolean existsByUserIdAndCompanyName(UserId userId, String companyName);
+
+    Set<CustomerId> findIdsOwnedByUser(UserId userId, Collection<CustomerId> ids);
 }
\ No newline at end of file
@@ -1,5 +1,7 @@
 package com.payhint.api.domain.crm.repository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 import com.payhint.api.domain.crm.model.User;
@@ -12,6 +14,8 @@ public interface UserRepository {
 
     Optional<User> findById(UserId userId);
 
+    List<User> findAllByIds(Collection<UserId> userIds);
+
     Optional<User> findByEmail(Email email);
 
     boolean existsByEmail(Email email);
@@ -0,0 +1,69 @@
+package com.payhint.api.domain.notification.model;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import com.payhint.api.domain.billing.valueobject.InstallmentId;
+import com.payhint.api.domain.billing.valueobject.InvoiceId;
+import com.payhint.api.domain.crm.valueobject.UserId;
+import com.payhint.api.domain.shared.exception.InvalidPropertyException;
+
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NonNull;
+
+/**
+ * An overdue installment waiting for its notification to be delivered.
+ */
+@Getter
+public class OutboxEntry {
+
+    private final UUID id;
+    private final InstallmentId installmentId;
+    private final InvoiceId invoiceId;
+    private final UserId userId;
+    private OutboxStatus status;
+    private int attempts;
+    private LocalDateTime nextAttemptAt;
+    private String lastError;
+    private final LocalDateTime createdAt;
+
+    @Builder
+    private OutboxEntry(@NonNull UUID id, @NonNull InstallmentId installmentId, @NonNull InvoiceId invoiceId,
+            @NonNull UserId userId, @NonNull OutboxStatus status, int attempts, @NonNull LocalDateTime nextAttemptAt,
+            String lastError, @NonNull LocalDateTime createdAt) {
+        if (attempts < 0) {
+            throw new InvalidPropertyException("Attempts cannot be negative");
+        }
+        this.id = id;
+        this.installmentId = installmentId;
+        this.invoiceId = invoiceId;
+        this.userId = userId;
+        this.status = status;
+        this.attempts = attempts;
+        this.nextAttemptAt = nextAttemptAt;
+        this.lastError = lastError;
+        this.createdAt = createdAt;
+    }
+
+    public static OutboxEntry create(InstallmentId installmentId, InvoiceId invoiceId, UserId userId) {
+        LocalDateTime now = LocalDateTime.now();
+        return new OutboxEntry(UUID.randomUUID(), installmentId, invoiceId, userId, OutboxStatus.PENDING, 0, now,
+                null, now);
+    }
+
+    /**
+     * Schedules the next attempt after a backoff that doubles with every failure, or moves the entry to the dead
+     * letter state once {@code maxAttempts} attempts have failed.
+     */
+    public void recordFailure(String error, int maxAttempts, @NonNull Duration initialBackoff) {
+        attempts++;
+        lastError = error;
+        if (attempts >= maxAttempts) {
+            status = OutboxStatus.DEAD;
+            return;
+        }
+        nextAttemptAt = LocalDateTime.now().plus(initialBackoff.multipliedBy(1L << Math.min(attempts - 1, 30)));
+    }
+}
@@ -0,0 +1,5 @@
+package com.payhint.api.domain.notification.model;
+
+public enum OutboxStatus {
+    PENDING, DEAD
+}
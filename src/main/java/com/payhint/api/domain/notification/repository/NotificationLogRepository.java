@@ -1,10 +1,18 @@
 package com.payhint.api.domain.notification.repository;
 
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+
 import com.payhint.api.domain.billing.valueobject.InstallmentId;
 import com.payhint.api.domain.notification.model.NotificationLog;
 
 public interface NotificationLogRepository {
     NotificationLog save(NotificationLog log);
 
+    void saveAll(List<NotificationLog> logs);
+
     boolean existsByInstallmentId(InstallmentId installmentId);
-}
\ No newline at end of file
+
+    Set<InstallmentId> findSentInstallmentIds(Collection<InstallmentId> installmentIds);
+}
@@ -0,0 +1,19 @@
+package com.payhint.api.domain.notification.repository;
+
+import java.util.List;
+
+import com.payhint.api.domain.notification.model.OutboxEntry;
+
+public interface NotificationOutboxRepository {
+    void enqueueAll(List<OutboxEntry> entries);
+
+    /**
+     * Locks every pending entry due for an attempt of up to {@code maxUsers} users, skipping the users claimed by
+     * other workers, until the surrounding transaction ends. The entries of a user are never split between claims.
+     */
+    List<OutboxEntry> claimDue(int maxUsers);
+
+    void saveAll(List<OutboxEntry> entries);
+
+    void deleteAll(List<OutboxEntry> entries);
+}
@@ -0,0 +1,30 @@
+package com.payhint.api.domain.shared.pagination;
+
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * One page of a keyset listing. {@code nextCursor} is {@code null} on the last page.
+ */
+public record CursorPage<T>(List<T> items, PageCursor nextCursor) {
+
+    /**
+     * Builds the page from up to {@code size + 1} rows fetched after the cursor; the extra row only tells whether
+     * there is a next page.
+     */
+    public static <T> CursorPage<T> of(List<T> rows, int size, Function<T, PageCursor> cursorOf) {
+        if (rows.size() <= size) {
+            return new CursorPage<>(rows, null);
+        }
+        List<T> items = rows.subList(0, size);
+        return new CursorPage<>(List.copyOf(items), cursorOf.apply(items.get(size - 1)));
+    }
+
+    public <R> CursorPage<R> map(Function<T, R> mapper) {
+        return new CursorPage<>(items.stream().map(mapper).toList(), nextCursor);
+    }
+
+    public boolean hasNext() {
+        return nextCursor != null;
+    }
+}
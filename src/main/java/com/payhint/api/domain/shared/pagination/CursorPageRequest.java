@@ -0,0 +1,27 @@
+package com.payhint.api.domain.shared.pagination;
+
+import com.payhint.api.domain.shared.exception.InvalidPropertyException;
+
+import lombok.NonNull;
+
+public record CursorPageRequest(@NonNull PageCursor after, int size) {
+
+    public static final int DEFAULT_SIZE = 50;
+    public static final int MAX_SIZE = 200;
+
+    public CursorPageRequest {
+        if (size < 1) {
+            throw new InvalidPropertyException("Page size must be at least 1");
+        }
+        size = Math.min(size, MAX_SIZE);
+    }
+
+    public static CursorPageRequest first() {
+        return new CursorPageRequest(PageCursor.START, DEFAULT_SIZE);
+    }
+
+    public static CursorPageRequest of(String cursor, Integer size) {
+        return new CursorPageRequest(cursor == null || cursor.isBlank() ? PageCursor.START : PageCursor.decode(cursor),
+                size == null ? DEFAULT_SIZE : size);
+    }
+}
@@ -0,0 +1,42 @@
+package com.payhint.api.domain.shared.pagination;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import java.util.UUID;
+
+import com.payhint.api.domain.shared.exception.InvalidPropertyException;
+
+import lombok.NonNull;
+
+/**
+ * Position in a listing ordered by a timestamp column, such as {@code created_at}, then by id. Clients only see it as
+ * an opaque string.
+ */
+public record PageCursor(@NonNull LocalDateTime timestamp, @NonNull UUID id) {
+
+    /** Sorts before every row, so that the first page uses the same keyset predicate as the following ones. */
+    public static final PageCursor START = new PageCursor(LocalDateTime.of(1970, 1, 1, 0, 0), new UUID(0L, 0L));
+
+    private static final String SEPARATOR = "|";
+
+    public String encode() {
+        String value = timestamp + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(value.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static PageCursor decode(@NonNull String cursor) {
+        try {
+            String value = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separator = value.indexOf(SEPARATOR);
+            if (separator < 0) {
+                throw new InvalidPropertyException("Invalid page cursor");
+            }
+            return new PageCursor(LocalDateTime.parse(value.substring(0, separator)),
+                    UUID.fromString(value.substring(separator + 1)));
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new InvalidPropertyException("Invalid page cursor");
+        }
+    }
+}
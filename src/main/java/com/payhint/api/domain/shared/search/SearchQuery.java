@@ -0,0 +1,36 @@
+package com.payhint.api.domain.shared.search;
+
+import com.payhint.api.domain.shared.exception.InvalidPropertyException;
+
+import lombok.NonNull;
+
+/**
+ * Text typed in a search box, matched case-insensitively as a prefix or a substring. Prefix matches come first.
+ */
+public record SearchQuery(@NonNull String text, int limit) {
+
+    public static final int DEFAULT_LIMIT = 10;
+    public static final int MAX_LIMIT = 50;
+    public static final int MAX_LENGTH = 100;
+
+    public SearchQuery {
+        text = text.strip();
+        if (text.isEmpty()) {
+            throw new InvalidPropertyException("Search text must not be blank");
+        }
+        if (text.length() > MAX_LENGTH) {
+            throw new InvalidPropertyException("Search text must not exceed " + MAX_LENGTH + " characters");
+        }
+        if (limit < 1) {
+            throw new InvalidPropertyException("Search limit must be at least 1");
+        }
+        limit = Math.min(limit, MAX_LIMIT);
+    }
+
+    public static SearchQuery of(String text, Integer limit) {
+        if (text == null) {
+            throw new InvalidPropertyException("Search text must not be blank");
+        }
+        return new SearchQuery(text, limit == null ? DEFAULT_LIMIT : limit);
+    }
+}
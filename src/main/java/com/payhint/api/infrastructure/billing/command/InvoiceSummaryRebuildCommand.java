@@ -0,0 +1,77 @@
+package com.payhint.api.infrastructure.billing.command;
+
+import java.util.List;
+import java.util.UUID;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.payhint.api.infrastructure.billing.persistence.jpa.adapter.InvoiceSummaryProjector;
+import com.payhint.api.infrastructure.billing.persistence.jpa.repository.InvoiceSpringRepository;
+
+/**
+ * Regenerates the {@code invoice_summary} read table when the application is started with
+ * {@code --rebuild-invoice-summaries}, for instance after the table has been created on an existing database. The
+ * stored next unpaid due date of every invoice is backfilled first, as invoices written before the column existed
+ * have none and the summaries and overdue filters read it.
+ */
+@Component
+public class InvoiceSummaryRebuildCommand implements ApplicationRunner {
+
+    public static final String OPTION = "rebuild-invoice-summaries";
+
+    private static final Logger logger = LoggerFactory.getLogger(InvoiceSummaryRebuildCommand.class);
+
+    private final InvoiceSummaryProjector projector;
+    private final InvoiceSpringRepository invoiceRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final int chunkSize;
+
+    public InvoiceSummaryRebuildCommand(InvoiceSummaryProjector projector, InvoiceSpringRepository invoiceRepository,
+            TransactionTemplate transactionTemplate,
+            @Value("${application.billing.invoice-summary.rebuild-chunk-size:1000}") int chunkSize) {
+        this.projector = projector;
+        this.invoiceRepository = invoiceRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.chunkSize = chunkSize;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        if (args.containsOption(OPTION)) {
+            logger.info("Backfilling the next unpaid due dates of invoices");
+            int backfilled = backfillNextUnpaidDueDates();
+            logger.info("Next unpaid due dates backfilled: " + backfilled + " invoices");
+            logger.info("Rebuilding invoice summaries");
+            int rebuilt = projector.rebuild();
+            logger.info("Invoice summaries rebuilt: " + rebuilt + " invoices");
+        }
+    }
+
+    /**
+     * Recomputes the next unpaid due date of every invoice, one chunk of invoices per transaction in id order.
+     *
+     * @return the number of invoices processed
+     */
+    int backfillNextUnpaidDueDates() {
+        int backfilled = 0;
+        UUID afterId = new UUID(0L, 0L);
+        while (true) {
+            List<UUID> invoiceIds = invoiceRepository.findIdsAfter(afterId, Limit.of(chunkSize));
+            if (invoiceIds.isEmpty()) {
+                break;
+            }
+            transactionTemplate
+                    .executeWithoutResult(status -> invoiceRepository.refreshNextUnpaidDueDates(invoiceIds));
+            backfilled += invoiceIds.size();
+            afterId = invoiceIds.get(invoiceIds.size() - 1);
+        }
+        return backfilled;
+    }
+}
@@ -1,18 +1,36 @@
 package com.payhint.api.infrastructure.billing.persistence.jpa.adapter;
 
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
 import java.util.stream.Collectors;
 
+import org.hibernate.Hibernate;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
 
+import com.payhint.api.domain.billing.event.InvoicesChangedEvent;
 import com.payhint.api.domain.billing.model.Invoice;
+import com.payhint.api.domain.billing.model.Payment;
 import com.payhint.api.domain.billing.repository.InvoiceRepository;
+import com.payhint.api.domain.billing.valueobject.InstallmentId;
 import com.payhint.api.domain.billing.valueobject.InvoiceId;
 import com.payhint.api.domain.billing.valueobject.InvoiceReference;
 import com.payhint.api.domain.crm.valueobject.CustomerId;
 import com.payhint.api.domain.crm.valueobject.UserId;
+import com.payhint.api.infrastructure.billing.persistence.jpa.entity.InstallmentJpaEntity;
 import com.payhint.api.infrastructure.billing.persistence.jpa.entity.InvoiceJpaEntity;
 import com.payhint.api.infrastructure.billing.persistence.jpa.mapper.InvoicePersistenceMapper;
 import com.payhint.api.infrastructure.billing.persistence.jpa.repository.InvoiceSpringRepository;
@@ -28,10 +46,26 @@ public class InvoiceJpaRepositoryAdapter implements InvoiceRepository {
     private final InvoiceSpringRepository springDataInvoiceRepository;
     private final CustomerSpringRepository springDataCustomerRepository;
     private final InvoicePersistenceMapper mapper;
+    private final InvoiceUnitOfWork unitOfWork;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Override
+    @Transactional
     public Invoice save(@NonNull Invoice invoice) {
-        var existingEntityOpt = springDataInvoiceRepository.findById(invoice.getId().value());
+        eventPublisher.publishEvent(InvoicesChangedEvent.of(invoice.getId()));
+        var trackedEntityOpt = unitOfWork.find(invoice.getId().value());
+        if (trackedEntityOpt.isPresent()) {
+            var loadedInstallmentsOpt = unitOfWork.findLoadedInstallments(invoice.getId().value());
+            if (loadedInstallmentsOpt.isPresent()) {
+                mapper.updatePartialEntity(invoice, trackedEntityOpt.get(), loadedInstallmentsOpt.get());
+            } else {
+                mapper.updateEntity(invoice, trackedEntityOpt.get());
+            }
+            return invoice;
+        }
+
+        var existingEntityOpt = springDataInvoiceRepository.findById(invoice.getId().value())
+                .map(this::withPayments);
 
         InvoiceJpaEntity entityToSave;
 
@@ -47,48 +81,165 @@ public class InvoiceJpaRepositoryAdapter implements InvoiceRepository {
         }
 
         InvoiceJpaEntity saved = springDataInvoiceRepository.save(entityToSave);
+        unitOfWork.register(saved);
         return mapper.toDomain(saved);
     }
 
     @Override
+    @Transactional
+    public void createAll(@NonNull List<Invoice> invoices) {
+        List<InvoiceJpaEntity> entities = invoices.stream().map(invoice -> {
+            InvoiceJpaEntity entity = mapper.toEntity(invoice);
+            entity.setCustomer(springDataCustomerRepository.getReferenceById(invoice.getCustomerId().value()));
+            return entity;
+        }).toList();
+        springDataInvoiceRepository.saveAll(entities);
+        eventPublisher.publishEvent(new InvoicesChangedEvent(invoices.stream().map(Invoice::getId).toList()));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
     public Optional<Invoice> findById(InvoiceId id) {
         if (id == null) {
             return Optional.empty();
         }
-        return springDataInvoiceRepository.findById(id.value()).map(mapper::toDomain);
+        return springDataInvoiceRepository.findById(id.value()).map(this::withPayments).map(this::track);
     }
 
     @Override
+    @Transactional(readOnly = true)
     public List<Invoice> findAllByCustomerId(@NonNull CustomerId customerId) {
-        return springDataInvoiceRepository.findAllByCustomerId(customerId.value()).stream().map(mapper::toDomain)
-                .collect(Collectors.toList());
+        return withPayments(springDataInvoiceRepository.findAllByCustomerId(customerId.value())).stream()
+                .map(this::track).collect(Collectors.toList());
     }
 
     @Override
+    @Transactional(readOnly = true)
+    public List<Invoice> findAllByIds(@NonNull Collection<InvoiceId> ids) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        return withPayments(springDataInvoiceRepository.findAllByIdIn(ids.stream().map(InvoiceId::value).toList()))
+                .stream().map(this::track).collect(Collectors.toList());
+    }
+
+    @Override
+    @Transactional(readOnly = true)
     public Optional<Invoice> findByCustomerIdAndInvoiceReference(@NonNull CustomerId customerId,
             @NonNull InvoiceReference invoiceReference) {
         return springDataInvoiceRepository
                 .findByCustomerIdAndInvoiceReference(customerId.value(), invoiceReference.value())
-                .map(mapper::toDomain);
+                .map(this::withPayments).map(this::track);
+    }
+
+    @Override
+    public boolean existsByCustomerIdAndInvoiceReference(@NonNull CustomerId customerId,
+            @NonNull InvoiceReference invoiceReference) {
+        return springDataInvoiceRepository.existsByCustomerIdAndInvoiceReference(customerId.value(),
+                invoiceReference.value());
+    }
+
+    @Override
+    public Map<CustomerId, Set<InvoiceReference>> findExistingReferences(@NonNull Collection<CustomerId> customerIds,
+            @NonNull Collection<InvoiceReference> invoiceReferences) {
+        Map<CustomerId, Set<InvoiceReference>> references = new HashMap<>();
+        if (customerIds.isEmpty() || invoiceReferences.isEmpty()) {
+            return references;
+        }
+        springDataInvoiceRepository
+                .findReferencesByCustomerIdsAndReferences(customerIds.stream().map(CustomerId::value).toList(),
+                        invoiceReferences.stream().map(InvoiceReference::value).toList())
+                .forEach(row -> references.computeIfAbsent(new CustomerId((UUID) row[0]), key -> new HashSet<>())
+                        .add(new InvoiceReference((String) row[1])));
+        return references;
     }
 
     @Override
+    @Transactional(readOnly = true)
     public Optional<Invoice> findByIdAndOwner(@NonNull InvoiceId id, @NonNull UserId userId) {
-        return springDataInvoiceRepository.findByIdAndOwner(id.value(), userId.value()).map(mapper::toDomain);
+        return springDataInvoiceRepository.findByIdAndOwner(id.value(), userId.value()).map(this::withPayments)
+                .map(this::track);
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.MANDATORY)
+    public Optional<Invoice> findByIdAndOwnerWithInstallment(@NonNull InvoiceId id, @NonNull UserId userId,
+            @NonNull InstallmentId installmentId) {
+        return springDataInvoiceRepository.findHeaderByIdAndOwner(id.value(), userId.value()).map(entity -> {
+            List<InstallmentJpaEntity> installments = springDataInvoiceRepository
+                    .findInstallmentWithPayments(id.value(), installmentId.value());
+            LocalDate otherInstallmentsNextUnpaidDueDate = springDataInvoiceRepository
+                    .findNextUnpaidDueDateExcept(id.value(), installmentId.value()).orElse(null);
+            unitOfWork.registerPartial(entity, installments);
+            return mapper.toPartialDomain(entity, installments, otherInstallmentsNextUnpaidDueDate);
+        });
     }
 
+    /**
+     * The invoice row is updated first so that it serializes concurrent writers of the aggregate the same way a
+     * versioned save does. Its version is bumped so that aggregates loaded before the payment fail to save.
+     */
     @Override
-    public void deleteById(InvoiceId id) {
-        if (id != null) {
-            springDataInvoiceRepository.deleteById(id.value());
+    @Transactional
+    public boolean appendPayment(@NonNull InvoiceId id, @NonNull UserId userId, @NonNull InstallmentId installmentId,
+            @NonNull Payment payment) {
+        LocalDateTime now = LocalDateTime.now();
+        BigDecimal amount = payment.getAmount().amount();
+        if (springDataInvoiceRepository.addPaymentToInvoiceTotals(id.value(), userId.value(), installmentId.value(),
+                amount, now) == 0) {
+            return false;
+        }
+        if (springDataInvoiceRepository.addPaymentToInstallmentTotals(id.value(), installmentId.value(), amount,
+                now) == 0) {
+            throw new ObjectOptimisticLockingFailureException(InstallmentJpaEntity.class, installmentId.value());
         }
+        springDataInvoiceRepository.insertPayment(payment.getId().value(), installmentId.value(), amount,
+                payment.getPaymentDate(), now);
+        springDataInvoiceRepository.refreshNextUnpaidDueDate(id.value());
+        unitOfWork.evict(id.value());
+        eventPublisher.publishEvent(InvoicesChangedEvent.of(id));
+        return true;
     }
 
     @Override
+    @Transactional
+    public boolean deleteByIdAndOwner(@NonNull InvoiceId id, @NonNull UserId userId) {
+        unitOfWork.evict(id.value());
+        springDataInvoiceRepository.deleteNotificationLogsByInvoiceIdAndOwner(id.value(), userId.value());
+        return springDataInvoiceRepository.deleteByIdAndOwner(id.value(), userId.value()) > 0;
+    }
+
+    /**
+     * Installments and payments are removed by the ON DELETE CASCADE foreign keys, notification logs have to be
+     * deleted first.
+     */
+    @Override
+    @Transactional
     public void deleteByCustomerId(CustomerId customerId) {
         if (customerId != null) {
-            var invoices = springDataInvoiceRepository.findAllByCustomerId(customerId.value());
-            springDataInvoiceRepository.deleteAll(invoices);
+            springDataInvoiceRepository.deleteNotificationLogsByCustomerId(customerId.value());
+            springDataInvoiceRepository.deleteAllByCustomerIdInBulk(customerId.value());
         }
     }
+
+    private InvoiceJpaEntity withPayments(InvoiceJpaEntity invoice) {
+        withPayments(List.of(invoice));
+        return invoice;
+    }
+
+    /**
+     * Initializes the payments of every installment of the given invoices. The batch size of the collection makes Hibernate
+     * load them with one query on {@code payments} by installment ids per 1000 installments, instead of joining
+     * payments into the installment rows.
+     */
+    private List<InvoiceJpaEntity> withPayments(List<InvoiceJpaEntity> invoices) {
+        invoices.forEach(invoice -> invoice.getInstallments()
+                .forEach(installment -> Hibernate.initialize(installment.getPayments())));
+        return invoices;
+    }
+
+    private Invoice track(InvoiceJpaEntity entity) {
+        unitOfWork.register(entity);
+        return mapper.toDomain(entity);
+    }
 }
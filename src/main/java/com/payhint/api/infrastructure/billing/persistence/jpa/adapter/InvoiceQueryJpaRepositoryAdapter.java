@@ -1,39 +1,241 @@
 package com.payhint.api.infrastructure.billing.persistence.jpa.adapter;
 
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.time.temporal.TemporalAdjusters;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
 
+import com.payhint.api.application.billing.dto.request.InvoiceFilter;
+import com.payhint.api.application.billing.dto.request.InvoiceSort;
+import com.payhint.api.application.billing.dto.response.CurrencyBreakdownResponse;
+import com.payhint.api.application.billing.dto.response.CustomerAgingResponse;
+import com.payhint.api.application.billing.dto.response.DashboardResponse;
+import com.payhint.api.application.billing.dto.response.ExpectedReceipt;
+import com.payhint.api.application.billing.dto.response.InstallmentTotalsResponse;
+import com.payhint.api.application.billing.dto.response.InvoiceListingVersion;
+import com.payhint.api.application.billing.dto.response.InvoicePaymentResponse;
 import com.payhint.api.application.billing.dto.response.InvoiceSummaryResponse;
+import com.payhint.api.application.billing.dto.response.PaymentResponse;
 import com.payhint.api.application.billing.repository.InvoiceQueryRepository;
+import com.payhint.api.domain.billing.model.Invoice;
+import com.payhint.api.domain.billing.model.PaymentStatus;
+import com.payhint.api.domain.billing.valueobject.InstallmentId;
+import com.payhint.api.domain.billing.valueobject.InvoiceId;
+import com.payhint.api.domain.billing.valueobject.PaymentId;
 import com.payhint.api.domain.crm.valueobject.CustomerId;
 import com.payhint.api.domain.crm.valueobject.UserId;
+import com.payhint.api.domain.shared.pagination.CursorPage;
+import com.payhint.api.domain.shared.pagination.CursorPageRequest;
+import com.payhint.api.domain.shared.pagination.PageCursor;
+import com.payhint.api.domain.shared.search.SearchQuery;
+import com.payhint.api.infrastructure.billing.persistence.jpa.mapper.InvoicePersistenceMapper;
 import com.payhint.api.infrastructure.billing.persistence.jpa.mapper.InvoiceQueryMapper;
 import com.payhint.api.infrastructure.billing.persistence.jpa.repository.InvoiceSpringRepository;
+import com.payhint.api.infrastructure.billing.persistence.jpa.repository.InvoiceSpringRepository.CurrencyAmountProjection;
+import com.payhint.api.infrastructure.billing.persistence.jpa.repository.InvoiceSpringRepository.CurrencyStatusTotalsProjection;
+import com.payhint.api.infrastructure.billing.persistence.jpa.repository.InvoiceSpringRepository.CustomerAgingProjection;
+import com.payhint.api.infrastructure.billing.persistence.jpa.repository.InvoiceSpringRepository.CustomerDelayProjection;
+import com.payhint.api.infrastructure.billing.persistence.jpa.repository.InvoiceSpringRepository.PaymentOutcomeProjection;
+import com.payhint.api.infrastructure.billing.persistence.jpa.repository.InvoiceSummarySpringRepository;
+import com.payhint.api.infrastructure.billing.persistence.jpa.repository.InvoiceSummarySpringRepository.InvoiceSummaryProjection;
+import com.payhint.api.infrastructure.shared.utils.LikePattern;
 
 import lombok.NonNull;
 import lombok.RequiredArgsConstructor;
 
+/**
+ * Invoice listings are read from the {@code invoice_summary} table maintained by {@link InvoiceSummaryProjector} in
+ * the writing transactions. The dashboard and the aging report aggregate installments and payments, so they still
+ * read the normalized tables.
+ */
 @Component
 @RequiredArgsConstructor
 public class InvoiceQueryJpaRepositoryAdapter implements InvoiceQueryRepository {
 
+    private static final int AMOUNT_SCALE = 2;
+
     private final InvoiceSpringRepository springDataInvoiceRepository;
+    private final InvoiceSummarySpringRepository springDataInvoiceSummaryRepository;
     private final InvoiceQueryMapper mapper;
+    private final InvoicePersistenceMapper persistenceMapper;
+
+    @Override
+    public CursorPage<InvoiceSummaryResponse> findSummariesByCustomerId(@NonNull CustomerId customerId,
+            @NonNull CursorPageRequest page) {
+        var invoices = springDataInvoiceSummaryRepository.findSummariesByCustomerId(customerId.value(),
+                page.after().timestamp(), page.after().id(), Limit.of(page.size() + 1));
+        return CursorPage.of(invoices, page.size(), invoice -> new PageCursor(invoice.getCreatedAt(), invoice.getId()))
+                .map(mapper::toResponse);
+    }
+
+    @Override
+    public CursorPage<InvoiceSummaryResponse> searchSummaries(@NonNull UserId userId, @NonNull InvoiceFilter filter,
+            @NonNull InvoiceSort sort, @NonNull CursorPageRequest page) {
+        var invoices = springDataInvoiceSummaryRepository.searchSummaries(userId.value(), filter, sort, page.after(),
+                page.size() + 1);
+        return CursorPage.of(invoices, page.size(), invoice -> new PageCursor(
+                sort.field() == InvoiceSort.Field.UPDATED_AT ? invoice.getUpdatedAt() : invoice.getCreatedAt(),
+                invoice.getId())).map(mapper::toResponse);
+    }
+
+    @Override
+    public List<InvoiceSummaryResponse> searchSummariesByText(@NonNull UserId userId, @NonNull SearchQuery query) {
+        return mapper.toResponse(springDataInvoiceSummaryRepository.searchByText(userId.value(),
+                LikePattern.prefix(query.text()), LikePattern.contains(query.text()), Limit.of(query.limit())));
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.MANDATORY, readOnly = true)
+    public void forEachSummaryByUserId(@NonNull UserId userId, @NonNull Consumer<InvoiceSummaryResponse> action) {
+        try (Stream<InvoiceSummaryProjection> invoices = springDataInvoiceSummaryRepository
+                .streamSummariesByUserId(userId.value())) {
+            invoices.map(mapper::toResponse).forEach(action);
+        }
+    }
+
+    /**
+     * The header alone is mapped with the stored next unpaid due date, so that the overdue flag stays right without
+     * the installments.
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public Optional<Invoice> findWithoutPaymentsByIdAndOwner(@NonNull InvoiceId invoiceId, @NonNull UserId userId,
+            boolean withInstallments) {
+        if (!withInstallments) {
+            return springDataInvoiceRepository.findHeaderByIdAndOwner(invoiceId.value(), userId.value())
+                    .map(entity -> persistenceMapper.toDomainWithoutPayments(entity, List.of(),
+                            entity.getNextUnpaidDueDate()));
+        }
+        return springDataInvoiceRepository.findByIdAndOwner(invoiceId.value(), userId.value())
+                .map(entity -> persistenceMapper.toDomainWithoutPayments(entity,
+                        List.copyOf(entity.getInstallments()), null));
+    }
+
+    @Override
+    public Optional<Long> findVersionByIdAndOwner(@NonNull InvoiceId invoiceId, @NonNull UserId userId) {
+        return springDataInvoiceRepository.findVersionByIdAndOwner(invoiceId.value(), userId.value());
+    }
 
+    /**
+     * The overdue flags are derived from the stored next unpaid due date and from the installment row, as the
+     * aggregate would.
+     */
     @Override
-    public List<InvoiceSummaryResponse> findSummariesByCustomerId(@NonNull CustomerId customerId) {
-        var invoices = springDataInvoiceRepository.findSummariesByCustomerId(customerId.value()).stream()
-                .collect(Collectors.toList());
-        return mapper.toResponse(invoices);
+    public Optional<InvoicePaymentResponse> findPaymentOutcomeByIdAndOwner(@NonNull InvoiceId invoiceId,
+            @NonNull UserId userId, @NonNull InstallmentId installmentId, @NonNull PaymentId paymentId) {
+        return springDataInvoiceRepository
+                .findPaymentOutcome(invoiceId.value(), userId.value(), installmentId.value(), paymentId.value())
+                .map(this::toPaymentOutcomeResponse);
     }
 
     @Override
-    public List<InvoiceSummaryResponse> findSummariesByUserId(@NonNull UserId userId) {
-        var invoices = springDataInvoiceRepository.findSummariesByUserId(userId.value()).stream()
-                .collect(Collectors.toList());
-        return mapper.toResponse(invoices);
+    public InvoiceListingVersion findListingVersionByUserId(@NonNull UserId userId) {
+        var version = springDataInvoiceSummaryRepository.findListingVersionByUserId(userId.value());
+        return new InvoiceListingVersion(version.getInvoiceCount(), version.getLastUpdatedAt(),
+                version.getLastCustomerUpdatedAt());
     }
 
+    /**
+     * Runs one grouped query per kind of amount and merges the rows by currency, so that the cost does not depend on
+     * the number of invoices held in memory.
+     */
+    @Override
+    public DashboardResponse summarizeByUserId(@NonNull UserId userId, @NonNull LocalDate today) {
+        Map<String, List<CurrencyStatusTotalsProjection>> totals = springDataInvoiceRepository
+                .sumOutstandingByCurrencyAndStatus(userId.value(), today).stream()
+                .collect(Collectors.groupingBy(CurrencyStatusTotalsProjection::getCurrency));
+        Map<String, BigDecimal> overdue = byCurrency(
+                springDataInvoiceRepository.sumOverdueByCurrency(userId.value(), today));
+        Map<String, BigDecimal> paidThisMonth = byCurrency(springDataInvoiceRepository.sumPaymentsByCurrency(
+                userId.value(), today.withDayOfMonth(1), today.with(TemporalAdjusters.lastDayOfMonth())));
+
+        Set<String> currencies = new TreeSet<>(totals.keySet());
+        currencies.addAll(paidThisMonth.keySet());
+        List<CurrencyBreakdownResponse> breakdowns = currencies.stream().map(currency -> {
+            List<CurrencyStatusTotalsProjection> rows = totals.getOrDefault(currency, List.of());
+            return new CurrencyBreakdownResponse(currency,
+                    rows.stream().map(CurrencyStatusTotalsProjection::getOutstandingAmount).reduce(BigDecimal.ZERO,
+                            BigDecimal::add),
+                    overdue.getOrDefault(currency, BigDecimal.ZERO),
+                    paidThisMonth.getOrDefault(currency, BigDecimal.ZERO),
+                    rows.stream().mapToLong(CurrencyStatusTotalsProjection::getInvoiceCount).sum(),
+                    rows.stream().mapToLong(CurrencyStatusTotalsProjection::getOverdueInvoiceCount).sum(),
+                    rows.stream().collect(Collectors.toMap(CurrencyStatusTotalsProjection::getStatus,
+                            CurrencyStatusTotalsProjection::getInvoiceCount, Long::sum, TreeMap::new)));
+        }).toList();
+        return new DashboardResponse(today.toString(), breakdowns);
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.MANDATORY, readOnly = true)
+    public void forEachCustomerAgingByUserId(@NonNull UserId userId, @NonNull LocalDate today,
+            @NonNull Consumer<CustomerAgingResponse> action) {
+        try (Stream<CustomerAgingProjection> rows = springDataInvoiceRepository.streamCustomerAging(userId.value(),
+                today, today.minusDays(30), today.minusDays(60), today.minusDays(90))) {
+            rows.map(this::toAgingResponse).forEach(action);
+        }
+    }
+
+    @Override
+    public List<ExpectedReceipt> findExpectedReceiptsByUserId(@NonNull UserId userId, @NonNull LocalDate to) {
+        return springDataInvoiceRepository.findExpectedReceipts(userId.value(), to).stream()
+                .map(row -> new ExpectedReceipt(new CustomerId(row.getCustomerId()), row.getCurrency(),
+                        row.getDueDate(), row.getAmount()))
+                .toList();
+    }
+
+    @Override
+    public Map<CustomerId, Long> findAverageDaysLateByUserId(@NonNull UserId userId) {
+        return springDataInvoiceRepository.findAverageDaysLate(userId.value()).stream()
+                .filter(row -> Math.round(row.getAverageDaysLate()) > 0)
+                .collect(Collectors.toMap(row -> new CustomerId(row.getCustomerId()),
+                        row -> Math.round(row.getAverageDaysLate())));
+    }
+
+    /**
+     * Empty buckets come back as the integer zero of the CASE, they are given the scale of the amount columns.
+     */
+    private CustomerAgingResponse toAgingResponse(CustomerAgingProjection row) {
+        List<BigDecimal> buckets = Stream.of(row.getCurrent(), row.getDays1To30(), row.getDays31To60(),
+                row.getDays61To90(), row.getOver90Days()).map(amount -> amount.setScale(AMOUNT_SCALE)).toList();
+        return new CustomerAgingResponse(row.getCustomerId().toString(), row.getCustomerName(), row.getCurrency(),
+                buckets.get(0), buckets.get(1), buckets.get(2), buckets.get(3), buckets.get(4),
+                buckets.stream().reduce(BigDecimal.ZERO, BigDecimal::add));
+    }
+
+    private InvoicePaymentResponse toPaymentOutcomeResponse(PaymentOutcomeProjection row) {
+        LocalDate today = LocalDate.now();
+        boolean installmentOverdue = !PaymentStatus.PAID.name().equals(row.getInstallmentStatus())
+                && today.isAfter(row.getDueDate());
+        InstallmentTotalsResponse installment = new InstallmentTotalsResponse(row.getInstallmentId().toString(),
+                row.getAmountDue(), row.getAmountPaid(), row.getDueDate().format(DateTimeFormatter.ISO_LOCAL_DATE),
+                row.getInstallmentStatus(), installmentOverdue);
+        PaymentResponse payment = new PaymentResponse(row.getPaymentId().toString(), row.getAmount(),
+                row.getPaymentDate().format(DateTimeFormatter.ISO_LOCAL_DATE),
+                row.getPaymentCreatedAt().format(DateTimeFormatter.ISO_LOCAL_DATE_TIME),
+                row.getPaymentUpdatedAt().format(DateTimeFormatter.ISO_LOCAL_DATE_TIME));
+        return new InvoicePaymentResponse(row.getInvoiceId().toString(), row.getStatus(), row.getTotalAmount(),
+                row.getTotalPaid(), row.getTotalAmount().subtract(row.getTotalPaid()), row.getCurrency(),
+                row.getNextUnpaidDueDate() != null && today.isAfter(row.getNextUnpaidDueDate()),
+                row.getUpdatedAt().format(DateTimeFormatter.ISO_LOCAL_DATE_TIME), installment, payment);
+    }
+
+    private Map<String, BigDecimal> byCurrency(List<CurrencyAmountProjection> amounts) {
+        return amounts.stream()
+                .collect(Collectors.toMap(CurrencyAmountProjection::getCurrency, CurrencyAmountProjection::getAmount));
+    }
 }
@@ -0,0 +1,95 @@
+package com.payhint.api.infrastructure.billing.persistence.jpa.adapter;
+
+import java.util.List;
+import java.util.UUID;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.payhint.api.domain.billing.event.InvoicesChangedEvent;
+import com.payhint.api.domain.billing.valueobject.InvoiceId;
+import com.payhint.api.domain.crm.event.CustomerUpdatedEvent;
+import com.payhint.api.infrastructure.billing.persistence.jpa.repository.InvoiceSpringRepository;
+import com.payhint.api.infrastructure.billing.persistence.jpa.repository.InvoiceSummarySpringRepository;
+
+/**
+ * Keeps the {@code invoice_summary} read table in line with the invoices. Rows are recomputed from the invoice and
+ * customer rows in the writing transaction, just before it commits, so listings never lag behind a write and a
+ * refresh that fails rolls the write back with it. Deleted invoices lose their row through the ON DELETE CASCADE
+ * foreign key.
+ */
+@Component
+public class InvoiceSummaryProjector {
+
+    private static final Logger logger = LoggerFactory.getLogger(InvoiceSummaryProjector.class);
+
+    private final InvoiceSummarySpringRepository summaryRepository;
+    private final InvoiceSpringRepository invoiceRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final int rebuildChunkSize;
+
+    public InvoiceSummaryProjector(InvoiceSummarySpringRepository summaryRepository,
+            InvoiceSpringRepository invoiceRepository, PlatformTransactionManager transactionManager,
+            @Value("${application.billing.invoice-summary.rebuild-chunk-size:1000}") int rebuildChunkSize) {
+        this.summaryRepository = summaryRepository;
+        this.invoiceRepository = invoiceRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.rebuildChunkSize = rebuildChunkSize;
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT, fallbackExecution = true)
+    public void on(InvoicesChangedEvent event) {
+        refresh(event.invoiceIds().stream().map(InvoiceId::value).distinct().toList());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT, fallbackExecution = true)
+    public void on(CustomerUpdatedEvent event) {
+        transactionTemplate.executeWithoutResult(status -> {
+            invoiceRepository.flush();
+            summaryRepository.refreshCustomerName(event.customerId().value());
+        });
+    }
+
+    /**
+     * Recomputes the summary of every invoice, one chunk of invoices per transaction in id order. Summaries stay
+     * readable meanwhile, as rows are replaced rather than emptied first.
+     *
+     * @return the number of invoices processed
+     */
+    public int rebuild() {
+        int rebuilt = 0;
+        UUID afterId = new UUID(0L, 0L);
+        while (true) {
+            List<UUID> invoiceIds = invoiceRepository.findIdsAfter(afterId, Limit.of(rebuildChunkSize));
+            if (invoiceIds.isEmpty()) {
+                break;
+            }
+            refresh(invoiceIds);
+            rebuilt += invoiceIds.size();
+            afterId = invoiceIds.get(invoiceIds.size() - 1);
+            logger.info("Rebuilt " + rebuilt + " invoice summaries");
+        }
+        return rebuilt;
+    }
+
+    private void refresh(List<UUID> invoiceIds) {
+        if (invoiceIds.isEmpty()) {
+            return;
+        }
+        transactionTemplate.executeWithoutResult(status -> {
+            // The summaries are computed in SQL from the invoice rows, pending entity changes have to reach them first.
+            // Flushing through the repository translates version conflicts for the optimistic lock retries.
+            invoiceRepository.flush();
+            summaryRepository.lockInvoices(invoiceIds);
+            summaryRepository.deleteByInvoiceIds(invoiceIds);
+            summaryRepository.insertFromInvoices(invoiceIds);
+        });
+    }
+}
@@ -0,0 +1,108 @@
+package com.payhint.api.infrastructure.billing.persistence.jpa.adapter;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.payhint.api.infrastructure.billing.persistence.jpa.entity.InstallmentJpaEntity;
+import com.payhint.api.infrastructure.billing.persistence.jpa.entity.InvoiceJpaEntity;
+
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Transaction-scoped identity map remembering the managed {@link InvoiceJpaEntity} behind every invoice loaded
+ * through {@link InvoiceJpaRepositoryAdapter}.
+ *
+ * Saving an aggregate that was loaded in the same transaction can then apply its changes to the tracked entity
+ * instead of fetching the whole graph again. Invoices loaded with only some of their installments are tracked
+ * together with those installments so that saving them never touches the ones that were not loaded. Outside of a
+ * transaction nothing is tracked.
+ */
+@Component
+@RequiredArgsConstructor
+public class InvoiceUnitOfWork {
+
+    private final EntityManager entityManager;
+
+    public void register(InvoiceJpaEntity entity) {
+        TrackedInvoices tracked = currentInvoices();
+        if (tracked != null && entity.getId() != null) {
+            tracked.entities.put(entity.getId(), entity);
+            tracked.partialInstallments.remove(entity.getId());
+        }
+    }
+
+    public void registerAll(Collection<InvoiceJpaEntity> entities) {
+        entities.forEach(this::register);
+    }
+
+    public void registerPartial(InvoiceJpaEntity entity, List<InstallmentJpaEntity> loadedInstallments) {
+        TrackedInvoices tracked = currentInvoices();
+        if (tracked != null && entity.getId() != null) {
+            tracked.entities.put(entity.getId(), entity);
+            tracked.partialInstallments.put(entity.getId(), List.copyOf(loadedInstallments));
+        }
+    }
+
+    public Optional<InvoiceJpaEntity> find(UUID id) {
+        TrackedInvoices tracked = currentInvoices();
+        if (tracked == null) {
+            return Optional.empty();
+        }
+        InvoiceJpaEntity entity = tracked.entities.get(id);
+        if (entity == null || !entityManager.contains(entity)) {
+            evict(id);
+            return Optional.empty();
+        }
+        return Optional.of(entity);
+    }
+
+    /**
+     * Returns the installments loaded with the invoice when it was tracked through {@link #registerPartial}.
+     */
+    public Optional<List<InstallmentJpaEntity>> findLoadedInstallments(UUID id) {
+        TrackedInvoices tracked = currentInvoices();
+        return tracked == null ? Optional.empty() : Optional.ofNullable(tracked.partialInstallments.get(id));
+    }
+
+    public void evict(UUID id) {
+        TrackedInvoices tracked = currentInvoices();
+        if (tracked != null) {
+            tracked.entities.remove(id);
+            tracked.partialInstallments.remove(id);
+        }
+    }
+
+    private TrackedInvoices currentInvoices() {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()
+                || !TransactionSynchronizationManager.isActualTransactionActive()) {
+            return null;
+        }
+
+        TrackedInvoices tracked = (TrackedInvoices) TransactionSynchronizationManager.getResource(this);
+        if (tracked == null) {
+            tracked = new TrackedInvoices();
+            TransactionSynchronizationManager.bindResource(this, tracked);
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    TransactionSynchronizationManager.unbindResourceIfPossible(InvoiceUnitOfWork.this);
+                }
+            });
+        }
+        return tracked;
+    }
+
+    private static final class TrackedInvoices {
+        private final Map<UUID, InvoiceJpaEntity> entities = new HashMap<>();
+        private final Map<UUID, List<InstallmentJpaEntity>> partialInstallments = new HashMap<>();
+    }
+}
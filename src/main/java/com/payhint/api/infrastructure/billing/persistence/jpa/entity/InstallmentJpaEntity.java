@@ -8,6 +8,8 @@ import java.util.Set;
 import java.util.UUID;
 
 import org.hibernate.annotations.BatchSize;
+import org.hibernate.annotations.OnDelete;
+import org.hibernate.annotations.OnDeleteAction;
 import org.springframework.data.domain.Persistable;
 
 import jakarta.persistence.CascadeType;
@@ -53,6 +55,7 @@ public class InstallmentJpaEntity implements Persistable<UUID> {
 
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "invoice_id", nullable = false, updatable = false)
+    @OnDelete(action = OnDeleteAction.CASCADE)
     private InvoiceJpaEntity invoice;
 
     @Column(name = "amount_due", nullable = false, precision = 12, scale = 2)
@@ -77,7 +80,8 @@ public class InstallmentJpaEntity implements Persistable<UUID> {
     private LocalDateTime lastStatusChangeAt;
 
     @OneToMany(mappedBy = "installment", cascade = CascadeType.ALL, orphanRemoval = true)
-    @BatchSize(size = 25)
+    // Touching one collection loads the payments of up to 1000 loaded installments by installment ids
+    @BatchSize(size = 1000)
     @Builder.Default
     private Set<PaymentJpaEntity> payments = new LinkedHashSet<>();
 
@@ -1,11 +1,14 @@
 package com.payhint.api.infrastructure.billing.persistence.jpa.entity;
 
 import java.math.BigDecimal;
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.LinkedHashSet;
 import java.util.Set;
 import java.util.UUID;
 
+import org.hibernate.annotations.OnDelete;
+import org.hibernate.annotations.OnDeleteAction;
 import org.springframework.data.domain.Persistable;
 
 import com.payhint.api.infrastructure.crm.persistence.jpa.entity.CustomerJpaEntity;
@@ -57,6 +60,7 @@ public class InvoiceJpaEntity implements Persistable<UUID> {
 
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "customer_id", nullable = false, updatable = false)
+    @OnDelete(action = OnDeleteAction.CASCADE)
     private CustomerJpaEntity customer;
 
     @Column(name = "invoice_reference", nullable = false)
@@ -83,6 +87,9 @@ public class InvoiceJpaEntity implements Persistable<UUID> {
     @Column(name = "last_status_change_at", nullable = false)
     private LocalDateTime lastStatusChangeAt;
 
+    @Column(name = "next_unpaid_due_date")
+    private LocalDate nextUnpaidDueDate;
+
     @Column(name = "is_archived", nullable = false)
     private boolean isArchived;
 
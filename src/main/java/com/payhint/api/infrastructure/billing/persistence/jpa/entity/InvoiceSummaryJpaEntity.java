@@ -0,0 +1,87 @@
+package com.payhint.api.infrastructure.billing.persistence.jpa.entity;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import org.hibernate.annotations.Immutable;
+import org.hibernate.annotations.OnDelete;
+import org.hibernate.annotations.OnDeleteAction;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.Id;
+import jakarta.persistence.JoinColumn;
+import jakarta.persistence.MapsId;
+import jakarta.persistence.OneToOne;
+import jakarta.persistence.Table;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+
+/**
+ * Row of the {@code invoice_summary} read table. Rows are only written with SQL by {@code InvoiceSummaryProjector}
+ * and are removed with their invoice by the foreign key.
+ */
+@Entity
+@Immutable
+@Table(name = "invoice_summary")
+@Getter
+@NoArgsConstructor
+@ToString(onlyExplicitlyIncluded = true)
+@EqualsAndHashCode(onlyExplicitlyIncluded = true)
+public class InvoiceSummaryJpaEntity {
+
+    @Id
+    @ToString.Include
+    @EqualsAndHashCode.Include
+    private UUID invoiceId;
+
+    @MapsId
+    @OneToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "invoice_id")
+    @OnDelete(action = OnDeleteAction.CASCADE)
+    private InvoiceJpaEntity invoice;
+
+    @Column(name = "user_id", nullable = false)
+    private UUID userId;
+
+    @Column(name = "customer_id", nullable = false)
+    private UUID customerId;
+
+    @Column(name = "customer_name", nullable = false)
+    private String customerName;
+
+    @Column(name = "invoice_reference", nullable = false)
+    private String invoiceReference;
+
+    @Column(name = "total_amount", nullable = false, precision = 12, scale = 2)
+    private BigDecimal totalAmount;
+
+    @Column(name = "total_paid", nullable = false, precision = 12, scale = 2)
+    private BigDecimal totalPaid;
+
+    @Column(nullable = false, length = 10)
+    private String currency;
+
+    @Column(name = "status", nullable = false)
+    private String status;
+
+    @Column(name = "next_due_date")
+    private LocalDate nextDueDate;
+
+    @Column(name = "is_archived", nullable = false)
+    private boolean isArchived;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+
+    @Column(name = "last_status_change_at", nullable = false)
+    private LocalDateTime lastStatusChangeAt;
+}
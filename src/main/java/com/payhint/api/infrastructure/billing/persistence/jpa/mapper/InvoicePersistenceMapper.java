@@ -1,5 +1,6 @@
 package com.payhint.api.infrastructure.billing.persistence.jpa.mapper;
 
+import java.time.LocalDate;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
@@ -8,10 +9,10 @@ import java.util.UUID;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 
-import org.mapstruct.AfterMapping;
 import org.mapstruct.Mapper;
 import org.mapstruct.Mapping;
 import org.mapstruct.MappingTarget;
+import org.mapstruct.Named;
 
 import com.payhint.api.application.billing.mapper.BillingValueObjectMapper;
 import com.payhint.api.application.shared.ValueObjectMapper;
@@ -49,17 +50,66 @@ public interface InvoicePersistenceMapper {
 
     @Mapping(target = "customerId", source = "customer.id")
     @Mapping(target = "isArchived", source = "archived")
+    @Mapping(target = "otherInstallmentsNextUnpaidDueDate", ignore = true)
     Invoice toDomain(InvoiceJpaEntity entity);
 
     Installment toDomain(InstallmentJpaEntity entity);
 
     Payment toDomain(PaymentJpaEntity entity);
 
+    @Mapping(target = "customerId", source = "entity.customer.id")
+    @Mapping(target = "isArchived", source = "entity.archived")
+    @Mapping(target = "installments", source = "installments")
+    @Mapping(target = "otherInstallmentsNextUnpaidDueDate", source = "otherInstallmentsNextUnpaidDueDate")
+    Invoice toPartialDomain(InvoiceJpaEntity entity, List<InstallmentJpaEntity> installments,
+            LocalDate otherInstallmentsNextUnpaidDueDate);
+
+    @Named("toDomainWithoutPayments")
+    @Mapping(target = "payments", ignore = true)
+    Installment toDomainWithoutPayments(InstallmentJpaEntity entity);
+
+    /**
+     * Maps an invoice for reading only: the payments of its installments are left out and must not have been loaded.
+     */
+    @Mapping(target = "customerId", source = "entity.customer.id")
+    @Mapping(target = "isArchived", source = "entity.archived")
+    @Mapping(target = "installments", source = "installments", qualifiedByName = "toDomainWithoutPayments")
+    @Mapping(target = "otherInstallmentsNextUnpaidDueDate", source = "otherInstallmentsNextUnpaidDueDate")
+    Invoice toDomainWithoutPayments(InvoiceJpaEntity entity, List<InstallmentJpaEntity> installments,
+            LocalDate otherInstallmentsNextUnpaidDueDate);
+
     @Mapping(target = "id", ignore = true)
     @Mapping(target = "customer", ignore = true)
     @Mapping(target = "createdAt", ignore = true)
     @Mapping(target = "installments", ignore = true)
-    void updateEntity(Invoice domain, @MappingTarget InvoiceJpaEntity entity);
+    void updateInvoiceFields(Invoice domain, @MappingTarget InvoiceJpaEntity entity);
+
+    default void updateEntity(Invoice domain, InvoiceJpaEntity entity) {
+        updateInvoiceFields(domain, entity);
+        reconcileInstallments(domain, entity);
+    }
+
+    /**
+     * Applies an aggregate obtained through {@link #toPartialDomain} without touching the installments that were not
+     * loaded.
+     */
+    default void updatePartialEntity(Invoice domain, InvoiceJpaEntity entity,
+            List<InstallmentJpaEntity> loadedInstallments) {
+        updateInvoiceFields(domain, entity);
+
+        Map<UUID, InstallmentJpaEntity> loadedMap = loadedInstallments.stream()
+                .collect(Collectors.toMap(InstallmentJpaEntity::getId, Function.identity()));
+
+        for (Installment domainInstallment : domain.getInstallments()) {
+            InstallmentJpaEntity installmentEntity = loadedMap.get(domainInstallment.getId().value());
+            if (installmentEntity == null) {
+                throw new IllegalStateException(
+                        "Installment " + domainInstallment.getId() + " was not loaded with the invoice");
+            }
+            updateInstallmentFields(domainInstallment, installmentEntity);
+            reconcilePayments(domainInstallment, installmentEntity);
+        }
+    }
 
     @Mapping(target = "id", ignore = true)
     @Mapping(target = "invoice", ignore = true)
@@ -72,7 +122,6 @@ public interface InvoicePersistenceMapper {
     @Mapping(target = "createdAt", ignore = true)
     void updatePaymentFields(Payment domain, @MappingTarget PaymentJpaEntity entity);
 
-    @AfterMapping
     default void reconcileInstallments(Invoice domain, @MappingTarget InvoiceJpaEntity entity) {
         if (domain.getInstallments() == null) {
             entity.getInstallments().clear();
@@ -8,7 +8,7 @@ import org.mapstruct.Mapping;
 import org.mapstruct.Named;
 
 import com.payhint.api.application.billing.dto.response.InvoiceSummaryResponse;
-import com.payhint.api.infrastructure.billing.persistence.jpa.repository.InvoiceSpringRepository;
+import com.payhint.api.infrastructure.billing.persistence.jpa.repository.InvoiceSummarySpringRepository;
 
 @Mapper(componentModel = "spring")
 public interface InvoiceQueryMapper {
@@ -16,8 +16,8 @@ public interface InvoiceQueryMapper {
     @Mapping(target = "status", expression = "java(proj.getStatus().name())")
     @Mapping(target = "createdAt", expression = "java(proj.getCreatedAt().toString())")
     @Mapping(target = "updatedAt", expression = "java(proj.getUpdatedAt().toString())")
-    InvoiceSummaryResponse toResponse(InvoiceSpringRepository.InvoiceSummaryProjection proj);
+    InvoiceSummaryResponse toResponse(InvoiceSummarySpringRepository.InvoiceSummaryProjection proj);
 
     @IterableMapping(qualifiedByName = "toInvoiceSummaryResponse")
-    List<InvoiceSummaryResponse> toResponse(List<InvoiceSpringRepository.InvoiceSummaryProjection> projections);
+    List<InvoiceSummaryResponse> toResponse(List<InvoiceSummarySpringRepository.InvoiceSummaryProjection> projections);
 }
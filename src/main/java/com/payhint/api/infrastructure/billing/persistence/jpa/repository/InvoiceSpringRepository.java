@@ -1,28 +1,87 @@
 package com.payhint.api.infrastructure.billing.persistence.jpa.repository;
 
 import java.math.BigDecimal;
+import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.Stream;
 
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.lang.NonNull;
 import org.springframework.stereotype.Repository;
 
 import com.payhint.api.application.notification.dto.OverdueInstallmentDto;
-import com.payhint.api.domain.billing.model.PaymentStatus;
+import com.payhint.api.infrastructure.billing.persistence.jpa.entity.InstallmentJpaEntity;
 import com.payhint.api.infrastructure.billing.persistence.jpa.entity.InvoiceJpaEntity;
 
+import jakarta.persistence.QueryHint;
+
 @Repository
 public interface InvoiceSpringRepository extends JpaRepository<InvoiceJpaEntity, UUID> {
-    interface InvoiceSummaryProjection {
-        UUID getId();
+    interface CurrencyStatusTotalsProjection {
+        String getCurrency();
+
+        String getStatus();
+
+        long getInvoiceCount();
+
+        long getOverdueInvoiceCount();
+
+        BigDecimal getOutstandingAmount();
+    }
+
+    interface CurrencyAmountProjection {
+        String getCurrency();
 
+        BigDecimal getAmount();
+    }
+
+    interface ExpectedReceiptProjection {
         UUID getCustomerId();
 
-        String getInvoiceReference();
+        String getCurrency();
+
+        LocalDate getDueDate();
+
+        BigDecimal getAmount();
+    }
+
+    interface CustomerDelayProjection {
+        UUID getCustomerId();
+
+        Double getAverageDaysLate();
+    }
+
+    interface CustomerAgingProjection {
+        UUID getCustomerId();
+
+        String getCustomerName();
+
+        String getCurrency();
+
+        BigDecimal getCurrent();
+
+        BigDecimal getDays1To30();
+
+        BigDecimal getDays31To60();
+
+        BigDecimal getDays61To90();
+
+        BigDecimal getOver90Days();
+    }
+
+    interface PaymentOutcomeProjection {
+        UUID getInvoiceId();
+
+        String getStatus();
 
         BigDecimal getTotalAmount();
 
@@ -30,38 +89,170 @@ public interface InvoiceSpringRepository extends JpaRepository<InvoiceJpaEntity,
 
         String getCurrency();
 
-        PaymentStatus getStatus();
-
-        LocalDateTime getCreatedAt();
+        LocalDate getNextUnpaidDueDate();
 
         LocalDateTime getUpdatedAt();
 
-        LocalDateTime getLastStatusChangeAt();
+        UUID getInstallmentId();
+
+        BigDecimal getAmountDue();
+
+        BigDecimal getAmountPaid();
 
-        boolean getIsArchived();
+        LocalDate getDueDate();
 
-        boolean getIsOverdue();
+        String getInstallmentStatus();
+
+        UUID getPaymentId();
+
+        BigDecimal getAmount();
+
+        LocalDate getPaymentDate();
+
+        LocalDateTime getPaymentCreatedAt();
+
+        LocalDateTime getPaymentUpdatedAt();
     }
 
-    @Query("SELECT DISTINCT i FROM InvoiceJpaEntity i LEFT JOIN FETCH i.installments inst LEFT JOIN FETCH inst.payments WHERE i.id = :id")
+    @Query("SELECT i FROM InvoiceJpaEntity i LEFT JOIN FETCH i.installments WHERE i.id = :id")
     @NonNull
     Optional<InvoiceJpaEntity> findById(@NonNull UUID id);
 
-    @Query("SELECT DISTINCT i FROM InvoiceJpaEntity i LEFT JOIN FETCH i.installments inst LEFT JOIN FETCH inst.payments WHERE i.customer.id = :customerId")
+    @Query("SELECT i FROM InvoiceJpaEntity i LEFT JOIN FETCH i.installments WHERE i.customer.id = :customerId")
     List<InvoiceJpaEntity> findAllByCustomerId(@NonNull UUID customerId);
 
-    @Query("SELECT i.id AS id, i.customer.id AS customerId, i.invoiceReference AS invoiceReference, i.totalAmount AS totalAmount, i.totalPaid AS totalPaid, i.currency AS currency, i.status AS status, i.createdAt AS createdAt, i.updatedAt AS updatedAt, i.lastStatusChangeAt AS lastStatusChangeAt, i.isArchived AS isArchived, CASE WHEN EXISTS (SELECT 1 FROM InstallmentJpaEntity inst WHERE inst.invoice.id = i.id AND inst.dueDate < CURRENT_DATE AND inst.status <> 'PAID') THEN true ELSE false END AS isOverdue FROM InvoiceJpaEntity i WHERE i.customer.user.id = :userId")
-    List<InvoiceSummaryProjection> findSummariesByUserId(@NonNull UUID userId);
+    @Query("SELECT DISTINCT i FROM InvoiceJpaEntity i LEFT JOIN FETCH i.installments WHERE i.id IN :invoiceIds")
+    List<InvoiceJpaEntity> findAllByIdIn(@NonNull Collection<UUID> invoiceIds);
+
+    @Query("SELECT i.id FROM InvoiceJpaEntity i WHERE i.id > :afterId ORDER BY i.id")
+    List<UUID> findIdsAfter(@NonNull UUID afterId, @NonNull Limit limit);
+
+    @Query("SELECT i.currency AS currency, i.status AS status, COUNT(i) AS invoiceCount, SUM(CASE WHEN i.nextUnpaidDueDate < :today THEN 1 ELSE 0 END) AS overdueInvoiceCount, SUM(i.totalAmount - i.totalPaid) AS outstandingAmount FROM InvoiceJpaEntity i WHERE i.customer.user.id = :userId AND i.isArchived = false GROUP BY i.currency, i.status")
+    List<CurrencyStatusTotalsProjection> sumOutstandingByCurrencyAndStatus(@NonNull UUID userId,
+            @NonNull LocalDate today);
+
+    @Query("SELECT inst.invoice.currency AS currency, SUM(inst.amountDue - inst.amountPaid) AS amount FROM InstallmentJpaEntity inst WHERE inst.invoice.customer.user.id = :userId AND inst.invoice.isArchived = false AND inst.dueDate < :today AND inst.status <> 'PAID' GROUP BY inst.invoice.currency")
+    List<CurrencyAmountProjection> sumOverdueByCurrency(@NonNull UUID userId, @NonNull LocalDate today);
+
+    /**
+     * The buckets are bounded by due dates computed by the caller, so that the CASE compares plain dates and the
+     * unpaid installments are found through {@code idx_installments_on_status_due_date}.
+     */
+    @Query("SELECT c.id AS customerId, c.companyName AS customerName, i.currency AS currency, SUM(CASE WHEN inst.dueDate >= :today THEN inst.amountDue - inst.amountPaid ELSE 0 END) AS current, SUM(CASE WHEN inst.dueDate < :today AND inst.dueDate >= :overdue30 THEN inst.amountDue - inst.amountPaid ELSE 0 END) AS days1To30, SUM(CASE WHEN inst.dueDate < :overdue30 AND inst.dueDate >= :overdue60 THEN inst.amountDue - inst.amountPaid ELSE 0 END) AS days31To60, SUM(CASE WHEN inst.dueDate < :overdue60 AND inst.dueDate >= :overdue90 THEN inst.amountDue - inst.amountPaid ELSE 0 END) AS days61To90, SUM(CASE WHEN inst.dueDate < :overdue90 THEN inst.amountDue - inst.amountPaid ELSE 0 END) AS over90Days FROM InstallmentJpaEntity inst JOIN inst.invoice i JOIN i.customer c WHERE c.user.id = :userId AND i.isArchived = false AND inst.status <> 'PAID' GROUP BY c.id, c.companyName, i.currency ORDER BY c.companyName, c.id, i.currency")
+    @QueryHints({ @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true") })
+    Stream<CustomerAgingProjection> streamCustomerAging(@NonNull UUID userId, @NonNull LocalDate today,
+            @NonNull LocalDate overdue30, @NonNull LocalDate overdue60, @NonNull LocalDate overdue90);
 
-    @Query("SELECT i.id AS id, i.customer.id AS customerId, i.invoiceReference AS invoiceReference, i.totalAmount AS totalAmount, i.totalPaid AS totalPaid, i.currency AS currency, i.status AS status, i.createdAt AS createdAt, i.updatedAt AS updatedAt, i.lastStatusChangeAt AS lastStatusChangeAt, i.isArchived AS isArchived, CASE WHEN EXISTS (SELECT 1 FROM InstallmentJpaEntity inst WHERE inst.invoice.id = i.id AND inst.dueDate < CURRENT_DATE AND inst.status <> 'PAID') THEN true ELSE false END AS isOverdue FROM InvoiceJpaEntity i WHERE i.customer.id = :customerId")
-    List<InvoiceSummaryProjection> findSummariesByCustomerId(@NonNull UUID customerId);
+    @Query("SELECT i.customer.id AS customerId, i.currency AS currency, inst.dueDate AS dueDate, SUM(inst.amountDue - inst.amountPaid) AS amount FROM InstallmentJpaEntity inst JOIN inst.invoice i WHERE i.customer.user.id = :userId AND i.isArchived = false AND inst.status <> 'PAID' AND inst.dueDate <= :to GROUP BY i.customer.id, i.currency, inst.dueDate")
+    List<ExpectedReceiptProjection> findExpectedReceipts(@NonNull UUID userId, @NonNull LocalDate to);
+
+    @Query("SELECT i.customer.id AS customerId, AVG(CASE WHEN p.paymentDate > inst.dueDate THEN (p.paymentDate - inst.dueDate) BY DAY ELSE 0 END) AS averageDaysLate FROM PaymentJpaEntity p JOIN p.installment inst JOIN inst.invoice i WHERE i.customer.user.id = :userId GROUP BY i.customer.id")
+    List<CustomerDelayProjection> findAverageDaysLate(@NonNull UUID userId);
+
+    @Query("SELECT p.installment.invoice.currency AS currency, SUM(p.amount) AS amount FROM PaymentJpaEntity p WHERE p.installment.invoice.customer.user.id = :userId AND p.paymentDate BETWEEN :from AND :to GROUP BY p.installment.invoice.currency")
+    List<CurrencyAmountProjection> sumPaymentsByCurrency(@NonNull UUID userId, @NonNull LocalDate from,
+            @NonNull LocalDate to);
 
     Optional<InvoiceJpaEntity> findByCustomerIdAndInvoiceReference(@NonNull UUID customerId,
             @NonNull String invoiceReference);
 
-    @Query("SELECT DISTINCT i FROM InvoiceJpaEntity i LEFT JOIN FETCH i.installments inst LEFT JOIN FETCH inst.payments WHERE i.id = :invoiceId AND i.customer.user.id = :userId")
+    boolean existsByCustomerIdAndInvoiceReference(@NonNull UUID customerId, @NonNull String invoiceReference);
+
+    @Query("SELECT i.customer.id, i.invoiceReference FROM InvoiceJpaEntity i WHERE i.customer.id IN :customerIds AND i.invoiceReference IN :invoiceReferences")
+    List<Object[]> findReferencesByCustomerIdsAndReferences(@NonNull Collection<UUID> customerIds,
+            @NonNull Collection<String> invoiceReferences);
+
+    @Query("SELECT i FROM InvoiceJpaEntity i LEFT JOIN FETCH i.installments WHERE i.id = :invoiceId AND i.customer.user.id = :userId")
     Optional<InvoiceJpaEntity> findByIdAndOwner(@NonNull UUID invoiceId, @NonNull UUID userId);
 
+    @Query("SELECT i FROM InvoiceJpaEntity i WHERE i.id = :invoiceId AND i.customer.user.id = :userId")
+    Optional<InvoiceJpaEntity> findHeaderByIdAndOwner(@NonNull UUID invoiceId, @NonNull UUID userId);
+
+    @Query("SELECT i.version FROM InvoiceJpaEntity i WHERE i.id = :invoiceId AND i.customer.user.id = :userId")
+    Optional<Long> findVersionByIdAndOwner(@NonNull UUID invoiceId, @NonNull UUID userId);
+
+    @Query("SELECT i.id AS invoiceId, i.status AS status, i.totalAmount AS totalAmount, i.totalPaid AS totalPaid, i.currency AS currency, i.nextUnpaidDueDate AS nextUnpaidDueDate, i.updatedAt AS updatedAt, inst.id AS installmentId, inst.amountDue AS amountDue, inst.amountPaid AS amountPaid, inst.dueDate AS dueDate, inst.status AS installmentStatus, p.id AS paymentId, p.amount AS amount, p.paymentDate AS paymentDate, p.createdAt AS paymentCreatedAt, p.updatedAt AS paymentUpdatedAt FROM PaymentJpaEntity p JOIN p.installment inst JOIN inst.invoice i WHERE p.id = :paymentId AND inst.id = :installmentId AND i.id = :invoiceId AND i.customer.user.id = :userId")
+    Optional<PaymentOutcomeProjection> findPaymentOutcome(@NonNull UUID invoiceId, @NonNull UUID userId,
+            @NonNull UUID installmentId, @NonNull UUID paymentId);
+
+    @Query("SELECT inst FROM InstallmentJpaEntity inst LEFT JOIN FETCH inst.payments WHERE inst.id = :installmentId AND inst.invoice.id = :invoiceId")
+    List<InstallmentJpaEntity> findInstallmentWithPayments(@NonNull UUID invoiceId, @NonNull UUID installmentId);
+
+    @Query("SELECT MIN(inst.dueDate) FROM InstallmentJpaEntity inst WHERE inst.invoice.id = :invoiceId AND inst.id <> :installmentId AND inst.status <> 'PAID'")
+    Optional<LocalDate> findNextUnpaidDueDateExcept(@NonNull UUID invoiceId, @NonNull UUID installmentId);
+
+    @Modifying
+    @Query("""
+                UPDATE InvoiceJpaEntity i
+                SET i.totalPaid = i.totalPaid + :amount,
+                    i.status = CASE WHEN i.totalPaid + :amount >= i.totalAmount THEN 'PAID'
+                        WHEN i.totalPaid + :amount > 0 THEN 'PARTIALLY_PAID' ELSE 'PENDING' END,
+                    i.lastStatusChangeAt = CASE WHEN i.status <> (CASE WHEN i.totalPaid + :amount >= i.totalAmount THEN 'PAID'
+                        WHEN i.totalPaid + :amount > 0 THEN 'PARTIALLY_PAID' ELSE 'PENDING' END)
+                        THEN :now ELSE i.lastStatusChangeAt END,
+                    i.updatedAt = :now,
+                    i.version = i.version + 1
+                WHERE i.id = :invoiceId
+                AND i.isArchived = false
+                AND i.customer.id IN (SELECT c.id FROM CustomerJpaEntity c WHERE c.user.id = :userId)
+                AND EXISTS (
+                    SELECT 1 FROM InstallmentJpaEntity inst
+                    WHERE inst.id = :installmentId
+                    AND inst.invoice.id = :invoiceId
+                    AND :amount > 0
+                    AND inst.amountPaid + :amount <= inst.amountDue
+                )
+            """)
+    int addPaymentToInvoiceTotals(@NonNull UUID invoiceId, @NonNull UUID userId, @NonNull UUID installmentId,
+            @NonNull BigDecimal amount, @NonNull LocalDateTime now);
+
+    @Modifying
+    @Query("""
+                UPDATE InstallmentJpaEntity inst
+                SET inst.amountPaid = inst.amountPaid + :amount,
+                    inst.status = CASE WHEN inst.amountPaid + :amount >= inst.amountDue THEN 'PAID'
+                        WHEN inst.amountPaid + :amount > 0 THEN 'PARTIALLY_PAID' ELSE 'PENDING' END,
+                    inst.lastStatusChangeAt = CASE WHEN inst.status <> (CASE WHEN inst.amountPaid + :amount >= inst.amountDue THEN 'PAID'
+                        WHEN inst.amountPaid + :amount > 0 THEN 'PARTIALLY_PAID' ELSE 'PENDING' END)
+                        THEN :now ELSE inst.lastStatusChangeAt END,
+                    inst.updatedAt = :now
+                WHERE inst.id = :installmentId
+                AND inst.invoice.id = :invoiceId
+                AND inst.amountPaid + :amount <= inst.amountDue
+            """)
+    int addPaymentToInstallmentTotals(@NonNull UUID invoiceId, @NonNull UUID installmentId,
+            @NonNull BigDecimal amount, @NonNull LocalDateTime now);
+
+    @Modifying
+    @Query("UPDATE InvoiceJpaEntity i SET i.nextUnpaidDueDate = (SELECT MIN(inst.dueDate) FROM InstallmentJpaEntity inst WHERE inst.invoice.id = :invoiceId AND inst.status <> 'PAID') WHERE i.id = :invoiceId")
+    int refreshNextUnpaidDueDate(@NonNull UUID invoiceId);
+
+    @Modifying
+    @Query("UPDATE InvoiceJpaEntity i SET i.nextUnpaidDueDate = (SELECT MIN(inst.dueDate) FROM InstallmentJpaEntity inst WHERE inst.invoice.id = i.id AND inst.status <> 'PAID') WHERE i.id IN :invoiceIds")
+    int refreshNextUnpaidDueDates(@NonNull Collection<UUID> invoiceIds);
+
+    @Modifying
+    @Query(value = "INSERT INTO payments (id, installment_id, amount, payment_date, created_at, updated_at) VALUES (:id, :installmentId, :amount, :paymentDate, :now, :now)", nativeQuery = true)
+    void insertPayment(@NonNull UUID id, @NonNull UUID installmentId, @NonNull BigDecimal amount,
+            @NonNull LocalDate paymentDate, @NonNull LocalDateTime now);
+
+    @Modifying
+    @Query("DELETE FROM NotificationLogJpaEntity log WHERE log.installmentId IN (SELECT inst.id FROM InstallmentJpaEntity inst WHERE inst.invoice.id = :invoiceId AND inst.invoice.customer.user.id = :userId)")
+    int deleteNotificationLogsByInvoiceIdAndOwner(@NonNull UUID invoiceId, @NonNull UUID userId);
+
+    @Modifying(clearAutomatically = true)
+    @Query("DELETE FROM InvoiceJpaEntity i WHERE i.id = :invoiceId AND i.customer.id IN (SELECT c.id FROM CustomerJpaEntity c WHERE c.user.id = :userId)")
+    int deleteByIdAndOwner(@NonNull UUID invoiceId, @NonNull UUID userId);
+
+    @Modifying
+    @Query("DELETE FROM NotificationLogJpaEntity log WHERE log.installmentId IN (SELECT inst.id FROM InstallmentJpaEntity inst WHERE inst.invoice.customer.id = :customerId)")
+    int deleteNotificationLogsByCustomerId(@NonNull UUID customerId);
+
+    @Modifying(clearAutomatically = true)
+    @Query("DELETE FROM InvoiceJpaEntity i WHERE i.customer.id = :customerId")
+    int deleteAllByCustomerIdInBulk(@NonNull UUID customerId);
+
     @Query("""
                 SELECT
                     inst.id, i.id, i.customer.user.id, inst.dueDate
@@ -69,10 +260,16 @@ public interface InvoiceSpringRepository extends JpaRepository<InvoiceJpaEntity,
                 JOIN inst.invoice i
                 WHERE inst.status != 'PAID'
                 AND inst.dueDate < CURRENT_DATE
+                AND inst.id > :afterId
                 AND NOT EXISTS (
                     SELECT 1 FROM NotificationLogJpaEntity log
-                    WHERE log.installmentId = inst.id
+                    WHERE log.installmentId = inst.id AND log.status = 'SENT'
+                )
+                AND NOT EXISTS (
+                    SELECT 1 FROM NotificationOutboxJpaEntity outbox
+                    WHERE outbox.installmentId = inst.id
                 )
+                ORDER BY inst.id
             """)
-    List<OverdueInstallmentDto> findOverdueInstallmentsNotNotified();
+    List<OverdueInstallmentDto> findOverdueInstallmentsNotNotified(@NonNull UUID afterId, @NonNull Limit limit);
 }
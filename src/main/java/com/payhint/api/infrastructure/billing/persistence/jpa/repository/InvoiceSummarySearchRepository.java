@@ -0,0 +1,19 @@
+package com.payhint.api.infrastructure.billing.persistence.jpa.repository;
+
+import java.util.List;
+import java.util.UUID;
+
+import com.payhint.api.application.billing.dto.request.InvoiceFilter;
+import com.payhint.api.application.billing.dto.request.InvoiceSort;
+import com.payhint.api.domain.shared.pagination.PageCursor;
+import com.payhint.api.infrastructure.billing.persistence.jpa.repository.InvoiceSummarySpringRepository.InvoiceSummaryProjection;
+
+public interface InvoiceSummarySearchRepository {
+
+    /**
+     * Returns up to {@code limit} summaries of the user's invoices matching the filter, in the given order, that come
+     * after the cursor. Only the criteria that are set end up in the generated query.
+     */
+    List<InvoiceSummaryProjection> searchSummaries(UUID userId, InvoiceFilter filter, InvoiceSort sort,
+            PageCursor after, int limit);
+}
@@ -0,0 +1,170 @@
+package com.payhint.api.infrastructure.billing.persistence.jpa.repository;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import org.hibernate.query.criteria.HibernateCriteriaBuilder;
+
+import com.payhint.api.application.billing.dto.request.InvoiceFilter;
+import com.payhint.api.application.billing.dto.request.InvoiceSort;
+import com.payhint.api.domain.billing.model.PaymentStatus;
+import com.payhint.api.domain.shared.pagination.PageCursor;
+import com.payhint.api.infrastructure.billing.persistence.jpa.entity.InvoiceSummaryJpaEntity;
+import com.payhint.api.infrastructure.billing.persistence.jpa.repository.InvoiceSummarySpringRepository.InvoiceSummaryProjection;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Expression;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import lombok.RequiredArgsConstructor;
+
+@RequiredArgsConstructor
+public class InvoiceSummarySearchRepositoryImpl implements InvoiceSummarySearchRepository {
+
+    private final EntityManager entityManager;
+
+    @Override
+    public List<InvoiceSummaryProjection> searchSummaries(UUID userId, InvoiceFilter filter, InvoiceSort sort,
+            PageCursor after, int limit) {
+        HibernateCriteriaBuilder cb = (HibernateCriteriaBuilder) entityManager.getCriteriaBuilder();
+        CriteriaQuery<Tuple> query = cb.createTupleQuery();
+        Root<InvoiceSummaryJpaEntity> invoice = query.from(InvoiceSummaryJpaEntity.class);
+        Path<LocalDate> nextDueDate = invoice.get("nextDueDate");
+        Expression<LocalDate> today = cb.localDate();
+
+        query.multiselect(invoice.get("invoiceId"), invoice.get("customerId"), invoice.get("customerName"),
+                invoice.get("invoiceReference"), invoice.get("totalAmount"), invoice.get("totalPaid"),
+                invoice.get("currency"), invoice.get("status"), nextDueDate, invoice.get("createdAt"),
+                invoice.get("updatedAt"), invoice.get("lastStatusChangeAt"), invoice.get("isArchived"),
+                cb.<Boolean>selectCase().when(cb.lessThan(nextDueDate, today), true).otherwise(false));
+
+        List<Predicate> predicates = new ArrayList<>();
+        predicates.add(cb.equal(invoice.get("userId"), userId));
+        if (filter.customerId() != null) {
+            predicates.add(cb.equal(invoice.get("customerId"), filter.customerId()));
+        }
+        if (filter.archived() != null) {
+            predicates.add(cb.equal(invoice.get("isArchived"), filter.archived()));
+        }
+        if (!filter.statuses().isEmpty()) {
+            predicates.add(invoice.get("status").in(filter.statuses().stream().map(PaymentStatus::name).toList()));
+        }
+        if (filter.currency() != null) {
+            predicates.add(cb.equal(invoice.get("currency"), filter.currency()));
+        }
+        if (filter.overdue() != null) {
+            predicates.add(filter.overdue() ? cb.lessThan(nextDueDate, today)
+                    : cb.or(cb.isNull(nextDueDate), cb.greaterThanOrEqualTo(nextDueDate, today)));
+        }
+        addDateRange(cb, predicates, invoice.get("createdAt"), filter.createdFrom(), filter.createdTo());
+        addDateRange(cb, predicates, invoice.get("updatedAt"), filter.updatedFrom(), filter.updatedTo());
+
+        Path<LocalDateTime> sortKey = invoice.get(sort.field().property());
+        Path<UUID> id = invoice.get("invoiceId");
+        if (!PageCursor.START.equals(after)) {
+            predicates.add(sort.descending()
+                    ? cb.or(cb.lessThan(sortKey, after.timestamp()),
+                            cb.and(cb.equal(sortKey, after.timestamp()), cb.lessThan(id, after.id())))
+                    : cb.or(cb.greaterThan(sortKey, after.timestamp()),
+                            cb.and(cb.equal(sortKey, after.timestamp()), cb.greaterThan(id, after.id()))));
+        }
+
+        query.where(predicates.toArray(Predicate[]::new));
+        query.orderBy(sort.descending() ? List.of(cb.desc(sortKey), cb.desc(id))
+                : List.of(cb.asc(sortKey), cb.asc(id)));
+
+        return entityManager.createQuery(query).setMaxResults(limit).getResultList().stream()
+                .<InvoiceSummaryProjection>map(InvoiceSummaryRow::new).toList();
+    }
+
+    private void addDateRange(CriteriaBuilder cb, List<Predicate> predicates, Path<LocalDateTime> timestamp,
+            LocalDate from, LocalDate to) {
+        if (from != null) {
+            predicates.add(cb.greaterThanOrEqualTo(timestamp, from.atStartOfDay()));
+        }
+        if (to != null) {
+            predicates.add(cb.lessThan(timestamp, to.plusDays(1).atStartOfDay()));
+        }
+    }
+
+    private record InvoiceSummaryRow(Tuple tuple) implements InvoiceSummaryProjection {
+
+        @Override
+        public UUID getId() {
+            return tuple.get(0, UUID.class);
+        }
+
+        @Override
+        public UUID getCustomerId() {
+            return tuple.get(1, UUID.class);
+        }
+
+        @Override
+        public String getCustomerName() {
+            return tuple.get(2, String.class);
+        }
+
+        @Override
+        public String getInvoiceReference() {
+            return tuple.get(3, String.class);
+        }
+
+        @Override
+        public BigDecimal getTotalAmount() {
+            return tuple.get(4, BigDecimal.class);
+        }
+
+        @Override
+        public BigDecimal getTotalPaid() {
+            return tuple.get(5, BigDecimal.class);
+        }
+
+        @Override
+        public String getCurrency() {
+            return tuple.get(6, String.class);
+        }
+
+        @Override
+        public PaymentStatus getStatus() {
+            return PaymentStatus.valueOf(tuple.get(7, String.class));
+        }
+
+        @Override
+        public LocalDate getNextDueDate() {
+            return tuple.get(8, LocalDate.class);
+        }
+
+        @Override
+        public LocalDateTime getCreatedAt() {
+            return tuple.get(9, LocalDateTime.class);
+        }
+
+        @Override
+        public LocalDateTime getUpdatedAt() {
+            return tuple.get(10, LocalDateTime.class);
+        }
+
+        @Override
+        public LocalDateTime getLastStatusChangeAt() {
+            return tuple.get(11, LocalDateTime.class);
+        }
+
+        @Override
+        public boolean getIsArchived() {
+            return tuple.get(12, Boolean.class);
+        }
+
+        @Override
+        public boolean getIsOverdue() {
+            return tuple.get(13, Boolean.class);
+        }
+    }
+}
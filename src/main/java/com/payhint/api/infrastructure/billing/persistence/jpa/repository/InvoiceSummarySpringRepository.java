@@ -0,0 +1,100 @@
+package com.payhint.api.infrastructure.billing.persistence.jpa.repository;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.lang.NonNull;
+import org.springframework.stereotype.Repository;
+
+import com.payhint.api.domain.billing.model.PaymentStatus;
+import com.payhint.api.infrastructure.billing.persistence.jpa.entity.InvoiceSummaryJpaEntity;
+
+import jakarta.persistence.QueryHint;
+
+@Repository
+public interface InvoiceSummarySpringRepository
+        extends JpaRepository<InvoiceSummaryJpaEntity, UUID>, InvoiceSummarySearchRepository {
+    interface InvoiceSummaryProjection {
+        UUID getId();
+
+        UUID getCustomerId();
+
+        String getCustomerName();
+
+        String getInvoiceReference();
+
+        BigDecimal getTotalAmount();
+
+        BigDecimal getTotalPaid();
+
+        String getCurrency();
+
+        PaymentStatus getStatus();
+
+        LocalDate getNextDueDate();
+
+        LocalDateTime getCreatedAt();
+
+        LocalDateTime getUpdatedAt();
+
+        LocalDateTime getLastStatusChangeAt();
+
+        boolean getIsArchived();
+
+        boolean getIsOverdue();
+    }
+
+    @Query("SELECT s.invoiceId AS id, s.customerId AS customerId, s.customerName AS customerName, s.invoiceReference AS invoiceReference, s.totalAmount AS totalAmount, s.totalPaid AS totalPaid, s.currency AS currency, s.status AS status, s.nextDueDate AS nextDueDate, s.createdAt AS createdAt, s.updatedAt AS updatedAt, s.lastStatusChangeAt AS lastStatusChangeAt, s.isArchived AS isArchived, CASE WHEN s.nextDueDate < CURRENT_DATE THEN true ELSE false END AS isOverdue FROM InvoiceSummaryJpaEntity s WHERE s.customerId = :customerId AND s.createdAt >= :afterCreatedAt AND (s.createdAt > :afterCreatedAt OR s.invoiceId > :afterId) ORDER BY s.createdAt, s.invoiceId")
+    List<InvoiceSummaryProjection> findSummariesByCustomerId(@NonNull UUID customerId,
+            @NonNull LocalDateTime afterCreatedAt, @NonNull UUID afterId, @NonNull Limit limit);
+
+    @Query("SELECT s.invoiceId AS id, s.customerId AS customerId, s.customerName AS customerName, s.invoiceReference AS invoiceReference, s.totalAmount AS totalAmount, s.totalPaid AS totalPaid, s.currency AS currency, s.status AS status, s.nextDueDate AS nextDueDate, s.createdAt AS createdAt, s.updatedAt AS updatedAt, s.lastStatusChangeAt AS lastStatusChangeAt, s.isArchived AS isArchived, CASE WHEN s.nextDueDate < CURRENT_DATE THEN true ELSE false END AS isOverdue FROM InvoiceSummaryJpaEntity s WHERE s.userId = :userId ORDER BY s.createdAt, s.invoiceId")
+    @QueryHints({ @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true") })
+    Stream<InvoiceSummaryProjection> streamSummariesByUserId(@NonNull UUID userId);
+
+    @Query("SELECT s.invoiceId AS id, s.customerId AS customerId, s.customerName AS customerName, s.invoiceReference AS invoiceReference, s.totalAmount AS totalAmount, s.totalPaid AS totalPaid, s.currency AS currency, s.status AS status, s.nextDueDate AS nextDueDate, s.createdAt AS createdAt, s.updatedAt AS updatedAt, s.lastStatusChangeAt AS lastStatusChangeAt, s.isArchived AS isArchived, CASE WHEN s.nextDueDate < CURRENT_DATE THEN true ELSE false END AS isOverdue FROM InvoiceSummaryJpaEntity s WHERE s.userId = :userId AND (LOWER(s.invoiceReference) LIKE :contains ESCAPE '!' OR LOWER(s.customerName) LIKE :contains ESCAPE '!') ORDER BY CASE WHEN LOWER(s.invoiceReference) LIKE :prefix ESCAPE '!' THEN 0 WHEN LOWER(s.customerName) LIKE :prefix ESCAPE '!' THEN 1 ELSE 2 END, s.invoiceReference, s.invoiceId")
+    List<InvoiceSummaryProjection> searchByText(@NonNull UUID userId, @NonNull String prefix, @NonNull String contains,
+            Limit limit);
+
+    interface ListingVersionProjection {
+        long getInvoiceCount();
+
+        LocalDateTime getLastUpdatedAt();
+
+        LocalDateTime getLastCustomerUpdatedAt();
+    }
+
+    @Query("SELECT COUNT(s) AS invoiceCount, MAX(s.updatedAt) AS lastUpdatedAt, (SELECT MAX(c.updatedAt) FROM CustomerJpaEntity c WHERE c.user.id = :userId) AS lastCustomerUpdatedAt FROM InvoiceSummaryJpaEntity s WHERE s.userId = :userId")
+    ListingVersionProjection findListingVersionByUserId(@NonNull UUID userId);
+
+    /**
+     * Serializes refreshes of the same invoices, so that a refresh never overwrites the row written by a refresh that
+     * read a newer state.
+     */
+    @Query(value = "SELECT id FROM invoices WHERE id IN (:invoiceIds) ORDER BY id FOR UPDATE", nativeQuery = true)
+    List<Object> lockInvoices(@NonNull Collection<UUID> invoiceIds);
+
+    @Modifying
+    @Query(value = "DELETE FROM invoice_summary WHERE invoice_id IN (:invoiceIds)", nativeQuery = true)
+    int deleteByInvoiceIds(@NonNull Collection<UUID> invoiceIds);
+
+    @Modifying
+    @Query(value = "INSERT INTO invoice_summary (invoice_id, user_id, customer_id, customer_name, invoice_reference, total_amount, total_paid, currency, status, next_due_date, is_archived, created_at, updated_at, last_status_change_at) SELECT i.id, c.user_id, c.id, c.company_name, i.invoice_reference, i.total_amount, i.total_paid, i.currency, i.status, i.next_unpaid_due_date, i.is_archived, i.created_at, i.updated_at, i.last_status_change_at FROM invoices i JOIN customers c ON c.id = i.customer_id WHERE i.id IN (:invoiceIds)", nativeQuery = true)
+    int insertFromInvoices(@NonNull Collection<UUID> invoiceIds);
+
+    @Modifying
+    @Query(value = "UPDATE invoice_summary SET customer_name = (SELECT c.company_name FROM customers c WHERE c.id = :customerId) WHERE customer_id = :customerId", nativeQuery = true)
+    int refreshCustomerName(@NonNull UUID customerId);
+}
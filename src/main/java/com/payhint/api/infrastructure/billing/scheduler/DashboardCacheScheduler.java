@@ -0,0 +1,31 @@
+package com.payhint.api.infrastructure.billing.scheduler;
+
+import java.util.List;
+
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.payhint.api.application.billing.service.CashFlowForecastService;
+import com.payhint.api.application.billing.service.DashboardService;
+
+import lombok.RequiredArgsConstructor;
+
+@Component
+@RequiredArgsConstructor
+public class DashboardCacheScheduler {
+
+    private final CacheManager cacheManager;
+
+    // Overdue amounts, monthly totals and forecast horizons change with the date even without writes
+    @Scheduled(cron = "0 0 0 * * *")
+    public void clearDashboards() {
+        for (String cacheName : List.of(DashboardService.CACHE_NAME, CashFlowForecastService.CACHE_NAME)) {
+            Cache cache = cacheManager.getCache(cacheName);
+            if (cache != null) {
+                cache.clear();
+            }
+        }
+    }
+}
@@ -0,0 +1,54 @@
+package com.payhint.api.infrastructure.billing.web.controller;
+
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import com.payhint.api.application.billing.dto.response.AgingReportResponse;
+import com.payhint.api.application.billing.usecase.AgingReportUseCase;
+import com.payhint.api.domain.crm.valueobject.UserId;
+import com.payhint.api.infrastructure.billing.web.exporter.CsvAgingReportWriter;
+import com.payhint.api.infrastructure.shared.security.UserPrincipal;
+
+@RestController
+@RequestMapping("/api/reports/aging")
+public class AgingReportController {
+
+    private static final String TEXT_CSV_VALUE = "text/csv";
+
+    private final AgingReportUseCase agingReportUseCase;
+
+    public AgingReportController(AgingReportUseCase agingReportUseCase) {
+        this.agingReportUseCase = agingReportUseCase;
+    }
+
+    @GetMapping(produces = MediaType.APPLICATION_JSON_VALUE)
+    public AgingReportResponse getAgingReport(@AuthenticationPrincipal UserPrincipal userPrincipal) {
+        return agingReportUseCase.viewAgingReport(new UserId(userPrincipal.getId()));
+    }
+
+    /**
+     * Writes each row while it is read from the database.
+     */
+    @GetMapping(produces = TEXT_CSV_VALUE)
+    public ResponseEntity<StreamingResponseBody> exportAgingReport(
+            @AuthenticationPrincipal UserPrincipal userPrincipal) {
+        UserId userId = new UserId(userPrincipal.getId());
+        StreamingResponseBody body = output -> {
+            CsvAgingReportWriter writer = new CsvAgingReportWriter(output);
+            writer.writeHeader();
+            agingReportUseCase.streamAgingReport(userId, writer::write);
+            writer.flush();
+        };
+        return ResponseEntity.ok().contentType(MediaType.parseMediaType(TEXT_CSV_VALUE))
+                .header(HttpHeaders.CONTENT_DISPOSITION,
+                        ContentDisposition.attachment().filename("aging-report.csv").build().toString())
+                .body(body);
+    }
+}
@@ -0,0 +1,32 @@
+package com.payhint.api.infrastructure.billing.web.controller;
+
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.payhint.api.application.billing.dto.request.ForecastPeriod;
+import com.payhint.api.application.billing.dto.response.CashFlowForecastResponse;
+import com.payhint.api.application.billing.usecase.CashFlowForecastUseCase;
+import com.payhint.api.domain.crm.valueobject.UserId;
+import com.payhint.api.infrastructure.shared.security.UserPrincipal;
+
+@RestController
+@RequestMapping("/api/reports/cash-flow")
+public class CashFlowForecastController {
+
+    private final CashFlowForecastUseCase cashFlowForecastUseCase;
+
+    public CashFlowForecastController(CashFlowForecastUseCase cashFlowForecastUseCase) {
+        this.cashFlowForecastUseCase = cashFlowForecastUseCase;
+    }
+
+    @GetMapping()
+    public CashFlowForecastResponse getForecast(@AuthenticationPrincipal UserPrincipal userPrincipal,
+            @RequestParam(required = false) String period, @RequestParam(required = false) Integer months,
+            @RequestParam(defaultValue = "false") boolean weighted) {
+        return cashFlowForecastUseCase.viewForecast(new UserId(userPrincipal.getId()), ForecastPeriod.parse(period),
+                months, weighted);
+    }
+}
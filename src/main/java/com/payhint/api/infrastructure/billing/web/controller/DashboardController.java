@@ -0,0 +1,27 @@
+package com.payhint.api.infrastructure.billing.web.controller;
+
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.payhint.api.application.billing.dto.response.DashboardResponse;
+import com.payhint.api.application.billing.usecase.DashboardUseCase;
+import com.payhint.api.domain.crm.valueobject.UserId;
+import com.payhint.api.infrastructure.shared.security.UserPrincipal;
+
+@RestController
+@RequestMapping("/api/dashboard")
+public class DashboardController {
+
+    private final DashboardUseCase dashboardUseCase;
+
+    public DashboardController(DashboardUseCase dashboardUseCase) {
+        this.dashboardUseCase = dashboardUseCase;
+    }
+
+    @GetMapping()
+    public DashboardResponse getDashboard(@AuthenticationPrincipal UserPrincipal userPrincipal) {
+        return dashboardUseCase.viewDashboard(new UserId(userPrincipal.getId()));
+    }
+}
@@ -1,9 +1,21 @@
 package com.payhint.api.infrastructure.billing.web.controller;
 
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Set;
 import java.util.UUID;
 
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.format.annotation.DateTimeFormat.ISO;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.DeleteMapping;
@@ -13,41 +25,140 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
 import com.payhint.api.application.billing.dto.request.CreateInvoiceRequest;
+import com.payhint.api.application.billing.dto.request.InvoiceDepth;
+import com.payhint.api.application.billing.dto.request.InvoiceFilter;
+import com.payhint.api.application.billing.dto.request.InvoiceImportRow;
+import com.payhint.api.application.billing.dto.request.InvoiceSort;
 import com.payhint.api.application.billing.dto.request.UpdateInvoiceRequest;
+import com.payhint.api.application.billing.dto.response.InvoiceListingVersion;
 import com.payhint.api.application.billing.dto.response.InvoiceResponse;
 import com.payhint.api.application.billing.dto.response.InvoiceSummaryResponse;
+import com.payhint.api.application.billing.usecase.InvoiceImportUseCase;
 import com.payhint.api.application.billing.usecase.InvoiceLifecycleUseCase;
+import com.payhint.api.domain.billing.model.PaymentStatus;
 import com.payhint.api.domain.billing.valueobject.InvoiceId;
 import com.payhint.api.domain.crm.valueobject.UserId;
+import com.payhint.api.domain.shared.pagination.CursorPageRequest;
+import com.payhint.api.domain.shared.search.SearchQuery;
+import com.payhint.api.infrastructure.billing.web.importer.CsvInvoiceImportReader;
+import com.payhint.api.infrastructure.billing.web.importer.NdjsonInvoiceImportReader;
 import com.payhint.api.infrastructure.shared.security.UserPrincipal;
+import com.payhint.api.infrastructure.shared.web.CursorPageResponse;
+import com.payhint.api.infrastructure.shared.web.EntityTags;
+import com.payhint.api.infrastructure.shared.web.SparseFieldset;
 
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 
 @RestController
 @RequestMapping("/api/invoices")
 public class InvoiceController {
 
+    private static final String TEXT_CSV_VALUE = "text/csv";
+
     private final InvoiceLifecycleUseCase invoiceManagementUseCase;
+    private final InvoiceImportUseCase invoiceImportUseCase;
+    private final ObjectMapper objectMapper;
 
-    public InvoiceController(InvoiceLifecycleUseCase invoiceManagementUseCase) {
+    public InvoiceController(InvoiceLifecycleUseCase invoiceManagementUseCase,
+            InvoiceImportUseCase invoiceImportUseCase, ObjectMapper objectMapper) {
         this.invoiceManagementUseCase = invoiceManagementUseCase;
+        this.invoiceImportUseCase = invoiceImportUseCase;
+        this.objectMapper = objectMapper;
     }
 
+    /**
+     * Answers 304 from the number and last update of the user's invoices, and the last update of their customers,
+     * before running the listing query. The date is part of the ETag as the overdue flags change at midnight.
+     */
     @GetMapping()
-    public List<InvoiceSummaryResponse> getAll(@AuthenticationPrincipal UserPrincipal userPrincipal) {
+    public ResponseEntity<List<Object>> getAll(@AuthenticationPrincipal UserPrincipal userPrincipal,
+            WebRequest webRequest,
+            @RequestParam(name = "status", required = false) Set<PaymentStatus> statuses,
+            @RequestParam(required = false) Boolean archived, @RequestParam(required = false) Boolean overdue,
+            @RequestParam(required = false) UUID customerId, @RequestParam(required = false) String currency,
+            @RequestParam(required = false) @DateTimeFormat(iso = ISO.DATE) LocalDate createdFrom,
+            @RequestParam(required = false) @DateTimeFormat(iso = ISO.DATE) LocalDate createdTo,
+            @RequestParam(required = false) @DateTimeFormat(iso = ISO.DATE) LocalDate updatedFrom,
+            @RequestParam(required = false) @DateTimeFormat(iso = ISO.DATE) LocalDate updatedTo,
+            @RequestParam(required = false) String sort,
+            @RequestParam(name = SparseFieldset.FIELDS_PARAM, required = false) String fields,
+            @RequestParam(name = CursorPageResponse.CURSOR_PARAM, required = false) String cursor,
+            @RequestParam(name = CursorPageResponse.LIMIT_PARAM, required = false) Integer limit) {
+        UserId userId = new UserId(userPrincipal.getId());
+        SparseFieldset fieldset = SparseFieldset.parse(fields, InvoiceSummaryResponse.class);
+        InvoiceListingVersion version = invoiceManagementUseCase.getListingVersion(userId);
+        if (webRequest.checkNotModified(
+                EntityTags.weak(version.invoiceCount(), version.lastUpdatedAt(),
+                        version.lastCustomerUpdatedAt(), LocalDate.now()))) {
+            return null;
+        }
+        InvoiceFilter filter = new InvoiceFilter(statuses, archived, overdue, customerId, currency, createdFrom,
+                createdTo, updatedFrom, updatedTo);
+        return CursorPageResponse.of(invoiceManagementUseCase
+                .searchInvoices(userId, filter, InvoiceSort.parse(sort), CursorPageRequest.of(cursor, limit))
+                .map(invoice -> fieldset.apply(invoice, objectMapper)));
+    }
+
+    /**
+     * Typeahead over invoice references and customer names, prefix matches first.
+     */
+    @GetMapping("/search")
+    public List<InvoiceSummaryResponse> search(@AuthenticationPrincipal UserPrincipal userPrincipal,
+            @RequestParam String q, @RequestParam(required = false) Integer limit) {
+        return invoiceManagementUseCase.findInvoicesByText(new UserId(userPrincipal.getId()),
+                SearchQuery.of(q, limit));
+    }
+
+    /**
+     * Writes every invoice summary of the user as one NDJSON line while the rows are read from the database, so that
+     * memory use does not depend on the number of invoices.
+     */
+    @GetMapping(value = "/stream", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> streamAll(@AuthenticationPrincipal UserPrincipal userPrincipal) {
         UserId userId = new UserId(userPrincipal.getId());
-        return invoiceManagementUseCase.listInvoicesByUser(userId);
+        StreamingResponseBody body = output -> invoiceManagementUseCase.streamInvoicesByUser(userId,
+                invoice -> writeLine(output, invoice));
+        return ResponseEntity.ok().contentType(MediaType.APPLICATION_NDJSON).body(body);
     }
 
+    /**
+     * Compares {@code If-None-Match} with the invoice version alone and only loads the invoice when it changed. The
+     * date is part of the ETag as the overdue flag changes at midnight.
+     *
+     * <p>
+     * {@code depth=0} returns the header only and {@code depth=1} the installments without their payments; leaving
+     * {@code installments} out of {@code fields} has the same effect as {@code depth=0}. The collections left out are
+     * not loaded.
+     */
     @GetMapping("/{id}")
-    public InvoiceResponse getById(@AuthenticationPrincipal UserPrincipal userPrincipal, @PathVariable String id) {
+    public Object getById(@AuthenticationPrincipal UserPrincipal userPrincipal, @PathVariable String id,
+            @RequestParam(name = SparseFieldset.FIELDS_PARAM, required = false) String fields,
+            @RequestParam(required = false) Integer depth, WebRequest webRequest) {
         UserId userId = new UserId(userPrincipal.getId());
         InvoiceId invoiceId = new InvoiceId(UUID.fromString(id));
-        return invoiceManagementUseCase.viewInvoice(userId, invoiceId);
+        SparseFieldset fieldset = SparseFieldset.parse(fields, InvoiceResponse.class);
+        InvoiceDepth invoiceDepth = InvoiceDepth.of(depth);
+        if (!fieldset.includes("installments")) {
+            invoiceDepth = InvoiceDepth.HEADER;
+        }
+        long version = invoiceManagementUseCase.getInvoiceVersion(userId, invoiceId);
+        if (webRequest.checkNotModified(EntityTags.strong(invoiceId, version, LocalDate.now()))) {
+            return null;
+        }
+        InvoiceResponse invoice = invoiceManagementUseCase.viewInvoice(userId, invoiceId, invoiceDepth);
+        return shallow(fieldset.apply(invoice, objectMapper), invoiceDepth);
     }
 
     @PostMapping()
@@ -58,6 +169,30 @@ public class InvoiceController {
         return invoiceManagementUseCase.createInvoice(userId, request);
     }
 
+    /**
+     * Streams the upload through the import chunk by chunk and writes one NDJSON result line per invoice as soon as
+     * its chunk is committed, flushing the response after each chunk.
+     */
+    @PostMapping(value = "/import", consumes = { MediaType.APPLICATION_NDJSON_VALUE, TEXT_CSV_VALUE })
+    public void importInvoices(@AuthenticationPrincipal UserPrincipal userPrincipal, HttpServletRequest request,
+            HttpServletResponse response) throws IOException {
+        UserId userId = new UserId(userPrincipal.getId());
+        BufferedReader reader = new BufferedReader(
+                new InputStreamReader(request.getInputStream(), StandardCharsets.UTF_8));
+        Iterator<InvoiceImportRow> rows = MediaType.parseMediaType(request.getContentType())
+                .isCompatibleWith(MediaType.APPLICATION_NDJSON) ? new NdjsonInvoiceImportReader(reader, objectMapper)
+                        : new CsvInvoiceImportReader(reader);
+
+        response.setStatus(HttpStatus.OK.value());
+        response.setContentType(MediaType.APPLICATION_NDJSON_VALUE);
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        OutputStream output = response.getOutputStream();
+        invoiceImportUseCase.importInvoices(userId, rows, results -> {
+            results.forEach(result -> writeLine(output, result));
+            flush(output);
+        });
+    }
+
     @PutMapping("/{id}")
     public InvoiceResponse update(@AuthenticationPrincipal UserPrincipal userPrincipal, @PathVariable String id,
             @Valid @RequestBody UpdateInvoiceRequest request) {
@@ -73,4 +208,39 @@ public class InvoiceController {
         invoiceManagementUseCase.deleteInvoice(userId, invoiceId);
         return ResponseEntity.noContent().build();
     }
-}
\ No newline at end of file
+
+    /**
+     * Drops the empty collections standing for the parts that were not loaded.
+     */
+    private Object shallow(Object invoice, InvoiceDepth depth) {
+        if (depth == InvoiceDepth.PAYMENTS) {
+            return invoice;
+        }
+        ObjectNode node = invoice instanceof ObjectNode objectNode ? objectNode : objectMapper.valueToTree(invoice);
+        if (depth == InvoiceDepth.HEADER) {
+            node.remove("installments");
+        } else if (node.get("installments") != null) {
+            for (JsonNode installment : node.get("installments")) {
+                ((ObjectNode) installment).remove("payments");
+            }
+        }
+        return node;
+    }
+
+    private void writeLine(OutputStream output, Object value) {
+        try {
+            output.write(objectMapper.writeValueAsBytes(value));
+            output.write('\n');
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private void flush(OutputStream output) {
+        try {
+            output.flush();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -15,7 +15,7 @@ import org.springframework.web.bind.annotation.RestController;
 
 import com.payhint.api.application.billing.dto.request.CreatePaymentRequest;
 import com.payhint.api.application.billing.dto.request.UpdatePaymentRequest;
-import com.payhint.api.application.billing.dto.response.InvoiceResponse;
+import com.payhint.api.application.billing.dto.response.InvoicePaymentResponse;
 import com.payhint.api.application.billing.usecase.PaymentProcessingUseCase;
 import com.payhint.api.domain.billing.valueobject.InstallmentId;
 import com.payhint.api.domain.billing.valueobject.InvoiceId;
@@ -37,7 +37,7 @@ public class PaymentController {
 
     @PostMapping()
     @ResponseStatus(HttpStatus.CREATED)
-    public InvoiceResponse addPayment(@AuthenticationPrincipal UserPrincipal userPrincipal,
+    public InvoicePaymentResponse addPayment(@AuthenticationPrincipal UserPrincipal userPrincipal,
             @Valid @RequestBody CreatePaymentRequest request, @PathVariable String invoiceId,
             @PathVariable String installmentId) {
         InvoiceId invoiceUUID = new InvoiceId(UUID.fromString(invoiceId));
@@ -47,7 +47,7 @@ public class PaymentController {
     }
 
     @PutMapping("{paymentId}")
-    public InvoiceResponse updatePayment(@AuthenticationPrincipal UserPrincipal userPrincipal,
+    public InvoicePaymentResponse updatePayment(@AuthenticationPrincipal UserPrincipal userPrincipal,
             @PathVariable String invoiceId, @PathVariable String installmentId, @PathVariable String paymentId,
             @Valid @RequestBody UpdatePaymentRequest request) {
         UserId userId = new UserId(userPrincipal.getId());
@@ -58,7 +58,7 @@ public class PaymentController {
     }
 
     @DeleteMapping("{paymentId}")
-    public InvoiceResponse deletePayment(@AuthenticationPrincipal UserPrincipal userPrincipal,
+    public InvoicePaymentResponse deletePayment(@AuthenticationPrincipal UserPrincipal userPrincipal,
             @PathVariable String invoiceId, @PathVariable String installmentId, @PathVariable String paymentId) {
         UserId userId = new UserId(userPrincipal.getId());
         InvoiceId invoiceUUID = new InvoiceId(UUID.fromString(invoiceId));
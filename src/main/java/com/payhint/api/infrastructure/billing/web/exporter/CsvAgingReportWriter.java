@@ -0,0 +1,77 @@
+package com.payhint.api.infrastructure.billing.web.exporter;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import com.payhint.api.application.billing.dto.response.CustomerAgingResponse;
+
+/**
+ * Writes the aging report as CSV, one line per customer and currency, with the header
+ * {@code customerId,customerName,currency,current,days1To30,days31To60,days61To90,over90Days,totalOutstanding}.
+ * Text fields starting with a formula character are prefixed with {@code '} so that spreadsheets do not evaluate them.
+ */
+public class CsvAgingReportWriter {
+
+    private static final String FORMULA_PREFIXES = "=+-@\t\r";
+
+    static final List<String> COLUMNS = List.of("customerId", "customerName", "currency", "current", "days1To30",
+            "days31To60", "days61To90", "over90Days", "totalOutstanding");
+
+    private final Writer writer;
+
+    public CsvAgingReportWriter(OutputStream output) {
+        this.writer = new OutputStreamWriter(output, StandardCharsets.UTF_8);
+    }
+
+    public void writeHeader() {
+        writeLine(COLUMNS);
+    }
+
+    public void write(CustomerAgingResponse row) {
+        writeLine(List.of(row.customerId(), text(row.customerName()), text(row.currency()), amount(row.current()),
+                amount(row.days1To30()), amount(row.days31To60()), amount(row.days61To90()),
+                amount(row.over90Days()), amount(row.totalOutstanding())));
+    }
+
+    public void flush() {
+        try {
+            writer.flush();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private void writeLine(List<String> fields) {
+        try {
+            writer.write(fields.stream().map(CsvAgingReportWriter::escape).collect(Collectors.joining(",")));
+            writer.write("\r\n");
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static String amount(BigDecimal amount) {
+        return amount.toPlainString();
+    }
+
+    private static String text(String value) {
+        if (!value.isEmpty() && FORMULA_PREFIXES.indexOf(value.charAt(0)) >= 0) {
+            return "'" + value;
+        }
+        return value;
+    }
+
+    private static String escape(String field) {
+        if (field.contains(",") || field.contains("\"") || field.contains("\n") || field.contains("\r")) {
+            return "\"" + field.replace("\"", "\"\"") + "\"";
+        }
+        return field;
+    }
+}
@@ -0,0 +1,190 @@
+package com.payhint.api.infrastructure.billing.web.importer;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.UUID;
+
+import com.payhint.api.application.billing.dto.request.CreateInstallmentRequest;
+import com.payhint.api.application.billing.dto.request.CreateInvoiceRequest;
+import com.payhint.api.application.billing.dto.request.InvoiceImportRow;
+
+/**
+ * Reads invoices from CSV with the header {@code customerId,invoiceReference,currency,amountDue,dueDate}. Each line is
+ * one installment, consecutive lines with the same customer and reference form one invoice. A line without amount and
+ * due date is an invoice without installments.
+ */
+public class CsvInvoiceImportReader implements Iterator<InvoiceImportRow> {
+
+    static final List<String> COLUMNS = List.of("customerId", "invoiceReference", "currency", "amountDue", "dueDate");
+
+    private final BufferedReader reader;
+    private Map<String, Integer> columnIndexes;
+    private long lineNumber;
+    private String[] pendingFields;
+    private long pendingLineNumber;
+    private InvoiceImportRow next;
+
+    public CsvInvoiceImportReader(BufferedReader reader) {
+        this.reader = reader;
+    }
+
+    @Override
+    public boolean hasNext() {
+        if (next == null) {
+            next = readNext();
+        }
+        return next != null;
+    }
+
+    @Override
+    public InvoiceImportRow next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        InvoiceImportRow row = next;
+        next = null;
+        return row;
+    }
+
+    private InvoiceImportRow readNext() {
+        if (columnIndexes == null) {
+            String header = readNonBlankLine();
+            if (header == null) {
+                return null;
+            }
+            columnIndexes = new HashMap<>();
+            String[] names = split(header);
+            for (int i = 0; i < names.length; i++) {
+                columnIndexes.put(names[i].trim(), i);
+            }
+            if (!columnIndexes.keySet().containsAll(COLUMNS)) {
+                columnIndexes = Map.of();
+                return InvoiceImportRow.invalid(lineNumber, "CSV header must contain " + String.join(",", COLUMNS));
+            }
+        }
+        if (columnIndexes.isEmpty()) {
+            return null;
+        }
+
+        String[] first = pendingFields != null ? pendingFields : nextFields();
+        long firstLine = pendingFields != null ? pendingLineNumber : lineNumber;
+        pendingFields = null;
+        if (first == null) {
+            return null;
+        }
+
+        String customerId = field(first, "customerId");
+        String reference = field(first, "invoiceReference");
+        String currency = field(first, "currency");
+        List<CreateInstallmentRequest> installments = new ArrayList<>();
+        String error = null;
+
+        String[] fields = first;
+        while (fields != null) {
+            try {
+                addInstallment(fields, installments);
+            } catch (IllegalArgumentException e) {
+                error = error != null ? error : "Line " + lineNumber + ": " + e.getMessage();
+            }
+            fields = nextFields();
+            if (fields != null && !(Objects.equals(customerId, field(fields, "customerId"))
+                    && Objects.equals(reference, field(fields, "invoiceReference")))) {
+                pendingFields = fields;
+                pendingLineNumber = lineNumber;
+                fields = null;
+            }
+        }
+
+        if (error != null) {
+            return InvoiceImportRow.invalid(firstLine, error);
+        }
+        try {
+            UUID parsedCustomerId = customerId != null ? UUID.fromString(customerId) : null;
+            return InvoiceImportRow.of(firstLine,
+                    new CreateInvoiceRequest(parsedCustomerId, reference, currency, installments));
+        } catch (IllegalArgumentException e) {
+            return InvoiceImportRow.invalid(firstLine, "Invalid customer ID: " + customerId);
+        }
+    }
+
+    private void addInstallment(String[] fields, List<CreateInstallmentRequest> installments) {
+        String amountDue = field(fields, "amountDue");
+        String dueDate = field(fields, "dueDate");
+        if (amountDue == null && dueDate == null) {
+            return;
+        }
+        try {
+            installments.add(new CreateInstallmentRequest(amountDue != null ? new BigDecimal(amountDue) : null,
+                    dueDate));
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Invalid amount: " + amountDue);
+        }
+    }
+
+    private String field(String[] fields, String column) {
+        int index = columnIndexes.get(column);
+        if (index >= fields.length) {
+            return null;
+        }
+        String value = fields[index].trim();
+        return value.isEmpty() ? null : value;
+    }
+
+    private String[] nextFields() {
+        String line = readNonBlankLine();
+        return line != null ? split(line) : null;
+    }
+
+    private String readNonBlankLine() {
+        try {
+            String line;
+            do {
+                line = reader.readLine();
+                if (line == null) {
+                    return null;
+                }
+                lineNumber++;
+            } while (line.isBlank());
+            return line;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    static String[] split(String line) {
+        List<String> fields = new ArrayList<>();
+        StringBuilder current = new StringBuilder();
+        boolean quoted = false;
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (quoted) {
+                if (c == '"' && i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                    current.append('"');
+                    i++;
+                } else if (c == '"') {
+                    quoted = false;
+                } else {
+                    current.append(c);
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == ',') {
+                fields.add(current.toString());
+                current.setLength(0);
+            } else {
+                current.append(c);
+            }
+        }
+        fields.add(current.toString());
+        return fields.toArray(String[]::new);
+    }
+}
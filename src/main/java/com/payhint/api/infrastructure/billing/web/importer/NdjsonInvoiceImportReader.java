@@ -0,0 +1,72 @@
+package com.payhint.api.infrastructure.billing.web.importer;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.payhint.api.application.billing.dto.request.CreateInvoiceRequest;
+import com.payhint.api.application.billing.dto.request.InvoiceImportRow;
+
+/**
+ * Reads one {@link CreateInvoiceRequest} per non-blank line, parsing lazily so that only the current line is held in
+ * memory.
+ */
+public class NdjsonInvoiceImportReader implements Iterator<InvoiceImportRow> {
+
+    private final BufferedReader reader;
+    private final ObjectMapper objectMapper;
+    private long lineNumber;
+    private InvoiceImportRow next;
+
+    public NdjsonInvoiceImportReader(BufferedReader reader, ObjectMapper objectMapper) {
+        this.reader = reader;
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    public boolean hasNext() {
+        if (next == null) {
+            next = readNext();
+        }
+        return next != null;
+    }
+
+    @Override
+    public InvoiceImportRow next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        InvoiceImportRow row = next;
+        next = null;
+        return row;
+    }
+
+    private InvoiceImportRow readNext() {
+        String line;
+        do {
+            line = readLine();
+            if (line == null) {
+                return null;
+            }
+            lineNumber++;
+        } while (line.isBlank());
+
+        try {
+            return InvoiceImportRow.of(lineNumber, objectMapper.readValue(line, CreateInvoiceRequest.class));
+        } catch (JsonProcessingException e) {
+            return InvoiceImportRow.invalid(lineNumber, "Malformed JSON: " + e.getOriginalMessage());
+        }
+    }
+
+    private String readLine() {
+        try {
+            return reader.readLine();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -1,18 +1,29 @@
 package com.payhint.api.infrastructure.crm.persistence.jpa.adapter;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import java.util.stream.Collectors;
 
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import com.payhint.api.domain.crm.event.CustomerUpdatedEvent;
 import com.payhint.api.domain.crm.model.Customer;
 import com.payhint.api.domain.crm.repository.CustomerRepository;
 import com.payhint.api.domain.crm.valueobject.CustomerId;
 import com.payhint.api.domain.crm.valueobject.UserId;
+import com.payhint.api.domain.shared.pagination.CursorPage;
+import com.payhint.api.domain.shared.pagination.CursorPageRequest;
+import com.payhint.api.domain.shared.pagination.PageCursor;
+import com.payhint.api.domain.shared.search.SearchQuery;
 import com.payhint.api.infrastructure.crm.persistence.jpa.entity.CustomerJpaEntity;
 import com.payhint.api.infrastructure.crm.persistence.jpa.mapper.CustomerPersistenceMapper;
 import com.payhint.api.infrastructure.crm.persistence.jpa.repository.CustomerSpringRepository;
+import com.payhint.api.infrastructure.shared.utils.LikePattern;
 
 import io.micrometer.common.lang.NonNull;
 import lombok.RequiredArgsConstructor;
@@ -23,6 +34,7 @@ public class CustomerJpaRepositoryAdapter implements CustomerRepository {
 
     private final CustomerSpringRepository springDataCustomerRepository;
     private final CustomerPersistenceMapper mapper;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Override
     public Customer save(@NonNull Customer customer) {
@@ -42,6 +54,9 @@ public class CustomerJpaRepositoryAdapter implements CustomerRepository {
         }
 
         CustomerJpaEntity savedEntity = springDataCustomerRepository.save(entityToSave);
+        if (existingEntityOpt.isPresent()) {
+            eventPublisher.publishEvent(new CustomerUpdatedEvent(customer.getId()));
+        }
         return mapper.toDomain(savedEntity);
     }
 
@@ -50,6 +65,15 @@ public class CustomerJpaRepositoryAdapter implements CustomerRepository {
         return springDataCustomerRepository.findById(id.value()).map(mapper::toDomain);
     }
 
+    @Override
+    public List<Customer> findAllByIds(Collection<CustomerId> ids) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        return springDataCustomerRepository.findAllById(ids.stream().map(CustomerId::value).toList()).stream()
+                .map(mapper::toDomain).toList();
+    }
+
     @Override
     public List<Customer> findAllByUserId(UserId userId) {
         return springDataCustomerRepository.findAllByUserId(userId.value()).stream().map(mapper::toDomain)
@@ -57,8 +81,29 @@ public class CustomerJpaRepositoryAdapter implements CustomerRepository {
     }
 
     @Override
+    public CursorPage<Customer> findPageByUserId(UserId userId, CursorPageRequest page) {
+        var customers = springDataCustomerRepository.findPageByUserId(userId.value(), page.after().timestamp(),
+                page.after().id(), Limit.of(page.size() + 1));
+        return CursorPage.of(customers, page.size(), customer -> new PageCursor(customer.getCreatedAt(),
+                customer.getId())).map(mapper::toDomain);
+    }
+
+    @Override
+    public List<Customer> searchByCompanyName(@NonNull UserId userId, @NonNull SearchQuery query) {
+        return springDataCustomerRepository.searchByCompanyName(userId.value(), LikePattern.prefix(query.text()),
+                LikePattern.contains(query.text()), Limit.of(query.limit())).stream().map(mapper::toDomain).toList();
+    }
+
+    /**
+     * Deletes the customer with bulk statements and lets the ON DELETE CASCADE foreign keys remove its invoices,
+     * installments and payments. Notification logs have no cascade and are deleted first.
+     */
+    @Override
+    @Transactional
     public void delete(Customer customer) {
-        springDataCustomerRepository.deleteById(customer.getId().value());
+        springDataCustomerRepository.deleteNotificationLogsByCustomerIdAndUserId(customer.getId().value(),
+                customer.getUserId().value());
+        springDataCustomerRepository.deleteByIdAndUserId(customer.getId().value(), customer.getUserId().value());
     }
 
     @Override
@@ -70,4 +115,14 @@ public class CustomerJpaRepositoryAdapter implements CustomerRepository {
     public boolean existsByUserIdAndCompanyName(UserId userId, String companyName) {
         return springDataCustomerRepository.existsByUserIdAndCompanyName(userId.value(), companyName);
     }
+
+    @Override
+    public Set<CustomerId> findIdsOwnedByUser(UserId userId, Collection<CustomerId> ids) {
+        if (ids.isEmpty()) {
+            return Set.of();
+        }
+        return springDataCustomerRepository
+                .findIdsByUserIdAndIdIn(userId.value(), ids.stream().map(CustomerId::value).toList()).stream()
+                .map(CustomerId::new).collect(Collectors.toSet());
+    }
 }
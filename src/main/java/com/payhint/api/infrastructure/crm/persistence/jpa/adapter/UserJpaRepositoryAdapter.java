@@ -1,5 +1,7 @@
 package com.payhint.api.infrastructure.crm.persistence.jpa.adapter;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 import org.springframework.stereotype.Repository;
@@ -33,6 +35,15 @@ public class UserJpaRepositoryAdapter implements UserRepository {
         return springDataUserRepository.findById(id.value()).map(mapper::toDomain);
     }
 
+    @Override
+    public List<User> findAllByIds(Collection<UserId> userIds) {
+        if (userIds.isEmpty()) {
+            return List.of();
+        }
+        return springDataUserRepository.findAllById(userIds.stream().map(UserId::value).toList()).stream()
+                .map(mapper::toDomain).toList();
+    }
+
     @Override
     public Optional<User> findByEmail(Email email) {
         return springDataUserRepository.findByEmail(email.value()).map(mapper::toDomain);
@@ -1,9 +1,14 @@
 package com.payhint.api.infrastructure.crm.persistence.jpa.repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.UUID;
 
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
 import com.payhint.api.infrastructure.crm.persistence.jpa.entity.CustomerJpaEntity;
@@ -13,5 +18,22 @@ public interface CustomerSpringRepository extends JpaRepository<CustomerJpaEntit
 
     List<CustomerJpaEntity> findAllByUserId(UUID userId);
 
+    @Query("SELECT c FROM CustomerJpaEntity c WHERE c.user.id = :userId AND c.createdAt >= :afterCreatedAt AND (c.createdAt > :afterCreatedAt OR c.id > :afterId) ORDER BY c.createdAt, c.id")
+    List<CustomerJpaEntity> findPageByUserId(UUID userId, LocalDateTime afterCreatedAt, UUID afterId, Limit limit);
+
+    @Query("SELECT c FROM CustomerJpaEntity c WHERE c.user.id = :userId AND LOWER(c.companyName) LIKE :contains ESCAPE '!' ORDER BY CASE WHEN LOWER(c.companyName) LIKE :prefix ESCAPE '!' THEN 0 ELSE 1 END, c.companyName, c.id")
+    List<CustomerJpaEntity> searchByCompanyName(UUID userId, String prefix, String contains, Limit limit);
+
     boolean existsByUserIdAndCompanyName(UUID userId, String companyName);
+
+    @Query("SELECT c.id FROM CustomerJpaEntity c WHERE c.user.id = :userId AND c.id IN :ids")
+    List<UUID> findIdsByUserIdAndIdIn(UUID userId, Collection<UUID> ids);
+
+    @Modifying
+    @Query("DELETE FROM NotificationLogJpaEntity log WHERE log.installmentId IN (SELECT inst.id FROM InstallmentJpaEntity inst WHERE inst.invoice.customer.id = :customerId AND inst.invoice.customer.user.id = :userId)")
+    int deleteNotificationLogsByCustomerIdAndUserId(UUID customerId, UUID userId);
+
+    @Modifying(clearAutomatically = true)
+    @Query("DELETE FROM CustomerJpaEntity c WHERE c.id = :customerId AND c.user.id = :userId")
+    int deleteByIdAndUserId(UUID customerId, UUID userId);
 }
@@ -13,9 +13,11 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestController;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.payhint.api.application.billing.dto.response.InvoiceSummaryResponse;
 import com.payhint.api.application.billing.usecase.InvoiceLifecycleUseCase;
 import com.payhint.api.application.crm.dto.request.CreateCustomerRequest;
@@ -24,7 +26,11 @@ import com.payhint.api.application.crm.dto.response.CustomerResponse;
 import com.payhint.api.application.crm.usecase.CustomerManagementUseCase;
 import com.payhint.api.domain.crm.valueobject.CustomerId;
 import com.payhint.api.domain.crm.valueobject.UserId;
+import com.payhint.api.domain.shared.pagination.CursorPageRequest;
+import com.payhint.api.domain.shared.search.SearchQuery;
 import com.payhint.api.infrastructure.shared.security.UserPrincipal;
+import com.payhint.api.infrastructure.shared.web.CursorPageResponse;
+import com.payhint.api.infrastructure.shared.web.SparseFieldset;
 
 import jakarta.validation.Valid;
 
@@ -34,11 +40,13 @@ public class CustomerController {
 
     private final CustomerManagementUseCase customerManagementUseCase;
     private final InvoiceLifecycleUseCase invoiceLifecycleUseCase;
+    private final ObjectMapper objectMapper;
 
     public CustomerController(CustomerManagementUseCase customerManagementUseCase,
-            InvoiceLifecycleUseCase invoiceLifecycleUseCase) {
+            InvoiceLifecycleUseCase invoiceLifecycleUseCase, ObjectMapper objectMapper) {
         this.customerManagementUseCase = customerManagementUseCase;
         this.invoiceLifecycleUseCase = invoiceLifecycleUseCase;
+        this.objectMapper = objectMapper;
     }
 
     @GetMapping("/{id}")
@@ -49,17 +57,32 @@ public class CustomerController {
     }
 
     @GetMapping()
-    public List<CustomerResponse> getAll(@AuthenticationPrincipal UserPrincipal userPrincipal) {
+    public ResponseEntity<List<CustomerResponse>> getAll(@AuthenticationPrincipal UserPrincipal userPrincipal,
+            @RequestParam(name = CursorPageResponse.CURSOR_PARAM, required = false) String cursor,
+            @RequestParam(name = CursorPageResponse.LIMIT_PARAM, required = false) Integer limit) {
         UserId userId = new UserId(userPrincipal.getId());
-        return customerManagementUseCase.listAllCustomers(userId);
+        return CursorPageResponse
+                .of(customerManagementUseCase.listAllCustomers(userId, CursorPageRequest.of(cursor, limit)));
+    }
+
+    @GetMapping("/search")
+    public List<CustomerResponse> search(@AuthenticationPrincipal UserPrincipal userPrincipal, @RequestParam String q,
+            @RequestParam(required = false) Integer limit) {
+        return customerManagementUseCase.searchCustomers(new UserId(userPrincipal.getId()), SearchQuery.of(q, limit));
     }
 
     @GetMapping("/{id}/invoices")
-    public List<InvoiceSummaryResponse> getInvoicesByCustomerId(@AuthenticationPrincipal UserPrincipal userPrincipal,
-            @PathVariable String id) {
+    public ResponseEntity<List<Object>> getInvoicesByCustomerId(@AuthenticationPrincipal UserPrincipal userPrincipal,
+            @PathVariable String id,
+            @RequestParam(name = SparseFieldset.FIELDS_PARAM, required = false) String fields,
+            @RequestParam(name = CursorPageResponse.CURSOR_PARAM, required = false) String cursor,
+            @RequestParam(name = CursorPageResponse.LIMIT_PARAM, required = false) Integer limit) {
         UserId userId = new UserId(userPrincipal.getId());
         CustomerId customerId = new CustomerId(UUID.fromString(id));
-        return invoiceLifecycleUseCase.listInvoicesByCustomer(userId, customerId);
+        SparseFieldset fieldset = SparseFieldset.parse(fields, InvoiceSummaryResponse.class);
+        return CursorPageResponse.of(invoiceLifecycleUseCase
+                .listInvoicesByCustomer(userId, customerId, CursorPageRequest.of(cursor, limit))
+                .map(invoice -> fieldset.apply(invoice, objectMapper)));
     }
 
     @PostMapping()
@@ -0,0 +1,149 @@
+package com.payhint.api.infrastructure.notification.executor;
+
+import java.time.Duration;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.core.task.TaskRejectedException;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Runs every task on its own virtual thread, with at most {@code maxConcurrency} of them running at once and at most
+ * {@code queueCapacity} more waiting for a turn. Once both are taken, {@link #execute} blocks the submitting thread
+ * until a task completes, which slows the publisher down instead of piling up work.
+ * <p>
+ * On shutdown, which happens before the beans the tasks use are destroyed, new tasks are rejected and the accepted
+ * ones are given up to {@code awaitTermination} to complete.
+ */
+@Slf4j
+public class BoundedVirtualThreadExecutor implements TaskExecutor, MeterBinder, SmartLifecycle, DisposableBean {
+
+    private final String name;
+    private final int capacity;
+    private final Semaphore admitted;
+    private final Semaphore running;
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final ThreadFactory threadFactory;
+    private final Duration awaitTermination;
+    private volatile boolean shutdown;
+
+    public BoundedVirtualThreadExecutor(String name, int maxConcurrency, int queueCapacity,
+            Duration awaitTermination) {
+        if (maxConcurrency < 1 || queueCapacity < 0 || awaitTermination.isNegative()) {
+            throw new IllegalArgumentException(
+                    "maxConcurrency must be positive, queueCapacity and awaitTermination not negative");
+        }
+        this.name = name;
+        this.awaitTermination = awaitTermination;
+        this.capacity = maxConcurrency + queueCapacity;
+        this.admitted = new Semaphore(capacity, true);
+        this.running = new Semaphore(maxConcurrency, true);
+        this.threadFactory = Thread.ofVirtual().name(name + "-", 0).factory();
+    }
+
+    @Override
+    public void execute(Runnable task) {
+        rejectIfShutdown();
+        try {
+            admitted.acquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new TaskRejectedException("Interrupted while waiting for a free slot in " + name, e);
+        }
+        if (shutdown) {
+            admitted.release();
+            rejectIfShutdown();
+        }
+        threadFactory.newThread(() -> run(task)).start();
+    }
+
+    private void rejectIfShutdown() {
+        if (shutdown) {
+            throw new TaskRejectedException(name + " executor has been shut down");
+        }
+    }
+
+    private void run(Runnable task) {
+        try {
+            running.acquireUninterruptibly();
+            inFlight.incrementAndGet();
+            try {
+                task.run();
+            } finally {
+                inFlight.decrementAndGet();
+                running.release();
+            }
+        } finally {
+            admitted.release();
+        }
+    }
+
+    public int inFlight() {
+        return inFlight.get();
+    }
+
+    public int queued() {
+        return Math.max(0, capacity - admitted.availablePermits() - inFlight.get());
+    }
+
+    /**
+     * Rejects new tasks and waits for the accepted ones, by taking every slot back as the tasks release them.
+     * Submitters blocked on a full queue are served first by the fair semaphore and get rejected.
+     */
+    public void shutdown() {
+        if (shutdown) {
+            return;
+        }
+        shutdown = true;
+        try {
+            if (admitted.tryAcquire(capacity, awaitTermination.toMillis(), TimeUnit.MILLISECONDS)) {
+                admitted.release(capacity);
+            } else {
+                log.warn("{} executor shut down with {} tasks still running and {} queued after waiting {}", name,
+                        inFlight(), queued(), awaitTermination);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    public boolean isShutdown() {
+        return shutdown;
+    }
+
+    @Override
+    public void start() {
+    }
+
+    @Override
+    public void stop() {
+        shutdown();
+    }
+
+    @Override
+    public boolean isRunning() {
+        return !shutdown;
+    }
+
+    @Override
+    public void destroy() {
+        shutdown();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("executor.queued", this, BoundedVirtualThreadExecutor::queued)
+                .description("Tasks waiting for a free slot").tag("name", name).register(registry);
+        Gauge.builder("executor.in.flight", this, BoundedVirtualThreadExecutor::inFlight)
+                .description("Tasks currently running").tag("name", name).register(registry);
+    }
+}
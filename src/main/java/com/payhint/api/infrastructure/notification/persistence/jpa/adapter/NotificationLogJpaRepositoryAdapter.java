@@ -1,5 +1,10 @@
 package com.payhint.api.infrastructure.notification.persistence.jpa.adapter;
 
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
 import org.springframework.stereotype.Repository;
 
 import com.payhint.api.domain.billing.valueobject.InstallmentId;
@@ -25,8 +30,24 @@ public class NotificationLogJpaRepositoryAdapter implements NotificationLogRepos
         return mapper.toDomain(springRepository.save(entity));
     }
 
+    @Override
+    public void saveAll(List<NotificationLog> logs) {
+        List<NotificationLogJpaEntity> entities = logs.stream().map(mapper::toEntity).toList();
+        entities.forEach(entity -> entity.setNew(true));
+        springRepository.saveAll(entities);
+    }
+
     @Override
     public boolean existsByInstallmentId(InstallmentId installmentId) {
         return springRepository.existsByInstallmentId(installmentId.value());
     }
-}
\ No newline at end of file
+
+    @Override
+    public Set<InstallmentId> findSentInstallmentIds(Collection<InstallmentId> installmentIds) {
+        if (installmentIds.isEmpty()) {
+            return Set.of();
+        }
+        return springRepository.findSentInstallmentIdsIn(installmentIds.stream().map(InstallmentId::value).toList())
+                .stream().map(InstallmentId::new).collect(Collectors.toSet());
+    }
+}
@@ -0,0 +1,54 @@
+package com.payhint.api.infrastructure.notification.persistence.jpa.adapter;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.payhint.api.domain.notification.model.OutboxEntry;
+import com.payhint.api.domain.notification.repository.NotificationOutboxRepository;
+import com.payhint.api.infrastructure.notification.persistence.jpa.entity.NotificationOutboxJpaEntity;
+import com.payhint.api.infrastructure.notification.persistence.jpa.mapper.NotificationOutboxPersistenceMapper;
+import com.payhint.api.infrastructure.notification.persistence.jpa.repository.NotificationOutboxSpringRepository;
+
+import lombok.RequiredArgsConstructor;
+
+@Repository
+@RequiredArgsConstructor
+public class NotificationOutboxJpaRepositoryAdapter implements NotificationOutboxRepository {
+
+    private final NotificationOutboxSpringRepository springRepository;
+    private final NotificationOutboxPersistenceMapper mapper;
+
+    @Override
+    public void enqueueAll(List<OutboxEntry> entries) {
+        springRepository.saveAll(entries.stream().map(mapper::toEntity).toList());
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.MANDATORY)
+    public List<OutboxEntry> claimDue(int maxUsers) {
+        LocalDateTime now = LocalDateTime.now();
+        List<UUID> userIds = springRepository.findFirstDuePerUserForUpdateSkipLocked(now, maxUsers).stream()
+                .map(NotificationOutboxJpaEntity::getUserId).toList();
+        if (userIds.isEmpty()) {
+            return List.of();
+        }
+        return springRepository.findDueByUserIdsForUpdate(userIds, now).stream().map(mapper::toDomain).toList();
+    }
+
+    @Override
+    public void saveAll(List<OutboxEntry> entries) {
+        List<NotificationOutboxJpaEntity> entities = entries.stream().map(mapper::toEntity).toList();
+        entities.forEach(entity -> entity.setNew(false));
+        springRepository.saveAll(entities);
+    }
+
+    @Override
+    public void deleteAll(List<OutboxEntry> entries) {
+        springRepository.deleteAllByIdInBatch(entries.stream().map(OutboxEntry::getId).toList());
+    }
+}
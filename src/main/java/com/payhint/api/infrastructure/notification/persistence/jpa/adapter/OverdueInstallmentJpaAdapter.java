@@ -1,12 +1,19 @@
 package com.payhint.api.infrastructure.notification.persistence.jpa.adapter;
 
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
 
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
 
 import com.payhint.api.application.notification.dto.OverdueInstallmentDto;
 import com.payhint.api.application.notification.repository.OverdueInstallmentRepository;
 import com.payhint.api.infrastructure.billing.persistence.jpa.repository.InvoiceSpringRepository;
+import com.payhint.api.infrastructure.notification.persistence.jpa.entity.ScanCheckpointJpaEntity;
+import com.payhint.api.infrastructure.notification.persistence.jpa.repository.ScanCheckpointSpringRepository;
 
 import lombok.RequiredArgsConstructor;
 
@@ -14,10 +21,33 @@ import lombok.RequiredArgsConstructor;
 @RequiredArgsConstructor
 public class OverdueInstallmentJpaAdapter implements OverdueInstallmentRepository {
 
+    private static final String OVERDUE_SCAN = "overdue-installments";
+
     private final InvoiceSpringRepository invoiceSpringRepository;
+    private final ScanCheckpointSpringRepository scanCheckpointSpringRepository;
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<OverdueInstallmentDto> listOverdueInstallmentsNotNotified(UUID afterInstallmentId, int limit) {
+        return invoiceSpringRepository.findOverdueInstallmentsNotNotified(afterInstallmentId, Limit.of(limit));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Optional<UUID> findScanCheckpoint() {
+        return scanCheckpointSpringRepository.findById(OVERDUE_SCAN).map(ScanCheckpointJpaEntity::getLastId);
+    }
+
+    @Override
+    @Transactional
+    public void saveScanCheckpoint(UUID lastInstallmentId) {
+        scanCheckpointSpringRepository.save(ScanCheckpointJpaEntity.builder().name(OVERDUE_SCAN)
+                .lastId(lastInstallmentId).updatedAt(LocalDateTime.now()).build());
+    }
 
     @Override
-    public List<OverdueInstallmentDto> listOverdueInstallmentsNotNotified() {
-        return invoiceSpringRepository.findOverdueInstallmentsNotNotified();
+    @Transactional
+    public void clearScanCheckpoint() {
+        scanCheckpointSpringRepository.deleteById(OVERDUE_SCAN);
     }
-}
\ No newline at end of file
+}
@@ -8,6 +8,8 @@ import org.springframework.data.domain.Persistable;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.Id;
+import jakarta.persistence.PostLoad;
+import jakarta.persistence.PostPersist;
 import jakarta.persistence.Table;
 import jakarta.persistence.Transient;
 import lombok.AllArgsConstructor;
@@ -51,6 +53,12 @@ public class NotificationLogJpaEntity implements Persistable<UUID> {
     @Builder.Default
     private boolean isNew = true;
 
+    @PostLoad
+    @PostPersist
+    protected void onPostLoad() {
+        this.isNew = false;
+    }
+
     @Override
     public boolean isNew() {
         return isNew;
@@ -0,0 +1,34 @@
+package com.payhint.api.infrastructure.notification.persistence.jpa.entity;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Entity
+@Table(name = "scan_checkpoints")
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ScanCheckpointJpaEntity {
+
+    @Id
+    @Column(nullable = false, updatable = false, length = 100)
+    private String name;
+
+    @Column(name = "last_id", nullable = false)
+    private UUID lastId;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+}
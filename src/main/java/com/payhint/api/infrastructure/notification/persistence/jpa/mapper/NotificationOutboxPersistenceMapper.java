@@ -0,0 +1,16 @@
+package com.payhint.api.infrastructure.notification.persistence.jpa.mapper;
+
+import org.mapstruct.Mapper;
+
+import com.payhint.api.application.billing.mapper.BillingValueObjectMapper;
+import com.payhint.api.application.shared.ValueObjectMapper;
+import com.payhint.api.domain.notification.model.OutboxEntry;
+import com.payhint.api.infrastructure.notification.persistence.jpa.entity.NotificationOutboxJpaEntity;
+
+@Mapper(componentModel = "spring", uses = { ValueObjectMapper.class, BillingValueObjectMapper.class })
+public interface NotificationOutboxPersistenceMapper {
+
+    NotificationOutboxJpaEntity toEntity(OutboxEntry entry);
+
+    OutboxEntry toDomain(NotificationOutboxJpaEntity entity);
+}
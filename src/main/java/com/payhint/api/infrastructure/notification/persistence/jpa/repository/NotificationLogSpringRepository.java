@@ -1,8 +1,12 @@
 package com.payhint.api.infrastructure.notification.persistence.jpa.repository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.UUID;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.lang.NonNull;
 import org.springframework.stereotype.Repository;
 
 import com.payhint.api.infrastructure.notification.persistence.jpa.entity.NotificationLogJpaEntity;
@@ -10,4 +14,7 @@ import com.payhint.api.infrastructure.notification.persistence.jpa.entity.Notifi
 @Repository
 public interface NotificationLogSpringRepository extends JpaRepository<NotificationLogJpaEntity, UUID> {
     boolean existsByInstallmentId(UUID installmentId);
-}
\ No newline at end of file
+
+    @Query("SELECT DISTINCT log.installmentId FROM NotificationLogJpaEntity log WHERE log.installmentId IN :installmentIds AND log.status = 'SENT'")
+    List<UUID> findSentInstallmentIdsIn(@NonNull Collection<UUID> installmentIds);
+}
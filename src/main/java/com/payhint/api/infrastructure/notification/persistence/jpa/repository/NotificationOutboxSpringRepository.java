@@ -0,0 +1,28 @@
+package com.payhint.api.infrastructure.notification.persistence.jpa.repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.lang.NonNull;
+import org.springframework.stereotype.Repository;
+
+import com.payhint.api.infrastructure.notification.persistence.jpa.entity.NotificationOutboxJpaEntity;
+
+@Repository
+public interface NotificationOutboxSpringRepository extends JpaRepository<NotificationOutboxJpaEntity, UUID> {
+
+    /**
+     * Locks the due entry with the lowest id of up to {@code limit} users, skipping the users whose entry is locked by
+     * another worker. Holding that entry claims the user, as every worker tries to lock the same one.
+     */
+    @Query(value = "SELECT o.* FROM notification_outbox o WHERE o.status = 'PENDING' AND o.next_attempt_at <= :now AND NOT EXISTS (SELECT 1 FROM notification_outbox e WHERE e.user_id = o.user_id AND e.status = 'PENDING' AND e.next_attempt_at <= :now AND e.id < o.id) ORDER BY o.user_id LIMIT :limit FOR UPDATE SKIP LOCKED", nativeQuery = true)
+    List<NotificationOutboxJpaEntity> findFirstDuePerUserForUpdateSkipLocked(@NonNull LocalDateTime now, int limit);
+
+    @Query(value = "SELECT * FROM notification_outbox WHERE user_id IN (:userIds) AND status = 'PENDING' AND next_attempt_at <= :now ORDER BY user_id, next_attempt_at FOR UPDATE SKIP LOCKED", nativeQuery = true)
+    List<NotificationOutboxJpaEntity> findDueByUserIdsForUpdate(@NonNull Collection<UUID> userIds,
+            @NonNull LocalDateTime now);
+}
@@ -0,0 +1,10 @@
+package com.payhint.api.infrastructure.notification.persistence.jpa.repository;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import com.payhint.api.infrastructure.notification.persistence.jpa.entity.ScanCheckpointJpaEntity;
+
+@Repository
+public interface ScanCheckpointSpringRepository extends JpaRepository<ScanCheckpointJpaEntity, String> {
+}
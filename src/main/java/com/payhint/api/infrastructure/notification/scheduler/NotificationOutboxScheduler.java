@@ -0,0 +1,59 @@
+package com.payhint.api.infrastructure.notification.scheduler;
+
+import java.util.concurrent.Semaphore;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.payhint.api.application.billing.usecase.DeliverOverdueNotificationsUseCase;
+import com.payhint.api.infrastructure.shared.configuration.NotificationExecutorConfiguration;
+
+import lombok.extern.slf4j.Slf4j;
+
+@Component
+@Slf4j
+public class NotificationOutboxScheduler {
+
+    private final DeliverOverdueNotificationsUseCase useCase;
+    private final TaskExecutor executor;
+    private final int workers;
+    private final Semaphore idleWorkers;
+
+    public NotificationOutboxScheduler(DeliverOverdueNotificationsUseCase useCase,
+            @Qualifier(NotificationExecutorConfiguration.EXECUTOR_NAME) TaskExecutor executor,
+            @Value("${application.notification.outbox.workers:2}") int workers) {
+        this.useCase = useCase;
+        this.executor = executor;
+        this.workers = workers;
+        this.idleWorkers = new Semaphore(workers);
+    }
+
+    /**
+     * Starts the idle workers on the notification executor without waiting for them. Workers still draining the
+     * outbox from a previous call are left alone, as they pick up the entries that became due in the meantime.
+     */
+    @Scheduled(initialDelayString = "${application.notification.outbox.poll-interval:PT30S}", fixedDelayString = "${application.notification.outbox.poll-interval:PT30S}")
+    public void drainOutbox() {
+        for (int i = 0; i < workers && idleWorkers.tryAcquire(); i++) {
+            try {
+                executor.execute(this::deliver);
+            } catch (RuntimeException e) {
+                idleWorkers.release();
+                throw e;
+            }
+        }
+    }
+
+    private void deliver() {
+        try {
+            useCase.deliverDueNotifications();
+        } catch (RuntimeException e) {
+            log.error("Failed to drain the notification outbox", e);
+        } finally {
+            idleWorkers.release();
+        }
+    }
+}
@@ -12,10 +12,12 @@ import lombok.RequiredArgsConstructor;
 public class OverdueInstallmentScheduler {
 
     private final NotifyOverdueInstallmentsUseCase useCase;
+    private final NotificationOutboxScheduler outboxScheduler;
 
     // Run every day at 9 AM Paris time
     @Scheduled(cron = "0 0 9 * * *", zone = "Europe/Paris")
     public void checkOverdueInstallments() {
         useCase.detectAndPublishOverdueEvents();
+        outboxScheduler.drainOutbox();
     }
-}
\ No newline at end of file
+}
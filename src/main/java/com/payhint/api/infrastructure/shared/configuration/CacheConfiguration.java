@@ -0,0 +1,33 @@
+package com.payhint.api.infrastructure.shared.configuration;
+
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.cache.transaction.TransactionAwareCacheManagerProxy;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.payhint.api.application.billing.service.CashFlowForecastService;
+import com.payhint.api.application.billing.service.DashboardService;
+
+@Configuration
+@EnableCaching
+public class CacheConfiguration {
+
+    /**
+     * Caches are bounded in size and entries expire after a while. Evictions made inside a transaction are deferred
+     * until it commits, which narrows the window in which a concurrent read caches the state from before the write
+     * but does not close it: a read that started before the commit can still put its stale value after the eviction.
+     * The expiry bounds how long such a value is served.
+     */
+    @Bean
+    public CacheManager cacheManager(CacheProperties properties) {
+        CaffeineCacheManager cacheManager = new CaffeineCacheManager(DashboardService.CACHE_NAME,
+                CashFlowForecastService.CACHE_NAME);
+        cacheManager.setCaffeine(Caffeine.newBuilder().maximumSize(properties.getMaximumSize())
+                .expireAfterWrite(properties.getExpireAfterWrite()));
+        cacheManager.setAllowNullValues(false);
+        return new TransactionAwareCacheManagerProxy(cacheManager);
+    }
+}
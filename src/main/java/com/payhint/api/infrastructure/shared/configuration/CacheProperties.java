@@ -0,0 +1,24 @@
+package com.payhint.api.infrastructure.shared.configuration;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import lombok.Data;
+
+@Data
+@Configuration
+@ConfigurationProperties(prefix = "application.cache")
+public class CacheProperties {
+
+    /**
+     * Entries kept per cache, one per user, before the least recently used ones are evicted.
+     */
+    private long maximumSize = 10_000;
+
+    /**
+     * Lifetime of an entry, bounding how long a value cached from a stale read can be served.
+     */
+    private Duration expireAfterWrite = Duration.ofMinutes(10);
+}
@@ -0,0 +1,20 @@
+package com.payhint.api.infrastructure.shared.configuration;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import lombok.Data;
+
+@Data
+@Configuration
+@ConfigurationProperties(prefix = "application.idempotency")
+public class IdempotencyProperties {
+
+    private boolean enabled = true;
+    private Duration ttl = Duration.ofHours(24);
+    private int cacheSize = 10_000;
+    private Duration inProgressWait = Duration.ofSeconds(10);
+    private Duration leaseMargin = Duration.ofSeconds(20);
+}
@@ -0,0 +1,15 @@
+package com.payhint.api.infrastructure.shared.configuration;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class JpaConfiguration {
+
+    @Bean
+    public HibernatePropertiesCustomizer persistableEntityInterceptorCustomizer() {
+        return properties -> properties.put(AvailableSettings.INTERCEPTOR, new PersistableEntityInterceptor());
+    }
+}
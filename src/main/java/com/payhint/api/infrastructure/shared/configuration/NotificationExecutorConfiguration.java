@@ -0,0 +1,22 @@
+package com.payhint.api.infrastructure.shared.configuration;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.payhint.api.infrastructure.notification.executor.BoundedVirtualThreadExecutor;
+
+/**
+ * Declaring this executor makes Spring Boot back off from its default {@code applicationTaskExecutor}, which the other
+ * {@code @Async} methods rely on, unless {@code spring.task.execution.mode} is set to {@code force}.
+ */
+@Configuration
+public class NotificationExecutorConfiguration {
+
+    public static final String EXECUTOR_NAME = "notificationExecutor";
+
+    @Bean(name = EXECUTOR_NAME)
+    public BoundedVirtualThreadExecutor notificationExecutor(NotificationExecutorProperties properties) {
+        return new BoundedVirtualThreadExecutor("notification", properties.getMaxConcurrency(),
+                properties.getQueueCapacity(), properties.getAwaitTermination());
+    }
+}
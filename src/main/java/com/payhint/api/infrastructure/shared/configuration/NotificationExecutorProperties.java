@@ -0,0 +1,29 @@
+package com.payhint.api.infrastructure.shared.configuration;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import lombok.Data;
+
+@Data
+@Configuration
+@ConfigurationProperties(prefix = "application.notification.executor")
+public class NotificationExecutorProperties {
+
+    /**
+     * Notifications handled at the same time, each holding a database connection and an SMTP session.
+     */
+    private int maxConcurrency = 10;
+
+    /**
+     * Notifications waiting for a free slot before publishers are blocked.
+     */
+    private int queueCapacity = 100;
+
+    /**
+     * Time given on shutdown to the accepted notifications to complete before the database connections are closed.
+     */
+    private Duration awaitTermination = Duration.ofSeconds(30);
+}
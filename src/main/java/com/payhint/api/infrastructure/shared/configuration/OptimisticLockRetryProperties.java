@@ -0,0 +1,18 @@
+package com.payhint.api.infrastructure.shared.configuration;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import lombok.Data;
+
+@Data
+@Configuration
+@ConfigurationProperties(prefix = "application.optimistic-lock-retry")
+public class OptimisticLockRetryProperties {
+
+    private int maxAttempts = 10;
+    private Duration initialBackoff = Duration.ofMillis(20);
+    private Duration maxBackoff = Duration.ofMillis(500);
+}
@@ -0,0 +1,20 @@
+package com.payhint.api.infrastructure.shared.configuration;
+
+import org.hibernate.Interceptor;
+import org.springframework.data.domain.Persistable;
+
+/**
+ * Lets Hibernate rely on {@link Persistable#isNew()} to tell new entities from existing ones. Our entities use
+ * assigned UUIDs, so without it Hibernate may have to select a row to find out whether a cascaded child has to be
+ * inserted, which also breaks insert batching.
+ */
+public class PersistableEntityInterceptor implements Interceptor {
+
+    @Override
+    public Boolean isTransient(Object entity) {
+        if (entity instanceof Persistable<?> persistable) {
+            return persistable.isNew();
+        }
+        return null;
+    }
+}
@@ -15,9 +15,11 @@ import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
 
+import com.payhint.api.infrastructure.shared.idempotency.IdempotencyFilter;
 import com.payhint.api.infrastructure.shared.security.JwtAuthenticationFilter;
 import com.payhint.api.infrastructure.shared.security.RateLimitingFilter;
 
+import jakarta.servlet.DispatcherType;
 import lombok.RequiredArgsConstructor;
 
 @Configuration
@@ -28,18 +30,23 @@ public class SecurityConfiguration {
 
         private final JwtAuthenticationFilter jwtAuthFilter;
         private final RateLimitingFilter rateLimitingFilter;
+        private final IdempotencyFilter idempotencyFilter;
         private final UserDetailsService userDetailsService;
 
         @Bean
         public SecurityFilterChain securityFilterChain(HttpSecurity http) throws Exception {
                 http.csrf(AbstractHttpConfigurer::disable)
-                                .authorizeHttpRequests(auth -> auth.requestMatchers("/api/auth/**").permitAll()
+                                .authorizeHttpRequests(auth -> auth
+                                                // Resumes a streamed response that was authorized on the original request
+                                                .dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll()
+                                                .requestMatchers("/api/auth/**").permitAll()
                                                 .requestMatchers("/api/**").authenticated().anyRequest()
                                                 .authenticated())
                                 .sessionManagement(session -> session
                                                 .sessionCreationPolicy(SessionCreationPolicy.STATELESS))
                                 .addFilterBefore(rateLimitingFilter, UsernamePasswordAuthenticationFilter.class)
-                                .addFilterAfter(jwtAuthFilter, RateLimitingFilter.class);
+                                .addFilterAfter(jwtAuthFilter, RateLimitingFilter.class)
+                                .addFilterAfter(idempotencyFilter, JwtAuthenticationFilter.class);
 
                 return http.build();
         }
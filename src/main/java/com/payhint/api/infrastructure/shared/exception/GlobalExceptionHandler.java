@@ -11,9 +11,11 @@ import org.springframework.http.ProblemDetail;
 import org.springframework.http.converter.HttpMessageNotReadableException;
 import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.security.authentication.BadCredentialsException;
+import org.springframework.web.HttpMediaTypeNotSupportedException;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.method.annotation.MethodArgumentTypeMismatchException;
 
 import com.payhint.api.application.shared.exception.AlreadyExistsException;
 import com.payhint.api.application.shared.exception.NotFoundException;
@@ -106,6 +108,30 @@ public class GlobalExceptionHandler {
                 return problemDetail;
         }
 
+        @ExceptionHandler(HttpMediaTypeNotSupportedException.class)
+        public ProblemDetail handleHttpMediaTypeNotSupported(HttpMediaTypeNotSupportedException ex,
+                        HttpServletRequest request) {
+                logger.warn("Unsupported media type: {}", ex.getMessage());
+                ProblemDetail problemDetail = ProblemDetail.forStatusAndDetail(HttpStatus.UNSUPPORTED_MEDIA_TYPE,
+                                "Unsupported media type");
+                problemDetail.setTitle("Invalid Request");
+                problemDetail.setInstance(URI.create(request.getRequestURI()));
+                problemDetail.setProperty("timestamp", Instant.now());
+                return problemDetail;
+        }
+
+        @ExceptionHandler(MethodArgumentTypeMismatchException.class)
+        public ProblemDetail handleArgumentTypeMismatch(MethodArgumentTypeMismatchException ex,
+                        HttpServletRequest request) {
+                logger.warn("Invalid value for parameter {}: {}", ex.getName(), ex.getValue());
+                ProblemDetail problemDetail = ProblemDetail.forStatusAndDetail(HttpStatus.BAD_REQUEST,
+                                "Invalid value for parameter '" + ex.getName() + "'");
+                problemDetail.setTitle("Invalid Input");
+                problemDetail.setInstance(URI.create(request.getRequestURI()));
+                problemDetail.setProperty("timestamp", Instant.now());
+                return problemDetail;
+        }
+
         @ExceptionHandler(IllegalArgumentException.class)
         public ProblemDetail handleIllegalArgument(IllegalArgumentException ex, HttpServletRequest request) {
                 logger.warn("Invalid argument: {}", ex.getMessage());
@@ -0,0 +1,294 @@
+package com.payhint.api.infrastructure.shared.idempotency;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.net.URI;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Instant;
+import java.util.HexFormat;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ProblemDetail;
+import org.springframework.lang.NonNull;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.payhint.api.infrastructure.shared.configuration.IdempotencyProperties;
+import com.payhint.api.infrastructure.shared.security.UserPrincipal;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ReadListener;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletInputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletRequestWrapper;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Makes the billing POST endpoints safe to retry when the client sends an {@code Idempotency-Key} header. The first
+ * request with a key is executed and its response stored; later requests with the same key and body get the stored
+ * response back without reaching the controllers. Duplicates arriving while the first one is still running wait for
+ * its outcome instead of executing again. Server errors, conflicts and rate limiting are not stored, as a retry with
+ * the same key may succeed.
+ */
+@Component
+@RequiredArgsConstructor
+public class IdempotencyFilter extends OncePerRequestFilter {
+
+    public static final String IDEMPOTENCY_KEY_HEADER = "Idempotency-Key";
+    public static final String REPLAYED_HEADER = "Idempotent-Replayed";
+
+    private static final Logger logger = LoggerFactory.getLogger(IdempotencyFilter.class);
+
+    private static final int MAX_KEY_LENGTH = 255;
+    private static final String BILLING_PATH = "/api/invoices";
+    private static final String STREAMING_IMPORT_PATH = "/api/invoices/import";
+
+    private final IdempotencyStore idempotencyStore;
+    private final IdempotencyProperties idempotencyProperties;
+    private final ObjectMapper objectMapper;
+    private final Map<String, CompletableFuture<IdempotentResponse>> inFlight = new ConcurrentHashMap<>();
+
+    @Override
+    protected boolean shouldNotFilter(@NonNull HttpServletRequest request) {
+        String requestUri = request.getRequestURI();
+        return !idempotencyProperties.isEnabled() || !HttpMethod.POST.matches(request.getMethod())
+                || request.getHeader(IDEMPOTENCY_KEY_HEADER) == null || !requestUri.startsWith(BILLING_PATH)
+                || requestUri.equals(STREAMING_IMPORT_PATH);
+    }
+
+    @Override
+    protected void doFilterInternal(@NonNull HttpServletRequest request, @NonNull HttpServletResponse response,
+            @NonNull FilterChain filterChain) throws ServletException, IOException {
+
+        UUID userId = currentUserId();
+        if (userId == null) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        String key = request.getHeader(IDEMPOTENCY_KEY_HEADER).trim();
+        if (key.isEmpty() || key.length() > MAX_KEY_LENGTH) {
+            writeProblem(request, response, HttpStatus.BAD_REQUEST, "Invalid Request",
+                    "Idempotency-Key must be between 1 and " + MAX_KEY_LENGTH + " characters");
+            return;
+        }
+
+        CachedBodyRequest cachedRequest = new CachedBodyRequest(request);
+        String fingerprint = fingerprint(cachedRequest);
+        String scope = userId + ":" + key;
+        long deadline = System.nanoTime() + idempotencyProperties.getInProgressWait().toNanos();
+
+        while (true) {
+            Optional<IdempotentResponse> stored = idempotencyStore.find(userId, key);
+            if (stored.isPresent()) {
+                replay(request, response, stored.get(), fingerprint);
+                return;
+            }
+
+            CompletableFuture<IdempotentResponse> execution = new CompletableFuture<>();
+            CompletableFuture<IdempotentResponse> running = inFlight.putIfAbsent(scope, execution);
+            if (running == null) {
+                execute(cachedRequest, response, filterChain, userId, key, fingerprint, scope, execution);
+                return;
+            }
+
+            IdempotentResponse result = await(running, deadline);
+            if (result != null) {
+                replay(request, response, result, fingerprint);
+                return;
+            }
+            if (System.nanoTime() >= deadline) {
+                writeInProgress(request, response);
+                return;
+            }
+            // The running request failed without storing a response, so this one may execute instead
+        }
+    }
+
+    private void execute(CachedBodyRequest request, HttpServletResponse response, FilterChain filterChain,
+            UUID userId, String key, String fingerprint, String scope,
+            CompletableFuture<IdempotentResponse> execution) throws ServletException, IOException {
+        IdempotentResponse result = null;
+        try {
+            Optional<UUID> claimId = idempotencyStore.claim(userId, key, fingerprint);
+            if (claimId.isEmpty()) {
+                Optional<IdempotentResponse> stored = idempotencyStore.find(userId, key);
+                if (stored.isPresent()) {
+                    replay(request, response, stored.get(), fingerprint);
+                } else {
+                    writeInProgress(request, response);
+                }
+                return;
+            }
+
+            ContentCachingResponseWrapper cachingResponse = new ContentCachingResponseWrapper(response);
+            try {
+                filterChain.doFilter(request, cachingResponse);
+            } catch (ServletException | IOException | RuntimeException e) {
+                release(userId, claimId.get());
+                throw e;
+            }
+
+            if (isStored(cachingResponse.getStatus())) {
+                result = idempotencyStore.complete(userId, key, claimId.get(), fingerprint,
+                        cachingResponse.getStatus(), cachingResponse.getContentType(),
+                        new String(cachingResponse.getContentAsByteArray(), StandardCharsets.UTF_8));
+            } else {
+                release(userId, claimId.get());
+            }
+            cachingResponse.copyBodyToResponse();
+        } finally {
+            inFlight.remove(scope, execution);
+            execution.complete(result);
+        }
+    }
+
+    private static boolean isStored(int status) {
+        return status < HttpStatus.INTERNAL_SERVER_ERROR.value() && status != HttpStatus.CONFLICT.value()
+                && status != HttpStatus.TOO_MANY_REQUESTS.value();
+    }
+
+    private IdempotentResponse await(CompletableFuture<IdempotentResponse> running, long deadline) {
+        try {
+            return running.get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return null;
+        } catch (ExecutionException | TimeoutException e) {
+            return null;
+        }
+    }
+
+    private void release(UUID userId, UUID claimId) {
+        try {
+            idempotencyStore.release(claimId);
+        } catch (RuntimeException e) {
+            logger.warn("Idempotency key could not be released for user ID " + userId + ": " + e.getMessage());
+        }
+    }
+
+    private void replay(HttpServletRequest request, HttpServletResponse response, IdempotentResponse stored,
+            String fingerprint) throws IOException {
+        if (!stored.requestFingerprint().equals(fingerprint)) {
+            writeProblem(request, response, HttpStatus.UNPROCESSABLE_ENTITY, "Idempotency Key Reused",
+                    "Idempotency-Key has already been used with a different request");
+            return;
+        }
+        response.setStatus(stored.status());
+        response.setHeader(REPLAYED_HEADER, "true");
+        if (stored.contentType() != null) {
+            response.setContentType(stored.contentType());
+        }
+        if (stored.body() != null) {
+            response.getOutputStream().write(stored.body().getBytes(StandardCharsets.UTF_8));
+        }
+    }
+
+    private void writeInProgress(HttpServletRequest request, HttpServletResponse response) throws IOException {
+        writeProblem(request, response, HttpStatus.CONFLICT, "Conflict",
+                "A request with this Idempotency-Key is still being processed");
+    }
+
+    private void writeProblem(HttpServletRequest request, HttpServletResponse response, HttpStatus status,
+            String title, String detail) throws IOException {
+        ProblemDetail problemDetail = ProblemDetail.forStatusAndDetail(status, detail);
+        problemDetail.setTitle(title);
+        problemDetail.setInstance(URI.create(request.getRequestURI()));
+        problemDetail.setProperty("timestamp", Instant.now());
+
+        response.setStatus(status.value());
+        response.setContentType(MediaType.APPLICATION_PROBLEM_JSON_VALUE);
+        response.getWriter().write(objectMapper.writeValueAsString(problemDetail));
+    }
+
+    private UUID currentUserId() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null && authentication.getPrincipal() instanceof UserPrincipal principal) {
+            return principal.getId();
+        }
+        return null;
+    }
+
+    private String fingerprint(CachedBodyRequest request) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            digest.update((request.getMethod() + " " + request.getRequestURI() + "\n")
+                    .getBytes(StandardCharsets.UTF_8));
+            digest.update(request.body);
+            return HexFormat.of().formatHex(digest.digest());
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static class CachedBodyRequest extends HttpServletRequestWrapper {
+
+        private final byte[] body;
+
+        CachedBodyRequest(HttpServletRequest request) throws IOException {
+            super(request);
+            this.body = request.getInputStream().readAllBytes();
+        }
+
+        @Override
+        public ServletInputStream getInputStream() {
+            ByteArrayInputStream input = new ByteArrayInputStream(body);
+            return new ServletInputStream() {
+                @Override
+                public boolean isFinished() {
+                    return input.available() == 0;
+                }
+
+                @Override
+                public boolean isReady() {
+                    return true;
+                }
+
+                @Override
+                public void setReadListener(ReadListener readListener) {
+                    throw new UnsupportedOperationException();
+                }
+
+                @Override
+                public int read() {
+                    return input.read();
+                }
+
+                @Override
+                public int read(byte[] buffer, int offset, int length) {
+                    return input.read(buffer, offset, length);
+                }
+            };
+        }
+
+        @Override
+        public BufferedReader getReader() {
+            String encoding = getCharacterEncoding();
+            return new BufferedReader(new InputStreamReader(getInputStream(),
+                    encoding != null ? Charset.forName(encoding) : StandardCharsets.UTF_8));
+        }
+    }
+}
@@ -0,0 +1,132 @@
+package com.payhint.api.infrastructure.shared.idempotency;
+
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.payhint.api.infrastructure.shared.configuration.IdempotencyProperties;
+import com.payhint.api.infrastructure.shared.persistence.jpa.entity.IdempotencyRecordJpaEntity;
+import com.payhint.api.infrastructure.shared.persistence.jpa.repository.IdempotencyRecordSpringRepository;
+
+/**
+ * Completed responses are kept in a bounded in-memory LRU cache in front of the {@code idempotency_keys} table, so
+ * that replays on the instance that served the original request do not hit the database at all.
+ */
+@Component
+public class IdempotencyStore {
+
+    private static final Logger logger = LoggerFactory.getLogger(IdempotencyStore.class);
+
+    private final IdempotencyRecordSpringRepository repository;
+    private final IdempotencyProperties properties;
+    private final TransactionTemplate transactionTemplate;
+    private final Map<String, IdempotentResponse> cache;
+
+    public IdempotencyStore(IdempotencyRecordSpringRepository repository, IdempotencyProperties properties,
+            TransactionTemplate transactionTemplate) {
+        this.repository = repository;
+        this.properties = properties;
+        this.transactionTemplate = transactionTemplate;
+        this.cache = Collections.synchronizedMap(new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, IdempotentResponse> eldest) {
+                return size() > properties.getCacheSize();
+            }
+        });
+    }
+
+    public Optional<IdempotentResponse> find(UUID userId, String key) {
+        String scope = scope(userId, key);
+        LocalDateTime now = LocalDateTime.now();
+        IdempotentResponse cached = cache.get(scope);
+        if (cached != null) {
+            if (!cached.isExpired(now)) {
+                return Optional.of(cached);
+            }
+            cache.remove(scope);
+        }
+        Optional<IdempotentResponse> stored = repository.findByUserIdAndIdempotencyKey(userId, key)
+                .filter(entity -> entity.getResponseStatus() != null && entity.getExpiresAt().isAfter(now))
+                .map(entity -> new IdempotentResponse(entity.getRequestFingerprint(), entity.getResponseStatus(),
+                        entity.getResponseContentType(), entity.getResponseBody(), entity.getExpiresAt()));
+        stored.ifPresent(response -> cache.put(scope, response));
+        return stored;
+    }
+
+    /**
+     * Reserves the key for the caller. The unique constraint on {@code (user_id, idempotency_key)} makes this the
+     * point where duplicates sent to different instances collapse. The reservation is leased for the in-progress wait
+     * plus a margin: a pending key whose lease ran out belongs to a request that died without completing or releasing
+     * it, and is taken over by the next claim.
+     *
+     * @return the identifier of the reservation, empty if the key is already reserved or completed by another request
+     */
+    public Optional<UUID> claim(UUID userId, String key, String requestFingerprint) {
+        LocalDateTime now = LocalDateTime.now();
+        IdempotencyRecordJpaEntity entity = IdempotencyRecordJpaEntity.builder().id(UUID.randomUUID())
+                .userId(userId).idempotencyKey(key).requestFingerprint(requestFingerprint).createdAt(now)
+                .expiresAt(now.plus(properties.getTtl()))
+                .lockedUntil(now.plus(properties.getInProgressWait()).plus(properties.getLeaseMargin())).build();
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                if (repository.deleteExpiredOrAbandoned(userId, key, now) > 0) {
+                    logger.info("Took over expired idempotency key for user ID " + userId);
+                }
+                repository.saveAndFlush(entity);
+            });
+            return Optional.of(entity.getId());
+        } catch (DataIntegrityViolationException e) {
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Stores the response of the reservation. The response is not kept when the lease ran out and another request
+     * took the key over in the meantime.
+     */
+    @Transactional
+    public IdempotentResponse complete(UUID userId, String key, UUID claimId, String requestFingerprint, int status,
+            String contentType, String body) {
+        IdempotentResponse response = new IdempotentResponse(requestFingerprint, status, contentType, body,
+                LocalDateTime.now().plus(properties.getTtl()));
+        if (repository.complete(claimId, status, contentType, body) > 0) {
+            cache.put(scope(userId, key), response);
+        } else {
+            logger.warn("Idempotency key lease was lost before completion for user ID " + userId);
+        }
+        return response;
+    }
+
+    @Transactional
+    public void release(UUID claimId) {
+        repository.deletePending(claimId);
+    }
+
+    @Scheduled(cron = "0 0 * * * *")
+    @Transactional
+    public void purgeExpired() {
+        int purged = repository.deleteAllExpired(LocalDateTime.now());
+        if (purged > 0) {
+            logger.info("Purged " + purged + " expired idempotency keys");
+        }
+    }
+
+    public void clearCache() {
+        cache.clear();
+    }
+
+    private String scope(UUID userId, String key) {
+        return userId + ":" + key;
+    }
+}
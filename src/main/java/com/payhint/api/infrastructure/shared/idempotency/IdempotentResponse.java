@@ -0,0 +1,11 @@
+package com.payhint.api.infrastructure.shared.idempotency;
+
+import java.time.LocalDateTime;
+
+public record IdempotentResponse(String requestFingerprint, int status, String contentType, String body,
+        LocalDateTime expiresAt) {
+
+    public boolean isExpired(LocalDateTime now) {
+        return !expiresAt.isAfter(now);
+    }
+}
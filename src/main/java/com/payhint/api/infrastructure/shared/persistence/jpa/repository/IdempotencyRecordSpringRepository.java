@@ -0,0 +1,36 @@
+package com.payhint.api.infrastructure.shared.persistence.jpa.repository;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.UUID;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.lang.NonNull;
+import org.springframework.stereotype.Repository;
+
+import com.payhint.api.infrastructure.shared.persistence.jpa.entity.IdempotencyRecordJpaEntity;
+
+@Repository
+public interface IdempotencyRecordSpringRepository extends JpaRepository<IdempotencyRecordJpaEntity, UUID> {
+
+    Optional<IdempotencyRecordJpaEntity> findByUserIdAndIdempotencyKey(@NonNull UUID userId,
+            @NonNull String idempotencyKey);
+
+    @Modifying
+    @Query("UPDATE IdempotencyRecordJpaEntity r SET r.responseStatus = :status, r.responseContentType = :contentType, r.responseBody = :body, r.lockedUntil = NULL WHERE r.id = :id AND r.responseStatus IS NULL")
+    int complete(@NonNull UUID id, int status, String contentType, String body);
+
+    @Modifying
+    @Query("DELETE FROM IdempotencyRecordJpaEntity r WHERE r.id = :id AND r.responseStatus IS NULL")
+    int deletePending(@NonNull UUID id);
+
+    @Modifying
+    @Query("DELETE FROM IdempotencyRecordJpaEntity r WHERE r.userId = :userId AND r.idempotencyKey = :idempotencyKey AND (r.expiresAt < :now OR (r.responseStatus IS NULL AND r.lockedUntil < :now))")
+    int deleteExpiredOrAbandoned(@NonNull UUID userId, @NonNull String idempotencyKey, @NonNull LocalDateTime now);
+
+    @Modifying
+    @Query("DELETE FROM IdempotencyRecordJpaEntity r WHERE r.expiresAt < :now")
+    int deleteAllExpired(@NonNull LocalDateTime now);
+}
@@ -0,0 +1,82 @@
+package com.payhint.api.infrastructure.shared.retry;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.payhint.api.infrastructure.shared.configuration.OptimisticLockRetryProperties;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Retries use cases annotated with {@link com.payhint.api.application.shared.retry.RetryOnOptimisticLock} after an
+ * optimistic locking failure, waiting a random delay bounded by an exponentially growing backoff between attempts.
+ * Ordered before the transaction interceptor so that every attempt reloads the aggregate in a fresh transaction.
+ */
+@Aspect
+@Component
+@Order(Ordered.LOWEST_PRECEDENCE - 1)
+@RequiredArgsConstructor
+public class OptimisticLockRetryAspect {
+
+    public static final String CONFLICTS_METRIC = "payhint.optimistic_lock.conflicts";
+    public static final String RETRIES_METRIC = "payhint.optimistic_lock.retries";
+    public static final String EXHAUSTED_METRIC = "payhint.optimistic_lock.exhausted";
+
+    private static final Logger logger = LoggerFactory.getLogger(OptimisticLockRetryAspect.class);
+
+    private final OptimisticLockRetryProperties properties;
+    private final MeterRegistry meterRegistry;
+
+    @Around("execution(public * *(..)) && (@within(com.payhint.api.application.shared.retry.RetryOnOptimisticLock) "
+            + "|| @annotation(com.payhint.api.application.shared.retry.RetryOnOptimisticLock))")
+    public Object retry(ProceedingJoinPoint joinPoint) throws Throwable {
+        if (TransactionSynchronizationManager.isActualTransactionActive()) {
+            return joinPoint.proceed();
+        }
+
+        String operation = joinPoint.getSignature().getDeclaringType().getSimpleName() + "."
+                + joinPoint.getSignature().getName();
+        for (int attempt = 1;; attempt++) {
+            try {
+                return joinPoint.proceed();
+            } catch (OptimisticLockingFailureException e) {
+                counter(CONFLICTS_METRIC, operation).increment();
+                if (attempt >= properties.getMaxAttempts()) {
+                    counter(EXHAUSTED_METRIC, operation).increment();
+                    logger.warn("Giving up " + operation + " after " + attempt + " optimistic locking failures");
+                    throw e;
+                }
+                counter(RETRIES_METRIC, operation).increment();
+                logger.debug("Optimistic locking failure in " + operation + ", retrying (attempt " + attempt + ")");
+                backOff(attempt, e);
+            }
+        }
+    }
+
+    private void backOff(int attempt, OptimisticLockingFailureException cause) {
+        long ceiling = Math.min(properties.getMaxBackoff().toMillis(),
+                properties.getInitialBackoff().toMillis() << Math.min(attempt - 1, 20));
+        try {
+            Thread.sleep(ThreadLocalRandom.current().nextLong(ceiling + 1));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw cause;
+        }
+    }
+
+    private Counter counter(String name, String operation) {
+        return meterRegistry.counter(name, "operation", operation);
+    }
+}
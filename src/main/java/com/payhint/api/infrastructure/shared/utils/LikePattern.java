@@ -0,0 +1,25 @@
+package com.payhint.api.infrastructure.shared.utils;
+
+import java.util.Locale;
+
+/**
+ * Builds lower-case LIKE patterns from user input, escaping the wildcards with {@code !}. Queries using them compare
+ * {@code LOWER(column)} and declare {@code ESCAPE '!'}.
+ */
+public final class LikePattern {
+
+    private LikePattern() {
+    }
+
+    public static String prefix(String text) {
+        return escape(text) + "%";
+    }
+
+    public static String contains(String text) {
+        return "%" + escape(text) + "%";
+    }
+
+    private static String escape(String text) {
+        return text.toLowerCase(Locale.ROOT).replace("!", "!!").replace("%", "!%").replace("_", "!_");
+    }
+}
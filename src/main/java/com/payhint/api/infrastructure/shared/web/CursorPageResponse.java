@@ -0,0 +1,32 @@
+package com.payhint.api.infrastructure.shared.web;
+
+import java.util.List;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
+
+import com.payhint.api.domain.shared.pagination.CursorPage;
+
+/**
+ * Keyset listings keep returning a plain JSON array; the next page is advertised in a {@code Link: <...>; rel="next"}
+ * header that repeats the current query with the {@code cursor} parameter replaced.
+ */
+public final class CursorPageResponse {
+
+    public static final String CURSOR_PARAM = "cursor";
+    public static final String LIMIT_PARAM = "limit";
+
+    private CursorPageResponse() {
+    }
+
+    public static <T> ResponseEntity<List<T>> of(CursorPage<T> page) {
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok();
+        if (page.hasNext()) {
+            String next = ServletUriComponentsBuilder.fromCurrentRequest()
+                    .replaceQueryParam(CURSOR_PARAM, page.nextCursor().encode()).build().toUriString();
+            response.header(HttpHeaders.LINK, "<" + next + ">; rel=\"next\"");
+        }
+        return response.body(page.items());
+    }
+}
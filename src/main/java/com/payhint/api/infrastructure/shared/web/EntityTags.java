@@ -0,0 +1,33 @@
+package com.payhint.api.infrastructure.shared.web;
+
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.stream.Collectors;
+
+/**
+ * Builds ETag values that can be computed from a few columns, so that {@code WebRequest.checkNotModified} can answer a
+ * conditional GET before the resource is loaded.
+ */
+public final class EntityTags {
+
+    private EntityTags() {
+    }
+
+    /**
+     * Validator of a representation that is fully determined by the given parts, such as an id and a version.
+     */
+    public static String strong(Object... parts) {
+        return "\"" + join(parts) + "\"";
+    }
+
+    /**
+     * Validator of a representation that only changes meaningfully with the given parts, such as a listing.
+     */
+    public static String weak(Object... parts) {
+        return "W/" + strong(parts);
+    }
+
+    private static String join(Object[] parts) {
+        return Arrays.stream(parts).map(Objects::toString).collect(Collectors.joining("-"));
+    }
+}
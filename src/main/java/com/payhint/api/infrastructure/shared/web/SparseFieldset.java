@@ -0,0 +1,66 @@
+package com.payhint.api.infrastructure.shared.web;
+
+import java.lang.reflect.RecordComponent;
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.payhint.api.domain.shared.exception.InvalidPropertyException;
+
+/**
+ * Top-level properties of a response record selected with the {@code fields} query parameter, e.g.
+ * {@code fields=id,status,totalAmount}. Without the parameter every property is returned as is.
+ */
+public final class SparseFieldset {
+
+    public static final String FIELDS_PARAM = "fields";
+
+    private static final SparseFieldset ALL = new SparseFieldset(null);
+
+    private final Set<String> fields;
+
+    private SparseFieldset(Set<String> fields) {
+        this.fields = fields;
+    }
+
+    public static SparseFieldset parse(String value, Class<? extends Record> type) {
+        if (value == null || value.isBlank()) {
+            return ALL;
+        }
+        Set<String> properties = Arrays.stream(type.getRecordComponents()).map(RecordComponent::getName)
+                .collect(Collectors.toSet());
+        Set<String> fields = new LinkedHashSet<>();
+        for (String field : value.split(",")) {
+            String name = field.trim();
+            if (!properties.contains(name)) {
+                throw new InvalidPropertyException("Unsupported field: " + name);
+            }
+            fields.add(name);
+        }
+        return new SparseFieldset(fields);
+    }
+
+    public boolean isAll() {
+        return fields == null;
+    }
+
+    public boolean includes(String field) {
+        return fields == null || fields.contains(field);
+    }
+
+    /**
+     * Returns the value itself when every property is selected, otherwise a JSON object holding only the selected
+     * ones.
+     */
+    public Object apply(Object value, ObjectMapper objectMapper) {
+        if (fields == null) {
+            return value;
+        }
+        ObjectNode node = objectMapper.valueToTree(value);
+        node.retain(fields);
+        return node;
+    }
+}
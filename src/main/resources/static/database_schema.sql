@@ -6,8 +6,10 @@
 
 -- Enable the pgcrypto extension for UUID generation if not already enabled
 CREATE EXTENSION IF NOT EXISTS "pgcrypto";
+-- Enable the pg_trgm extension for substring search on references and names
+CREATE EXTENSION IF NOT EXISTS "pg_trgm";
 
-DROP TABLE IF EXISTS notification_logs, payments, installments, invoices, templates, customers, user_settings, users CASCADE;
+DROP TABLE IF EXISTS scan_checkpoints, invoice_summary, notification_outbox, notification_logs, idempotency_keys, payments, installments, invoices, templates, customers, user_settings, users CASCADE;
 
 
 CREATE TABLE users (
@@ -60,9 +62,28 @@ CREATE TABLE invoices (
     created_at TIMESTAMPTZ NOT NULL DEFAULT NOW(),
     updated_at TIMESTAMPTZ NOT NULL DEFAULT NOW(),
     last_status_change_at TIMESTAMPTZ NOT NULL DEFAULT NOW(),
+    next_unpaid_due_date DATE,
     CONSTRAINT uq_customer_invoice_reference UNIQUE (customer_id, invoice_reference)
 );
 
+-- Read model of invoice listings, refreshed from invoices and customers in each writing transaction
+CREATE TABLE invoice_summary (
+    invoice_id UUID PRIMARY KEY REFERENCES invoices(id) ON DELETE CASCADE,
+    user_id UUID NOT NULL,
+    customer_id UUID NOT NULL,
+    customer_name VARCHAR(100) NOT NULL,
+    invoice_reference VARCHAR(255) NOT NULL,
+    total_amount NUMERIC(12, 2) NOT NULL,
+    total_paid NUMERIC(12, 2) NOT NULL,
+    currency VARCHAR(10) NOT NULL,
+    status VARCHAR(20) NOT NULL,
+    next_due_date DATE,
+    is_archived BOOLEAN NOT NULL,
+    created_at TIMESTAMPTZ NOT NULL,
+    updated_at TIMESTAMPTZ NOT NULL,
+    last_status_change_at TIMESTAMPTZ NOT NULL
+);
+
 CREATE TABLE installments (
     id UUID PRIMARY KEY DEFAULT gen_random_uuid(),
     invoice_id UUID NOT NULL REFERENCES invoices(id) ON DELETE CASCADE,
@@ -95,12 +116,55 @@ CREATE TABLE notification_logs (
     status VARCHAR(20) NOT NULL
 );
 
+CREATE TABLE idempotency_keys (
+    id UUID PRIMARY KEY DEFAULT gen_random_uuid(),
+    user_id UUID NOT NULL REFERENCES users(id) ON DELETE CASCADE,
+    idempotency_key VARCHAR(255) NOT NULL,
+    request_fingerprint VARCHAR(64) NOT NULL,
+    response_status INTEGER,
+    response_content_type VARCHAR(255),
+    response_body TEXT,
+    created_at TIMESTAMPTZ NOT NULL DEFAULT NOW(),
+    expires_at TIMESTAMPTZ NOT NULL,
+    locked_until TIMESTAMPTZ,
+    CONSTRAINT uq_idempotency_keys_user_key UNIQUE (user_id, idempotency_key)
+);
+
+CREATE TABLE notification_outbox (
+    id UUID PRIMARY KEY DEFAULT gen_random_uuid(),
+    installment_id UUID NOT NULL UNIQUE REFERENCES installments(id) ON DELETE CASCADE,
+    invoice_id UUID NOT NULL,
+    user_id UUID NOT NULL,
+    status VARCHAR(20) NOT NULL,
+    attempts INTEGER NOT NULL DEFAULT 0,
+    next_attempt_at TIMESTAMPTZ NOT NULL DEFAULT NOW(),
+    last_error TEXT,
+    created_at TIMESTAMPTZ NOT NULL DEFAULT NOW()
+);
+
+CREATE TABLE scan_checkpoints (
+    name VARCHAR(100) PRIMARY KEY,
+    last_id UUID NOT NULL,
+    updated_at TIMESTAMPTZ NOT NULL DEFAULT NOW()
+);
+
 
 CREATE INDEX idx_payments_on_installment_id ON payments(installment_id);
 CREATE INDEX IF NOT EXISTS idx_notification_logs_on_installment_id ON notification_logs(installment_id);
+CREATE INDEX IF NOT EXISTS idx_notification_outbox_on_status_next_attempt_at ON notification_outbox(status, next_attempt_at);
+CREATE INDEX IF NOT EXISTS idx_notification_outbox_on_user_id_id_pending ON notification_outbox(user_id, id) WHERE status = 'PENDING';
 CREATE INDEX IF NOT EXISTS idx_installments_on_status_due_date ON installments(status, due_date);
-CREATE INDEX IF NOT EXISTS idx_invoices_on_is_archived_status ON invoices(is_archived, status);
 CREATE INDEX IF NOT EXISTS idx_payments_on_payment_date ON payments(payment_date);
-CREATE INDEX IF NOT EXISTS idx_customers_on_user_id ON customers(user_id);
-CREATE INDEX IF NOT EXISTS idx_invoices_on_customer_id ON invoices(customer_id);
+CREATE INDEX IF NOT EXISTS idx_customers_on_user_id_created_at_id ON customers(user_id, created_at, id);
+CREATE INDEX IF NOT EXISTS idx_invoices_on_customer_id_created_at_id ON invoices(customer_id, created_at, id);
+CREATE INDEX IF NOT EXISTS idx_invoice_summary_on_user_id_created_at_id ON invoice_summary(user_id, created_at, invoice_id);
+CREATE INDEX IF NOT EXISTS idx_invoice_summary_on_user_id_updated_at_id ON invoice_summary(user_id, updated_at, invoice_id);
+CREATE INDEX IF NOT EXISTS idx_invoice_summary_on_user_id_archived_status_created_at ON invoice_summary(user_id, is_archived, status, created_at, invoice_id);
+CREATE INDEX IF NOT EXISTS idx_invoice_summary_on_user_id_next_due_date ON invoice_summary(user_id, next_due_date);
+CREATE INDEX IF NOT EXISTS idx_invoice_summary_on_customer_id_created_at_id ON invoice_summary(customer_id, created_at, invoice_id);
 CREATE INDEX IF NOT EXISTS idx_installments_on_invoice_id ON installments(invoice_id);
+CREATE INDEX IF NOT EXISTS idx_invoice_summary_on_reference_trgm ON invoice_summary USING gin (lower(invoice_reference) gin_trgm_ops);
+CREATE INDEX IF NOT EXISTS idx_invoice_summary_on_customer_name_trgm ON invoice_summary USING gin (lower(customer_name) gin_trgm_ops);
+CREATE INDEX IF NOT EXISTS idx_customers_on_company_name_trgm ON customers USING gin (lower(company_name) gin_trgm_ops);
+CREATE INDEX IF NOT EXISTS idx_invoices_on_next_unpaid_due_date ON invoices(next_unpaid_due_date);
+CREATE INDEX IF NOT EXISTS idx_idempotency_keys_on_expires_at ON idempotency_keys(expires_at);
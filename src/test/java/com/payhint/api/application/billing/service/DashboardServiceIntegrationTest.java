@@ -0,0 +1,167 @@
+package com.payhint.api.application.billing.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import com.payhint.api.application.billing.dto.request.CreateInstallmentRequest;
+import com.payhint.api.application.billing.dto.request.CreateInvoiceRequest;
+import com.payhint.api.application.billing.dto.request.CreatePaymentRequest;
+import com.payhint.api.application.billing.dto.response.CurrencyBreakdownResponse;
+import com.payhint.api.application.billing.dto.response.DashboardResponse;
+import com.payhint.api.application.billing.dto.response.InvoiceResponse;
+import com.payhint.api.domain.billing.model.Invoice;
+import com.payhint.api.domain.billing.repository.InvoiceRepository;
+import com.payhint.api.domain.billing.valueobject.InstallmentId;
+import com.payhint.api.domain.billing.valueobject.InvoiceId;
+import com.payhint.api.domain.billing.valueobject.InvoiceReference;
+import com.payhint.api.domain.crm.model.Customer;
+import com.payhint.api.domain.crm.model.User;
+import com.payhint.api.domain.crm.repository.CustomerRepository;
+import com.payhint.api.domain.crm.repository.UserRepository;
+import com.payhint.api.domain.crm.valueobject.CustomerId;
+import com.payhint.api.domain.crm.valueobject.UserId;
+import com.payhint.api.domain.shared.valueobject.Email;
+import com.payhint.api.infrastructure.billing.persistence.jpa.repository.InvoiceSpringRepository;
+import com.payhint.api.infrastructure.crm.persistence.jpa.repository.CustomerSpringRepository;
+import com.payhint.api.infrastructure.crm.persistence.jpa.repository.UserSpringRepository;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@DisplayName("DashboardService Integration Tests")
+class DashboardServiceIntegrationTest {
+
+        @Autowired
+        private DashboardService dashboardService;
+
+        @Autowired
+        private InvoiceLifecycleService invoiceService;
+
+        @Autowired
+        private PaymentProcessingService paymentService;
+
+        @Autowired
+        private UserRepository userRepository;
+
+        @Autowired
+        private CustomerRepository customerRepository;
+
+        @Autowired
+        private InvoiceRepository invoiceRepository;
+
+        @Autowired
+        private UserSpringRepository userSpringRepository;
+
+        @Autowired
+        private CustomerSpringRepository customerSpringRepository;
+
+        @Autowired
+        private InvoiceSpringRepository invoiceSpringRepository;
+
+        private User testUser;
+        private Customer testCustomer;
+        private Customer otherCustomer;
+
+        @BeforeEach
+        void setUp() {
+                invoiceSpringRepository.deleteAll();
+                customerSpringRepository.deleteAll();
+                userSpringRepository.deleteAll();
+
+                testUser = userRepository.register(User.create(new UserId(UUID.randomUUID()),
+                                new Email("dashboard.test@example.com"), "Password123!", "Dashboard", "Tester"));
+                User otherUser = userRepository.register(User.create(new UserId(UUID.randomUUID()),
+                                new Email("other.dashboard@example.com"), "Password123!", "Other", "User"));
+
+                testCustomer = customerRepository.save(Customer.create(new CustomerId(UUID.randomUUID()),
+                                testUser.getId(), "Dashboard Inc", new Email("contact@dashboard.com")));
+                otherCustomer = customerRepository.save(Customer.create(new CustomerId(UUID.randomUUID()),
+                                otherUser.getId(), "Other Inc", new Email("contact@otherinc.com")));
+        }
+
+        @AfterEach
+        void tearDown() {
+                invoiceSpringRepository.deleteAll();
+                customerSpringRepository.deleteAll();
+                userSpringRepository.deleteAll();
+        }
+
+        @Test
+        @DisplayName("Should aggregate outstanding, overdue and paid amounts per currency")
+        void shouldAggregateReceivablesPerCurrency() {
+                InvoiceResponse partiallyPaid = createInvoice(testUser.getId(), testCustomer.getId(), "INV-EUR-1",
+                                "EUR", installment("100.00", -5), installment("200.00", 30));
+                paymentService.recordPayment(testUser.getId(), new InvoiceId(UUID.fromString(partiallyPaid.id())),
+                                new InstallmentId(UUID.fromString(partiallyPaid.installments().get(0).id())),
+                                new CreatePaymentRequest(new BigDecimal("30.00"), LocalDate.now().toString()));
+                InvoiceResponse archived = createInvoice(testUser.getId(), testCustomer.getId(), "INV-EUR-2", "EUR",
+                                installment("50.00", -1));
+                invoiceService.archiveInvoice(testUser.getId(), new InvoiceId(UUID.fromString(archived.id())));
+                createInvoice(testUser.getId(), testCustomer.getId(), "INV-USD-1", "USD", installment("80.00", 5));
+                createInvoice(otherCustomer.getUserId(), otherCustomer.getId(), "INV-OTHER", "EUR",
+                                installment("999.00", -5));
+
+                DashboardResponse dashboard = dashboardService.viewDashboard(testUser.getId());
+
+                assertThat(dashboard.asOf()).isEqualTo(LocalDate.now().toString());
+                assertThat(dashboard.currencies()).extracting(CurrencyBreakdownResponse::currency)
+                                .containsExactly("EUR", "USD");
+                CurrencyBreakdownResponse eur = dashboard.currencies().get(0);
+                assertThat(eur.totalOutstanding()).isEqualByComparingTo("270.00");
+                assertThat(eur.overdueAmount()).isEqualByComparingTo("70.00");
+                assertThat(eur.paidThisMonth()).isEqualByComparingTo("30.00");
+                assertThat(eur.invoiceCount()).isEqualTo(1);
+                assertThat(eur.overdueInvoiceCount()).isEqualTo(1);
+                assertThat(eur.invoicesByStatus()).isEqualTo(Map.of("PARTIALLY_PAID", 1L));
+                CurrencyBreakdownResponse usd = dashboard.currencies().get(1);
+                assertThat(usd.totalOutstanding()).isEqualByComparingTo("80.00");
+                assertThat(usd.overdueAmount()).isEqualByComparingTo("0");
+                assertThat(usd.paidThisMonth()).isEqualByComparingTo("0");
+                assertThat(usd.overdueInvoiceCount()).isZero();
+                assertThat(usd.invoicesByStatus()).isEqualTo(Map.of("PENDING", 1L));
+        }
+
+        @Test
+        @DisplayName("Should serve the cached dashboard until a billing mutation of the user")
+        void shouldServeCachedDashboardUntilBillingMutation() {
+                createInvoice(testUser.getId(), testCustomer.getId(), "INV-CACHE-1", "EUR", installment("100.00", 10));
+                DashboardResponse first = dashboardService.viewDashboard(testUser.getId());
+
+                // Writes that bypass the services are not seen until the entry is evicted
+                invoiceRepository.save(Invoice.create(new InvoiceId(UUID.randomUUID()), testCustomer.getId(),
+                                new InvoiceReference("INV-CACHE-2"), "EUR"));
+                assertThat(dashboardService.viewDashboard(testUser.getId())).isSameAs(first);
+
+                createInvoice(otherCustomer.getUserId(), otherCustomer.getId(), "INV-CACHE-OTHER", "EUR",
+                                installment("10.00", 10));
+                assertThat(dashboardService.viewDashboard(testUser.getId())).isSameAs(first);
+
+                createInvoice(testUser.getId(), testCustomer.getId(), "INV-CACHE-3", "EUR", installment("50.00", 10));
+                DashboardResponse refreshed = dashboardService.viewDashboard(testUser.getId());
+                assertThat(refreshed).isNotSameAs(first);
+                assertThat(refreshed.currencies().get(0).invoiceCount()).isEqualTo(3);
+                assertThat(refreshed.currencies().get(0).totalOutstanding()).isEqualByComparingTo("150.00");
+        }
+
+        private InvoiceResponse createInvoice(UserId userId, CustomerId customerId, String reference, String currency,
+                        CreateInstallmentRequest... installments) {
+                return invoiceService.createInvoice(userId,
+                                new CreateInvoiceRequest(customerId.value(), reference, currency, List.of(installments)));
+        }
+
+        private CreateInstallmentRequest installment(String amount, int dueInDays) {
+                return new CreateInstallmentRequest(new BigDecimal(amount), LocalDate.now().plusDays(dueInDays).toString());
+        }
+}
@@ -7,6 +7,11 @@ import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.util.List;
 import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
@@ -40,6 +45,9 @@ import com.payhint.api.domain.shared.valueobject.Email;
 import com.payhint.api.infrastructure.billing.persistence.jpa.repository.InvoiceSpringRepository;
 import com.payhint.api.infrastructure.crm.persistence.jpa.repository.CustomerSpringRepository;
 import com.payhint.api.infrastructure.crm.persistence.jpa.repository.UserSpringRepository;
+import com.payhint.api.infrastructure.shared.retry.OptimisticLockRetryAspect;
+
+import io.micrometer.core.instrument.MeterRegistry;
 
 @SpringBootTest
 @ActiveProfiles("test")
@@ -69,6 +77,9 @@ class InstallmentSchedulingServiceIntegrationTest {
         @Autowired
         private InvoiceSpringRepository invoiceSpringRepository;
 
+        @Autowired
+        private MeterRegistry meterRegistry;
+
         private User testUser;
         private User otherUser;
         private Customer testCustomer;
@@ -374,6 +385,60 @@ class InstallmentSchedulingServiceIntegrationTest {
                 }
         }
 
+        @Nested
+        @DisplayName("Concurrency Tests")
+        class ConcurrencyTests {
+
+                @Test
+                @DisplayName("Should retry installments added concurrently to the same invoice until all are saved")
+                void shouldRetryConcurrentInstallmentAdditions() throws Exception {
+                        Invoice invoice = createTestInvoice(testCustomer.getId(), "INV-CONC-RETRY");
+                        double conflictsBefore = countMetric(OptimisticLockRetryAspect.CONFLICTS_METRIC);
+
+                        // Every failed attempt of a thread is caused by another thread's installment being committed,
+                        // so with one installment per thread nobody can fail more often than there are other threads
+                        int threads = 10;
+                        ExecutorService executor = Executors.newFixedThreadPool(threads);
+                        CountDownLatch startLatch = new CountDownLatch(1);
+                        CountDownLatch doneLatch = new CountDownLatch(threads);
+                        AtomicInteger failCount = new AtomicInteger(0);
+
+                        for (int i = 0; i < threads; i++) {
+                                String dueDate = LocalDate.now().plusDays(10 + i).toString();
+                                executor.submit(() -> {
+                                        try {
+                                                startLatch.await();
+                                                installmentService.addInstallment(testUser.getId(), invoice.getId(),
+                                                                new CreateInstallmentRequest(new BigDecimal("10.00"),
+                                                                                dueDate));
+                                        } catch (Exception e) {
+                                                failCount.incrementAndGet();
+                                        } finally {
+                                                doneLatch.countDown();
+                                        }
+                                });
+                        }
+
+                        startLatch.countDown();
+                        boolean finished = doneLatch.await(30, TimeUnit.SECONDS);
+                        executor.shutdown();
+
+                        assertThat(finished).isTrue();
+                        assertThat(failCount.get()).isZero();
+                        assertThat(countMetric(OptimisticLockRetryAspect.CONFLICTS_METRIC)).isGreaterThan(conflictsBefore);
+                        assertThat(countMetric(OptimisticLockRetryAspect.EXHAUSTED_METRIC)).isZero();
+
+                        var reloaded = invoiceLifecycleService.viewInvoice(testUser.getId(), invoice.getId());
+                        assertThat(reloaded.installments()).hasSize(threads);
+                        assertThat(reloaded.totalAmount()).isEqualByComparingTo("100.00");
+                }
+
+                private double countMetric(String name) {
+                        return meterRegistry.find(name).counters().stream().mapToDouble(counter -> counter.count())
+                                        .sum();
+                }
+        }
+
         private Invoice createTestInvoice(CustomerId customerId, String invoiceReference) {
                 Customer customer = customerRepository.findById(customerId).orElseThrow();
                 Invoice invoice = Invoice.create(new InvoiceId(UUID.randomUUID()), customer.getId(),
@@ -0,0 +1,143 @@
+package com.payhint.api.application.billing.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+
+import com.payhint.api.application.billing.dto.request.CreateInvoiceRequest;
+import com.payhint.api.application.billing.dto.request.InvoiceImportRow;
+import com.payhint.api.application.billing.dto.response.InvoiceImportResult;
+import com.payhint.api.domain.billing.repository.InvoiceRepository;
+import com.payhint.api.domain.crm.model.Customer;
+import com.payhint.api.domain.crm.model.User;
+import com.payhint.api.domain.crm.repository.CustomerRepository;
+import com.payhint.api.domain.crm.repository.UserRepository;
+import com.payhint.api.domain.crm.valueobject.CustomerId;
+import com.payhint.api.domain.crm.valueobject.UserId;
+import com.payhint.api.domain.shared.valueobject.Email;
+import com.payhint.api.infrastructure.billing.persistence.jpa.repository.InvoiceSpringRepository;
+import com.payhint.api.infrastructure.crm.persistence.jpa.repository.CustomerSpringRepository;
+import com.payhint.api.infrastructure.crm.persistence.jpa.repository.UserSpringRepository;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@TestPropertySource(properties = "application.billing.import.chunk-size=2")
+@DisplayName("InvoiceImportService Integration Tests")
+class InvoiceImportServiceIntegrationTest {
+
+        @Autowired
+        private InvoiceImportService invoiceImportService;
+
+        @Autowired
+        private UserRepository userRepository;
+        @Autowired
+        private CustomerRepository customerRepository;
+        @Autowired
+        private InvoiceRepository invoiceRepository;
+
+        @Autowired
+        private UserSpringRepository userSpringRepository;
+        @Autowired
+        private CustomerSpringRepository customerSpringRepository;
+        @Autowired
+        private InvoiceSpringRepository invoiceSpringRepository;
+
+        private User testUser;
+        private Customer testCustomer;
+        private Customer otherUsersCustomer;
+
+        @BeforeEach
+        void setUp() {
+                invoiceSpringRepository.deleteAll();
+                customerSpringRepository.deleteAll();
+                userSpringRepository.deleteAll();
+
+                testUser = userRepository.register(User.create(new UserId(UUID.randomUUID()),
+                                new Email("import.test@example.com"), "Password123!", "Import", "Tester"));
+                User otherUser = userRepository.register(User.create(new UserId(UUID.randomUUID()),
+                                new Email("other.import@example.com"), "Password123!", "Other", "User"));
+
+                testCustomer = customerRepository.save(Customer.create(new CustomerId(UUID.randomUUID()),
+                                testUser.getId(), "Import Customer Inc", new Email("billing@import.com")));
+                otherUsersCustomer = customerRepository.save(Customer.create(new CustomerId(UUID.randomUUID()),
+                                otherUser.getId(), "Other Customer LLC", new Email("billing@other.com")));
+        }
+
+        @AfterEach
+        void tearDown() {
+                invoiceSpringRepository.deleteAll();
+                customerSpringRepository.deleteAll();
+                userSpringRepository.deleteAll();
+        }
+
+        private InvoiceImportRow row(long line, CustomerId customerId, String reference) {
+                return InvoiceImportRow.of(line, new CreateInvoiceRequest(customerId.value(), reference, "EUR", null));
+        }
+
+        @Test
+        @DisplayName("Should report each chunk before reading the next one")
+        void shouldReportChunkBeforeReadingNextOne() {
+                AtomicInteger rowsRead = new AtomicInteger();
+                List<Integer> rowsReadWhenReported = new ArrayList<>();
+                List<Integer> reportedChunkSizes = new ArrayList<>();
+                Iterator<InvoiceImportRow> rows = new Iterator<>() {
+                        @Override
+                        public boolean hasNext() {
+                                return rowsRead.get() < 5;
+                        }
+
+                        @Override
+                        public InvoiceImportRow next() {
+                                int line = rowsRead.incrementAndGet();
+                                return row(line, testCustomer.getId(), "INV-STREAM-" + line);
+                        }
+                };
+
+                invoiceImportService.importInvoices(testUser.getId(), rows, results -> {
+                        rowsReadWhenReported.add(rowsRead.get());
+                        reportedChunkSizes.add(results.size());
+                });
+
+                assertThat(rowsReadWhenReported).containsExactly(2, 4, 5);
+                assertThat(reportedChunkSizes).containsExactly(2, 2, 1);
+                assertThat(invoiceRepository.findAllByCustomerId(testCustomer.getId())).hasSize(5);
+        }
+
+        @Test
+        @DisplayName("Should reject duplicates within and across chunks and customers of other users")
+        void shouldRejectDuplicatesAndForeignCustomers() {
+                List<InvoiceImportResult> results = new ArrayList<>();
+
+                invoiceImportService.importInvoices(testUser.getId(),
+                                List.of(row(1, testCustomer.getId(), "INV-DUP"),
+                                                row(2, testCustomer.getId(), "INV-DUP"),
+                                                row(3, otherUsersCustomer.getId(), "INV-FOREIGN"),
+                                                row(4, testCustomer.getId(), "INV-DUP"),
+                                                InvoiceImportRow.invalid(5, "Malformed JSON"))
+                                                .iterator(),
+                                results::addAll);
+
+                assertThat(results).extracting(InvoiceImportResult::status).containsExactly(
+                                InvoiceImportResult.CREATED, InvoiceImportResult.FAILED, InvoiceImportResult.FAILED,
+                                InvoiceImportResult.FAILED, InvoiceImportResult.FAILED);
+                assertThat(results.get(1).error()).contains("already exists");
+                assertThat(results.get(2).error()).contains("not found");
+                assertThat(results.get(3).error()).contains("already exists");
+                assertThat(results.get(4).error()).isEqualTo("Malformed JSON");
+                assertThat(invoiceRepository.findAllByCustomerId(testCustomer.getId())).hasSize(1);
+                assertThat(invoiceRepository.findAllByCustomerId(otherUsersCustomer.getId())).isEmpty();
+        }
+}
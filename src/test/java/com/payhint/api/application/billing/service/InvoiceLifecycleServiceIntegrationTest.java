@@ -5,7 +5,9 @@ import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Set;
 import java.util.UUID;
 
 import org.junit.jupiter.api.AfterEach;
@@ -20,6 +22,8 @@ import org.springframework.test.context.ActiveProfiles;
 import com.payhint.api.application.billing.dto.request.CreateInstallmentRequest;
 import com.payhint.api.application.billing.dto.request.CreateInvoiceRequest;
 import com.payhint.api.application.billing.dto.request.CreatePaymentRequest;
+import com.payhint.api.application.billing.dto.request.InvoiceFilter;
+import com.payhint.api.application.billing.dto.request.InvoiceSort;
 import com.payhint.api.application.billing.dto.request.UpdateInvoiceRequest;
 import com.payhint.api.application.billing.dto.response.InvoiceResponse;
 import com.payhint.api.application.billing.dto.response.InvoiceSummaryResponse;
@@ -27,10 +31,12 @@ import com.payhint.api.application.shared.exception.AlreadyExistsException;
 import com.payhint.api.application.shared.exception.NotFoundException;
 import com.payhint.api.application.shared.exception.PermissionDeniedException;
 import com.payhint.api.domain.billing.model.Invoice;
+import com.payhint.api.domain.billing.model.PaymentStatus;
 import com.payhint.api.domain.billing.repository.InvoiceRepository;
 import com.payhint.api.domain.billing.valueobject.InstallmentId;
 import com.payhint.api.domain.billing.valueobject.InvoiceId;
 import com.payhint.api.domain.billing.valueobject.InvoiceReference;
+import com.payhint.api.domain.billing.valueobject.Money;
 import com.payhint.api.domain.crm.model.Customer;
 import com.payhint.api.domain.crm.model.User;
 import com.payhint.api.domain.crm.repository.CustomerRepository;
@@ -38,6 +44,9 @@ import com.payhint.api.domain.crm.repository.UserRepository;
 import com.payhint.api.domain.crm.valueobject.CustomerId;
 import com.payhint.api.domain.crm.valueobject.UserId;
 import com.payhint.api.domain.shared.exception.InvalidPropertyException;
+import com.payhint.api.domain.shared.pagination.CursorPage;
+import com.payhint.api.domain.shared.pagination.CursorPageRequest;
+import com.payhint.api.domain.shared.pagination.PageCursor;
 import com.payhint.api.domain.shared.valueobject.Email;
 import com.payhint.api.infrastructure.billing.persistence.jpa.repository.InvoiceSpringRepository;
 import com.payhint.api.infrastructure.crm.persistence.jpa.repository.CustomerSpringRepository;
@@ -240,7 +249,8 @@ class InvoiceLifecycleServiceIntegrationTest {
                         createTestInvoice(customer2.getId(), "INV-USER-2");
                         createTestInvoice(otherCustomer.getId(), "INV-OTHER-USER");
 
-                        List<InvoiceSummaryResponse> invoices = invoiceService.listInvoicesByUser(testUser.getId());
+                        List<InvoiceSummaryResponse> invoices = invoiceService
+                                        .listInvoicesByUser(testUser.getId(), CursorPageRequest.first()).items();
 
                         assertThat(invoices).hasSize(2);
                         assertThat(invoices).extracting("invoiceReference").containsExactlyInAnyOrder("INV-USER-1",
@@ -250,7 +260,8 @@ class InvoiceLifecycleServiceIntegrationTest {
                 @Test
                 @DisplayName("Should return empty list when user has no invoices")
                 void shouldReturnEmptyListForUserWithNoInvoices() {
-                        List<InvoiceSummaryResponse> invoices = invoiceService.listInvoicesByUser(testUser.getId());
+                        List<InvoiceSummaryResponse> invoices = invoiceService
+                                        .listInvoicesByUser(testUser.getId(), CursorPageRequest.first()).items();
                         assertThat(invoices).isEmpty();
                 }
 
@@ -260,8 +271,10 @@ class InvoiceLifecycleServiceIntegrationTest {
                         createTestInvoice(testCustomer.getId(), "INV-CUST-1");
                         createTestInvoice(testCustomer.getId(), "INV-CUST-2");
 
-                        List<InvoiceSummaryResponse> invoices = invoiceService.listInvoicesByCustomer(testUser.getId(),
-                                        testCustomer.getId());
+                        List<InvoiceSummaryResponse> invoices = invoiceService
+                                        .listInvoicesByCustomer(testUser.getId(), testCustomer.getId(),
+                                                        CursorPageRequest.first())
+                                        .items();
 
                         assertThat(invoices).hasSize(2);
                         assertThat(invoices).extracting("invoiceReference").containsExactlyInAnyOrder("INV-CUST-1",
@@ -272,7 +285,115 @@ class InvoiceLifecycleServiceIntegrationTest {
                 @DisplayName("Should throw PermissionDeniedException when listing invoices for other user's customer")
                 void shouldThrowPermissionDeniedListingOtherCustomer() {
                         assertThatThrownBy(() -> invoiceService.listInvoicesByCustomer(testUser.getId(),
-                                        otherCustomer.getId())).isInstanceOf(PermissionDeniedException.class);
+                                        otherCustomer.getId(), CursorPageRequest.first()))
+                                        .isInstanceOf(PermissionDeniedException.class);
+                }
+
+                @Test
+                @DisplayName("Should walk invoices page by page without gaps or duplicates")
+                void shouldWalkInvoicesPageByPage() {
+                        for (int i = 1; i <= 5; i++) {
+                                createTestInvoice(testCustomer.getId(), "INV-PAGE-" + i);
+                        }
+                        List<String> allAtOnce = invoiceService
+                                        .listInvoicesByUser(testUser.getId(), CursorPageRequest.first()).items()
+                                        .stream().map(InvoiceSummaryResponse::id).toList();
+
+                        List<String> walked = new ArrayList<>();
+                        List<Integer> pageSizes = new ArrayList<>();
+                        CursorPageRequest page = new CursorPageRequest(PageCursor.START, 2);
+                        while (true) {
+                                CursorPage<InvoiceSummaryResponse> result = invoiceService
+                                                .listInvoicesByUser(testUser.getId(), page);
+                                result.items().forEach(invoice -> walked.add(invoice.id()));
+                                pageSizes.add(result.items().size());
+                                if (!result.hasNext()) {
+                                        break;
+                                }
+                                page = new CursorPageRequest(result.nextCursor(), 2);
+                        }
+
+                        assertThat(pageSizes).containsExactly(2, 2, 1);
+                        assertThat(walked).hasSize(5).doesNotHaveDuplicates().containsExactlyElementsOf(allAtOnce);
+                }
+
+                @Test
+                @DisplayName("Should cap the page size and reject malformed cursors")
+                void shouldCapPageSizeAndRejectMalformedCursor() {
+                        assertThat(CursorPageRequest.of(null, 10_000).size()).isEqualTo(CursorPageRequest.MAX_SIZE);
+                        assertThatThrownBy(() -> CursorPageRequest.of("not-a-cursor", null))
+                                        .isInstanceOf(InvalidPropertyException.class);
+                }
+
+                @Test
+                @DisplayName("Should only return the user's invoices matching every filter that is set")
+                void shouldSearchInvoicesWithFilters() {
+                        Customer customer2 = customerRepository.save(Customer.create(new CustomerId(UUID.randomUUID()),
+                                        testUser.getId(), "Another Corp", new Email("billing@another.com")));
+
+                        Invoice overdue = createTestInvoice(testCustomer.getId(), "INV-OVERDUE");
+                        overdue.addInstallment(new Money(new BigDecimal("100.00")), LocalDate.now().minusDays(3));
+                        invoiceRepository.save(overdue);
+                        Invoice partiallyPaid = createTestInvoice(testCustomer.getId(), "INV-PARTIAL");
+                        partiallyPaid.addInstallment(new Money(new BigDecimal("100.00")), LocalDate.now().plusDays(3));
+                        partiallyPaid.addPayment(partiallyPaid.getInstallments().get(0).getId(), LocalDate.now(),
+                                        new Money(new BigDecimal("40.00")));
+                        invoiceRepository.save(partiallyPaid);
+                        Invoice archived = createTestInvoice(customer2.getId(), "INV-ARCHIVED");
+                        archived.archive();
+                        invoiceRepository.save(archived);
+                        createTestInvoice(otherCustomer.getId(), "INV-OTHER-USER");
+
+                        assertThat(search(InvoiceFilter.none())).containsExactly("INV-OVERDUE", "INV-PARTIAL",
+                                        "INV-ARCHIVED");
+                        assertThat(search(InvoiceFilter.builder().overdue(true).build()))
+                                        .containsExactly("INV-OVERDUE");
+                        assertThat(search(InvoiceFilter.builder().overdue(false).archived(false).build()))
+                                        .containsExactly("INV-PARTIAL");
+                        assertThat(search(InvoiceFilter.builder().statuses(Set.of(PaymentStatus.PARTIALLY_PAID))
+                                        .build())).containsExactly("INV-PARTIAL");
+                        assertThat(search(InvoiceFilter.builder().customerId(customer2.getId().value()).build()))
+                                        .containsExactly("INV-ARCHIVED");
+                        assertThat(search(InvoiceFilter.builder().customerId(otherCustomer.getId().value()).build()))
+                                        .isEmpty();
+                        assertThat(search(InvoiceFilter.builder().currency("EUR").build())).isEmpty();
+                        assertThat(search(InvoiceFilter.builder().createdFrom(LocalDate.now())
+                                        .createdTo(LocalDate.now()).updatedTo(LocalDate.now()).build()))
+                                        .hasSize(3);
+                        assertThat(search(InvoiceFilter.builder().createdFrom(LocalDate.now().plusDays(1)).build()))
+                                        .isEmpty();
+                }
+
+                @Test
+                @DisplayName("Should walk invoices page by page in descending order")
+                void shouldWalkSortedInvoicesPageByPage() {
+                        for (int i = 1; i <= 5; i++) {
+                                createTestInvoice(testCustomer.getId(), "INV-SORT-" + i);
+                        }
+                        InvoiceSort sort = InvoiceSort.parse("-createdAt");
+
+                        List<String> walked = new ArrayList<>();
+                        CursorPageRequest page = new CursorPageRequest(PageCursor.START, 2);
+                        while (true) {
+                                CursorPage<InvoiceSummaryResponse> result = invoiceService
+                                                .searchInvoices(testUser.getId(), InvoiceFilter.none(), sort, page);
+                                result.items().forEach(invoice -> walked.add(invoice.invoiceReference()));
+                                if (!result.hasNext()) {
+                                        break;
+                                }
+                                page = new CursorPageRequest(result.nextCursor(), 2);
+                        }
+
+                        assertThat(walked).containsExactly("INV-SORT-5", "INV-SORT-4", "INV-SORT-3", "INV-SORT-2",
+                                        "INV-SORT-1");
+                        assertThatThrownBy(() -> InvoiceSort.parse("totalAmount"))
+                                        .isInstanceOf(InvalidPropertyException.class);
+                }
+
+                private List<String> search(InvoiceFilter filter) {
+                        return invoiceService.searchInvoices(testUser.getId(), filter, InvoiceSort.DEFAULT,
+                                        CursorPageRequest.first()).items().stream()
+                                        .map(InvoiceSummaryResponse::invoiceReference).toList();
                 }
         }
 
@@ -25,7 +25,7 @@ import org.springframework.transaction.support.TransactionTemplate;
 import com.payhint.api.application.billing.dto.request.CreateInstallmentRequest;
 import com.payhint.api.application.billing.dto.request.CreatePaymentRequest;
 import com.payhint.api.application.billing.dto.request.UpdatePaymentRequest;
-import com.payhint.api.application.billing.dto.response.InvoiceResponse;
+import com.payhint.api.application.billing.dto.response.InvoicePaymentResponse;
 import com.payhint.api.application.billing.dto.response.PaymentResponse;
 import com.payhint.api.application.shared.exception.NotFoundException;
 import com.payhint.api.domain.billing.exception.InstallmentDoesNotBelongToInvoiceException;
@@ -47,6 +47,9 @@ import com.payhint.api.domain.shared.valueobject.Email;
 import com.payhint.api.infrastructure.billing.persistence.jpa.repository.InvoiceSpringRepository;
 import com.payhint.api.infrastructure.crm.persistence.jpa.repository.CustomerSpringRepository;
 import com.payhint.api.infrastructure.crm.persistence.jpa.repository.UserSpringRepository;
+import com.payhint.api.infrastructure.shared.retry.OptimisticLockRetryAspect;
+
+import io.micrometer.core.instrument.MeterRegistry;
 
 @SpringBootTest
 @ActiveProfiles("test")
@@ -83,6 +86,9 @@ class PaymentProcessingServiceIntegrationTest {
         @Autowired
         private InvoiceSpringRepository invoiceSpringRepository;
 
+        @Autowired
+        private MeterRegistry meterRegistry;
+
         private User testUser;
         private User otherUser;
         private Customer testCustomer;
@@ -127,15 +133,15 @@ class PaymentProcessingServiceIntegrationTest {
                         CreatePaymentRequest request = new CreatePaymentRequest(new BigDecimal("60.00"),
                                         LocalDate.now().toString());
 
-                        InvoiceResponse response = paymentService.recordPayment(testUser.getId(), invoice.getId(),
+                        InvoicePaymentResponse response = paymentService.recordPayment(testUser.getId(), invoice.getId(),
                                         installmentId, request);
 
                         assertThat(response.totalPaid()).isEqualByComparingTo("60.00");
                         assertThat(response.remainingAmount()).isEqualByComparingTo("40.00");
                         assertThat(response.status()).isEqualTo(PaymentStatus.PARTIALLY_PAID.name());
-                        assertThat(response.installments().get(0).payments()).hasSize(1);
-                        assertThat(response.installments().get(0).payments().get(0).amount())
-                                        .isEqualByComparingTo("60.00");
+                        assertThat(response.installment().id()).isEqualTo(installmentId.toString());
+                        assertThat(response.installment().amountPaid()).isEqualByComparingTo("60.00");
+                        assertThat(response.payment().amount()).isEqualByComparingTo("60.00");
                 }
 
                 @Test
@@ -147,7 +153,7 @@ class PaymentProcessingServiceIntegrationTest {
                         CreatePaymentRequest request = new CreatePaymentRequest(new BigDecimal("100.00"),
                                         LocalDate.now().toString());
 
-                        InvoiceResponse response = paymentService.recordPayment(testUser.getId(), invoice.getId(),
+                        InvoicePaymentResponse response = paymentService.recordPayment(testUser.getId(), invoice.getId(),
                                         installmentId, request);
 
                         assertThat(response.totalPaid()).isEqualByComparingTo("100.00");
@@ -225,13 +231,14 @@ class PaymentProcessingServiceIntegrationTest {
 
                         UpdatePaymentRequest updateRequest = new UpdatePaymentRequest(new BigDecimal("150.00"), null);
 
-                        InvoiceResponse response = paymentService.updatePayment(testUser.getId(), invoice.getId(),
+                        InvoicePaymentResponse response = paymentService.updatePayment(testUser.getId(), invoice.getId(),
                                         installmentId, paymentId, updateRequest);
 
                         assertThat(response.totalPaid()).isEqualByComparingTo("150.00");
                         assertThat(response.remainingAmount()).isEqualByComparingTo("50.00");
 
-                        PaymentResponse updatedPayment = response.installments().get(0).payments().get(0);
+                        PaymentResponse updatedPayment = response.payment();
+                        assertThat(updatedPayment.id()).isEqualTo(paymentId.toString());
                         assertThat(updatedPayment.amount()).isEqualByComparingTo("150.00");
                 }
 
@@ -245,10 +252,10 @@ class PaymentProcessingServiceIntegrationTest {
                         String newDate = LocalDate.now().plusDays(1).toString();
                         UpdatePaymentRequest updateRequest = new UpdatePaymentRequest(null, newDate);
 
-                        InvoiceResponse response = paymentService.updatePayment(testUser.getId(), invoice.getId(),
+                        InvoicePaymentResponse response = paymentService.updatePayment(testUser.getId(), invoice.getId(),
                                         installmentId, paymentId, updateRequest);
 
-                        PaymentResponse updatedPayment = response.installments().get(0).payments().get(0);
+                        PaymentResponse updatedPayment = response.payment();
                         assertThat(updatedPayment.paymentDate()).isEqualTo(newDate);
                         assertThat(updatedPayment.amount()).isEqualByComparingTo("100.00");
                 }
@@ -297,13 +304,14 @@ class PaymentProcessingServiceIntegrationTest {
                         InstallmentId installmentId = addInstallment(invoice.getId(), "100.00");
                         PaymentId paymentId = recordPayment(invoice.getId(), installmentId, "50.00"); // PARTIALLY_PAID
 
-                        InvoiceResponse response = paymentService.removePayment(testUser.getId(), invoice.getId(),
+                        InvoicePaymentResponse response = paymentService.removePayment(testUser.getId(), invoice.getId(),
                                         installmentId, paymentId);
 
                         assertThat(response.totalPaid()).isEqualByComparingTo("0.00");
                         assertThat(response.remainingAmount()).isEqualByComparingTo("100.00");
                         assertThat(response.status()).isEqualTo(PaymentStatus.PENDING.name());
-                        assertThat(response.installments().get(0).payments()).isEmpty();
+                        assertThat(response.installment().amountPaid()).isEqualByComparingTo("0.00");
+                        assertThat(response.payment().id()).isEqualTo(paymentId.toString());
                 }
 
                 @Test
@@ -360,7 +368,7 @@ class PaymentProcessingServiceIntegrationTest {
 
                         recordPayment(invoice.getId(), installmentId, "30.00");
                         recordPayment(invoice.getId(), installmentId, "30.00");
-                        InvoiceResponse finalResponse = paymentService.recordPayment(testUser.getId(), invoice.getId(),
+                        InvoicePaymentResponse finalResponse = paymentService.recordPayment(testUser.getId(), invoice.getId(),
                                         installmentId,
                                         new CreatePaymentRequest(new BigDecimal("40.00"), LocalDate.now().toString()));
 
@@ -406,14 +414,13 @@ class PaymentProcessingServiceIntegrationTest {
                         assertThat(afterPay1.remainingAmount()).isEqualByComparingTo("60.00");
 
                         // Assert Installment Layer
-                        var installment1 = afterPay1.installments().get(0);
+                        var installment1 = afterPay1.installment();
                         assertThat(installment1.status()).isEqualTo("PARTIALLY_PAID");
                         assertThat(installment1.amountPaid()).isEqualByComparingTo("40.00");
                         assertThat(installment1.amountDue()).isEqualByComparingTo("100.00");
 
                         // Assert Payment Layer
-                        assertThat(installment1.payments()).hasSize(1);
-                        assertThat(installment1.payments().get(0).amount()).isEqualByComparingTo("40.00");
+                        assertThat(afterPay1.payment().amount()).isEqualByComparingTo("40.00");
 
                         // 4. Add Remaining Payment
                         CreatePaymentRequest payRequest2 = new CreatePaymentRequest(new BigDecimal("60.00"),
@@ -425,9 +432,9 @@ class PaymentProcessingServiceIntegrationTest {
                         assertThat(afterPay2.status()).isEqualTo("PAID");
                         assertThat(afterPay2.totalPaid()).isEqualByComparingTo("100.00");
                         assertThat(afterPay2.remainingAmount()).isEqualByComparingTo("0.00");
-                        assertThat(afterPay2.installments().get(0).status()).isEqualTo("PAID");
-                        assertThat(afterPay2.installments().get(0).amountPaid()).isEqualByComparingTo("100.00");
-                        assertThat(afterPay2.installments().get(0).payments()).hasSize(2);
+                        assertThat(afterPay2.installment().status()).isEqualTo("PAID");
+                        assertThat(afterPay2.installment().amountPaid()).isEqualByComparingTo("100.00");
+                        assertThat(afterPay2.payment().amount()).isEqualByComparingTo("60.00");
                 }
 
                 @Test
@@ -456,7 +463,7 @@ class PaymentProcessingServiceIntegrationTest {
                         // Verify NO LONGER overdue
                         assertThat(afterPay.status()).isEqualTo("PAID");
                         assertThat(afterPay.isOverdue()).isFalse();
-                        assertThat(afterPay.installments().get(0).isOverdue()).isFalse();
+                        assertThat(afterPay.installment().isOverdue()).isFalse();
                 }
         }
 
@@ -513,6 +520,63 @@ class PaymentProcessingServiceIntegrationTest {
                                 return null;
                         });
                 }
+
+                @Test
+                @DisplayName("Should record concurrent payments on the same invoice without optimistic locking conflicts")
+                void shouldRecordConcurrentPaymentsWithoutConflicts() throws Exception {
+                        Invoice invoice = createTestInvoice(testCustomer.getId(), "INV-CONC-APPEND");
+                        InstallmentId installmentId = addInstallment(invoice.getId(), "1000.00");
+                        double conflictsBefore = countMetric(OptimisticLockRetryAspect.CONFLICTS_METRIC);
+
+                        int threads = 10;
+                        int paymentsPerThread = 5;
+                        ExecutorService executor = Executors.newFixedThreadPool(threads);
+                        CountDownLatch startLatch = new CountDownLatch(1);
+                        CountDownLatch doneLatch = new CountDownLatch(threads);
+                        AtomicInteger failCount = new AtomicInteger(0);
+
+                        for (int i = 0; i < threads; i++) {
+                                executor.submit(() -> {
+                                        try {
+                                                startLatch.await();
+                                                for (int p = 0; p < paymentsPerThread; p++) {
+                                                        paymentService.recordPayment(testUser.getId(),
+                                                                        invoice.getId(), installmentId,
+                                                                        new CreatePaymentRequest(new BigDecimal("10.00"),
+                                                                                        LocalDate.now().toString()));
+                                                }
+                                        } catch (Exception e) {
+                                                failCount.incrementAndGet();
+                                        } finally {
+                                                doneLatch.countDown();
+                                        }
+                                });
+                        }
+
+                        startLatch.countDown();
+                        boolean finished = doneLatch.await(30, TimeUnit.SECONDS);
+                        executor.shutdown();
+
+                        assertThat(finished).isTrue();
+                        assertThat(failCount.get()).isZero();
+                        assertThat(countMetric(OptimisticLockRetryAspect.CONFLICTS_METRIC)).isEqualTo(conflictsBefore);
+
+                        transactionTemplate.execute(status -> {
+                                Invoice updatedInvoice = invoiceRepository.findById(invoice.getId()).orElseThrow();
+                                assertThat(updatedInvoice.getTotalPaid().amount()).isEqualByComparingTo("500.00");
+                                assertThat(updatedInvoice.getStatus()).isEqualTo(PaymentStatus.PARTIALLY_PAID);
+                                assertThat(updatedInvoice.findInstallmentById(installmentId).getAmountPaid().amount())
+                                                .isEqualByComparingTo("500.00");
+                                assertThat(updatedInvoice.findInstallmentById(installmentId).getPayments())
+                                                .hasSize(threads * paymentsPerThread);
+                                return null;
+                        });
+                }
+
+                private double countMetric(String name) {
+                        return meterRegistry.find(name).counters().stream().mapToDouble(counter -> counter.count())
+                                        .sum();
+                }
         }
 
         private Invoice createTestInvoice(CustomerId customerId, String reference) {
@@ -541,10 +605,6 @@ class PaymentProcessingServiceIntegrationTest {
                         String amount) {
                 var request = new CreatePaymentRequest(new BigDecimal(amount), LocalDate.now().toString());
                 var response = paymentService.recordPayment(userId, invoiceId, installmentId, request);
-                // Find the payment we just added (last one)
-                var payments = response.installments().stream().filter(i -> i.id().equals(installmentId.toString()))
-                                .findFirst().get().payments();
-                String paymentIdStr = payments.get(payments.size() - 1).id();
-                return new PaymentId(UUID.fromString(paymentIdStr));
+                return new PaymentId(UUID.fromString(response.payment().id()));
         }
 }
\ No newline at end of file
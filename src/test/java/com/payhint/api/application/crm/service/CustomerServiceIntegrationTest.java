@@ -28,6 +28,7 @@ import com.payhint.api.domain.crm.repository.CustomerRepository;
 import com.payhint.api.domain.crm.repository.UserRepository;
 import com.payhint.api.domain.crm.valueobject.CustomerId;
 import com.payhint.api.domain.crm.valueobject.UserId;
+import com.payhint.api.domain.shared.pagination.CursorPageRequest;
 import com.payhint.api.domain.shared.valueobject.Email;
 
 @SpringBootTest
@@ -470,7 +471,8 @@ class CustomerServiceIntegrationTest {
                 @Test
                 @DisplayName("Should return empty list when user has no customers")
                 void shouldReturnEmptyListWhenUserHasNoCustomers() {
-                        List<CustomerResponse> customers = customerService.listAllCustomers(testUserId);
+                        List<CustomerResponse> customers = customerService
+                                        .listAllCustomers(testUserId, CursorPageRequest.first()).items();
 
                         assertThat(customers).isEmpty();
                 }
@@ -489,7 +491,8 @@ class CustomerServiceIntegrationTest {
                         customerRepository.save(customer2);
                         customerRepository.save(customer3);
 
-                        List<CustomerResponse> customers = customerService.listAllCustomers(testUserId);
+                        List<CustomerResponse> customers = customerService
+                                        .listAllCustomers(testUserId, CursorPageRequest.first()).items();
 
                         assertThat(customers).hasSize(3);
                         assertThat(customers).extracting(CustomerResponse::companyName)
@@ -514,7 +517,8 @@ class CustomerServiceIntegrationTest {
                         customerRepository.save(userCustomer2);
                         customerRepository.save(otherUserCustomer);
 
-                        List<CustomerResponse> customers = customerService.listAllCustomers(testUserId);
+                        List<CustomerResponse> customers = customerService
+                                        .listAllCustomers(testUserId, CursorPageRequest.first()).items();
 
                         assertThat(customers).hasSize(2);
                         assertThat(customers).extracting(CustomerResponse::companyName)
@@ -529,7 +533,8 @@ class CustomerServiceIntegrationTest {
                 void shouldThrowNotFoundExceptionWhenUserDoesNotExist() {
                         UUID nonExistentUserId = UUID.randomUUID();
 
-                        assertThatThrownBy(() -> customerService.listAllCustomers(new UserId(nonExistentUserId)))
+                        assertThatThrownBy(() -> customerService.listAllCustomers(new UserId(nonExistentUserId),
+                                        CursorPageRequest.first()))
                                         .isInstanceOf(NotFoundException.class)
                                         .hasMessageContaining("User with ID " + nonExistentUserId + " does not exist");
                 }
@@ -541,7 +546,8 @@ class CustomerServiceIntegrationTest {
                                         TEST_COMPANY_NAME, new Email(TEST_CONTACT_EMAIL));
                         customer = customerRepository.save(customer);
 
-                        List<CustomerResponse> customers = customerService.listAllCustomers(testUserId);
+                        List<CustomerResponse> customers = customerService
+                                        .listAllCustomers(testUserId, CursorPageRequest.first()).items();
 
                         assertThat(customers).hasSize(1);
                         CustomerResponse response = customers.get(0);
@@ -564,8 +570,10 @@ class CustomerServiceIntegrationTest {
                         customerRepository.save(customer2);
                         customerRepository.save(customer3);
 
-                        List<CustomerResponse> firstCall = customerService.listAllCustomers(testUserId);
-                        List<CustomerResponse> secondCall = customerService.listAllCustomers(testUserId);
+                        List<CustomerResponse> firstCall = customerService
+                                        .listAllCustomers(testUserId, CursorPageRequest.first()).items();
+                        List<CustomerResponse> secondCall = customerService
+                                        .listAllCustomers(testUserId, CursorPageRequest.first()).items();
 
                         assertThat(firstCall).hasSize(3);
                         assertThat(secondCall).hasSize(3);
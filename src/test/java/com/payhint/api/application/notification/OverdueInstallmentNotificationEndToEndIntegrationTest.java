@@ -2,6 +2,7 @@ package com.payhint.api.application.notification;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.timeout;
@@ -109,6 +110,25 @@ class OverdueInstallmentNotificationEndToEndIntegrationTest {
         });
     }
 
+    @Test
+    @DisplayName("Should send one digest email covering every overdue installment of a user")
+    void shouldSendOneDigestPerUser() {
+        createInvoiceWithInstallment(LocalDate.now().minusDays(5), "PENDING", new BigDecimal("100.00"));
+        createInvoiceWithInstallment(LocalDate.now().minusDays(12), "PENDING", new BigDecimal("60.00"));
+
+        scheduler.checkOverdueInstallments();
+
+        verify(javaMailSender, timeout(5000)).send(argThat((SimpleMailMessage message) -> message.getSubject()
+                .equals("Action Required: 2 Overdue Payments Detected")));
+
+        Awaitility.await().atMost(5, TimeUnit.SECONDS).untilAsserted(() -> {
+            var logs = notificationLogRepository.findAll();
+            assertThat(logs).hasSize(2);
+            assertThat(logs).allMatch(log -> log.getStatus().equals(NotificationStatus.SENT.name()));
+        });
+        verify(javaMailSender, timeout(1000).times(1)).send(any(SimpleMailMessage.class));
+    }
+
     @Test
     @DisplayName("Should NOT send email if installment is effectively paid but status is stale")
     void shouldNotSendEmailIfPaidButStatusStale() {
@@ -160,8 +180,8 @@ class OverdueInstallmentNotificationEndToEndIntegrationTest {
         scheduler.checkOverdueInstallments();
         verify(javaMailSender, timeout(2000).times(1)).send(any(SimpleMailMessage.class)); // still only 1 email sent
 
-        var notificationLogs = notificationLogRepository.findAll();
-        assertThat(notificationLogs).hasSize(1);
+        Awaitility.await().atMost(5, TimeUnit.SECONDS)
+                .untilAsserted(() -> assertThat(notificationLogRepository.findAll()).hasSize(1));
     }
 
     @Test
@@ -220,7 +240,7 @@ class OverdueInstallmentNotificationEndToEndIntegrationTest {
             }
 
             return invocation.callRealMethod();
-        }).when(domainLogRepository).existsByInstallmentId(any());
+        }).when(domainLogRepository).findSentInstallmentIds(any());
 
         scheduler.checkOverdueInstallments();
 
@@ -0,0 +1,224 @@
+package com.payhint.api.application.notification.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+import com.payhint.api.application.notification.repository.MailRepository;
+import com.payhint.api.domain.billing.model.Installment;
+import com.payhint.api.domain.billing.model.Invoice;
+import com.payhint.api.domain.billing.model.PaymentStatus;
+import com.payhint.api.domain.billing.repository.InvoiceRepository;
+import com.payhint.api.domain.billing.valueobject.InstallmentId;
+import com.payhint.api.domain.billing.valueobject.InvoiceId;
+import com.payhint.api.domain.billing.valueobject.InvoiceReference;
+import com.payhint.api.domain.billing.valueobject.Money;
+import com.payhint.api.domain.crm.model.Customer;
+import com.payhint.api.domain.crm.model.User;
+import com.payhint.api.domain.crm.repository.CustomerRepository;
+import com.payhint.api.domain.crm.repository.UserRepository;
+import com.payhint.api.domain.crm.valueobject.CustomerId;
+import com.payhint.api.domain.crm.valueobject.UserId;
+import com.payhint.api.domain.notification.model.NotificationStatus;
+import com.payhint.api.domain.notification.model.OutboxEntry;
+import com.payhint.api.domain.notification.model.OutboxStatus;
+import com.payhint.api.domain.notification.repository.NotificationLogRepository;
+import com.payhint.api.domain.notification.repository.NotificationOutboxRepository;
+import com.payhint.api.domain.shared.valueobject.Email;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@TestPropertySource(properties = { "application.notification.outbox.batch-size=2",
+        "application.notification.outbox.max-attempts=2",
+        "application.notification.outbox.initial-backoff=PT10M" })
+@DisplayName("NotificationDeliveryService Integration Tests")
+class NotificationDeliveryServiceIntegrationTest {
+
+    @Autowired
+    private NotificationDeliveryService deliveryService;
+
+    @MockitoBean
+    private NotificationOutboxRepository outboxRepository;
+
+    @MockitoBean
+    private InvoiceRepository invoiceRepository;
+
+    @MockitoBean
+    private UserRepository userRepository;
+
+    @MockitoBean
+    private CustomerRepository customerRepository;
+
+    @MockitoBean
+    private MailRepository mailRepository;
+
+    @MockitoBean
+    private NotificationLogRepository notificationLogRepository;
+
+    private Invoice invoice(CustomerId customerId, String reference, String currency, Installment... installments) {
+        BigDecimal total = List.of(installments).stream().map(installment -> installment.getAmountDue().amount())
+                .reduce(BigDecimal.ZERO, BigDecimal::add);
+        return new Invoice(new InvoiceId(UUID.randomUUID()), customerId, new InvoiceReference(reference),
+                new Money(total), Money.ZERO, currency, PaymentStatus.PENDING, LocalDateTime.now(),
+                LocalDateTime.now(), LocalDateTime.now(), false, List.of(installments), 0L);
+    }
+
+    private Installment installment(int amount, LocalDate dueDate) {
+        return Installment.create(new InstallmentId(UUID.randomUUID()), new Money(BigDecimal.valueOf(amount)),
+                dueDate);
+    }
+
+    @Test
+    @DisplayName("Should deliver the pending entries and drop the ones that no longer need a notification")
+    void shouldDeliverFromPrefetchedData() {
+        UserId userId = new UserId(UUID.randomUUID());
+        Customer customer = Customer.create(new CustomerId(UUID.randomUUID()), userId, "Batch Inc.",
+                new Email("batch@inc.com"));
+        Installment pending = installment(100, LocalDate.now().minusDays(5));
+        Installment notified = installment(100, LocalDate.now().minusDays(6));
+        Installment notDue = installment(100, LocalDate.now().plusDays(3));
+        Invoice invoice = invoice(customer.getId(), "INV-BATCH", "USD", pending, notified, notDue);
+        User user = User.create(userId, new Email("batch@example.com"), "pass", "Jane", "Doe");
+
+        List<OutboxEntry> entries = List.of(OutboxEntry.create(pending.getId(), invoice.getId(), userId),
+                OutboxEntry.create(notified.getId(), invoice.getId(), userId),
+                OutboxEntry.create(notDue.getId(), invoice.getId(), userId),
+                OutboxEntry.create(new InstallmentId(UUID.randomUUID()), new InvoiceId(UUID.randomUUID()), userId));
+
+        when(outboxRepository.claimDue(anyInt())).thenReturn(entries);
+        when(notificationLogRepository.findSentInstallmentIds(any())).thenReturn(Set.of(notified.getId()));
+        when(invoiceRepository.findAllByIds(any())).thenReturn(List.of(invoice));
+        when(customerRepository.findAllByIds(any())).thenReturn(List.of(customer));
+        when(userRepository.findAllByIds(any())).thenReturn(List.of(user));
+
+        assertThat(deliveryService.deliverDueNotifications()).isEqualTo(4);
+
+        verify(notificationLogRepository).saveAll(argThat(logs -> logs.size() == 1
+                && logs.get(0).getInstallmentId().equals(pending.getId())
+                && logs.get(0).getStatus() == NotificationStatus.SENT));
+        verify(mailRepository, times(1)).sendEmail(eq("batch@example.com"), anyString(), anyString());
+        verify(outboxRepository).deleteAll(argThat(deleted -> deleted.size() == 4));
+        verify(outboxRepository).saveAll(List.of());
+        verify(invoiceRepository, times(1)).findAllByIds(any());
+    }
+
+    @Test
+    @DisplayName("Should send one digest per user covering every claimed installment")
+    void shouldSendOneDigestPerUser() {
+        UserId userId = new UserId(UUID.randomUUID());
+        Customer first = Customer.create(new CustomerId(UUID.randomUUID()), userId, "Alpha Ltd",
+                new Email("alpha@example.com"));
+        Customer second = Customer.create(new CustomerId(UUID.randomUUID()), userId, "Beta Ltd",
+                new Email("beta@example.com"));
+        Installment alphaInstallment = installment(120, LocalDate.now().minusDays(3));
+        Installment betaInstallment = installment(80, LocalDate.now().minusDays(9));
+        Invoice alphaInvoice = invoice(first.getId(), "INV-ALPHA", "EUR", alphaInstallment);
+        Invoice betaInvoice = invoice(second.getId(), "INV-BETA", "USD", betaInstallment);
+        User user = User.create(userId, new Email("digest@example.com"), "pass", "Dana", "Doe");
+
+        when(outboxRepository.claimDue(anyInt()))
+                .thenReturn(List.of(OutboxEntry.create(betaInstallment.getId(), betaInvoice.getId(), userId),
+                        OutboxEntry.create(alphaInstallment.getId(), alphaInvoice.getId(), userId)));
+        when(invoiceRepository.findAllByIds(any())).thenReturn(List.of(alphaInvoice, betaInvoice));
+        when(customerRepository.findAllByIds(any())).thenReturn(List.of(first, second));
+        when(userRepository.findAllByIds(any())).thenReturn(List.of(user));
+
+        deliveryService.deliverDueNotifications();
+
+        verify(notificationLogRepository).saveAll(argThat(
+                logs -> logs.size() == 2 && logs.stream().allMatch(log -> log.getStatus() == NotificationStatus.SENT)));
+        verify(mailRepository, times(1)).sendEmail(eq("digest@example.com"),
+                eq("Action Required: 2 Overdue Payments Detected"),
+                argThat(body -> body.indexOf("- Alpha Ltd, invoice INV-ALPHA: 120 EUR due on "
+                        + alphaInstallment.getDueDate()) >= 0
+                        && body.indexOf("- Beta Ltd, invoice INV-BETA: 80 USD due on "
+                                + betaInstallment.getDueDate()) > body.indexOf("Alpha Ltd")));
+    }
+
+    @Test
+    @DisplayName("Should send a single digest for a user with more due entries than the batch size")
+    void shouldNotSplitUserAcrossBatches() {
+        UserId userId = new UserId(UUID.randomUUID());
+        Customer customer = Customer.create(new CustomerId(UUID.randomUUID()), userId, "Many Ltd",
+                new Email("many@example.com"));
+        Installment first = installment(10, LocalDate.now().minusDays(3));
+        Installment second = installment(20, LocalDate.now().minusDays(2));
+        Installment third = installment(30, LocalDate.now().minusDays(1));
+        Invoice invoice = invoice(customer.getId(), "INV-MANY", "EUR", first, second, third);
+        User user = User.create(userId, new Email("many@example.com"), "pass", "Max", "Doe");
+
+        when(outboxRepository.claimDue(2)).thenReturn(
+                List.of(OutboxEntry.create(first.getId(), invoice.getId(), userId),
+                        OutboxEntry.create(second.getId(), invoice.getId(), userId),
+                        OutboxEntry.create(third.getId(), invoice.getId(), userId)),
+                List.of());
+        when(invoiceRepository.findAllByIds(any())).thenReturn(List.of(invoice));
+        when(customerRepository.findAllByIds(any())).thenReturn(List.of(customer));
+        when(userRepository.findAllByIds(any())).thenReturn(List.of(user));
+
+        assertThat(deliveryService.deliverDueNotifications()).isEqualTo(3);
+
+        verify(outboxRepository, times(1)).claimDue(2);
+        verify(mailRepository, times(1)).sendEmail(eq("many@example.com"),
+                eq("Action Required: 3 Overdue Payments Detected"), anyString());
+    }
+
+    @Test
+    @DisplayName("Should retry a failed delivery with backoff then dead-letter it after the last attempt")
+    void shouldRetryThenDeadLetter() {
+        UserId userId = new UserId(UUID.randomUUID());
+        Customer customer = Customer.create(new CustomerId(UUID.randomUUID()), userId, "Retry Inc.",
+                new Email("retry@inc.com"));
+        Installment installment = installment(100, LocalDate.now().minusDays(5));
+        Invoice invoice = invoice(customer.getId(), "INV-RETRY", "EUR", installment);
+        User user = User.create(userId, new Email("retry@example.com"), "pass", "Rita", "Doe");
+        OutboxEntry entry = OutboxEntry.create(installment.getId(), invoice.getId(), userId);
+
+        when(outboxRepository.claimDue(anyInt())).thenReturn(List.of(entry));
+        when(invoiceRepository.findAllByIds(any())).thenReturn(List.of(invoice));
+        when(customerRepository.findAllByIds(any())).thenReturn(List.of(customer));
+        when(userRepository.findAllByIds(any())).thenReturn(List.of(user));
+        doThrow(new RuntimeException("Mail server down")).when(mailRepository).sendEmail(anyString(), anyString(),
+                anyString());
+
+        LocalDateTime before = LocalDateTime.now();
+        deliveryService.deliverDueNotifications();
+
+        assertThat(entry.getStatus()).isEqualTo(OutboxStatus.PENDING);
+        assertThat(entry.getAttempts()).isEqualTo(1);
+        assertThat(entry.getLastError()).isEqualTo("Mail server down");
+        assertThat(entry.getNextAttemptAt()).isAfterOrEqualTo(before.plusMinutes(10));
+        verify(notificationLogRepository).saveAll(argThat(logs -> logs.size() == 1
+                && logs.get(0).getStatus() == NotificationStatus.FAILED));
+        verify(outboxRepository).saveAll(List.of(entry));
+        verify(outboxRepository).deleteAll(List.of());
+
+        deliveryService.deliverDueNotifications();
+
+        assertThat(entry.getStatus()).isEqualTo(OutboxStatus.DEAD);
+        assertThat(entry.getAttempts()).isEqualTo(2);
+        verify(outboxRepository, times(2)).saveAll(List.of(entry));
+    }
+}
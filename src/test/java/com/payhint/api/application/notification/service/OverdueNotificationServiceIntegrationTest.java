@@ -1,76 +1,137 @@
 package com.payhint.api.application.notification.service;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import java.time.LocalDate;
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
-import org.springframework.test.context.event.ApplicationEvents;
-import org.springframework.test.context.event.RecordApplicationEvents;
 
 import com.payhint.api.application.notification.dto.OverdueInstallmentDto;
 import com.payhint.api.application.notification.repository.OverdueInstallmentRepository;
-import com.payhint.api.domain.billing.event.InstallmentOverdueEvent;
+import com.payhint.api.domain.notification.model.OutboxEntry;
+import com.payhint.api.domain.notification.model.OutboxStatus;
+import com.payhint.api.domain.notification.repository.NotificationOutboxRepository;
 
 @SpringBootTest
 @ActiveProfiles("test")
-@RecordApplicationEvents
+@TestPropertySource(properties = "application.notification.overdue-scan.chunk-size=2")
 @DisplayName("OverdueNotificationService Integration Tests")
 class OverdueNotificationServiceIntegrationTest {
 
     @Autowired
     private OverdueNotificationService overdueNotificationService;
 
-    @Autowired
-    private ApplicationEvents applicationEvents;
-
     @MockitoBean
     private OverdueInstallmentRepository overdueInstallmentRepository;
 
+    @MockitoBean
+    private NotificationOutboxRepository outboxRepository;
+
+    private OverdueInstallmentDto overdue(UUID userId, int daysLate) {
+        return new OverdueInstallmentDto(UUID.randomUUID(), UUID.randomUUID(), userId,
+                LocalDate.now().minusDays(daysLate));
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<List<UUID>> enqueuedChunks() {
+        ArgumentCaptor<List<OutboxEntry>> captor = ArgumentCaptor.forClass(List.class);
+        verify(outboxRepository, atLeastOnce()).enqueueAll(captor.capture());
+        return captor.getAllValues().stream()
+                .map(entries -> entries.stream().map(entry -> entry.getInstallmentId().value()).toList()).toList();
+    }
+
     @Test
-    @DisplayName("Should detect overdue installments and publish events")
-    void shouldDetectAndPublishEvents() {
-        UUID installmentId1 = UUID.randomUUID();
-        OverdueInstallmentDto dto1 = new OverdueInstallmentDto(installmentId1, UUID.randomUUID(), UUID.randomUUID(),
-                LocalDate.now().minusDays(5));
+    @DisplayName("Should enqueue every chunk with a checkpoint on its last installment")
+    void shouldEnqueueChunksWithCheckpoint() {
+        UUID firstUser = UUID.randomUUID();
+        UUID secondUser = UUID.randomUUID();
+        OverdueInstallmentDto dto1 = overdue(firstUser, 5);
+        OverdueInstallmentDto dto2 = overdue(secondUser, 10);
+        OverdueInstallmentDto dto3 = overdue(secondUser, 15);
+
+        when(overdueInstallmentRepository.listOverdueInstallmentsNotNotified(OverdueNotificationService.SCAN_START, 2))
+                .thenReturn(List.of(dto1, dto2));
+        when(overdueInstallmentRepository.listOverdueInstallmentsNotNotified(dto2.installmentId(), 2))
+                .thenReturn(List.of(dto3));
+
+        overdueNotificationService.detectAndPublishOverdueEvents();
 
-        UUID installmentId2 = UUID.randomUUID();
-        OverdueInstallmentDto dto2 = new OverdueInstallmentDto(installmentId2, UUID.randomUUID(), UUID.randomUUID(),
-                LocalDate.now().minusDays(10));
+        assertThat(enqueuedChunks()).containsExactly(List.of(dto1.installmentId(), dto2.installmentId()),
+                List.of(dto3.installmentId()));
 
-        when(overdueInstallmentRepository.listOverdueInstallmentsNotNotified()).thenReturn(List.of(dto1, dto2));
+        InOrder inOrder = inOrder(overdueInstallmentRepository, outboxRepository);
+        inOrder.verify(outboxRepository).enqueueAll(any());
+        inOrder.verify(overdueInstallmentRepository).saveScanCheckpoint(dto2.installmentId());
+        inOrder.verify(outboxRepository).enqueueAll(any());
+        inOrder.verify(overdueInstallmentRepository).saveScanCheckpoint(dto3.installmentId());
+        inOrder.verify(overdueInstallmentRepository).clearScanCheckpoint();
+    }
+
+    @Test
+    @DisplayName("Should enqueue pending entries due right away")
+    void shouldEnqueuePendingEntries() {
+        UUID userId = UUID.randomUUID();
+        OverdueInstallmentDto dto = overdue(userId, 5);
+
+        when(overdueInstallmentRepository.listOverdueInstallmentsNotNotified(OverdueNotificationService.SCAN_START, 2))
+                .thenReturn(List.of(dto));
 
         overdueNotificationService.detectAndPublishOverdueEvents();
 
-        verify(overdueInstallmentRepository).listOverdueInstallmentsNotNotified();
+        verify(outboxRepository).enqueueAll(argThat(entries -> entries.size() == 1
+                && entries.get(0).getStatus() == OutboxStatus.PENDING && entries.get(0).getAttempts() == 0
+                && entries.get(0).getInvoiceId().value().equals(dto.invoiceId())
+                && entries.get(0).getUserId().value().equals(userId)));
+    }
+
+    @Test
+    @DisplayName("Should resume an interrupted scan after the checkpointed installment")
+    void shouldResumeFromCheckpoint() {
+        UUID checkpoint = UUID.randomUUID();
+        OverdueInstallmentDto remaining = overdue(UUID.randomUUID(), 3);
 
-        long eventCount = applicationEvents.stream(InstallmentOverdueEvent.class).count();
-        assertThat(eventCount).isEqualTo(2);
+        when(overdueInstallmentRepository.findScanCheckpoint()).thenReturn(Optional.of(checkpoint));
+        when(overdueInstallmentRepository.listOverdueInstallmentsNotNotified(checkpoint, 2))
+                .thenReturn(List.of(remaining));
 
-        boolean hasEvent1 = applicationEvents.stream(InstallmentOverdueEvent.class)
-                .anyMatch(e -> e.installmentId().value().equals(installmentId1));
-        assertThat(hasEvent1).isTrue();
+        overdueNotificationService.detectAndPublishOverdueEvents();
+
+        verify(overdueInstallmentRepository, never())
+                .listOverdueInstallmentsNotNotified(OverdueNotificationService.SCAN_START, 2);
+        assertThat(enqueuedChunks()).containsExactly(List.of(remaining.installmentId()));
+        verify(overdueInstallmentRepository).clearScanCheckpoint();
     }
 
     @Test
     @DisplayName("Should do nothing when no overdue installments found")
     void shouldDoNothingWhenNoOverdueItems() {
-        when(overdueInstallmentRepository.listOverdueInstallmentsNotNotified()).thenReturn(List.of());
+        when(overdueInstallmentRepository.listOverdueInstallmentsNotNotified(any(), anyInt()))
+                .thenReturn(List.of());
 
         overdueNotificationService.detectAndPublishOverdueEvents();
 
-        verify(overdueInstallmentRepository).listOverdueInstallmentsNotNotified();
-
-        long eventCount = applicationEvents.stream(InstallmentOverdueEvent.class).count();
-        assertThat(eventCount).isEqualTo(0);
+        verify(overdueInstallmentRepository).listOverdueInstallmentsNotNotified(OverdueNotificationService.SCAN_START,
+                2);
+        verify(overdueInstallmentRepository, never()).saveScanCheckpoint(any());
+        verify(outboxRepository, never()).enqueueAll(any());
     }
-}
\ No newline at end of file
+}
@@ -365,6 +365,40 @@ class InvoiceTest {
 
                         assertThat(invoice.isOverdue()).isFalse();
                 }
+
+                @Test
+                @DisplayName("Should keep next unpaid due date in sync with installments and payments")
+                void shouldMaintainNextUnpaidDueDate() {
+                        assertThat(invoice.getNextUnpaidDueDate()).isNull();
+
+                        invoice.addInstallment(AMOUNT_200, DUE_DATE_FUTURE);
+                        invoice.addInstallment(AMOUNT_200, DUE_DATE_PAST);
+                        assertThat(invoice.getNextUnpaidDueDate()).isEqualTo(DUE_DATE_PAST);
+
+                        InstallmentId pastId = invoice.getInstallments().get(1).getId();
+                        invoice.addPayment(pastId, LocalDate.now(), AMOUNT_200);
+                        assertThat(invoice.getNextUnpaidDueDate()).isEqualTo(DUE_DATE_FUTURE);
+
+                        invoice.removePayment(pastId, invoice.getInstallments().get(1).getPayments().get(0).getId());
+                        assertThat(invoice.getNextUnpaidDueDate()).isEqualTo(DUE_DATE_PAST);
+
+                        invoice.removeInstallment(pastId);
+                        assertThat(invoice.getNextUnpaidDueDate()).isEqualTo(DUE_DATE_FUTURE);
+                }
+
+                @Test
+                @DisplayName("Should account for unpaid installments that were not loaded")
+                void shouldUseNextUnpaidDueDateOfOtherInstallments() {
+                        LocalDateTime now = LocalDateTime.now();
+                        Installment loaded = Installment.create(new InstallmentId(UUID.randomUUID()), AMOUNT_200,
+                                        DUE_DATE_FUTURE);
+                        Invoice partialInvoice = new Invoice(VALID_INVOICE_ID, VALID_CUSTOMER_ID, VALID_REFERENCE,
+                                        AMOUNT_500, Money.ZERO, VALID_CURRENCY, PaymentStatus.PENDING, now, now, now,
+                                        false, List.of(loaded), 1L, DUE_DATE_PAST);
+
+                        assertThat(partialInvoice.getNextUnpaidDueDate()).isEqualTo(DUE_DATE_PAST);
+                        assertThat(partialInvoice.isOverdue()).isTrue();
+                }
         }
 
         @Nested
@@ -0,0 +1,195 @@
+package com.payhint.api.infrastructure.billing.persistence.jpa.adapter;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.payhint.api.domain.billing.model.Installment;
+import com.payhint.api.domain.billing.model.Invoice;
+import com.payhint.api.domain.billing.repository.InvoiceRepository;
+import com.payhint.api.domain.billing.valueobject.InstallmentId;
+import com.payhint.api.domain.billing.valueobject.InvoiceId;
+import com.payhint.api.domain.billing.valueobject.InvoiceReference;
+import com.payhint.api.domain.billing.valueobject.Money;
+import com.payhint.api.domain.crm.model.Customer;
+import com.payhint.api.domain.crm.model.User;
+import com.payhint.api.domain.crm.repository.CustomerRepository;
+import com.payhint.api.domain.crm.repository.UserRepository;
+import com.payhint.api.domain.crm.valueobject.CustomerId;
+import com.payhint.api.domain.crm.valueobject.UserId;
+import com.payhint.api.domain.shared.valueobject.Email;
+import com.payhint.api.infrastructure.billing.persistence.jpa.entity.InvoiceJpaEntity;
+import com.payhint.api.infrastructure.billing.persistence.jpa.mapper.InvoicePersistenceMapper;
+import com.payhint.api.infrastructure.billing.persistence.jpa.repository.InvoiceSpringRepository;
+import com.payhint.api.infrastructure.crm.persistence.jpa.repository.CustomerSpringRepository;
+import com.payhint.api.infrastructure.crm.persistence.jpa.repository.UserSpringRepository;
+
+import jakarta.persistence.EntityManager;
+
+/**
+ * Compares the former single fetch join over installments and payments with the per-level loading used by
+ * {@link InvoiceJpaRepositoryAdapter}. Run with {@code -Dbenchmark=true}.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+@DisplayName("Invoice aggregate loading benchmark")
+class InvoiceAggregateLoadingBenchmarkTest {
+
+    private static final Logger logger = LoggerFactory.getLogger(InvoiceAggregateLoadingBenchmarkTest.class);
+
+    private static final int PAYMENTS_PER_INSTALLMENT = 3;
+    private static final int ITERATIONS = 20;
+
+    private static final String SINGLE_JOIN_QUERY = "SELECT DISTINCT i FROM InvoiceJpaEntity i "
+            + "LEFT JOIN FETCH i.installments inst LEFT JOIN FETCH inst.payments WHERE i.id = :id";
+
+    private static final String SINGLE_JOIN_ROWS = "SELECT COUNT(*) FROM invoices i "
+            + "LEFT JOIN installments inst ON inst.invoice_id = i.id "
+            + "LEFT JOIN payments p ON p.installment_id = inst.id WHERE i.id = ?1";
+
+    private static final String INSTALLMENT_LEVEL_ROWS = "SELECT COUNT(*) FROM invoices i "
+            + "LEFT JOIN installments inst ON inst.invoice_id = i.id WHERE i.id = ?1";
+
+    private static final String PAYMENT_LEVEL_ROWS = "SELECT COUNT(*) FROM payments p "
+            + "JOIN installments inst ON p.installment_id = inst.id WHERE inst.invoice_id = ?1";
+
+    // Columns selected per row for each entity
+    private static final int INVOICE_COLUMNS = 12;
+    private static final int INSTALLMENT_COLUMNS = 9;
+    private static final int PAYMENT_COLUMNS = 6;
+
+    @Autowired
+    private InvoiceRepository invoiceRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private CustomerRepository customerRepository;
+
+    @Autowired
+    private UserSpringRepository userSpringRepository;
+
+    @Autowired
+    private CustomerSpringRepository customerSpringRepository;
+
+    @Autowired
+    private InvoiceSpringRepository invoiceSpringRepository;
+
+    @Autowired
+    private InvoicePersistenceMapper mapper;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private Customer customer;
+
+    @BeforeEach
+    void setUp() {
+        invoiceSpringRepository.deleteAll();
+        customerSpringRepository.deleteAll();
+        userSpringRepository.deleteAll();
+
+        User user = userRepository.register(User.create(new UserId(UUID.randomUUID()),
+                new Email("benchmark@example.com"), "Password123!", "Bench", "Mark"));
+        customer = customerRepository.save(Customer.create(new CustomerId(UUID.randomUUID()), user.getId(),
+                "Benchmark Inc", new Email("contact@benchmark.com")));
+    }
+
+    @AfterEach
+    void tearDown() {
+        invoiceSpringRepository.deleteAll();
+        customerSpringRepository.deleteAll();
+        userSpringRepository.deleteAll();
+    }
+
+    @ParameterizedTest(name = "{0} installments")
+    @ValueSource(ints = { 10, 100, 1000 })
+    void compareLoadingStrategies(int installmentCount) {
+        InvoiceId invoiceId = createInvoice(installmentCount);
+
+        long singleJoinRows = countRows(SINGLE_JOIN_ROWS, invoiceId);
+        long installmentRows = countRows(INSTALLMENT_LEVEL_ROWS, invoiceId);
+        long paymentRows = countRows(PAYMENT_LEVEL_ROWS, invoiceId);
+        long singleJoinCells = singleJoinRows * (INVOICE_COLUMNS + INSTALLMENT_COLUMNS + PAYMENT_COLUMNS);
+        long perLevelCells = installmentRows * (INVOICE_COLUMNS + INSTALLMENT_COLUMNS)
+                + paymentRows * PAYMENT_COLUMNS;
+
+        for (int i = 0; i < ITERATIONS / 4; i++) {
+            loadWithSingleJoin(invoiceId);
+            loadPerLevel(invoiceId);
+        }
+
+        long singleJoinNanos = 0;
+        long perLevelNanos = 0;
+        for (int i = 0; i < ITERATIONS; i++) {
+            long start = System.nanoTime();
+            loadWithSingleJoin(invoiceId);
+            singleJoinNanos += System.nanoTime() - start;
+
+            start = System.nanoTime();
+            loadPerLevel(invoiceId);
+            perLevelNanos += System.nanoTime() - start;
+        }
+
+        logger.info("{} installments: single join {} rows / {} cells / {} us, per level {} rows / {} cells / {} us",
+                installmentCount, singleJoinRows, singleJoinCells, singleJoinNanos / ITERATIONS / 1000,
+                installmentRows + paymentRows, perLevelCells, perLevelNanos / ITERATIONS / 1000);
+
+        assertThat(perLevelCells).isLessThan(singleJoinCells);
+    }
+
+    private InvoiceId createInvoice(int installmentCount) {
+        Invoice invoice = Invoice.create(new InvoiceId(UUID.randomUUID()), customer.getId(),
+                new InvoiceReference("INV-BENCH-" + installmentCount), "EUR");
+        List<Installment> installments = new ArrayList<>();
+        for (int i = 0; i < installmentCount; i++) {
+            installments.add(Installment.create(new InstallmentId(UUID.randomUUID()),
+                    new Money(new BigDecimal("90.00")), LocalDate.now().plusDays(i + 1)));
+        }
+        invoice.addInstallments(installments);
+        invoiceRepository.save(invoice);
+        for (Installment installment : installments) {
+            for (int i = 0; i < PAYMENTS_PER_INSTALLMENT; i++) {
+                invoice.addPayment(installment.getId(), LocalDate.now(), new Money(new BigDecimal("10.00")));
+            }
+        }
+        return invoiceRepository.save(invoice).getId();
+    }
+
+    private long countRows(String sql, InvoiceId invoiceId) {
+        return ((Number) entityManager.createNativeQuery(sql).setParameter(1, invoiceId.value()).getSingleResult())
+                .longValue();
+    }
+
+    private void loadWithSingleJoin(InvoiceId invoiceId) {
+        transactionTemplate.executeWithoutResult(status -> mapper.toDomain(entityManager
+                .createQuery(SINGLE_JOIN_QUERY, InvoiceJpaEntity.class).setParameter("id", invoiceId.value())
+                .getSingleResult()));
+    }
+
+    private void loadPerLevel(InvoiceId invoiceId) {
+        transactionTemplate.executeWithoutResult(status -> invoiceRepository.findById(invoiceId));
+    }
+}
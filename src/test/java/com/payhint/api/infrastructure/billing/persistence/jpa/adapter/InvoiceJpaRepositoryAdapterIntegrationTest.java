@@ -0,0 +1,584 @@
+package com.payhint.api.infrastructure.billing.persistence.jpa.adapter;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.transaction.IllegalTransactionStateException;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.payhint.api.application.billing.dto.request.CreateInstallmentRequest;
+import com.payhint.api.application.billing.dto.request.CreateInvoiceRequest;
+import com.payhint.api.application.billing.dto.request.CreatePaymentRequest;
+import com.payhint.api.application.billing.dto.response.InvoiceResponse;
+import com.payhint.api.application.billing.service.InvoiceLifecycleService;
+import com.payhint.api.application.billing.service.PaymentProcessingService;
+import com.payhint.api.domain.billing.model.Installment;
+import com.payhint.api.domain.billing.model.Invoice;
+import com.payhint.api.domain.billing.model.Payment;
+import com.payhint.api.domain.billing.model.PaymentStatus;
+import com.payhint.api.domain.billing.repository.InvoiceRepository;
+import com.payhint.api.domain.billing.valueobject.InstallmentId;
+import com.payhint.api.domain.billing.valueobject.InvoiceId;
+import com.payhint.api.domain.billing.valueobject.InvoiceReference;
+import com.payhint.api.domain.billing.valueobject.Money;
+import com.payhint.api.domain.billing.valueobject.PaymentId;
+import com.payhint.api.domain.crm.model.Customer;
+import com.payhint.api.domain.crm.model.User;
+import com.payhint.api.domain.crm.repository.CustomerRepository;
+import com.payhint.api.domain.crm.repository.UserRepository;
+import com.payhint.api.domain.crm.valueobject.CustomerId;
+import com.payhint.api.domain.crm.valueobject.UserId;
+import com.payhint.api.domain.notification.model.NotificationLog;
+import com.payhint.api.domain.notification.repository.NotificationLogRepository;
+import com.payhint.api.domain.shared.valueobject.Email;
+import com.payhint.api.infrastructure.billing.persistence.jpa.repository.InvoiceSpringRepository;
+import com.payhint.api.infrastructure.crm.persistence.jpa.repository.CustomerSpringRepository;
+import com.payhint.api.infrastructure.crm.persistence.jpa.repository.UserSpringRepository;
+import com.payhint.api.infrastructure.notification.persistence.jpa.repository.NotificationLogSpringRepository;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@TestPropertySource(properties = { "spring.jpa.properties.hibernate.generate_statistics=true",
+        "spring.jpa.properties.hibernate.session.events.auto=com.payhint.api.infrastructure.billing.persistence.jpa.adapter.JdbcRoundTripCounter" })
+@DisplayName("InvoiceJpaRepositoryAdapter Integration Tests")
+class InvoiceJpaRepositoryAdapterIntegrationTest {
+
+    @Autowired
+    private InvoiceRepository invoiceRepository;
+
+    @Autowired
+    private PaymentProcessingService paymentService;
+
+    @Autowired
+    private InvoiceLifecycleService invoiceService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private CustomerRepository customerRepository;
+
+    @Autowired
+    private UserSpringRepository userSpringRepository;
+
+    @Autowired
+    private CustomerSpringRepository customerSpringRepository;
+
+    @Autowired
+    private InvoiceSpringRepository invoiceSpringRepository;
+
+    @Autowired
+    private NotificationLogRepository notificationLogRepository;
+
+    @Autowired
+    private NotificationLogSpringRepository notificationLogSpringRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    // The summary refresh runs in the writing transaction and would add to the write path statistics
+    @MockitoBean
+    private InvoiceSummaryProjector invoiceSummaryProjector;
+
+    private User testUser;
+    private Invoice testInvoice;
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        invoiceSpringRepository.deleteAll();
+        customerSpringRepository.deleteAll();
+        userSpringRepository.deleteAll();
+
+        testUser = userRepository.register(User.create(new UserId(UUID.randomUUID()),
+                new Email("uow.test@example.com"), "Password123!", "Unit", "OfWork"));
+        Customer customer = customerRepository.save(Customer.create(new CustomerId(UUID.randomUUID()),
+                testUser.getId(), "UoW Inc", new Email("contact@uow.com")));
+
+        Invoice invoice = Invoice.create(new InvoiceId(UUID.randomUUID()), customer.getId(),
+                new InvoiceReference("INV-UOW-001"), "EUR");
+        invoice.addInstallments(List.of(
+                Installment.create(new InstallmentId(UUID.randomUUID()), new Money(new BigDecimal("100.00")),
+                        LocalDate.now().plusDays(10)),
+                Installment.create(new InstallmentId(UUID.randomUUID()), new Money(new BigDecimal("100.00")),
+                        LocalDate.now().plusDays(40)),
+                Installment.create(new InstallmentId(UUID.randomUUID()), new Money(new BigDecimal("100.00")),
+                        LocalDate.now().plusDays(70))));
+        testInvoice = invoiceRepository.save(invoice);
+
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+        JdbcRoundTripCounter.reset();
+    }
+
+    @AfterEach
+    void tearDown() {
+        notificationLogSpringRepository.deleteAll();
+        invoiceSpringRepository.deleteAll();
+        customerSpringRepository.deleteAll();
+        userSpringRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("Should record a payment without loading the aggregate or the payments of the installment")
+    void shouldRecordPaymentWithoutLoadingAggregate() {
+        InstallmentId installmentId = testInvoice.getInstallments().get(0).getId();
+
+        var response = paymentService.recordPayment(testUser.getId(), testInvoice.getId(), installmentId,
+                new CreatePaymentRequest(new BigDecimal("40.00"), LocalDate.now().toString()));
+
+        // update invoice, update installment, insert payment, refresh next unpaid due date, then the outcome row
+        assertThat(statistics.getQueryExecutionCount()).isEqualTo(1);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(5);
+        assertThat(statistics.getEntityLoadCount()).isZero();
+        assertThat(statistics.getCollectionLoadCount()).isZero();
+        assertThat(response.totalPaid()).isEqualByComparingTo("40.00");
+        assertThat(response.status()).isEqualTo(PaymentStatus.PARTIALLY_PAID.name());
+        assertThat(response.installment().amountPaid()).isEqualByComparingTo("40.00");
+        assertThat(response.installment().status()).isEqualTo(PaymentStatus.PARTIALLY_PAID.name());
+        assertThat(response.payment().amount()).isEqualByComparingTo("40.00");
+    }
+
+    @Test
+    @DisplayName("Should return the in-memory aggregate when saving an invoice loaded in the same transaction")
+    void shouldReturnInMemoryAggregateWhenTracked() {
+        transactionTemplate.executeWithoutResult(status -> {
+            Invoice loaded = invoiceRepository.findByIdAndOwner(testInvoice.getId(), testUser.getId())
+                    .orElseThrow();
+            loaded.addInstallment(new Money(new BigDecimal("50.00")), LocalDate.now().plusDays(100));
+
+            Invoice saved = invoiceRepository.save(loaded);
+
+            assertThat(saved).isSameAs(loaded);
+        });
+
+        // the save reuses the tracked entity, the payments are batch-loaded and not counted as a query
+        assertThat(statistics.getQueryExecutionCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should persist changes applied through the tracked entity")
+    void shouldPersistChangesAppliedThroughTrackedEntity() {
+        InstallmentId installmentId = testInvoice.getInstallments().get(1).getId();
+
+        transactionTemplate.executeWithoutResult(status -> {
+            Invoice loaded = invoiceRepository.findByIdAndOwner(testInvoice.getId(), testUser.getId())
+                    .orElseThrow();
+            loaded.addPayment(installmentId, LocalDate.now(), new Money(new BigDecimal("100.00")));
+            loaded.removeInstallment(testInvoice.getInstallments().get(2).getId());
+            invoiceRepository.save(loaded);
+        });
+
+        transactionTemplate.executeWithoutResult(status -> {
+            Invoice reloaded = invoiceRepository.findById(testInvoice.getId()).orElseThrow();
+            assertThat(reloaded.getInstallments()).hasSize(2);
+            assertThat(reloaded.getTotalAmount().amount()).isEqualByComparingTo("200.00");
+            assertThat(reloaded.getTotalPaid().amount()).isEqualByComparingTo("100.00");
+            assertThat(reloaded.findInstallmentById(installmentId).getStatus()).isEqualTo(PaymentStatus.PAID);
+            assertThat(reloaded.findInstallmentById(installmentId).getPayments()).hasSize(1);
+        });
+    }
+
+    @Test
+    @DisplayName("Should fall back to loading the entity when the invoice was not loaded in the transaction")
+    void shouldFallBackWhenNotTracked() {
+        testInvoice.archive();
+
+        Invoice saved = invoiceRepository.save(testInvoice);
+
+        assertThat(saved).isNotSameAs(testInvoice);
+        assertThat(saved.isArchived()).isTrue();
+    }
+
+    @Test
+    @DisplayName("Should load every invoice of a customer with one query per collection level")
+    void shouldLoadInvoicesOfCustomerWithOneQueryPerLevel() {
+        Invoice second = Invoice.create(new InvoiceId(UUID.randomUUID()), testInvoice.getCustomerId(),
+                new InvoiceReference("INV-UOW-002"), "EUR");
+        second.addInstallments(List.of(
+                Installment.create(new InstallmentId(UUID.randomUUID()), new Money(new BigDecimal("80.00")),
+                        LocalDate.now().plusDays(5)),
+                Installment.create(new InstallmentId(UUID.randomUUID()), new Money(new BigDecimal("20.00")),
+                        LocalDate.now().plusDays(35))));
+        invoiceRepository.save(second);
+        InstallmentId paidInstallmentId = second.getInstallments().get(0).getId();
+        second.addPayment(paidInstallmentId, LocalDate.now(), new Money(new BigDecimal("30.00")));
+        second.addPayment(paidInstallmentId, LocalDate.now(), new Money(new BigDecimal("50.00")));
+        invoiceRepository.save(second);
+        invoiceRepository.save(Invoice.create(new InvoiceId(UUID.randomUUID()), testInvoice.getCustomerId(),
+                new InvoiceReference("INV-UOW-003"), "EUR"));
+        statistics.clear();
+
+        List<Invoice> invoices = invoiceRepository.findAllByCustomerId(testInvoice.getCustomerId());
+
+        // invoice + installments query, then one batch load of payments by installment ids
+        assertThat(statistics.getQueryExecutionCount()).isEqualTo(1);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+        assertThat(invoices).hasSize(3);
+        Invoice reloaded = invoices.stream().filter(invoice -> invoice.getId().equals(second.getId())).findFirst()
+                .orElseThrow();
+        assertThat(reloaded.getInstallments()).hasSize(2);
+        assertThat(reloaded.findInstallmentById(paidInstallmentId).getPayments()).hasSize(2);
+        assertThat(reloaded.findInstallmentById(paidInstallmentId).getStatus()).isEqualTo(PaymentStatus.PAID);
+        assertThat(reloaded.getTotalPaid().amount()).isEqualByComparingTo("80.00");
+    }
+
+    @Test
+    @DisplayName("Should load a single invoice with one query per collection level")
+    void shouldLoadInvoiceWithOneQueryPerLevel() {
+        InstallmentId installmentId = testInvoice.getInstallments().get(0).getId();
+        testInvoice.addPayment(installmentId, LocalDate.now(), new Money(new BigDecimal("10.00")));
+        invoiceRepository.save(testInvoice);
+        statistics.clear();
+
+        Invoice reloaded = invoiceRepository.findById(testInvoice.getId()).orElseThrow();
+
+        // invoice + installments query, then one batch load of payments by installment ids
+        assertThat(statistics.getQueryExecutionCount()).isEqualTo(1);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+        assertThat(reloaded.getInstallments()).hasSize(3);
+        assertThat(reloaded.findInstallmentById(installmentId).getPayments()).hasSize(1);
+    }
+
+    @Test
+    @DisplayName("Should load invoices by ids with one query per collection level")
+    void shouldLoadInvoicesByIdsWithOneQueryPerLevel() {
+        InstallmentId installmentId = testInvoice.getInstallments().get(0).getId();
+        testInvoice.addPayment(installmentId, LocalDate.now(), new Money(new BigDecimal("10.00")));
+        invoiceRepository.save(testInvoice);
+        Invoice other = Invoice.create(new InvoiceId(UUID.randomUUID()), testInvoice.getCustomerId(),
+                new InvoiceReference("INV-IDS-002"), "EUR");
+        invoiceRepository.save(other);
+        statistics.clear();
+
+        List<Invoice> invoices = invoiceRepository
+                .findAllByIds(List.of(testInvoice.getId(), other.getId(), new InvoiceId(UUID.randomUUID())));
+
+        // invoice + installments query, then one batch load of payments by installment ids
+        assertThat(statistics.getQueryExecutionCount()).isEqualTo(1);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+        assertThat(invoices).extracting(Invoice::getId).containsExactlyInAnyOrder(testInvoice.getId(), other.getId());
+        Invoice reloaded = invoices.stream().filter(invoice -> invoice.getId().equals(testInvoice.getId()))
+                .findFirst().orElseThrow();
+        assertThat(reloaded.getInstallments()).hasSize(3);
+        assertThat(reloaded.findInstallmentById(installmentId).getPayments()).hasSize(1);
+    }
+
+    @Test
+    @DisplayName("Should only load and write the target installment when recording a payment")
+    void shouldOnlyTouchTargetInstallmentWhenRecordingPayment() {
+        InstallmentId installmentId = testInvoice.getInstallments().get(1).getId();
+
+        transactionTemplate.executeWithoutResult(status -> {
+            Invoice partial = invoiceRepository
+                    .findByIdAndOwnerWithInstallment(testInvoice.getId(), testUser.getId(), installmentId)
+                    .orElseThrow();
+            assertThat(partial.getInstallments()).hasSize(1);
+            partial.addPayment(installmentId, LocalDate.now(), new Money(new BigDecimal("100.00")));
+            invoiceRepository.save(partial);
+        });
+
+        Invoice reloaded = invoiceRepository.findById(testInvoice.getId()).orElseThrow();
+        assertThat(reloaded.getInstallments()).hasSize(3);
+        assertThat(reloaded.getTotalAmount().amount()).isEqualByComparingTo("300.00");
+        assertThat(reloaded.getTotalPaid().amount()).isEqualByComparingTo("100.00");
+        assertThat(reloaded.getStatus()).isEqualTo(PaymentStatus.PARTIALLY_PAID);
+        assertThat(reloaded.findInstallmentById(installmentId).getStatus()).isEqualTo(PaymentStatus.PAID);
+        assertThat(reloaded.getVersion()).isGreaterThan(testInvoice.getVersion());
+        assertThat(invoiceSpringRepository.findById(testInvoice.getId().value()).orElseThrow().getNextUnpaidDueDate())
+                .isEqualTo(LocalDate.now().plusDays(10));
+    }
+
+    @Test
+    @DisplayName("Should keep the next unpaid due date of installments that were not loaded")
+    void shouldKeepNextUnpaidDueDateOfUnloadedInstallments() {
+        InstallmentId installmentId = testInvoice.getInstallments().get(0).getId();
+
+        transactionTemplate.executeWithoutResult(status -> {
+            Invoice partial = invoiceRepository
+                    .findByIdAndOwnerWithInstallment(testInvoice.getId(), testUser.getId(), installmentId)
+                    .orElseThrow();
+            partial.addPayment(installmentId, LocalDate.now(), new Money(new BigDecimal("100.00")));
+            assertThat(partial.getNextUnpaidDueDate()).isEqualTo(LocalDate.now().plusDays(40));
+            invoiceRepository.save(partial);
+        });
+
+        assertThat(invoiceSpringRepository.findById(testInvoice.getId().value()).orElseThrow().getNextUnpaidDueDate())
+                .isEqualTo(LocalDate.now().plusDays(40));
+    }
+
+    @Test
+    @DisplayName("Should record a payment on a large invoice with the same statements as on a small one")
+    void shouldRecordPaymentOnLargeInvoiceWithConstantStatements() {
+        Invoice large = Invoice.create(new InvoiceId(UUID.randomUUID()), testInvoice.getCustomerId(),
+                new InvoiceReference("INV-UOW-LARGE"), "EUR");
+        List<Installment> installments = new ArrayList<>();
+        for (int i = 0; i < 60; i++) {
+            installments.add(Installment.create(new InstallmentId(UUID.randomUUID()),
+                    new Money(new BigDecimal("100.00")), LocalDate.now().plusDays(i + 1)));
+        }
+        large.addInstallments(installments);
+        invoiceRepository.save(large);
+        statistics.clear();
+
+        paymentService.recordPayment(testUser.getId(), testInvoice.getId(),
+                testInvoice.getInstallments().get(0).getId(),
+                new CreatePaymentRequest(new BigDecimal("10.00"), LocalDate.now().toString()));
+        long smallInvoiceStatements = statistics.getPrepareStatementCount();
+        statistics.clear();
+
+        paymentService.recordPayment(testUser.getId(), large.getId(), installments.get(30).getId(),
+                new CreatePaymentRequest(new BigDecimal("10.00"), LocalDate.now().toString()));
+
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(smallInvoiceStatements);
+        assertThat(statistics.getEntityLoadCount()).isLessThanOrEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("Should reject a partially loaded invoice saved after a concurrent change")
+    void shouldRejectStalePartialInvoice() {
+        InstallmentId firstId = testInvoice.getInstallments().get(0).getId();
+        InstallmentId secondId = testInvoice.getInstallments().get(1).getId();
+        TransactionTemplate requiresNew = new TransactionTemplate(transactionManager);
+        requiresNew.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+
+        assertThatThrownBy(() -> transactionTemplate.executeWithoutResult(status -> {
+            Invoice partial = invoiceRepository
+                    .findByIdAndOwnerWithInstallment(testInvoice.getId(), testUser.getId(), firstId)
+                    .orElseThrow();
+
+            requiresNew.executeWithoutResult(inner -> paymentService.recordPayment(testUser.getId(),
+                    testInvoice.getId(), secondId,
+                    new CreatePaymentRequest(new BigDecimal("20.00"), LocalDate.now().toString())));
+
+            partial.addPayment(firstId, LocalDate.now(), new Money(new BigDecimal("30.00")));
+            invoiceRepository.save(partial);
+        })).isInstanceOf(ObjectOptimisticLockingFailureException.class);
+
+        Invoice reloaded = invoiceRepository.findById(testInvoice.getId()).orElseThrow();
+        assertThat(reloaded.getTotalPaid().amount()).isEqualByComparingTo("20.00");
+    }
+
+    @Test
+    @DisplayName("Should require a transaction to load a partial invoice")
+    void shouldRequireTransactionForPartialLoad() {
+        assertThatThrownBy(() -> invoiceRepository.findByIdAndOwnerWithInstallment(testInvoice.getId(),
+                testUser.getId(), testInvoice.getInstallments().get(0).getId()))
+                .isInstanceOf(IllegalTransactionStateException.class);
+    }
+
+    @Test
+    @DisplayName("Should write a 120 installment invoice in a few JDBC batches")
+    void shouldBatchInsertsWhenCreatingLargeInvoice() {
+        List<CreateInstallmentRequest> installments = new ArrayList<>();
+        for (int i = 0; i < 120; i++) {
+            installments.add(new CreateInstallmentRequest(new BigDecimal("25.00"),
+                    LocalDate.now().plusMonths(i + 1).toString()));
+        }
+
+        InvoiceResponse response = invoiceService.createInvoice(testUser.getId(),
+                new CreateInvoiceRequest(testInvoice.getCustomerId().value(), "INV-UOW-BATCH", "EUR", installments));
+
+        assertThat(response.installments()).hasSize(120);
+        assertThat(statistics.getEntityInsertCount()).isEqualTo(121);
+        // customer ownership check, reference uniqueness check, invoice lookup
+        assertThat(JdbcRoundTripCounter.statements()).isEqualTo(3);
+        // 1 invoice insert, 120 installment inserts in batches of 50
+        assertThat(JdbcRoundTripCounter.batches()).isEqualTo(4);
+        assertThat(JdbcRoundTripCounter.roundTrips()).isEqualTo(7);
+    }
+
+    @Test
+    @DisplayName("Should insert installments added to an existing invoice without checking if they exist")
+    void shouldBatchInsertsOfInstallmentsAddedToExistingInvoice() {
+        transactionTemplate.executeWithoutResult(status -> {
+            Invoice loaded = invoiceRepository.findById(testInvoice.getId()).orElseThrow();
+            List<Installment> installments = new ArrayList<>();
+            for (int i = 0; i < 60; i++) {
+                installments.add(Installment.create(new InstallmentId(UUID.randomUUID()),
+                        new Money(new BigDecimal("10.00")), LocalDate.now().plusDays(100 + i)));
+            }
+            loaded.addInstallments(installments);
+            invoiceRepository.save(loaded);
+        });
+
+        assertThat(statistics.getEntityInsertCount()).isEqualTo(60);
+        // invoice + installments select, payments select
+        assertThat(JdbcRoundTripCounter.statements()).isEqualTo(2);
+        // invoice version update, 60 installment inserts in batches of 50
+        assertThat(JdbcRoundTripCounter.batches()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("Should append a payment with guarded updates and one insert without loading the invoice")
+    void shouldAppendPaymentWithoutLoadingInvoice() {
+        InstallmentId installmentId = testInvoice.getInstallments().get(0).getId();
+
+        boolean appended = invoiceRepository.appendPayment(testInvoice.getId(), testUser.getId(), installmentId,
+                Payment.create(new PaymentId(UUID.randomUUID()), new Money(new BigDecimal("100.00")),
+                        LocalDate.now()));
+
+        assertThat(appended).isTrue();
+        assertThat(statistics.getEntityLoadCount()).isZero();
+        // invoice totals update, installment totals update, payment insert, next unpaid due date update
+        assertThat(JdbcRoundTripCounter.statements()).isEqualTo(4);
+        assertThat(invoiceSpringRepository.findById(testInvoice.getId().value()).orElseThrow().getNextUnpaidDueDate())
+                .isEqualTo(LocalDate.now().plusDays(40));
+
+        Invoice reloaded = invoiceRepository.findById(testInvoice.getId()).orElseThrow();
+        assertThat(reloaded.getTotalPaid().amount()).isEqualByComparingTo("100.00");
+        assertThat(reloaded.getStatus()).isEqualTo(PaymentStatus.PARTIALLY_PAID);
+        assertThat(reloaded.getVersion()).isGreaterThan(testInvoice.getVersion());
+        assertThat(reloaded.findInstallmentById(installmentId).getStatus()).isEqualTo(PaymentStatus.PAID);
+        assertThat(reloaded.findInstallmentById(installmentId).getPayments()).hasSize(1);
+    }
+
+    @Test
+    @DisplayName("Should not append a payment exceeding the remaining amount of the installment")
+    void shouldNotAppendOverpayment() {
+        InstallmentId installmentId = testInvoice.getInstallments().get(0).getId();
+
+        boolean appended = invoiceRepository.appendPayment(testInvoice.getId(), testUser.getId(), installmentId,
+                Payment.create(new PaymentId(UUID.randomUUID()), new Money(new BigDecimal("100.01")),
+                        LocalDate.now()));
+
+        assertThat(appended).isFalse();
+        Invoice reloaded = invoiceRepository.findById(testInvoice.getId()).orElseThrow();
+        assertThat(reloaded.getTotalPaid().amount()).isEqualByComparingTo("0.00");
+        assertThat(reloaded.getVersion()).isEqualTo(testInvoice.getVersion());
+        assertThat(reloaded.findInstallmentById(installmentId).getPayments()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should not append a payment to an archived invoice")
+    void shouldNotAppendPaymentToArchivedInvoice() {
+        testInvoice.archive();
+        Invoice archived = invoiceRepository.save(testInvoice);
+
+        boolean appended = invoiceRepository.appendPayment(archived.getId(), testUser.getId(),
+                archived.getInstallments().get(0).getId(), Payment.create(new PaymentId(UUID.randomUUID()),
+                        new Money(new BigDecimal("10.00")), LocalDate.now()));
+
+        assertThat(appended).isFalse();
+        assertThat(invoiceRepository.findById(archived.getId()).orElseThrow().getTotalPaid().amount())
+                .isEqualByComparingTo("0.00");
+    }
+
+    @Test
+    @DisplayName("Should delete an invoice with its installments, payments and notification logs without loading it")
+    void shouldDeleteInvoiceGraphWithBulkStatements() {
+        InstallmentId installmentId = testInvoice.getInstallments().get(0).getId();
+        testInvoice.addPayment(installmentId, LocalDate.now(), new Money(new BigDecimal("50.00")));
+        invoiceRepository.save(testInvoice);
+        notificationLogRepository.save(
+                NotificationLog.createSuccess(installmentId, new Email("contact@uow.com"), "Payment reminder"));
+        statistics.clear();
+        JdbcRoundTripCounter.reset();
+
+        boolean deleted = invoiceRepository.deleteByIdAndOwner(testInvoice.getId(), testUser.getId());
+
+        assertThat(deleted).isTrue();
+        assertThat(statistics.getEntityLoadCount()).isZero();
+        // notification logs delete, invoice delete
+        assertThat(JdbcRoundTripCounter.statements()).isEqualTo(2);
+        assertThat(invoiceSpringRepository.count()).isZero();
+        assertThat(countRows("installments")).isZero();
+        assertThat(countRows("payments")).isZero();
+        assertThat(notificationLogSpringRepository.count()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should not delete an invoice owned by another user")
+    void shouldNotDeleteInvoiceOfAnotherUser() {
+        User otherUser = userRepository.register(User.create(new UserId(UUID.randomUUID()),
+                new Email("other.uow@example.com"), "Password123!", "Other", "User"));
+
+        boolean deleted = invoiceRepository.deleteByIdAndOwner(testInvoice.getId(), otherUser.getId());
+
+        assertThat(deleted).isFalse();
+        assertThat(invoiceRepository.findById(testInvoice.getId())).isPresent();
+        assertThat(countRows("installments")).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("Should delete every invoice of a customer with the same statements regardless of their number")
+    void shouldDeleteInvoicesOfCustomerWithBulkStatements() {
+        List<Invoice> invoices = new ArrayList<>();
+        for (int i = 0; i < 200; i++) {
+            Invoice invoice = Invoice.create(new InvoiceId(UUID.randomUUID()), testInvoice.getCustomerId(),
+                    new InvoiceReference("INV-BULK-DEL-" + i), "EUR");
+            invoice.addInstallments(List.of(Installment.create(new InstallmentId(UUID.randomUUID()),
+                    new Money(new BigDecimal("10.00")), LocalDate.now().plusDays(5))));
+            invoices.add(invoice);
+        }
+        invoiceRepository.createAll(invoices);
+        notificationLogRepository.save(NotificationLog.createSuccess(invoices.get(0).getInstallments().get(0).getId(),
+                new Email("contact@uow.com"), "Payment reminder"));
+        statistics.clear();
+        JdbcRoundTripCounter.reset();
+
+        invoiceRepository.deleteByCustomerId(testInvoice.getCustomerId());
+
+        assertThat(statistics.getEntityLoadCount()).isZero();
+        assertThat(JdbcRoundTripCounter.statements()).isEqualTo(2);
+        assertThat(invoiceSpringRepository.count()).isZero();
+        assertThat(countRows("installments")).isZero();
+        assertThat(notificationLogSpringRepository.count()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should delete a customer and its invoices without loading them")
+    void shouldDeleteCustomerWithBulkStatements() {
+        Customer customer = customerRepository.findById(testInvoice.getCustomerId()).orElseThrow();
+        notificationLogRepository.save(NotificationLog.createSuccess(testInvoice.getInstallments().get(0).getId(),
+                new Email("contact@uow.com"), "Payment reminder"));
+        statistics.clear();
+        JdbcRoundTripCounter.reset();
+
+        customerRepository.delete(customer);
+
+        assertThat(statistics.getEntityLoadCount()).isZero();
+        assertThat(JdbcRoundTripCounter.statements()).isEqualTo(2);
+        assertThat(customerRepository.existsById(customer.getId())).isFalse();
+        assertThat(invoiceSpringRepository.count()).isZero();
+        assertThat(countRows("installments")).isZero();
+        assertThat(notificationLogSpringRepository.count()).isZero();
+    }
+
+    private long countRows(String table) {
+        return ((Number) entityManager.createNativeQuery("SELECT COUNT(*) FROM " + table).getSingleResult())
+                .longValue();
+    }
+}
@@ -0,0 +1,188 @@
+package com.payhint.api.infrastructure.billing.persistence.jpa.adapter;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Limit;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.payhint.api.domain.billing.model.Installment;
+import com.payhint.api.domain.billing.model.Invoice;
+import com.payhint.api.domain.billing.repository.InvoiceRepository;
+import com.payhint.api.domain.billing.valueobject.InstallmentId;
+import com.payhint.api.domain.billing.valueobject.InvoiceId;
+import com.payhint.api.domain.billing.valueobject.InvoiceReference;
+import com.payhint.api.domain.billing.valueobject.Money;
+import com.payhint.api.domain.crm.model.Customer;
+import com.payhint.api.domain.crm.model.User;
+import com.payhint.api.domain.crm.repository.CustomerRepository;
+import com.payhint.api.domain.crm.repository.UserRepository;
+import com.payhint.api.domain.crm.valueobject.CustomerId;
+import com.payhint.api.domain.crm.valueobject.UserId;
+import com.payhint.api.domain.shared.pagination.PageCursor;
+import com.payhint.api.domain.shared.valueobject.Email;
+import com.payhint.api.infrastructure.billing.persistence.jpa.repository.InvoiceSpringRepository;
+import com.payhint.api.infrastructure.billing.persistence.jpa.repository.InvoiceSummarySpringRepository;
+import com.payhint.api.infrastructure.billing.persistence.jpa.repository.InvoiceSummarySpringRepository.InvoiceSummaryProjection;
+import com.payhint.api.infrastructure.crm.persistence.jpa.repository.CustomerSpringRepository;
+import com.payhint.api.infrastructure.crm.persistence.jpa.repository.UserSpringRepository;
+
+import jakarta.persistence.EntityManager;
+
+/**
+ * Compares the former correlated EXISTS over installments with the comparison on the denormalized next unpaid due
+ * date when listing invoice summaries. Run with {@code -Dbenchmark=true}.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+@DisplayName("Invoice summary listing benchmark")
+class InvoiceSummaryListingBenchmarkTest {
+
+    private static final Logger logger = LoggerFactory.getLogger(InvoiceSummaryListingBenchmarkTest.class);
+
+    private static final int INVOICES = 500;
+    private static final int ITERATIONS = 20;
+
+    private static final String SUMMARY_SELECT = "SELECT i.id, i.customer.id, i.invoiceReference, i.totalAmount, "
+            + "i.totalPaid, i.currency, i.status, i.createdAt, i.updatedAt, i.lastStatusChangeAt, i.isArchived, ";
+
+    private static final String SUMMARY_WHERE = " FROM InvoiceJpaEntity i WHERE i.customer.id = :customerId "
+            + "ORDER BY i.createdAt, i.id";
+
+    private static final String EXISTS_QUERY = SUMMARY_SELECT + "CASE WHEN EXISTS (SELECT 1 FROM InstallmentJpaEntity "
+            + "inst WHERE inst.invoice.id = i.id AND inst.dueDate < CURRENT_DATE AND inst.status <> 'PAID') "
+            + "THEN true ELSE false END" + SUMMARY_WHERE;
+
+    private static final String COLUMN_QUERY = SUMMARY_SELECT
+            + "CASE WHEN i.nextUnpaidDueDate < CURRENT_DATE THEN true ELSE false END" + SUMMARY_WHERE;
+
+    @Autowired
+    private InvoiceRepository invoiceRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private CustomerRepository customerRepository;
+
+    @Autowired
+    private UserSpringRepository userSpringRepository;
+
+    @Autowired
+    private CustomerSpringRepository customerSpringRepository;
+
+    @Autowired
+    private InvoiceSpringRepository invoiceSpringRepository;
+
+    @Autowired
+    private InvoiceSummarySpringRepository invoiceSummarySpringRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private Customer customer;
+
+    @BeforeEach
+    void setUp() {
+        invoiceSpringRepository.deleteAll();
+        customerSpringRepository.deleteAll();
+        userSpringRepository.deleteAll();
+
+        User user = userRepository.register(User.create(new UserId(UUID.randomUUID()),
+                new Email("benchmark@example.com"), "Password123!", "Bench", "Mark"));
+        customer = customerRepository.save(Customer.create(new CustomerId(UUID.randomUUID()), user.getId(),
+                "Benchmark Inc", new Email("contact@benchmark.com")));
+    }
+
+    @AfterEach
+    void tearDown() {
+        invoiceSpringRepository.deleteAll();
+        customerSpringRepository.deleteAll();
+        userSpringRepository.deleteAll();
+    }
+
+    @ParameterizedTest(name = "{0} installments per invoice")
+    @ValueSource(ints = { 1, 10, 100 })
+    void compareOverdueFlagStrategies(int installmentsPerInvoice) {
+        createInvoices(installmentsPerInvoice);
+
+        Map<UUID, Boolean> existsFlags = list(EXISTS_QUERY);
+        assertThat(list(COLUMN_QUERY)).hasSize(INVOICES).isEqualTo(existsFlags);
+        assertThat(listSummaries()).isEqualTo(existsFlags);
+        assertThat(existsFlags.values()).contains(true, false);
+
+        for (int i = 0; i < ITERATIONS / 4; i++) {
+            list(EXISTS_QUERY);
+            list(COLUMN_QUERY);
+        }
+
+        long existsNanos = 0;
+        long columnNanos = 0;
+        for (int i = 0; i < ITERATIONS; i++) {
+            long start = System.nanoTime();
+            list(EXISTS_QUERY);
+            existsNanos += System.nanoTime() - start;
+
+            start = System.nanoTime();
+            list(COLUMN_QUERY);
+            columnNanos += System.nanoTime() - start;
+        }
+
+        logger.info("{} invoices with {} installments: correlated exists {} us, next unpaid due date {} us", INVOICES,
+                installmentsPerInvoice, existsNanos / ITERATIONS / 1000, columnNanos / ITERATIONS / 1000);
+    }
+
+    private void createInvoices(int installmentsPerInvoice) {
+        List<Invoice> invoices = new ArrayList<>();
+        for (int n = 0; n < INVOICES; n++) {
+            Invoice invoice = Invoice.create(new InvoiceId(UUID.randomUUID()), customer.getId(),
+                    new InvoiceReference("INV-BENCH-" + n), "EUR");
+            // Every other invoice has its first installment past due
+            LocalDate firstDueDate = n % 2 == 0 ? LocalDate.now().minusDays(5) : LocalDate.now().plusDays(5);
+            List<Installment> installments = new ArrayList<>();
+            for (int i = 0; i < installmentsPerInvoice; i++) {
+                installments.add(Installment.create(new InstallmentId(UUID.randomUUID()),
+                        new Money(new BigDecimal("90.00")), firstDueDate.plusMonths(i)));
+            }
+            invoice.addInstallments(installments);
+            invoices.add(invoice);
+        }
+        invoiceRepository.createAll(invoices);
+    }
+
+    private Map<UUID, Boolean> list(String query) {
+        return transactionTemplate.execute(status -> entityManager.createQuery(query, Object[].class)
+                .setParameter("customerId", customer.getId().value()).getResultList().stream()
+                .collect(Collectors.toMap(row -> (UUID) row[0], row -> (Boolean) row[11])));
+    }
+
+    private Map<UUID, Boolean> listSummaries() {
+        return transactionTemplate.execute(status -> invoiceSummarySpringRepository
+                .findSummariesByCustomerId(customer.getId().value(), PageCursor.START.timestamp(),
+                        PageCursor.START.id(), Limit.of(INVOICES))
+                .stream()
+                .collect(Collectors.toMap(InvoiceSummaryProjection::getId, InvoiceSummaryProjection::getIsOverdue)));
+    }
+}
@@ -0,0 +1,195 @@
+package com.payhint.api.infrastructure.billing.persistence.jpa.adapter;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.DefaultApplicationArguments;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.payhint.api.application.billing.dto.request.CreateInstallmentRequest;
+import com.payhint.api.application.billing.dto.request.CreateInvoiceRequest;
+import com.payhint.api.application.billing.dto.request.CreatePaymentRequest;
+import com.payhint.api.application.billing.dto.response.InvoiceResponse;
+import com.payhint.api.application.billing.service.InvoiceLifecycleService;
+import com.payhint.api.application.billing.service.PaymentProcessingService;
+import com.payhint.api.domain.billing.valueobject.InstallmentId;
+import com.payhint.api.domain.billing.valueobject.InvoiceId;
+import com.payhint.api.domain.crm.model.Customer;
+import com.payhint.api.domain.crm.model.User;
+import com.payhint.api.domain.crm.repository.CustomerRepository;
+import com.payhint.api.domain.crm.repository.UserRepository;
+import com.payhint.api.domain.crm.valueobject.CustomerId;
+import com.payhint.api.domain.crm.valueobject.UserId;
+import com.payhint.api.domain.shared.valueobject.Email;
+import com.payhint.api.infrastructure.billing.command.InvoiceSummaryRebuildCommand;
+import com.payhint.api.infrastructure.billing.persistence.jpa.entity.InvoiceSummaryJpaEntity;
+import com.payhint.api.infrastructure.billing.persistence.jpa.repository.InvoiceSpringRepository;
+import com.payhint.api.infrastructure.billing.persistence.jpa.repository.InvoiceSummarySpringRepository;
+import com.payhint.api.infrastructure.crm.persistence.jpa.repository.CustomerSpringRepository;
+import com.payhint.api.infrastructure.crm.persistence.jpa.repository.UserSpringRepository;
+
+import jakarta.persistence.EntityManager;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@TestPropertySource(properties = "application.billing.invoice-summary.rebuild-chunk-size=2")
+@DisplayName("InvoiceSummaryProjector Integration Tests")
+class InvoiceSummaryProjectorIntegrationTest {
+
+    @Autowired
+    private InvoiceSummaryProjector projector;
+
+    @Autowired
+    private InvoiceSummaryRebuildCommand rebuildCommand;
+
+    @Autowired
+    private InvoiceLifecycleService invoiceService;
+
+    @Autowired
+    private PaymentProcessingService paymentService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private CustomerRepository customerRepository;
+
+    @Autowired
+    private UserSpringRepository userSpringRepository;
+
+    @Autowired
+    private CustomerSpringRepository customerSpringRepository;
+
+    @Autowired
+    private InvoiceSpringRepository invoiceSpringRepository;
+
+    @Autowired
+    private InvoiceSummarySpringRepository invoiceSummarySpringRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private User testUser;
+    private Customer testCustomer;
+
+    @BeforeEach
+    void setUp() {
+        invoiceSpringRepository.deleteAll();
+        customerSpringRepository.deleteAll();
+        userSpringRepository.deleteAll();
+
+        testUser = userRepository.register(User.create(new UserId(UUID.randomUUID()),
+                new Email("summary@example.com"), "Password123!", "Summary", "Tester"));
+        testCustomer = customerRepository.save(Customer.create(new CustomerId(UUID.randomUUID()), testUser.getId(),
+                "Summary Corp", new Email("billing@summary.com")));
+    }
+
+    @AfterEach
+    void tearDown() {
+        invoiceSpringRepository.deleteAll();
+        customerSpringRepository.deleteAll();
+        userSpringRepository.deleteAll();
+    }
+
+    private InvoiceResponse createInvoice(String reference, CreateInstallmentRequest... installments) {
+        return invoiceService.createInvoice(testUser.getId(),
+                new CreateInvoiceRequest(testCustomer.getId().value(), reference, "EUR", List.of(installments)));
+    }
+
+    private InvoiceSummaryJpaEntity summary(String invoiceId) {
+        return invoiceSummarySpringRepository.findById(UUID.fromString(invoiceId)).orElseThrow();
+    }
+
+    @Test
+    @DisplayName("Should refresh the summary after each committed change of the invoice")
+    void shouldRefreshSummaryAfterCommit() {
+        LocalDate dueDate = LocalDate.now().minusDays(2);
+        InvoiceResponse invoice = createInvoice("INV-SUM-1",
+                new CreateInstallmentRequest(new BigDecimal("100.00"), dueDate.toString()));
+
+        InvoiceSummaryJpaEntity summary = summary(invoice.id());
+        assertThat(summary.getUserId()).isEqualTo(testUser.getId().value());
+        assertThat(summary.getCustomerName()).isEqualTo("Summary Corp");
+        assertThat(summary.getNextDueDate()).isEqualTo(dueDate);
+        assertThat(summary.getStatus()).isEqualTo("PENDING");
+
+        paymentService.recordPayment(testUser.getId(), new InvoiceId(UUID.fromString(invoice.id())),
+                new InstallmentId(UUID.fromString(invoice.installments().get(0).id())),
+                new CreatePaymentRequest(new BigDecimal("40.00"), LocalDate.now().toString()));
+
+        summary = summary(invoice.id());
+        assertThat(summary.getTotalPaid()).isEqualByComparingTo("40.00");
+        assertThat(summary.getStatus()).isEqualTo("PARTIALLY_PAID");
+
+        invoiceService.archiveInvoice(testUser.getId(), new InvoiceId(UUID.fromString(invoice.id())));
+
+        assertThat(summary(invoice.id()).isArchived()).isTrue();
+    }
+
+    @Test
+    @DisplayName("Should propagate customer renames and drop the summary of deleted invoices")
+    void shouldFollowCustomerRenamesAndInvoiceDeletions() {
+        InvoiceResponse kept = createInvoice("INV-SUM-KEPT");
+        InvoiceResponse deleted = createInvoice("INV-SUM-DELETED");
+
+        testCustomer.updateInformation("Renamed Corp", null);
+        customerRepository.save(testCustomer);
+        invoiceService.deleteInvoice(testUser.getId(), new InvoiceId(UUID.fromString(deleted.id())));
+
+        assertThat(summary(kept.id()).getCustomerName()).isEqualTo("Renamed Corp");
+        assertThat(invoiceSummarySpringRepository.findById(UUID.fromString(deleted.id()))).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should regenerate every summary in chunks")
+    void shouldRebuildSummariesInChunks() {
+        for (int i = 1; i <= 5; i++) {
+            createInvoice("INV-SUM-REBUILD-" + i);
+        }
+        List<UUID> invoiceIds = invoiceSummarySpringRepository.findAll().stream()
+                .map(InvoiceSummaryJpaEntity::getInvoiceId).toList();
+        transactionTemplate
+                .executeWithoutResult(status -> invoiceSummarySpringRepository.deleteByInvoiceIds(invoiceIds));
+        assertThat(invoiceSummarySpringRepository.count()).isZero();
+
+        assertThat(projector.rebuild()).isEqualTo(5);
+
+        assertThat(invoiceSummarySpringRepository.findAll()).extracting(InvoiceSummaryJpaEntity::getInvoiceReference)
+                .containsExactlyInAnyOrder("INV-SUM-REBUILD-1", "INV-SUM-REBUILD-2", "INV-SUM-REBUILD-3",
+                        "INV-SUM-REBUILD-4", "INV-SUM-REBUILD-5");
+    }
+
+    @Test
+    @DisplayName("Should backfill the next unpaid due dates before rebuilding the summaries")
+    void shouldBackfillNextUnpaidDueDatesOnRebuild() {
+        LocalDate dueDate = LocalDate.now().minusDays(3);
+        InvoiceResponse invoice = createInvoice("INV-SUM-BACKFILL",
+                new CreateInstallmentRequest(new BigDecimal("100.00"), dueDate.toString()),
+                new CreateInstallmentRequest(new BigDecimal("50.00"), dueDate.plusDays(30).toString()));
+        createInvoice("INV-SUM-BACKFILL-EMPTY");
+        transactionTemplate.executeWithoutResult(status -> entityManager
+                .createQuery("UPDATE InvoiceJpaEntity i SET i.nextUnpaidDueDate = NULL").executeUpdate());
+
+        rebuildCommand.run(new DefaultApplicationArguments("--" + InvoiceSummaryRebuildCommand.OPTION));
+
+        assertThat(invoiceSpringRepository.findById(UUID.fromString(invoice.id())).orElseThrow()
+                .getNextUnpaidDueDate()).isEqualTo(dueDate);
+        assertThat(invoiceSummarySpringRepository.findById(UUID.fromString(invoice.id())).orElseThrow()
+                .getNextDueDate()).isEqualTo(dueDate);
+    }
+}
@@ -0,0 +1,42 @@
+package com.payhint.api.infrastructure.billing.persistence.jpa.adapter;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.hibernate.SessionEventListener;
+
+/**
+ * Counts the JDBC round-trips of every Hibernate session: each executed statement and each executed batch counts as
+ * one. Registered through {@code hibernate.session.events.auto}.
+ */
+public class JdbcRoundTripCounter implements SessionEventListener {
+
+    private static final AtomicLong statements = new AtomicLong();
+    private static final AtomicLong batches = new AtomicLong();
+
+    public static void reset() {
+        statements.set(0);
+        batches.set(0);
+    }
+
+    public static long statements() {
+        return statements.get();
+    }
+
+    public static long batches() {
+        return batches.get();
+    }
+
+    public static long roundTrips() {
+        return statements.get() + batches.get();
+    }
+
+    @Override
+    public void jdbcExecuteStatementEnd() {
+        statements.incrementAndGet();
+    }
+
+    @Override
+    public void jdbcExecuteBatchEnd() {
+        batches.incrementAndGet();
+    }
+}
@@ -0,0 +1,184 @@
+package com.payhint.api.infrastructure.billing.web.controller;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.hasSize;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.Collections;
+import java.util.UUID;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import com.payhint.api.domain.billing.model.Invoice;
+import com.payhint.api.domain.billing.repository.InvoiceRepository;
+import com.payhint.api.domain.billing.valueobject.InvoiceId;
+import com.payhint.api.domain.billing.valueobject.InvoiceReference;
+import com.payhint.api.domain.billing.valueobject.Money;
+import com.payhint.api.domain.crm.model.Customer;
+import com.payhint.api.domain.crm.model.User;
+import com.payhint.api.domain.crm.repository.CustomerRepository;
+import com.payhint.api.domain.crm.repository.UserRepository;
+import com.payhint.api.domain.crm.valueobject.CustomerId;
+import com.payhint.api.domain.crm.valueobject.UserId;
+import com.payhint.api.domain.shared.valueobject.Email;
+import com.payhint.api.infrastructure.billing.persistence.jpa.repository.InvoiceSpringRepository;
+import com.payhint.api.infrastructure.crm.persistence.jpa.repository.CustomerSpringRepository;
+import com.payhint.api.infrastructure.crm.persistence.jpa.repository.UserSpringRepository;
+import com.payhint.api.infrastructure.shared.security.JwtTokenProvider;
+import com.payhint.api.infrastructure.shared.security.RateLimitingFilter;
+import com.payhint.api.infrastructure.shared.security.UserPrincipal;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@DisplayName("AgingReportController Integration Tests")
+class AgingReportControllerIntegrationTest {
+
+        @Autowired
+        private MockMvc mockMvc;
+
+        @Autowired
+        private UserRepository userRepository;
+
+        @Autowired
+        private CustomerRepository customerRepository;
+
+        @Autowired
+        private InvoiceRepository invoiceRepository;
+
+        @Autowired
+        private UserSpringRepository userSpringRepository;
+
+        @Autowired
+        private CustomerSpringRepository customerSpringRepository;
+
+        @Autowired
+        private InvoiceSpringRepository invoiceSpringRepository;
+
+        @Autowired
+        private JwtTokenProvider jwtTokenProvider;
+
+        @Autowired
+        private RateLimitingFilter rateLimitingFilter;
+
+        private Customer testCustomer;
+        private String jwtToken;
+
+        @BeforeEach
+        void setUp() {
+                invoiceSpringRepository.deleteAll();
+                customerSpringRepository.deleteAll();
+                userSpringRepository.deleteAll();
+                rateLimitingFilter.clearBuckets();
+
+                User testUser = userRepository.register(User.create(new UserId(UUID.randomUUID()),
+                                new Email("test.aging@payhint.com"), "Password123!", "Test", "User"));
+                testCustomer = customerRepository.save(Customer.create(new CustomerId(UUID.randomUUID()),
+                                testUser.getId(), "Aging, Ltd", new Email("contact@aging.com")));
+
+                UserPrincipal userPrincipal = new UserPrincipal(testUser.getId().value(), testUser.getEmail().value(),
+                                testUser.getPassword(),
+                                Collections.singletonList(new SimpleGrantedAuthority("ROLE_USER")));
+                jwtToken = jwtTokenProvider.generateToken(userPrincipal);
+        }
+
+        @AfterEach
+        void tearDown() {
+                invoiceSpringRepository.deleteAll();
+                customerSpringRepository.deleteAll();
+                userSpringRepository.deleteAll();
+                rateLimitingFilter.clearBuckets();
+        }
+
+        private void createInvoice(String reference, String currency, int... daysPastDue) {
+                Invoice invoice = Invoice.create(new InvoiceId(UUID.randomUUID()), testCustomer.getId(),
+                                new InvoiceReference(reference), currency);
+                for (int days : daysPastDue) {
+                        invoice.addInstallment(new Money(new BigDecimal("10.00")), LocalDate.now().minusDays(days));
+                }
+                invoiceRepository.save(invoice);
+        }
+
+        @Test
+        @DisplayName("Should bucket the outstanding amounts by days past due")
+        void shouldReturnAgingReport() throws Exception {
+                createInvoice("INV-AGING-001", "EUR", -5, 0, 1, 30, 31, 60, 61, 90, 91, 400);
+                createInvoice("INV-AGING-002", "USD", 15);
+
+                mockMvc.perform(get("/api/reports/aging").header("Authorization", "Bearer " + jwtToken))
+                                .andExpect(status().isOk())
+                                .andExpect(jsonPath("$.asOf").value(LocalDate.now().toString()))
+                                .andExpect(jsonPath("$.customers", hasSize(2)))
+                                .andExpect(jsonPath("$.customers[0].customerName").value("Aging, Ltd"))
+                                .andExpect(jsonPath("$.customers[0].currency").value("EUR"))
+                                .andExpect(jsonPath("$.customers[0].current").value(20.00))
+                                .andExpect(jsonPath("$.customers[0].days1To30").value(20.00))
+                                .andExpect(jsonPath("$.customers[0].days31To60").value(20.00))
+                                .andExpect(jsonPath("$.customers[0].days61To90").value(20.00))
+                                .andExpect(jsonPath("$.customers[0].over90Days").value(20.00))
+                                .andExpect(jsonPath("$.customers[0].totalOutstanding").value(100.00))
+                                .andExpect(jsonPath("$.customers[1].currency").value("USD"))
+                                .andExpect(jsonPath("$.customers[1].days1To30").value(10.00));
+        }
+
+        @Test
+        @DisplayName("Should stream the aging report as CSV")
+        void shouldExportAgingReportAsCsv() throws Exception {
+                createInvoice("INV-AGING-003", "EUR", 45);
+
+                var result = mockMvc
+                                .perform(get("/api/reports/aging").accept("text/csv").header("Authorization",
+                                                "Bearer " + jwtToken))
+                                .andExpect(request().asyncStarted()).andReturn();
+                String body = mockMvc.perform(asyncDispatch(result)).andExpect(status().isOk())
+                                .andExpect(header().string("Content-Disposition",
+                                                "attachment; filename=\"aging-report.csv\""))
+                                .andReturn().getResponse().getContentAsString();
+
+                assertThat(body.split("\r\n")).containsExactly(
+                                "customerId,customerName,currency,current,days1To30,days31To60,days61To90,over90Days,totalOutstanding",
+                                testCustomer.getId().value() + ",\"Aging, Ltd\",EUR,0.00,0.00,10.00,0.00,0.00,10.00");
+        }
+
+        @Test
+        @DisplayName("Should neutralize customer names that spreadsheets would evaluate as formulas")
+        void shouldNeutralizeFormulasInCsv() throws Exception {
+                testCustomer.updateInformation("=HYPERLINK(\"http://evil\",\"x\")", null);
+                testCustomer = customerRepository.save(testCustomer);
+                createInvoice("INV-AGING-004", "EUR", 45);
+
+                var result = mockMvc
+                                .perform(get("/api/reports/aging").accept("text/csv").header("Authorization",
+                                                "Bearer " + jwtToken))
+                                .andExpect(request().asyncStarted()).andReturn();
+                String body = mockMvc.perform(asyncDispatch(result)).andExpect(status().isOk()).andReturn()
+                                .getResponse().getContentAsString();
+
+                assertThat(body.split("\r\n")).containsExactly(
+                                "customerId,customerName,currency,current,days1To30,days31To60,days61To90,over90Days,totalOutstanding",
+                                testCustomer.getId().value()
+                                                + ",\"'=HYPERLINK(\"\"http://evil\"\",\"\"x\"\")\",EUR,0.00,0.00,10.00,0.00,0.00,10.00");
+        }
+
+        @Test
+        @DisplayName("Should require authentication")
+        void shouldRequireAuthentication() throws Exception {
+                mockMvc.perform(get("/api/reports/aging")).andExpect(status().isForbidden());
+        }
+}
@@ -0,0 +1,200 @@
+package com.payhint.api.infrastructure.billing.web.controller;
+
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.empty;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.math.BigDecimal;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.temporal.TemporalAdjusters;
+import java.util.Collections;
+import java.util.UUID;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.payhint.api.application.billing.dto.request.CreateInstallmentRequest;
+import com.payhint.api.application.billing.dto.request.CreatePaymentRequest;
+import com.payhint.api.domain.billing.model.Invoice;
+import com.payhint.api.domain.billing.repository.InvoiceRepository;
+import com.payhint.api.domain.billing.valueobject.InvoiceId;
+import com.payhint.api.domain.billing.valueobject.InvoiceReference;
+import com.payhint.api.domain.billing.valueobject.Money;
+import com.payhint.api.domain.crm.model.Customer;
+import com.payhint.api.domain.crm.model.User;
+import com.payhint.api.domain.crm.repository.CustomerRepository;
+import com.payhint.api.domain.crm.repository.UserRepository;
+import com.payhint.api.domain.crm.valueobject.CustomerId;
+import com.payhint.api.domain.crm.valueobject.UserId;
+import com.payhint.api.domain.shared.valueobject.Email;
+import com.payhint.api.infrastructure.billing.persistence.jpa.repository.InvoiceSpringRepository;
+import com.payhint.api.infrastructure.crm.persistence.jpa.repository.CustomerSpringRepository;
+import com.payhint.api.infrastructure.crm.persistence.jpa.repository.UserSpringRepository;
+import com.payhint.api.infrastructure.shared.security.JwtTokenProvider;
+import com.payhint.api.infrastructure.shared.security.RateLimitingFilter;
+import com.payhint.api.infrastructure.shared.security.UserPrincipal;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@DisplayName("CashFlowForecastController Integration Tests")
+class CashFlowForecastControllerIntegrationTest {
+
+        @Autowired
+        private MockMvc mockMvc;
+
+        @Autowired
+        private UserRepository userRepository;
+
+        @Autowired
+        private CustomerRepository customerRepository;
+
+        @Autowired
+        private InvoiceRepository invoiceRepository;
+
+        @Autowired
+        private UserSpringRepository userSpringRepository;
+
+        @Autowired
+        private CustomerSpringRepository customerSpringRepository;
+
+        @Autowired
+        private InvoiceSpringRepository invoiceSpringRepository;
+
+        @Autowired
+        private ObjectMapper objectMapper;
+
+        @Autowired
+        private JwtTokenProvider jwtTokenProvider;
+
+        @Autowired
+        private RateLimitingFilter rateLimitingFilter;
+
+        private Customer testCustomer;
+        private String jwtToken;
+
+        @BeforeEach
+        void setUp() {
+                invoiceSpringRepository.deleteAll();
+                customerSpringRepository.deleteAll();
+                userSpringRepository.deleteAll();
+                rateLimitingFilter.clearBuckets();
+
+                User testUser = userRepository.register(User.create(new UserId(UUID.randomUUID()),
+                                new Email("test.forecast@payhint.com"), "Password123!", "Test", "User"));
+                testCustomer = customerRepository.save(Customer.create(new CustomerId(UUID.randomUUID()),
+                                testUser.getId(), "Forecast Co", new Email("contact@forecast.com")));
+
+                UserPrincipal userPrincipal = new UserPrincipal(testUser.getId().value(), testUser.getEmail().value(),
+                                testUser.getPassword(),
+                                Collections.singletonList(new SimpleGrantedAuthority("ROLE_USER")));
+                jwtToken = jwtTokenProvider.generateToken(userPrincipal);
+        }
+
+        @AfterEach
+        void tearDown() {
+                invoiceSpringRepository.deleteAll();
+                customerSpringRepository.deleteAll();
+                userSpringRepository.deleteAll();
+                rateLimitingFilter.clearBuckets();
+        }
+
+        private Invoice createInvoice(String reference, int... daysUntilDue) {
+                Invoice invoice = Invoice.create(new InvoiceId(UUID.randomUUID()), testCustomer.getId(),
+                                new InvoiceReference(reference), "EUR");
+                for (int days : daysUntilDue) {
+                        invoice.addInstallment(new Money(new BigDecimal("10.00")), LocalDate.now().plusDays(days));
+                }
+                return invoiceRepository.save(invoice);
+        }
+
+        private static String weekOf(int daysFromNow) {
+                return LocalDate.now().plusDays(daysFromNow).with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY))
+                                .toString();
+        }
+
+        private static String eurInWeekOf(int daysFromNow) {
+                return "$.periods[?(@.start == '" + weekOf(daysFromNow) + "')].expectedByCurrency.EUR";
+        }
+
+        @Test
+        @DisplayName("Should bucket the remaining amounts per week with overdue installments in the first one")
+        void shouldForecastPerWeek() throws Exception {
+                createInvoice("INV-FORECAST-001", -3, 7, 14, 45);
+
+                mockMvc.perform(get("/api/reports/cash-flow").param("period", "week").param("months", "1")
+                                .header("Authorization", "Bearer " + jwtToken)).andExpect(status().isOk())
+                                .andExpect(jsonPath("$.asOf").value(LocalDate.now().toString()))
+                                .andExpect(jsonPath("$.period").value("week"))
+                                .andExpect(jsonPath("$.periods[0].start").value(weekOf(0)))
+                                .andExpect(jsonPath(eurInWeekOf(0)).value(contains(10.00)))
+                                .andExpect(jsonPath(eurInWeekOf(7)).value(contains(10.00)))
+                                .andExpect(jsonPath(eurInWeekOf(14)).value(contains(10.00)))
+                                .andExpect(jsonPath("$.periods[?(@.start == '" + weekOf(45) + "')]").value(empty()));
+
+                mockMvc.perform(get("/api/reports/cash-flow").header("Authorization", "Bearer " + jwtToken))
+                                .andExpect(status().isOk()).andExpect(jsonPath("$.period").value("month"))
+                                .andExpect(jsonPath("$.periods[0].start")
+                                                .value(LocalDate.now().withDayOfMonth(1).toString()));
+        }
+
+        @Test
+        @DisplayName("Should shift the installments of late payers and refresh after a billing change")
+        void shouldWeightByLatenessAndRefreshAfterChange() throws Exception {
+                Invoice paidLate = createInvoice("INV-FORECAST-LATE", -20);
+                mockMvc.perform(post("/api/invoices/{invoiceId}/installments/{installmentId}/payments",
+                                paidLate.getId().value(), paidLate.getInstallments().get(0).getId().value())
+                                .header("Authorization", "Bearer " + jwtToken).contentType(MediaType.APPLICATION_JSON)
+                                .content(objectMapper.writeValueAsString(new CreatePaymentRequest(
+                                                new BigDecimal("10.00"), LocalDate.now().toString()))))
+                                .andExpect(status().isCreated());
+                Invoice upcoming = createInvoice("INV-FORECAST-NEXT", 1);
+                createInvoice("INV-FORECAST-OVERDUE", -12, -30);
+
+                mockMvc.perform(get("/api/reports/cash-flow").param("period", "week").param("weighted", "true")
+                                .header("Authorization", "Bearer " + jwtToken)).andExpect(status().isOk())
+                                .andExpect(jsonPath("$.weighted").value(true))
+                                .andExpect(jsonPath(eurInWeekOf(0)).value(contains(10.00)))
+                                .andExpect(jsonPath(eurInWeekOf(8)).value(contains(10.00)))
+                                .andExpect(jsonPath(eurInWeekOf(21)).value(contains(10.00)));
+
+                mockMvc.perform(post("/api/invoices/{invoiceId}/installments", upcoming.getId().value())
+                                .header("Authorization", "Bearer " + jwtToken).contentType(MediaType.APPLICATION_JSON)
+                                .content(objectMapper.writeValueAsString(new CreateInstallmentRequest(
+                                                new BigDecimal("5.00"), LocalDate.now().plusDays(8).toString()))))
+                                .andExpect(status().isCreated());
+
+                mockMvc.perform(get("/api/reports/cash-flow").param("period", "week")
+                                .header("Authorization", "Bearer " + jwtToken)).andExpect(status().isOk())
+                                .andExpect(jsonPath(eurInWeekOf(8)).value(contains(5.00)));
+        }
+
+        @Test
+        @DisplayName("Should return 400 for an unsupported period or horizon")
+        void shouldRejectInvalidParameters() throws Exception {
+                mockMvc.perform(get("/api/reports/cash-flow").param("period", "year").header("Authorization",
+                                "Bearer " + jwtToken)).andExpect(status().isBadRequest());
+                mockMvc.perform(get("/api/reports/cash-flow").param("months", "13").header("Authorization",
+                                "Bearer " + jwtToken)).andExpect(status().isBadRequest());
+        }
+
+        @Test
+        @DisplayName("Should require authentication")
+        void shouldRequireAuthentication() throws Exception {
+                mockMvc.perform(get("/api/reports/cash-flow")).andExpect(status().isForbidden());
+        }
+}
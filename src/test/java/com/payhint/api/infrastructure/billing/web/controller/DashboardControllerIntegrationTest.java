@@ -0,0 +1,128 @@
+package com.payhint.api.infrastructure.billing.web.controller;
+
+import static org.hamcrest.Matchers.hasSize;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.Collections;
+import java.util.UUID;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import com.payhint.api.domain.billing.model.Invoice;
+import com.payhint.api.domain.billing.repository.InvoiceRepository;
+import com.payhint.api.domain.billing.valueobject.InvoiceId;
+import com.payhint.api.domain.billing.valueobject.InvoiceReference;
+import com.payhint.api.domain.billing.valueobject.Money;
+import com.payhint.api.domain.crm.model.Customer;
+import com.payhint.api.domain.crm.model.User;
+import com.payhint.api.domain.crm.repository.CustomerRepository;
+import com.payhint.api.domain.crm.repository.UserRepository;
+import com.payhint.api.domain.crm.valueobject.CustomerId;
+import com.payhint.api.domain.crm.valueobject.UserId;
+import com.payhint.api.domain.shared.valueobject.Email;
+import com.payhint.api.infrastructure.billing.persistence.jpa.repository.InvoiceSpringRepository;
+import com.payhint.api.infrastructure.crm.persistence.jpa.repository.CustomerSpringRepository;
+import com.payhint.api.infrastructure.crm.persistence.jpa.repository.UserSpringRepository;
+import com.payhint.api.infrastructure.shared.security.JwtTokenProvider;
+import com.payhint.api.infrastructure.shared.security.RateLimitingFilter;
+import com.payhint.api.infrastructure.shared.security.UserPrincipal;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@DisplayName("DashboardController Integration Tests")
+class DashboardControllerIntegrationTest {
+
+        @Autowired
+        private MockMvc mockMvc;
+
+        @Autowired
+        private UserRepository userRepository;
+
+        @Autowired
+        private CustomerRepository customerRepository;
+
+        @Autowired
+        private InvoiceRepository invoiceRepository;
+
+        @Autowired
+        private UserSpringRepository userSpringRepository;
+
+        @Autowired
+        private CustomerSpringRepository customerSpringRepository;
+
+        @Autowired
+        private InvoiceSpringRepository invoiceSpringRepository;
+
+        @Autowired
+        private JwtTokenProvider jwtTokenProvider;
+
+        @Autowired
+        private RateLimitingFilter rateLimitingFilter;
+
+        private Customer testCustomer;
+        private String jwtToken;
+
+        @BeforeEach
+        void setUp() {
+                invoiceSpringRepository.deleteAll();
+                customerSpringRepository.deleteAll();
+                userSpringRepository.deleteAll();
+                rateLimitingFilter.clearBuckets();
+
+                User testUser = userRepository.register(User.create(new UserId(UUID.randomUUID()),
+                                new Email("test.dashboard@payhint.com"), "Password123!", "Test", "User"));
+                testCustomer = customerRepository.save(Customer.create(new CustomerId(UUID.randomUUID()),
+                                testUser.getId(), "Test Dashboard Co", new Email("contact@dashboard.com")));
+
+                UserPrincipal userPrincipal = new UserPrincipal(testUser.getId().value(), testUser.getEmail().value(),
+                                testUser.getPassword(),
+                                Collections.singletonList(new SimpleGrantedAuthority("ROLE_USER")));
+                jwtToken = jwtTokenProvider.generateToken(userPrincipal);
+        }
+
+        @AfterEach
+        void tearDown() {
+                invoiceSpringRepository.deleteAll();
+                customerSpringRepository.deleteAll();
+                userSpringRepository.deleteAll();
+                rateLimitingFilter.clearBuckets();
+        }
+
+        @Test
+        @DisplayName("Should return the per-currency totals of the user")
+        void shouldReturnDashboard() throws Exception {
+                Invoice invoice = Invoice.create(new InvoiceId(UUID.randomUUID()), testCustomer.getId(),
+                                new InvoiceReference("INV-DASH-001"), "USD");
+                invoice.addInstallment(new Money(new BigDecimal("120.00")), LocalDate.now().minusDays(2));
+                invoiceRepository.save(invoice);
+
+                mockMvc.perform(get("/api/dashboard").header("Authorization", "Bearer " + jwtToken))
+                                .andExpect(status().isOk())
+                                .andExpect(jsonPath("$.asOf").value(LocalDate.now().toString()))
+                                .andExpect(jsonPath("$.currencies", hasSize(1)))
+                                .andExpect(jsonPath("$.currencies[0].currency").value("USD"))
+                                .andExpect(jsonPath("$.currencies[0].totalOutstanding").value(120.00))
+                                .andExpect(jsonPath("$.currencies[0].overdueAmount").value(120.00))
+                                .andExpect(jsonPath("$.currencies[0].invoicesByStatus.PENDING").value(1));
+        }
+
+        @Test
+        @DisplayName("Should require authentication")
+        void shouldRequireAuthentication() throws Exception {
+                mockMvc.perform(get("/api/dashboard")).andExpect(status().isForbidden());
+        }
+}
@@ -1,17 +1,25 @@
 package com.payhint.api.infrastructure.billing.web.controller;
 
+import static org.hamcrest.Matchers.contains;
 import static org.hamcrest.Matchers.containsInAnyOrder;
 import static org.hamcrest.Matchers.containsString;
 import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.not;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.UUID;
@@ -32,11 +40,15 @@ import org.springframework.test.web.servlet.MockMvc;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.payhint.api.application.billing.dto.request.CreateInstallmentRequest;
 import com.payhint.api.application.billing.dto.request.CreateInvoiceRequest;
+import com.payhint.api.application.billing.dto.request.CreatePaymentRequest;
 import com.payhint.api.application.billing.dto.request.UpdateInvoiceRequest;
+import com.payhint.api.application.billing.dto.response.InvoiceImportResult;
+import com.payhint.api.application.billing.dto.response.InvoiceSummaryResponse;
 import com.payhint.api.domain.billing.model.Invoice;
 import com.payhint.api.domain.billing.repository.InvoiceRepository;
 import com.payhint.api.domain.billing.valueobject.InvoiceId;
 import com.payhint.api.domain.billing.valueobject.InvoiceReference;
+import com.payhint.api.domain.billing.valueobject.Money;
 import com.payhint.api.domain.crm.model.Customer;
 import com.payhint.api.domain.crm.model.User;
 import com.payhint.api.domain.crm.repository.CustomerRepository;
@@ -47,6 +59,9 @@ import com.payhint.api.domain.shared.valueobject.Email;
 import com.payhint.api.infrastructure.billing.persistence.jpa.repository.InvoiceSpringRepository;
 import com.payhint.api.infrastructure.crm.persistence.jpa.repository.CustomerSpringRepository;
 import com.payhint.api.infrastructure.crm.persistence.jpa.repository.UserSpringRepository;
+import com.payhint.api.infrastructure.shared.idempotency.IdempotencyFilter;
+import com.payhint.api.infrastructure.shared.idempotency.IdempotencyStore;
+import com.payhint.api.infrastructure.shared.persistence.jpa.repository.IdempotencyRecordSpringRepository;
 import com.payhint.api.infrastructure.shared.security.JwtTokenProvider;
 import com.payhint.api.infrastructure.shared.security.RateLimitingFilter;
 import com.payhint.api.infrastructure.shared.security.UserPrincipal;
@@ -87,6 +102,12 @@ class InvoiceControllerIntegrationTest {
         @Autowired
         private RateLimitingFilter rateLimitingFilter;
 
+        @Autowired
+        private IdempotencyRecordSpringRepository idempotencyRecordSpringRepository;
+
+        @Autowired
+        private IdempotencyStore idempotencyStore;
+
         private User testUser;
         private Customer testCustomer;
         private String jwtToken;
@@ -114,6 +135,8 @@ class InvoiceControllerIntegrationTest {
 
         @AfterEach
         void tearDown() {
+                idempotencyRecordSpringRepository.deleteAll();
+                idempotencyStore.clearCache();
                 invoiceSpringRepository.deleteAll();
                 customerSpringRepository.deleteAll();
                 userSpringRepository.deleteAll();
@@ -140,6 +163,52 @@ class InvoiceControllerIntegrationTest {
                                                         .value(testCustomer.getId().value().toString()));
                 }
 
+                @Test
+                @DisplayName("Should return the original invoice when retried with the same Idempotency-Key")
+                void shouldReplayCreateInvoiceWithSameIdempotencyKey() throws Exception {
+                        CreateInvoiceRequest request = new CreateInvoiceRequest(testCustomer.getId().value(), "INV-001",
+                                        "EUR", null);
+                        String body = objectMapper.writeValueAsString(request);
+
+                        String originalResponse = mockMvc
+                                        .perform(post("/api/invoices").header("Authorization", "Bearer " + jwtToken)
+                                                        .header(IdempotencyFilter.IDEMPOTENCY_KEY_HEADER, "create-inv-001")
+                                                        .contentType(MediaType.APPLICATION_JSON).content(body))
+                                        .andExpect(status().isCreated()).andReturn().getResponse().getContentAsString();
+
+                        mockMvc.perform(post("/api/invoices").header("Authorization", "Bearer " + jwtToken)
+                                        .header(IdempotencyFilter.IDEMPOTENCY_KEY_HEADER, "create-inv-001")
+                                        .contentType(MediaType.APPLICATION_JSON).content(body))
+                                        .andExpect(status().isCreated())
+                                        .andExpect(header().string(IdempotencyFilter.REPLAYED_HEADER, "true"))
+                                        .andExpect(content().json(originalResponse, true));
+
+                        assertThat(invoiceRepository.findAllByCustomerId(testCustomer.getId())).hasSize(1);
+                }
+
+                @Test
+                @DisplayName("Should not store a 409 so that a retry with the same Idempotency-Key executes again")
+                void shouldReleaseIdempotencyKeyOnConflict() throws Exception {
+                        Invoice existing = invoiceRepository.save(Invoice.create(new InvoiceId(UUID.randomUUID()),
+                                        testCustomer.getId(), new InvoiceReference("INV-DUP"), "EUR"));
+                        String body = objectMapper.writeValueAsString(
+                                        new CreateInvoiceRequest(testCustomer.getId().value(), "INV-DUP", "EUR", null));
+
+                        mockMvc.perform(post("/api/invoices").header("Authorization", "Bearer " + jwtToken)
+                                        .header(IdempotencyFilter.IDEMPOTENCY_KEY_HEADER, "create-inv-dup")
+                                        .contentType(MediaType.APPLICATION_JSON).content(body))
+                                        .andExpect(status().isConflict());
+                        assertThat(idempotencyRecordSpringRepository.findAll()).isEmpty();
+
+                        invoiceRepository.deleteByIdAndOwner(existing.getId(), testUser.getId());
+
+                        mockMvc.perform(post("/api/invoices").header("Authorization", "Bearer " + jwtToken)
+                                        .header(IdempotencyFilter.IDEMPOTENCY_KEY_HEADER, "create-inv-dup")
+                                        .contentType(MediaType.APPLICATION_JSON).content(body))
+                                        .andExpect(status().isCreated())
+                                        .andExpect(header().doesNotExist(IdempotencyFilter.REPLAYED_HEADER));
+                }
+
                 @Test
                 @DisplayName("Should create invoice with installments successfully")
                 void shouldCreateInvoiceWithInstallments() throws Exception {
@@ -238,6 +307,96 @@ class InvoiceControllerIntegrationTest {
                                         .andExpect(jsonPath("$.invoiceReference").value("INV-GET"));
                 }
 
+                @Test
+                @DisplayName("Should answer 304 while the invoice version is unchanged")
+                void shouldReturn304UntilInvoiceChanges() throws Exception {
+                        Invoice invoice = Invoice.create(new InvoiceId(UUID.randomUUID()), testCustomer.getId(),
+                                        new InvoiceReference("INV-ETAG"), "EUR");
+                        invoiceRepository.save(invoice);
+
+                        String etag = mockMvc
+                                        .perform(get("/api/invoices/{id}", invoice.getId().value())
+                                                        .header("Authorization", "Bearer " + jwtToken))
+                                        .andExpect(status().isOk()).andExpect(header().exists("ETag"))
+                                        .andReturn().getResponse().getHeader("ETag");
+                        assertThat(etag).startsWith("\"");
+
+                        mockMvc.perform(get("/api/invoices/{id}", invoice.getId().value())
+                                        .header("Authorization", "Bearer " + jwtToken).header("If-None-Match", etag))
+                                        .andExpect(status().isNotModified()).andExpect(header().string("ETag", etag))
+                                        .andExpect(content().string(""));
+
+                        mockMvc.perform(put("/api/invoices/{id}", invoice.getId().value())
+                                        .header("Authorization", "Bearer " + jwtToken)
+                                        .contentType(MediaType.APPLICATION_JSON).content(objectMapper
+                                                        .writeValueAsString(new UpdateInvoiceRequest("INV-ETAG-2", "EUR"))))
+                                        .andExpect(status().isOk());
+
+                        mockMvc.perform(get("/api/invoices/{id}", invoice.getId().value())
+                                        .header("Authorization", "Bearer " + jwtToken).header("If-None-Match", etag))
+                                        .andExpect(status().isOk())
+                                        .andExpect(jsonPath("$.invoiceReference").value("INV-ETAG-2"))
+                                        .andExpect(header().string("ETag", not(etag)));
+                }
+
+                @Test
+                @DisplayName("Should limit the invoice to the requested depth and fields")
+                void shouldLimitInvoiceToDepthAndFields() throws Exception {
+                        Invoice invoice = Invoice.create(new InvoiceId(UUID.randomUUID()), testCustomer.getId(),
+                                        new InvoiceReference("INV-DEPTH"), "EUR");
+                        invoice.addInstallment(new Money(new BigDecimal("100.00")), LocalDate.now().minusDays(1));
+                        invoiceRepository.save(invoice);
+                        mockMvc.perform(post("/api/invoices/{invoiceId}/installments/{installmentId}/payments",
+                                        invoice.getId().value(), invoice.getInstallments().get(0).getId().value())
+                                        .header("Authorization", "Bearer " + jwtToken)
+                                        .contentType(MediaType.APPLICATION_JSON)
+                                        .content(objectMapper.writeValueAsString(new CreatePaymentRequest(
+                                                        new BigDecimal("40.00"), LocalDate.now().toString()))))
+                                        .andExpect(status().isCreated());
+
+                        mockMvc.perform(get("/api/invoices/{id}", invoice.getId().value())
+                                        .header("Authorization", "Bearer " + jwtToken))
+                                        .andExpect(status().isOk())
+                                        .andExpect(jsonPath("$.installments[0].payments", hasSize(1)));
+
+                        mockMvc.perform(get("/api/invoices/{id}", invoice.getId().value()).param("depth", "1")
+                                        .header("Authorization", "Bearer " + jwtToken))
+                                        .andExpect(status().isOk())
+                                        .andExpect(jsonPath("$.installments", hasSize(1)))
+                                        .andExpect(jsonPath("$.installments[0].amountPaid").value(40.00))
+                                        .andExpect(jsonPath("$.installments[0].payments").doesNotExist());
+
+                        mockMvc.perform(get("/api/invoices/{id}", invoice.getId().value()).param("depth", "0")
+                                        .header("Authorization", "Bearer " + jwtToken))
+                                        .andExpect(status().isOk())
+                                        .andExpect(jsonPath("$.totalPaid").value(40.00))
+                                        .andExpect(jsonPath("$.isOverdue").value(true))
+                                        .andExpect(jsonPath("$.installments").doesNotExist());
+
+                        mockMvc.perform(get("/api/invoices/{id}", invoice.getId().value()).param("fields", "id,status")
+                                        .header("Authorization", "Bearer " + jwtToken))
+                                        .andExpect(status().isOk())
+                                        .andExpect(jsonPath("$.id").value(invoice.getId().value().toString()))
+                                        .andExpect(jsonPath("$.status").value("PARTIALLY_PAID"))
+                                        .andExpect(jsonPath("$.invoiceReference").doesNotExist())
+                                        .andExpect(jsonPath("$.installments").doesNotExist());
+                }
+
+                @Test
+                @DisplayName("Should return 400 for an unknown field or depth")
+                void shouldReturn400ForUnknownFieldOrDepth() throws Exception {
+                        Invoice invoice = Invoice.create(new InvoiceId(UUID.randomUUID()), testCustomer.getId(),
+                                        new InvoiceReference("INV-FIELDS"), "EUR");
+                        invoiceRepository.save(invoice);
+
+                        mockMvc.perform(get("/api/invoices/{id}", invoice.getId().value()).param("fields", "id,secret")
+                                        .header("Authorization", "Bearer " + jwtToken))
+                                        .andExpect(status().isBadRequest());
+                        mockMvc.perform(get("/api/invoices/{id}", invoice.getId().value()).param("depth", "5")
+                                        .header("Authorization", "Bearer " + jwtToken))
+                                        .andExpect(status().isBadRequest());
+                }
+
                 @Test
                 @DisplayName("Should return 404 when invoice not found")
                 void shouldReturn404WhenNotFound() throws Exception {
@@ -295,6 +454,198 @@ class InvoiceControllerIntegrationTest {
                         mockMvc.perform(get("/api/invoices").header("Authorization", "Bearer " + jwtToken))
                                         .andExpect(status().isOk()).andExpect(jsonPath("$", hasSize(0)));
                 }
+
+                @Test
+                @DisplayName("Should link to the next page until the last one")
+                void shouldLinkToNextPage() throws Exception {
+                        for (int i = 1; i <= 3; i++) {
+                                invoiceRepository.save(Invoice.create(new InvoiceId(UUID.randomUUID()),
+                                                testCustomer.getId(), new InvoiceReference("INV-P" + i), "EUR"));
+                        }
+
+                        String link = mockMvc
+                                        .perform(get("/api/invoices").param("limit", "2").header("Authorization",
+                                                        "Bearer " + jwtToken))
+                                        .andExpect(status().isOk()).andExpect(jsonPath("$", hasSize(2)))
+                                        .andExpect(header().string("Link", containsString("rel=\"next\"")))
+                                        .andReturn().getResponse().getHeader("Link");
+                        String next = link.substring(link.indexOf('<') + 1, link.indexOf('>'));
+
+                        mockMvc.perform(get(next).header("Authorization", "Bearer " + jwtToken))
+                                        .andExpect(status().isOk()).andExpect(jsonPath("$", hasSize(1)))
+                                        .andExpect(header().doesNotExist("Link"));
+                }
+
+                @Test
+                @DisplayName("Should filter and sort invoices from query parameters")
+                void shouldFilterAndSortInvoices() throws Exception {
+                        Invoice archived = Invoice.create(new InvoiceId(UUID.randomUUID()), testCustomer.getId(),
+                                        new InvoiceReference("INV-F1"), "EUR");
+                        archived.archive();
+                        invoiceRepository.save(archived);
+                        invoiceRepository.save(Invoice.create(new InvoiceId(UUID.randomUUID()), testCustomer.getId(),
+                                        new InvoiceReference("INV-F2"), "EUR"));
+                        invoiceRepository.save(Invoice.create(new InvoiceId(UUID.randomUUID()), testCustomer.getId(),
+                                        new InvoiceReference("INV-F3"), "USD"));
+
+                        mockMvc.perform(get("/api/invoices").param("archived", "false").param("currency", "EUR")
+                                        .param("status", "PENDING", "PARTIALLY_PAID")
+                                        .param("createdFrom", LocalDate.now().toString())
+                                        .header("Authorization", "Bearer " + jwtToken)).andExpect(status().isOk())
+                                        .andExpect(jsonPath("$", hasSize(1)))
+                                        .andExpect(jsonPath("$[0].invoiceReference").value("INV-F2"));
+
+                        mockMvc.perform(get("/api/invoices").param("sort", "-createdAt").header("Authorization",
+                                        "Bearer " + jwtToken)).andExpect(status().isOk())
+                                        .andExpect(jsonPath("$[*].invoiceReference").value(
+                                                        contains("INV-F3", "INV-F2", "INV-F1")));
+                }
+
+                @Test
+                @DisplayName("Should reject unknown sorts and invalid filter values")
+                void shouldRejectInvalidFilterParameters() throws Exception {
+                        mockMvc.perform(get("/api/invoices").param("sort", "totalAmount").header("Authorization",
+                                        "Bearer " + jwtToken)).andExpect(status().isBadRequest());
+                        mockMvc.perform(get("/api/invoices").param("status", "UNKNOWN").header("Authorization",
+                                        "Bearer " + jwtToken)).andExpect(status().isBadRequest());
+                        mockMvc.perform(get("/api/invoices").param("createdFrom", "2025-02-01")
+                                        .param("createdTo", "2025-01-01").header("Authorization", "Bearer " + jwtToken))
+                                        .andExpect(status().isBadRequest());
+                }
+
+                @Test
+                @DisplayName("Should answer 304 until an invoice of the user is created")
+                void shouldReturn304UntilListingChanges() throws Exception {
+                        invoiceRepository.save(Invoice.create(new InvoiceId(UUID.randomUUID()), testCustomer.getId(),
+                                        new InvoiceReference("INV-E1"), "EUR"));
+
+                        String etag = mockMvc
+                                        .perform(get("/api/invoices").header("Authorization", "Bearer " + jwtToken))
+                                        .andExpect(status().isOk()).andReturn().getResponse().getHeader("ETag");
+                        assertThat(etag).startsWith("W/");
+
+                        mockMvc.perform(get("/api/invoices").header("Authorization", "Bearer " + jwtToken)
+                                        .header("If-None-Match", etag)).andExpect(status().isNotModified());
+
+                        invoiceRepository.save(Invoice.create(new InvoiceId(UUID.randomUUID()), testCustomer.getId(),
+                                        new InvoiceReference("INV-E2"), "EUR"));
+
+                        mockMvc.perform(get("/api/invoices").header("Authorization", "Bearer " + jwtToken)
+                                        .header("If-None-Match", etag)).andExpect(status().isOk())
+                                        .andExpect(jsonPath("$", hasSize(2)));
+                }
+
+                @Test
+                @DisplayName("Should answer 200 after a customer of the user is renamed")
+                void shouldReturn200AfterCustomerRename() throws Exception {
+                        invoiceRepository.save(Invoice.create(new InvoiceId(UUID.randomUUID()), testCustomer.getId(),
+                                        new InvoiceReference("INV-E1"), "EUR"));
+
+                        String etag = mockMvc
+                                        .perform(get("/api/invoices").header("Authorization", "Bearer " + jwtToken))
+                                        .andExpect(status().isOk()).andReturn().getResponse().getHeader("ETag");
+
+                        testCustomer.updateInformation("Renamed Company", null);
+                        customerRepository.save(testCustomer);
+
+                        mockMvc.perform(get("/api/invoices").header("Authorization", "Bearer " + jwtToken)
+                                        .header("If-None-Match", etag)).andExpect(status().isOk())
+                                        .andExpect(jsonPath("$[0].customerName").value("Renamed Company"));
+                }
+
+                @Test
+                @DisplayName("Should reject a malformed cursor")
+                void shouldRejectMalformedCursor() throws Exception {
+                        mockMvc.perform(get("/api/invoices").param("cursor", "not-a-cursor").header("Authorization",
+                                        "Bearer " + jwtToken)).andExpect(status().isBadRequest());
+                }
+        }
+
+        @Nested
+        @DisplayName("GET /api/invoices/search")
+        class SearchInvoicesEndpoint {
+
+                @Test
+                @DisplayName("Should match references and customer names, prefix matches first")
+                void shouldSearchReferencesAndCustomerNames() throws Exception {
+                        for (String reference : List.of("INV-2024-0193", "X-INV-2024-0193", "INV-2025-0001",
+                                        "50%_OFF")) {
+                                invoiceRepository.save(Invoice.create(new InvoiceId(UUID.randomUUID()),
+                                                testCustomer.getId(), new InvoiceReference(reference), "EUR"));
+                        }
+                        User otherUser = userRepository.register(User.create(new UserId(UUID.randomUUID()),
+                                        new Email("other@payhint.com"), "Pass123!", "Other", "User"));
+                        Customer otherCustomer = customerRepository
+                                        .save(Customer.create(new CustomerId(UUID.randomUUID()), otherUser.getId(),
+                                                        "Other Co", new Email("other@co.com")));
+                        invoiceRepository.save(Invoice.create(new InvoiceId(UUID.randomUUID()), otherCustomer.getId(),
+                                        new InvoiceReference("INV-2024-0193"), "EUR"));
+
+                        mockMvc.perform(get("/api/invoices/search").param("q", "inv-2024")
+                                        .header("Authorization", "Bearer " + jwtToken)).andExpect(status().isOk())
+                                        .andExpect(jsonPath("$[*].invoiceReference")
+                                                        .value(contains("INV-2024-0193", "X-INV-2024-0193")));
+
+                        mockMvc.perform(get("/api/invoices/search").param("q", "COMPANY").param("limit", "2")
+                                        .header("Authorization", "Bearer " + jwtToken)).andExpect(status().isOk())
+                                        .andExpect(jsonPath("$", hasSize(2)))
+                                        .andExpect(jsonPath("$[0].customerName").value("Test Company"));
+
+                        mockMvc.perform(get("/api/invoices/search").param("q", "%_")
+                                        .header("Authorization", "Bearer " + jwtToken)).andExpect(status().isOk())
+                                        .andExpect(jsonPath("$[*].invoiceReference").value(contains("50%_OFF")));
+                }
+
+                @Test
+                @DisplayName("Should return 400 for blank search text")
+                void shouldReturn400ForBlankText() throws Exception {
+                        mockMvc.perform(get("/api/invoices/search").param("q", " ").header("Authorization",
+                                        "Bearer " + jwtToken)).andExpect(status().isBadRequest());
+                }
+        }
+
+        @Nested
+        @DisplayName("GET /api/invoices/stream")
+        class StreamInvoicesEndpoint {
+
+                @Test
+                @DisplayName("Should stream one NDJSON line per invoice of the user in listing order")
+                void shouldStreamInvoicesAsNdjson() throws Exception {
+                        for (int i = 1; i <= 3; i++) {
+                                invoiceRepository.save(Invoice.create(new InvoiceId(UUID.randomUUID()),
+                                                testCustomer.getId(), new InvoiceReference("INV-S" + i), "EUR"));
+                        }
+
+                        var result = mockMvc
+                                        .perform(get("/api/invoices/stream").accept(MediaType.APPLICATION_NDJSON)
+                                                        .header("Authorization", "Bearer " + jwtToken))
+                                        .andExpect(request().asyncStarted()).andReturn();
+                        String body = mockMvc.perform(asyncDispatch(result)).andExpect(status().isOk())
+                                        .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_NDJSON))
+                                        .andReturn().getResponse().getContentAsString();
+
+                        List<InvoiceSummaryResponse> invoices = new ArrayList<>();
+                        for (String line : body.split("\n")) {
+                                invoices.add(objectMapper.readValue(line, InvoiceSummaryResponse.class));
+                        }
+                        assertThat(invoices).extracting(InvoiceSummaryResponse::invoiceReference)
+                                        .containsExactly("INV-S1", "INV-S2", "INV-S3");
+                }
+
+                @Test
+                @DisplayName("Should return an empty body when the user has no invoices")
+                void shouldStreamNothingWithoutInvoices() throws Exception {
+                        var result = mockMvc.perform(get("/api/invoices/stream").header("Authorization",
+                                        "Bearer " + jwtToken)).andExpect(request().asyncStarted()).andReturn();
+                        mockMvc.perform(asyncDispatch(result)).andExpect(status().isOk())
+                                        .andExpect(content().string(""));
+                }
+
+                @Test
+                @DisplayName("Should require authentication")
+                void shouldRequireAuthentication() throws Exception {
+                        mockMvc.perform(get("/api/invoices/stream")).andExpect(status().isForbidden());
+                }
         }
 
         @Nested
@@ -397,4 +748,112 @@ class InvoiceControllerIntegrationTest {
                                         "Bearer " + jwtToken)).andExpect(status().isNotFound());
                 }
         }
-}
\ No newline at end of file
+
+        @Nested
+        @DisplayName("POST /api/invoices/import")
+        class ImportInvoicesEndpoint {
+
+                private List<InvoiceImportResult> importInvoices(String contentType, String body) throws Exception {
+                        String response = mockMvc
+                                        .perform(post("/api/invoices/import").header("Authorization", "Bearer " + jwtToken)
+                                                        .contentType(contentType).content(body))
+                                        .andExpect(status().isOk())
+                                        .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_NDJSON))
+                                        .andReturn().getResponse().getContentAsString();
+                        List<InvoiceImportResult> results = new ArrayList<>();
+                        for (String line : response.split("\n")) {
+                                results.add(objectMapper.readValue(line, InvoiceImportResult.class));
+                        }
+                        return results;
+                }
+
+                @Test
+                @DisplayName("Should import NDJSON invoices and report a result per line")
+                void shouldImportNdjsonInvoices() throws Exception {
+                        invoiceRepository.save(Invoice.create(new InvoiceId(UUID.randomUUID()), testCustomer.getId(),
+                                        new InvoiceReference("INV-EXISTING"), "EUR"));
+                        UUID customerId = testCustomer.getId().value();
+                        String body = String.join("\n",
+                                        objectMapper.writeValueAsString(new CreateInvoiceRequest(customerId, "INV-IMP-1",
+                                                        "EUR",
+                                                        List.of(new CreateInstallmentRequest(new BigDecimal("100.00"),
+                                                                        LocalDate.now().plusDays(10).toString()),
+                                                                        new CreateInstallmentRequest(
+                                                                                        new BigDecimal("50.00"),
+                                                                                        LocalDate.now().plusDays(40)
+                                                                                                        .toString())))),
+                                        "{not json",
+                                        objectMapper.writeValueAsString(new CreateInvoiceRequest(customerId,
+                                                        "INV-EXISTING", "EUR", null)),
+                                        objectMapper.writeValueAsString(new CreateInvoiceRequest(UUID.randomUUID(),
+                                                        "INV-IMP-2", "EUR", null)),
+                                        "",
+                                        objectMapper.writeValueAsString(
+                                                        new CreateInvoiceRequest(customerId, "INV-IMP-3", null, null)),
+                                        objectMapper.writeValueAsString(new CreateInvoiceRequest(customerId, "INV-IMP-4",
+                                                        "USD", null)));
+
+                        List<InvoiceImportResult> results = importInvoices(MediaType.APPLICATION_NDJSON_VALUE, body);
+
+                        assertThat(results).extracting(InvoiceImportResult::line).containsExactly(1L, 2L, 3L, 4L, 6L,
+                                        7L);
+                        assertThat(results).extracting(InvoiceImportResult::status).containsExactly(
+                                        InvoiceImportResult.CREATED, InvoiceImportResult.FAILED,
+                                        InvoiceImportResult.FAILED, InvoiceImportResult.FAILED,
+                                        InvoiceImportResult.FAILED, InvoiceImportResult.CREATED);
+                        assertThat(results.get(1).error()).startsWith("Malformed JSON");
+                        assertThat(results.get(2).error()).contains("already exists");
+                        assertThat(results.get(3).error()).contains("not found");
+                        assertThat(results.get(4).error()).isEqualTo("Currency is required");
+
+                        Invoice imported = invoiceRepository.findById(InvoiceId.fromString(results.get(0).invoiceId()))
+                                        .orElseThrow();
+                        assertThat(imported.getInstallments()).hasSize(2);
+                        assertThat(imported.getTotalAmount().amount()).isEqualByComparingTo("150.00");
+                        assertThat(invoiceRepository.findAllByCustomerId(testCustomer.getId())).hasSize(3);
+                }
+
+                @Test
+                @DisplayName("Should import CSV rows grouped by invoice reference")
+                void shouldImportCsvInvoices() throws Exception {
+                        UUID customerId = testCustomer.getId().value();
+                        String body = String.join("\n", "customerId,invoiceReference,currency,amountDue,dueDate",
+                                        customerId + ",INV-CSV-1,EUR,100.00," + LocalDate.now().plusDays(10),
+                                        customerId + ",INV-CSV-1,EUR,200.00," + LocalDate.now().plusDays(40),
+                                        customerId + ",\"INV-CSV,2\",EUR,,",
+                                        customerId + ",INV-CSV-3,EUR,abc," + LocalDate.now().plusDays(10),
+                                        customerId + ",INV-CSV-1,EUR,10.00," + LocalDate.now().plusDays(70));
+
+                        List<InvoiceImportResult> results = importInvoices("text/csv", body);
+
+                        assertThat(results).extracting(InvoiceImportResult::line).containsExactly(2L, 4L, 5L, 6L);
+                        assertThat(results).extracting(InvoiceImportResult::invoiceReference)
+                                        .containsExactly("INV-CSV-1", "INV-CSV,2", null, "INV-CSV-1");
+                        assertThat(results).extracting(InvoiceImportResult::status).containsExactly(
+                                        InvoiceImportResult.CREATED, InvoiceImportResult.CREATED,
+                                        InvoiceImportResult.FAILED, InvoiceImportResult.FAILED);
+                        assertThat(results.get(2).error()).contains("Invalid amount");
+                        assertThat(results.get(3).error()).contains("already exists");
+
+                        Invoice imported = invoiceRepository.findById(InvoiceId.fromString(results.get(0).invoiceId()))
+                                        .orElseThrow();
+                        assertThat(imported.getInstallments()).hasSize(2);
+                        assertThat(imported.getTotalAmount().amount()).isEqualByComparingTo("300.00");
+                }
+
+                @Test
+                @DisplayName("Should reject unsupported content types")
+                void shouldRejectUnsupportedContentType() throws Exception {
+                        mockMvc.perform(post("/api/invoices/import").header("Authorization", "Bearer " + jwtToken)
+                                        .contentType(MediaType.APPLICATION_JSON).content("[]"))
+                                        .andExpect(status().isUnsupportedMediaType());
+                }
+
+                @Test
+                @DisplayName("Should require authentication")
+                void shouldRequireAuthentication() throws Exception {
+                        mockMvc.perform(post("/api/invoices/import").contentType(MediaType.APPLICATION_NDJSON)
+                                        .content("")).andExpect(status().isForbidden());
+                }
+        }
+}
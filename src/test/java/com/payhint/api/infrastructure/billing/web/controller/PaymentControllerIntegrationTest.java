@@ -1,17 +1,26 @@
 package com.payhint.api.infrastructure.billing.web.controller;
 
 import static org.hamcrest.Matchers.containsString;
-import static org.hamcrest.Matchers.hasSize;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.Collections;
+import java.util.List;
 import java.util.UUID;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
@@ -25,6 +34,8 @@ import org.springframework.http.MediaType;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.payhint.api.application.billing.dto.request.CreatePaymentRequest;
@@ -46,6 +57,10 @@ import com.payhint.api.domain.shared.valueobject.Email;
 import com.payhint.api.infrastructure.billing.persistence.jpa.repository.InvoiceSpringRepository;
 import com.payhint.api.infrastructure.crm.persistence.jpa.repository.CustomerSpringRepository;
 import com.payhint.api.infrastructure.crm.persistence.jpa.repository.UserSpringRepository;
+import com.payhint.api.infrastructure.shared.idempotency.IdempotencyFilter;
+import com.payhint.api.infrastructure.shared.idempotency.IdempotencyStore;
+import com.payhint.api.infrastructure.shared.persistence.jpa.entity.IdempotencyRecordJpaEntity;
+import com.payhint.api.infrastructure.shared.persistence.jpa.repository.IdempotencyRecordSpringRepository;
 import com.payhint.api.infrastructure.shared.security.JwtTokenProvider;
 import com.payhint.api.infrastructure.shared.security.RateLimitingFilter;
 import com.payhint.api.infrastructure.shared.security.UserPrincipal;
@@ -86,6 +101,12 @@ class PaymentControllerIntegrationTest {
         @Autowired
         private RateLimitingFilter rateLimitingFilter;
 
+        @Autowired
+        private IdempotencyRecordSpringRepository idempotencyRecordSpringRepository;
+
+        @Autowired
+        private IdempotencyStore idempotencyStore;
+
         private User testUser;
         private Customer testCustomer;
         private Invoice testInvoice;
@@ -121,6 +142,8 @@ class PaymentControllerIntegrationTest {
 
         @AfterEach
         void tearDown() {
+                idempotencyRecordSpringRepository.deleteAll();
+                idempotencyStore.clearCache();
                 invoiceSpringRepository.deleteAll();
                 customerSpringRepository.deleteAll();
                 userSpringRepository.deleteAll();
@@ -142,11 +165,12 @@ class PaymentControllerIntegrationTest {
                                                         .contentType(MediaType.APPLICATION_JSON)
                                                         .content(objectMapper.writeValueAsString(request)))
                                         .andExpect(status().isCreated())
-                                        .andExpect(jsonPath("$.id").value(testInvoice.getId().value().toString()))
+                                        .andExpect(jsonPath("$.invoiceId").value(testInvoice.getId().value().toString()))
                                         .andExpect(jsonPath("$.totalPaid").value(50.00))
                                         .andExpect(jsonPath("$.remainingAmount").value(50.00))
-                                        .andExpect(jsonPath("$.installments[0].payments", hasSize(1)))
-                                        .andExpect(jsonPath("$.installments[0].payments[0].amount").value(50.00));
+                                        .andExpect(jsonPath("$.installment.id").value(testInstallmentId.value().toString()))
+                                        .andExpect(jsonPath("$.installment.amountPaid").value(50.00))
+                                        .andExpect(jsonPath("$.payment.amount").value(50.00));
                 }
 
                 @Test
@@ -271,8 +295,8 @@ class PaymentControllerIntegrationTest {
                                                         .contentType(MediaType.APPLICATION_JSON)
                                                         .content(objectMapper.writeValueAsString(request)))
                                         .andExpect(status().isOk()).andExpect(jsonPath("$.totalPaid").value(60.00))
-                                        .andExpect(jsonPath("$.installments[0].payments[0].amount").value(60.00))
-                                        .andExpect(jsonPath("$.installments[0].payments[0].paymentDate")
+                                        .andExpect(jsonPath("$.payment.amount").value(60.00))
+                                        .andExpect(jsonPath("$.payment.paymentDate")
                                                         .value(request.paymentDate()));
                 }
 
@@ -360,7 +384,8 @@ class PaymentControllerIntegrationTest {
                                         testInvoice.getId().value(), testInstallmentId.value(), paymentId)
                                                         .header("Authorization", "Bearer " + jwtToken))
                                         .andExpect(status().isOk()).andExpect(jsonPath("$.totalPaid").value(0.00))
-                                        .andExpect(jsonPath("$.installments[0].payments", hasSize(0)));
+                                        .andExpect(jsonPath("$.installment.amountPaid").value(0.00))
+                                        .andExpect(jsonPath("$.payment.id").value(paymentId.toString()));
                 }
 
                 @Test
@@ -409,4 +434,141 @@ class PaymentControllerIntegrationTest {
                                         .andExpect(status().isNotFound());
                 }
         }
-}
\ No newline at end of file
+
+        @Nested
+        @DisplayName("Idempotency-Key on POST /api/invoices/{invoiceId}/installments/{installmentId}/payments")
+        class IdempotentAddPaymentEndpoint {
+
+                private MockHttpServletRequestBuilder addPayment(String idempotencyKey, String amount)
+                                throws Exception {
+                        CreatePaymentRequest request = new CreatePaymentRequest(new BigDecimal(amount),
+                                        LocalDate.now().toString());
+                        return post("/api/invoices/{invoiceId}/installments/{installmentId}/payments",
+                                        testInvoice.getId().value(), testInstallmentId.value())
+                                                        .header("Authorization", "Bearer " + jwtToken)
+                                                        .header(IdempotencyFilter.IDEMPOTENCY_KEY_HEADER, idempotencyKey)
+                                                        .contentType(MediaType.APPLICATION_JSON)
+                                                        .content(objectMapper.writeValueAsString(request));
+                }
+
+                private BigDecimal totalPaid() {
+                        return invoiceRepository.findById(testInvoice.getId()).orElseThrow().getTotalPaid().amount();
+                }
+
+                @Test
+                void shouldReplayOriginalResponseWithoutRecordingPaymentTwice() throws Exception {
+                        MvcResult original = mockMvc.perform(addPayment("payment-key-1", "50.00"))
+                                        .andExpect(status().isCreated())
+                                        .andExpect(header().doesNotExist(IdempotencyFilter.REPLAYED_HEADER))
+                                        .andReturn();
+
+                        idempotencyStore.clearCache();
+
+                        mockMvc.perform(addPayment("payment-key-1", "50.00")).andExpect(status().isCreated())
+                                        .andExpect(header().string(IdempotencyFilter.REPLAYED_HEADER, "true"))
+                                        .andExpect(result -> assertThat(result.getResponse().getContentAsString())
+                                                        .isEqualTo(original.getResponse().getContentAsString()));
+
+                        assertThat(totalPaid()).isEqualByComparingTo("50.00");
+                }
+
+                @Test
+                void shouldExecuteRequestsWithDifferentKeysSeparately() throws Exception {
+                        mockMvc.perform(addPayment("payment-key-1", "30.00")).andExpect(status().isCreated());
+                        mockMvc.perform(addPayment("payment-key-2", "30.00")).andExpect(status().isCreated())
+                                        .andExpect(jsonPath("$.totalPaid").value(60.00));
+                }
+
+                @Test
+                void shouldRejectKeyReusedWithDifferentBody() throws Exception {
+                        mockMvc.perform(addPayment("payment-key-1", "50.00")).andExpect(status().isCreated());
+
+                        mockMvc.perform(addPayment("payment-key-1", "20.00"))
+                                        .andExpect(status().isUnprocessableEntity())
+                                        .andExpect(jsonPath("$.title").value("Idempotency Key Reused"));
+
+                        assertThat(totalPaid()).isEqualByComparingTo("50.00");
+                }
+
+                @Test
+                void shouldReplayStoredClientErrors() throws Exception {
+                        mockMvc.perform(addPayment("payment-key-1", "150.00")).andExpect(status().isBadRequest());
+
+                        mockMvc.perform(addPayment("payment-key-1", "150.00")).andExpect(status().isBadRequest())
+                                        .andExpect(header().string(IdempotencyFilter.REPLAYED_HEADER, "true"));
+                }
+
+                @Test
+                void shouldRejectTooLongKey() throws Exception {
+                        mockMvc.perform(addPayment("k".repeat(256), "50.00")).andExpect(status().isBadRequest());
+
+                        assertThat(totalPaid()).isEqualByComparingTo("0.00");
+                }
+
+                private void reservePendingKey(String idempotencyKey, LocalDateTime lockedUntil) {
+                        LocalDateTime now = LocalDateTime.now();
+                        idempotencyRecordSpringRepository.save(IdempotencyRecordJpaEntity.builder()
+                                        .id(UUID.randomUUID()).userId(testUser.getId().value())
+                                        .idempotencyKey(idempotencyKey).requestFingerprint("0".repeat(64))
+                                        .createdAt(now.minusMinutes(5)).expiresAt(now.plusHours(24))
+                                        .lockedUntil(lockedUntil).build());
+                }
+
+                @Test
+                void shouldTakeOverPendingKeyWhoseLeaseExpired() throws Exception {
+                        reservePendingKey("payment-key-1", LocalDateTime.now().minusSeconds(1));
+
+                        mockMvc.perform(addPayment("payment-key-1", "50.00")).andExpect(status().isCreated())
+                                        .andExpect(header().doesNotExist(IdempotencyFilter.REPLAYED_HEADER));
+
+                        assertThat(totalPaid()).isEqualByComparingTo("50.00");
+                        assertThat(idempotencyRecordSpringRepository
+                                        .findByUserIdAndIdempotencyKey(testUser.getId().value(), "payment-key-1")
+                                        .orElseThrow().getResponseStatus()).isEqualTo(201);
+                }
+
+                @Test
+                void shouldRejectPendingKeyWhileLeaseIsHeld() throws Exception {
+                        reservePendingKey("payment-key-1", LocalDateTime.now().plusMinutes(1));
+
+                        mockMvc.perform(addPayment("payment-key-1", "50.00")).andExpect(status().isConflict());
+
+                        assertThat(totalPaid()).isEqualByComparingTo("0.00");
+                }
+
+                @Test
+                void shouldCollapseConcurrentDuplicatesIntoOneExecution() throws Exception {
+                        int threads = 8;
+                        CountDownLatch start = new CountDownLatch(1);
+                        ExecutorService executor = Executors.newFixedThreadPool(threads);
+                        List<Future<MvcResult>> results = new ArrayList<>();
+                        try {
+                                for (int i = 0; i < threads; i++) {
+                                        Callable<MvcResult> call = () -> {
+                                                start.await();
+                                                return mockMvc.perform(addPayment("payment-key-1", "25.00"))
+                                                                .andReturn();
+                                        };
+                                        results.add(executor.submit(call));
+                                }
+                                start.countDown();
+
+                                for (Future<MvcResult> result : results) {
+                                        assertThat(result.get().getResponse().getStatus()).isEqualTo(201);
+                                }
+                        } finally {
+                                executor.shutdown();
+                        }
+
+                        assertThat(totalPaid()).isEqualByComparingTo("25.00");
+                        assertThat(results.stream().filter(result -> {
+                                try {
+                                        return result.get().getResponse()
+                                                        .getHeader(IdempotencyFilter.REPLAYED_HEADER) == null;
+                                } catch (Exception e) {
+                                        throw new IllegalStateException(e);
+                                }
+                        }).count()).isEqualTo(1);
+                }
+        }
+}
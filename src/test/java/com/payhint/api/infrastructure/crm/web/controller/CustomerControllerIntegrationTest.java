@@ -1,5 +1,6 @@
 package com.payhint.api.infrastructure.crm.web.controller;
 
+import static org.hamcrest.Matchers.contains;
 import static org.hamcrest.Matchers.containsInAnyOrder;
 import static org.hamcrest.Matchers.containsString;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
@@ -13,6 +14,7 @@ import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.Collections;
+import java.util.List;
 import java.util.Objects;
 import java.util.UUID;
 
@@ -39,6 +41,7 @@ import com.payhint.api.domain.crm.repository.UserRepository;
 import com.payhint.api.domain.crm.valueobject.CustomerId;
 import com.payhint.api.domain.crm.valueobject.UserId;
 import com.payhint.api.domain.shared.valueobject.Email;
+import com.payhint.api.infrastructure.billing.persistence.jpa.adapter.InvoiceSummaryProjector;
 import com.payhint.api.infrastructure.billing.persistence.jpa.entity.InstallmentJpaEntity;
 import com.payhint.api.infrastructure.billing.persistence.jpa.entity.InvoiceJpaEntity;
 import com.payhint.api.infrastructure.billing.persistence.jpa.entity.PaymentJpaEntity;
@@ -75,6 +78,9 @@ class CustomerControllerIntegrationTest {
         @Autowired
         private InvoiceSpringRepository invoiceSpringRepository;
 
+        @Autowired
+        private InvoiceSummaryProjector invoiceSummaryProjector;
+
         @Autowired
         private JwtTokenProvider jwtTokenProvider;
 
@@ -384,17 +390,27 @@ class CustomerControllerIntegrationTest {
                         instEntity.addPayment(paymentEntity);
 
                         invoiceEntity = invoiceSpringRepository.save(invoiceEntity);
+                        // Saving the entity directly bypasses the adapter that publishes the change
+                        invoiceSummaryProjector.rebuild();
 
                         mockMvc.perform(get("/api/customers/{id}/invoices", customer.getId()).header("Authorization",
                                         "Bearer " + jwtToken)).andExpect(status().isOk())
                                         .andExpect(jsonPath("$").isArray()).andExpect(jsonPath("$.length()").value(1))
                                         .andExpect(jsonPath("$[0].id").value(invoiceEntity.getId().toString()))
                                         .andExpect(jsonPath("$[0].invoiceReference").value("INV-2025-001"))
+                                        .andExpect(jsonPath("$[0].customerName").value(TEST_COMPANY_NAME))
                                         .andExpect(jsonPath("$[0].totalAmount").isNotEmpty())
                                         .andExpect(jsonPath("$[0].totalPaid").isNotEmpty())
                                         .andExpect(jsonPath("$[0].currency").value("EUR"))
                                         .andExpect(jsonPath("$[0].status").value("PARTIALLY_PAID"))
                                         .andExpect(jsonPath("$[0].isOverdue").value(false));
+
+                        mockMvc.perform(get("/api/customers/{id}/invoices", customer.getId())
+                                        .param("fields", "id,status").header("Authorization", "Bearer " + jwtToken))
+                                        .andExpect(status().isOk())
+                                        .andExpect(jsonPath("$[0].id").value(invoiceEntity.getId().toString()))
+                                        .andExpect(jsonPath("$[0].status").value("PARTIALLY_PAID"))
+                                        .andExpect(jsonPath("$[0].customerName").doesNotExist());
                 }
 
                 @Test
@@ -513,6 +529,20 @@ class CustomerControllerIntegrationTest {
                                                                                         "contact@companyb.com"))));
                 }
 
+                @Test
+                @DisplayName("Should search customers by partial company name, prefix matches first")
+                void shouldSearchCustomersByCompanyName() throws Exception {
+                        for (String companyName : List.of("Northwind Traders", "Acme North", "Globex")) {
+                                customerRepository.save(Customer.create(new CustomerId(UUID.randomUUID()),
+                                                testUser.getId(), companyName, new Email("contact@example.com")));
+                        }
+
+                        mockMvc.perform(get("/api/customers/search").param("q", "north").header("Authorization",
+                                        "Bearer " + jwtToken)).andExpect(status().isOk())
+                                        .andExpect(jsonPath("$[*].companyName",
+                                                        contains("Northwind Traders", "Acme North")));
+                }
+
                 @Test
                 @DisplayName("Should return empty array when user has no customers")
                 void shouldReturnEmptyArrayWhenNoCustomers() throws Exception {
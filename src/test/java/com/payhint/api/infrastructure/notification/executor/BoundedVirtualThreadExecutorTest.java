@@ -0,0 +1,132 @@
+package com.payhint.api.infrastructure.notification.executor;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.awaitility.Awaitility;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.task.TaskRejectedException;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@DisplayName("BoundedVirtualThreadExecutor Tests")
+class BoundedVirtualThreadExecutorTest {
+
+    private final CountDownLatch release = new CountDownLatch(1);
+
+    private void await(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    @Test
+    @DisplayName("Should run tasks on virtual threads up to the concurrency limit and queue the rest")
+    void shouldBoundConcurrency() {
+        BoundedVirtualThreadExecutor executor = new BoundedVirtualThreadExecutor("test", 2, 3, Duration.ofSeconds(5));
+        AtomicBoolean virtual = new AtomicBoolean();
+
+        executor.execute(() -> {
+            virtual.set(Thread.currentThread().isVirtual());
+            await(release);
+        });
+        for (int i = 0; i < 4; i++) {
+            executor.execute(() -> await(release));
+        }
+
+        Awaitility.await().atMost(5, TimeUnit.SECONDS)
+                .until(() -> executor.inFlight() == 2 && executor.queued() == 3);
+        assertThat(virtual).isTrue();
+
+        release.countDown();
+
+        Awaitility.await().atMost(5, TimeUnit.SECONDS)
+                .until(() -> executor.inFlight() == 0 && executor.queued() == 0);
+    }
+
+    @Test
+    @DisplayName("Should block the submitter while the queue is full")
+    void shouldBlockSubmitterWhenFull() throws InterruptedException {
+        BoundedVirtualThreadExecutor executor = new BoundedVirtualThreadExecutor("test", 1, 1, Duration.ofSeconds(5));
+        executor.execute(() -> await(release));
+        executor.execute(() -> await(release));
+
+        CountDownLatch submitted = new CountDownLatch(1);
+        Thread publisher = Thread.ofVirtual().start(() -> {
+            executor.execute(() -> {
+            });
+            submitted.countDown();
+        });
+
+        assertThat(submitted.await(200, TimeUnit.MILLISECONDS)).isFalse();
+
+        release.countDown();
+
+        assertThat(submitted.await(5, TimeUnit.SECONDS)).isTrue();
+        publisher.join();
+    }
+
+    @Test
+    @DisplayName("Should expose queue depth and in-flight tasks as gauges")
+    void shouldExposeGauges() {
+        BoundedVirtualThreadExecutor executor = new BoundedVirtualThreadExecutor("test", 1, 2, Duration.ofSeconds(5));
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        executor.bindTo(registry);
+
+        executor.execute(() -> await(release));
+        executor.execute(() -> await(release));
+
+        Awaitility.await().atMost(5, TimeUnit.SECONDS)
+                .until(() -> registry.get("executor.in.flight").tag("name", "test").gauge().value() == 1
+                        && registry.get("executor.queued").tag("name", "test").gauge().value() == 1);
+
+        release.countDown();
+    }
+
+    @Test
+    @DisplayName("Should reject new tasks on shutdown and wait for the accepted ones")
+    void shouldWaitForAcceptedTasksOnShutdown() throws InterruptedException {
+        BoundedVirtualThreadExecutor executor = new BoundedVirtualThreadExecutor("test", 1, 1, Duration.ofSeconds(5));
+        AtomicBoolean completed = new AtomicBoolean();
+        executor.execute(() -> await(release));
+        executor.execute(() -> completed.set(true));
+
+        Thread stopping = Thread.ofVirtual().start(executor::stop);
+
+        Awaitility.await().atMost(5, TimeUnit.SECONDS).until(executor::isShutdown);
+        assertThat(executor.isRunning()).isFalse();
+        assertThatThrownBy(() -> executor.execute(() -> {
+        })).isInstanceOf(TaskRejectedException.class);
+        stopping.join(200);
+        assertThat(stopping.isAlive()).isTrue();
+
+        release.countDown();
+
+        stopping.join(5000);
+        assertThat(stopping.isAlive()).isFalse();
+        assertThat(completed).isTrue();
+    }
+
+    @Test
+    @DisplayName("Should give up waiting on shutdown after the termination timeout")
+    void shouldStopWaitingAfterTimeout() {
+        BoundedVirtualThreadExecutor executor = new BoundedVirtualThreadExecutor("test", 1, 0,
+                Duration.ofMillis(100));
+        executor.execute(() -> await(release));
+
+        long start = System.nanoTime();
+        executor.destroy();
+
+        assertThat(Duration.ofNanos(System.nanoTime() - start)).isLessThan(Duration.ofSeconds(5));
+        assertThat(executor.inFlight()).isEqualTo(1);
+        release.countDown();
+    }
+}
@@ -2,6 +2,7 @@ package com.payhint.api.infrastructure.notification.persistence.jpa.adapter;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
+import java.util.List;
 import java.util.UUID;
 
 import org.junit.jupiter.api.AfterEach;
@@ -100,4 +101,20 @@ class NotificationLogJpaRepositoryAdapterIntegrationTest {
 
         assertThat(exists).isFalse();
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("Should save logs in one batch and find which installments were notified successfully")
+    void shouldSaveAllAndFindSentInstallmentIds() {
+        InstallmentId sent = new InstallmentId(UUID.randomUUID());
+        InstallmentId failed = new InstallmentId(UUID.randomUUID());
+        InstallmentId pending = new InstallmentId(UUID.randomUUID());
+        Email recipient = new Email("batch@example.com");
+
+        adapter.saveAll(List.of(NotificationLog.createSuccess(sent, recipient, "Subject"),
+                NotificationLog.createFailure(failed, recipient, "Subject", "SMTP Error")));
+
+        assertThat(notificationSpringRepository.count()).isEqualTo(2);
+        assertThat(adapter.findSentInstallmentIds(List.of(sent, failed, pending))).containsExactly(sent);
+        assertThat(adapter.findSentInstallmentIds(List.of())).isEmpty();
+    }
+}
@@ -0,0 +1,151 @@
+package com.payhint.api.infrastructure.notification.persistence.jpa.adapter;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.IllegalTransactionStateException;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.payhint.api.application.billing.mapper.BillingValueObjectMapperImpl;
+import com.payhint.api.application.shared.ValueObjectMapperImpl;
+import com.payhint.api.domain.billing.valueobject.InstallmentId;
+import com.payhint.api.domain.billing.valueobject.InvoiceId;
+import com.payhint.api.domain.crm.valueobject.UserId;
+import com.payhint.api.domain.notification.model.OutboxEntry;
+import com.payhint.api.domain.notification.model.OutboxStatus;
+import com.payhint.api.infrastructure.notification.persistence.jpa.entity.NotificationOutboxJpaEntity;
+import com.payhint.api.infrastructure.notification.persistence.jpa.mapper.NotificationOutboxPersistenceMapperImpl;
+import com.payhint.api.infrastructure.notification.persistence.jpa.repository.NotificationOutboxSpringRepository;
+
+@DataJpaTest
+@ActiveProfiles("test")
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@Import({ NotificationOutboxJpaRepositoryAdapter.class, NotificationOutboxPersistenceMapperImpl.class,
+        ValueObjectMapperImpl.class, BillingValueObjectMapperImpl.class })
+@DisplayName("NotificationOutboxJpaRepositoryAdapter Integration Tests")
+class NotificationOutboxJpaRepositoryAdapterIntegrationTest {
+
+    @Autowired
+    private NotificationOutboxJpaRepositoryAdapter adapter;
+
+    @Autowired
+    private NotificationOutboxSpringRepository outboxSpringRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private TransactionTemplate transactionTemplate;
+
+    @BeforeEach
+    void setUp() {
+        transactionTemplate = new TransactionTemplate(transactionManager);
+        outboxSpringRepository.deleteAll();
+    }
+
+    @AfterEach
+    void tearDown() {
+        outboxSpringRepository.deleteAll();
+    }
+
+    private OutboxEntry entry(UUID userId) {
+        return OutboxEntry.create(new InstallmentId(UUID.randomUUID()), new InvoiceId(UUID.randomUUID()),
+                new UserId(userId));
+    }
+
+    private List<OutboxEntry> claim(int limit) {
+        return transactionTemplate.execute(status -> adapter.claimDue(limit));
+    }
+
+    @Test
+    @DisplayName("Should claim the due pending entries ordered by user")
+    void shouldClaimDuePendingEntries() {
+        UUID firstUser = new UUID(0L, 1L);
+        UUID secondUser = new UUID(0L, 2L);
+        OutboxEntry second = entry(secondUser);
+        OutboxEntry first = entry(firstUser);
+        OutboxEntry dead = entry(firstUser);
+        dead.recordFailure("SMTP Error", 1, Duration.ZERO);
+        OutboxEntry backingOff = entry(firstUser);
+        backingOff.recordFailure("SMTP Error", 5, Duration.ofMinutes(5));
+        adapter.enqueueAll(List.of(second, first, dead, backingOff));
+
+        assertThat(claim(10)).extracting(OutboxEntry::getId).containsExactly(first.getId(), second.getId());
+        assertThat(claim(1)).extracting(OutboxEntry::getId).containsExactly(first.getId());
+    }
+
+    @Test
+    @DisplayName("Should claim every due entry of a user even beyond the number of users claimed")
+    void shouldClaimWholeUsers() {
+        UUID firstUser = new UUID(0L, 1L);
+        UUID secondUser = new UUID(0L, 2L);
+        List<OutboxEntry> firstUserEntries = List.of(entry(firstUser), entry(firstUser), entry(firstUser));
+        OutboxEntry second = entry(secondUser);
+        adapter.enqueueAll(firstUserEntries);
+        adapter.enqueueAll(List.of(second));
+
+        assertThat(claim(2)).hasSize(4);
+        assertThat(claim(1)).extracting(OutboxEntry::getId)
+                .containsExactlyInAnyOrderElementsOf(firstUserEntries.stream().map(OutboxEntry::getId).toList());
+    }
+
+    @Test
+    @DisplayName("Should skip the entries locked by another worker instead of waiting")
+    void shouldSkipLockedEntries() {
+        adapter.enqueueAll(List.of(entry(new UUID(0L, 1L)), entry(new UUID(0L, 2L))));
+
+        transactionTemplate.executeWithoutResult(status -> {
+            List<OutboxEntry> claimed = adapter.claimDue(1);
+            List<OutboxEntry> claimedByOther = CompletableFuture.supplyAsync(() -> claim(10)).join();
+
+            // H2 locks every row the ordered query reads where PostgreSQL only locks the returned ones, so the other
+            // worker may get nothing here, but never waits nor gets a claimed entry
+            assertThat(claimed).hasSize(1);
+            assertThat(claimedByOther).extracting(OutboxEntry::getId).doesNotContain(claimed.get(0).getId());
+        });
+    }
+
+    @Test
+    @DisplayName("Should require the transaction holding the claimed rows")
+    void shouldRequireTransactionToClaim() {
+        assertThatThrownBy(() -> adapter.claimDue(10)).isInstanceOf(IllegalTransactionStateException.class);
+    }
+
+    @Test
+    @DisplayName("Should update rescheduled entries and delete delivered ones")
+    void shouldSaveAndDeleteEntries() {
+        OutboxEntry failed = entry(UUID.randomUUID());
+        OutboxEntry delivered = entry(UUID.randomUUID());
+        adapter.enqueueAll(List.of(failed, delivered));
+
+        failed.recordFailure("SMTP Error", 5, Duration.ofMinutes(5));
+        adapter.saveAll(List.of(failed));
+        adapter.deleteAll(List.of(delivered));
+
+        assertThat(outboxSpringRepository.findAll()).singleElement().satisfies(entity -> {
+            assertThat(entity.getId()).isEqualTo(failed.getId());
+            assertThat(entity.getStatus()).isEqualTo(OutboxStatus.PENDING.name());
+            assertThat(entity.getAttempts()).isEqualTo(1);
+            assertThat(entity.getLastError()).isEqualTo("SMTP Error");
+            assertThat(entity.getNextAttemptAt()).isAfter(LocalDateTime.now().plusMinutes(4));
+        });
+        assertThat(outboxSpringRepository.findById(delivered.getId())).map(NotificationOutboxJpaEntity::getStatus)
+                .isEmpty();
+    }
+}
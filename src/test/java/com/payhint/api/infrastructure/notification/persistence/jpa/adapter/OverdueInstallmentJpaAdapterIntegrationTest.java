@@ -27,7 +27,9 @@ import com.payhint.api.infrastructure.crm.persistence.jpa.entity.UserJpaEntity;
 import com.payhint.api.infrastructure.crm.persistence.jpa.repository.CustomerSpringRepository;
 import com.payhint.api.infrastructure.crm.persistence.jpa.repository.UserSpringRepository;
 import com.payhint.api.infrastructure.notification.persistence.jpa.entity.NotificationLogJpaEntity;
+import com.payhint.api.infrastructure.notification.persistence.jpa.entity.NotificationOutboxJpaEntity;
 import com.payhint.api.infrastructure.notification.persistence.jpa.repository.NotificationLogSpringRepository;
+import com.payhint.api.infrastructure.notification.persistence.jpa.repository.NotificationOutboxSpringRepository;
 
 @DataJpaTest
 @ActiveProfiles("test")
@@ -35,6 +37,8 @@ import com.payhint.api.infrastructure.notification.persistence.jpa.repository.No
 @DisplayName("OverdueInstallmentJpaAdapter Integration Tests")
 class OverdueInstallmentJpaAdapterIntegrationTest {
 
+    private static final UUID SCAN_START = new UUID(0L, 0L);
+
     @Autowired
     private OverdueInstallmentJpaAdapter adapter;
 
@@ -50,11 +54,15 @@ class OverdueInstallmentJpaAdapterIntegrationTest {
     @Autowired
     private NotificationLogSpringRepository notificationLogRepository;
 
+    @Autowired
+    private NotificationOutboxSpringRepository outboxRepository;
+
     private UserJpaEntity testUser;
     private CustomerJpaEntity testCustomer;
 
     private void cleanUpDatabase() {
         notificationLogRepository.deleteAll();
+        outboxRepository.deleteAll();
         invoiceRepository.deleteAll();
         customerRepository.deleteAll();
         userRepository.deleteAll();
@@ -85,7 +93,7 @@ class OverdueInstallmentJpaAdapterIntegrationTest {
     void shouldFindOverdueInstallmentNotNotified() {
         createInvoiceWithInstallment(LocalDate.now().minusDays(5), PaymentStatus.PENDING.name());
 
-        List<OverdueInstallmentDto> result = adapter.listOverdueInstallmentsNotNotified();
+        List<OverdueInstallmentDto> result = adapter.listOverdueInstallmentsNotNotified(SCAN_START, 100);
 
         assertThat(result).hasSize(1);
         assertThat(result.get(0).dueDate()).isEqualTo(LocalDate.now().minusDays(5));
@@ -97,7 +105,7 @@ class OverdueInstallmentJpaAdapterIntegrationTest {
     void shouldNotFindFutureInstallment() {
         createInvoiceWithInstallment(LocalDate.now().plusDays(5), PaymentStatus.PENDING.name());
 
-        List<OverdueInstallmentDto> result = adapter.listOverdueInstallmentsNotNotified();
+        List<OverdueInstallmentDto> result = adapter.listOverdueInstallmentsNotNotified(SCAN_START, 100);
 
         assertThat(result).isEmpty();
     }
@@ -107,7 +115,7 @@ class OverdueInstallmentJpaAdapterIntegrationTest {
     void shouldNotFindPaidInstallment() {
         createInvoiceWithInstallment(LocalDate.now().minusDays(5), PaymentStatus.PAID.name());
 
-        List<OverdueInstallmentDto> result = adapter.listOverdueInstallmentsNotNotified();
+        List<OverdueInstallmentDto> result = adapter.listOverdueInstallmentsNotNotified(SCAN_START, 100);
 
         assertThat(result).isEmpty();
     }
@@ -124,11 +132,31 @@ class OverdueInstallmentJpaAdapterIntegrationTest {
                 .sentAt(LocalDateTime.now()).build();
         notificationLogRepository.save(log);
 
-        List<OverdueInstallmentDto> result = adapter.listOverdueInstallmentsNotNotified();
+        List<OverdueInstallmentDto> result = adapter.listOverdueInstallmentsNotNotified(SCAN_START, 100);
 
         assertThat(result).isEmpty();
     }
 
+    @Test
+    @DisplayName("Should NOT find installment already in the outbox but find one whose notification failed")
+    void shouldSkipEnqueuedInstallmentAndRetryFailedOne() {
+        UUID enqueued = createInvoiceWithInstallment(LocalDate.now().minusDays(5), PaymentStatus.PENDING.name())
+                .getInstallments().iterator().next().getId();
+        outboxRepository.save(NotificationOutboxJpaEntity.builder().id(UUID.randomUUID()).installmentId(enqueued)
+                .invoiceId(UUID.randomUUID()).userId(testUser.getId()).status("DEAD").attempts(5)
+                .nextAttemptAt(LocalDateTime.now()).createdAt(LocalDateTime.now()).build());
+
+        UUID failed = createInvoiceWithInstallment(LocalDate.now().minusDays(5), PaymentStatus.PENDING.name())
+                .getInstallments().iterator().next().getId();
+        notificationLogRepository.save(NotificationLogJpaEntity.builder().id(UUID.randomUUID()).installmentId(failed)
+                .recipientAddress("test@example.com").status("FAILED").errorMessage("SMTP Error")
+                .sentAt(LocalDateTime.now()).build());
+
+        List<OverdueInstallmentDto> result = adapter.listOverdueInstallmentsNotNotified(SCAN_START, 100);
+
+        assertThat(result).extracting(OverdueInstallmentDto::installmentId).containsExactly(failed);
+    }
+
     @Test
     @DisplayName("Should find only relevant installments among many")
     void shouldFilterCorrectly() {
@@ -147,11 +175,47 @@ class OverdueInstallmentJpaAdapterIntegrationTest {
         notificationLogRepository.save(NotificationLogJpaEntity.builder().id(UUID.randomUUID()).installmentId(instId4)
                 .status("SENT").recipientAddress("a").sentAt(LocalDateTime.now()).build());
 
-        List<OverdueInstallmentDto> result = adapter.listOverdueInstallmentsNotNotified();
+        List<OverdueInstallmentDto> result = adapter.listOverdueInstallmentsNotNotified(SCAN_START, 100);
 
         assertThat(result).hasSize(1);
     }
 
+    @Test
+    @DisplayName("Should page through overdue installments by id")
+    void shouldPageByInstallmentId() {
+        for (int i = 0; i < 5; i++) {
+            createInvoiceWithInstallment(LocalDate.now().minusDays(i + 1), "PENDING");
+        }
+
+        List<OverdueInstallmentDto> all = adapter.listOverdueInstallmentsNotNotified(SCAN_START, 100);
+        List<OverdueInstallmentDto> firstChunk = adapter.listOverdueInstallmentsNotNotified(SCAN_START, 2);
+        List<OverdueInstallmentDto> secondChunk = adapter
+                .listOverdueInstallmentsNotNotified(firstChunk.get(1).installmentId(), 2);
+        List<OverdueInstallmentDto> lastChunk = adapter
+                .listOverdueInstallmentsNotNotified(secondChunk.get(1).installmentId(), 2);
+
+        assertThat(all).hasSize(5);
+        assertThat(firstChunk).containsExactlyElementsOf(all.subList(0, 2));
+        assertThat(secondChunk).containsExactlyElementsOf(all.subList(2, 4));
+        assertThat(lastChunk).containsExactlyElementsOf(all.subList(4, 5));
+    }
+
+    @Test
+    @DisplayName("Should save, overwrite and clear the scan checkpoint")
+    void shouldKeepScanCheckpoint() {
+        UUID first = UUID.randomUUID();
+        UUID second = UUID.randomUUID();
+
+        assertThat(adapter.findScanCheckpoint()).isEmpty();
+
+        adapter.saveScanCheckpoint(first);
+        adapter.saveScanCheckpoint(second);
+        assertThat(adapter.findScanCheckpoint()).contains(second);
+
+        adapter.clearScanCheckpoint();
+        assertThat(adapter.findScanCheckpoint()).isEmpty();
+    }
+
     private InvoiceJpaEntity createInvoiceWithInstallment(LocalDate dueDate, String status) {
         InvoiceJpaEntity invoice = InvoiceJpaEntity.builder().id(UUID.randomUUID()).customer(testCustomer)
                 .invoiceReference("INV-" + UUID.randomUUID()).currency("USD").totalAmount(BigDecimal.valueOf(100))